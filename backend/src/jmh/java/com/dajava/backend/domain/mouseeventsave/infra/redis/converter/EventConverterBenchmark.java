@@ -0,0 +1,41 @@
+package com.dajava.backend.domain.mouseeventsave.infra.redis.converter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerClickEventDocument;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+
+/*
+ * 버퍼 이벤트를 ES Document 로 변환하는 성능을 측정하는 벤치마크 입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventConverterBenchmark {
+
+	private final ClickEventRequest request = ClickEventRequest.builder()
+		.eventId("e25f6b52-4a1b-4721-8651-8839f23727cb")
+		.timestamp(1711963200000L)
+		.browserWidth(1920)
+		.scrollHeight(3000)
+		.viewportHeight(900)
+		.sessionIdentifier(new SessionIdentifier("session123", "localhost:3000/myPage", "member001"))
+		.clientX(100)
+		.clientY(200)
+		.scrollY(300)
+		.tag("button")
+		.build();
+
+	@Benchmark
+	public PointerClickEventDocument toClickEventDocument() {
+		return EventConverter.toClickEventDocument(request);
+	}
+}
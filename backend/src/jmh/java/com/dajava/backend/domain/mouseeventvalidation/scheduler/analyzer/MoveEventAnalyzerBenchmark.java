@@ -0,0 +1,127 @@
+package com.dajava.backend.domain.mouseeventvalidation.scheduler.analyzer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerMoveEventDocument;
+import com.dajava.backend.global.component.analyzer.MoveAnalyzerProperties;
+
+/*
+ * 긴 무브 이벤트 시퀀스의 지그재그 감지 성능을 측정하는 벤치마크 입니다.
+ * incremental 은 꺾임 수를 증감으로 유지하고 코사인으로 비교하는 현재 구현,
+ * windowRebuild 는 이벤트마다 윈도우 전체를 다시 훑으며 acos 로 각도를 계산하던 이전 구현 입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoveEventAnalyzerBenchmark {
+
+	private static final int MAX_WINDOW_SIZE = 50;
+
+	@Param({"1000", "100000"})
+	private int eventCount;
+
+	private MoveEventAnalyzer analyzer;
+	private PositionEventColumns columns;
+	private long timeWindowMs;
+	private int turnThreshold;
+	private double angleThresholdDegrees;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		MoveAnalyzerProperties props = new MoveAnalyzerProperties();
+		props.setTimeWindowMs(3000L);
+		props.setTurnThreshold(4);
+		props.setAngleThresholdDegrees(90.0);
+		analyzer = new MoveEventAnalyzer(props);
+		timeWindowMs = props.getTimeWindowMs();
+		turnThreshold = props.getTurnThreshold();
+		angleThresholdDegrees = props.getAngleThresholdDegrees();
+
+		// 10ms 간격으로 좌우로 흔들리는 움직임, 윈도우가 항상 최대 크기로 유지됨
+		Random random = new Random(42);
+		List<PointerMoveEventDocument> events = new ArrayList<>(eventCount);
+		long timestamp = 1_700_000_000_000L;
+		int clientX = 500;
+		int clientY = 500;
+		for (int i = 0; i < eventCount; i++) {
+			clientX += (i % 2 == 0 ? 1 : -1) * (5 + random.nextInt(20));
+			clientY += random.nextInt(11) - 5;
+			events.add(PointerMoveEventDocument.builder()
+				.timestamp(timestamp + i * 10L)
+				.clientX(clientX)
+				.clientY(clientY)
+				.isOutlier(false)
+				.build());
+		}
+		columns = PositionEventColumns.ofMoves(events);
+	}
+
+	@Benchmark
+	public BitSet incremental() {
+		columns.outliers.clear();
+		analyzer.detectZigzagMovementByAngle(columns);
+		return columns.outliers;
+	}
+
+	@Benchmark
+	public BitSet windowRebuild() {
+		columns.outliers.clear();
+		int start = 0;
+		for (int current = 0; current < columns.size; current++) {
+			int end = current + 1;
+			start = Math.max(start, end - MAX_WINDOW_SIZE);
+			while (start < end && columns.timestamps[current] - columns.timestamps[start] > timeWindowMs) {
+				start++;
+			}
+			if (end - start >= 3) {
+				processWindow(start, end);
+			}
+		}
+		return columns.outliers;
+	}
+
+	private void processWindow(int start, int end) {
+		int turnCount = 0;
+		for (int i = start + 1; i + 1 < end; i++) {
+			if (angleAt(i) >= angleThresholdDegrees) {
+				turnCount++;
+			}
+		}
+		if (turnCount >= turnThreshold) {
+			for (int i = start + 1; i + 1 < end; i++) {
+				if (angleAt(i) >= angleThresholdDegrees) {
+					columns.outliers.set(i - 1);
+					columns.outliers.set(i);
+				}
+			}
+		}
+	}
+
+	private double angleAt(int i) {
+		double dx1 = columns.clientX[i] - columns.clientX[i - 1];
+		double dy1 = columns.clientY[i] - columns.clientY[i - 1];
+		double dx2 = columns.clientX[i + 1] - columns.clientX[i];
+		double dy2 = columns.clientY[i + 1] - columns.clientY[i];
+		double mag1 = Math.sqrt(dx1 * dx1 + dy1 * dy1);
+		double mag2 = Math.sqrt(dx2 * dx2 + dy2 * dy2);
+		if (mag1 == 0 || mag2 == 0) {
+			return 0;
+		}
+		double cosTheta = Math.clamp((dx1 * dx2 + dy1 * dy2) / (mag1 * mag2), -1.0, 1.0);
+		return Math.toDegrees(Math.acos(cosTheta));
+	}
+}
@@ -0,0 +1,59 @@
+package com.dajava.backend.global.component.buffer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.PointerClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.SessionDataKey;
+
+/*
+ * 인메모리 이벤트 버퍼의 적재, flush 성능을 측정하는 벤치마크 입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventQueueBufferBenchmark {
+
+	@Param({"1000"})
+	private int eventsPerSession;
+
+	private EventQueueBuffer<PointerClickEventRequest> buffer;
+	private SessionDataKey sessionKey;
+	private PointerClickEventRequest event;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		// 반복 적재 시 상한에 도달해도 예외 없이 측정되도록 DROP_OLDEST 사용
+		buffer = new EventQueueBuffer<>(EventQueueBuffer.DEFAULT_STRIPES, EventQueueBuffer.DEFAULT_MAX_EVENTS_PER_SESSION,
+			EventQueueBuffer.DEFAULT_MAX_TOTAL_EVENTS, BufferFullPolicy.DROP_OLDEST);
+		sessionKey = new SessionDataKey("session123", "https://example.com", "user001");
+		event = new PointerClickEventRequest(
+			"event123", "session123", "https://example.com", "user001",
+			System.currentTimeMillis(), 1920, 100, 200, 100, 1000, 100, "div"
+		);
+	}
+
+	@Benchmark
+	public boolean addEvent() {
+		return buffer.addEvent(sessionKey, event);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public List<PointerClickEventRequest> addThenFlushEvents() {
+		for (int i = 0; i < eventsPerSession; i++) {
+			buffer.addEvent(sessionKey, event);
+		}
+		return buffer.flushEvents(sessionKey);
+	}
+}
@@ -0,0 +1,56 @@
+package com.dajava.backend.global.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * 이벤트 로그 필터의 memberSerialNumber 추출 성능을 측정하는 벤치마크 입니다.
+ * single 은 단건 이동 이벤트, batch 는 serial 앞에 이동 이벤트 배열이 있는 배치 요청 바디 입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventLogValidationFilterBenchmark {
+
+	private static final String MOVE_EVENT = "{\"eventId\":\"e25f6b52-4a1b-4721-8651-8839f23727cb\","
+		+ "\"timestamp\":1711963200000,\"browserWidth\":1920,\"scrollHeight\":3000,\"viewportHeight\":900,"
+		+ "\"clientX\":100,\"clientY\":200,\"scrollY\":300,\"tag\":\"div\"}";
+
+	@Param({"single", "batch"})
+	private String bodyType;
+
+	private byte[] body;
+
+	@Setup
+	public void setUp() {
+		String json;
+		if ("single".equals(bodyType)) {
+			json = MOVE_EVENT.substring(0, MOVE_EVENT.length() - 1)
+				+ ",\"sessionId\":\"session123\",\"pageUrl\":\"localhost:3000\","
+				+ "\"memberSerialNumber\":\"a07cb1fc-e5db-4578-89a6-34d7a31f9389\"}";
+		} else {
+			StringBuilder events = new StringBuilder();
+			for (int i = 0; i < 100; i++) {
+				events.append(i == 0 ? "" : ",").append(MOVE_EVENT);
+			}
+			json = "{\"movementEvents\":[" + events + "],\"sessionId\":\"session123\",\"pageUrl\":\"localhost:3000\","
+				+ "\"memberSerialNumber\":\"a07cb1fc-e5db-4578-89a6-34d7a31f9389\"}";
+		}
+		body = json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public String findMemberSerialNumber() throws IOException {
+		return EventLogValidationFilter.findMemberSerialNumber(body);
+	}
+}
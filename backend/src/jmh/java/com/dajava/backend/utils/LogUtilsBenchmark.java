@@ -0,0 +1,35 @@
+package com.dajava.backend.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+
+/*
+ * Redis 세션 키 생성, 파싱 성능을 측정하는 벤치마크 입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogUtilsBenchmark {
+
+	private final SessionIdentifier identifier = new SessionIdentifier(
+		"e25f6b52-4a1b-4721-8651-8839f23727cb", "localhost:3000/myPage", "a07cb1fc-e5db-4578-89a6-34d7a31f9389");
+	private final String redisKey = LogUtils.createRedisKey(identifier);
+
+	@Benchmark
+	public String createRedisKey() {
+		return LogUtils.createRedisKey(identifier);
+	}
+
+	@Benchmark
+	public SessionIdentifier parseRedisKey() {
+		return LogUtils.parseRedisKey(redisKey);
+	}
+}
@@ -0,0 +1,111 @@
+package com.dajava.backend.utils.event;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+import com.dajava.backend.utils.event.codec.EventCodecType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import redis.embedded.RedisServer;
+
+/*
+ * Redis 이벤트 버퍼의 적재, drain 성능을 측정하는 벤치마크 입니다.
+ * 외부 Redis 없이 실행할 수 있도록 벤치마크 프로세스 안에서 임베디드 Redis 를 띄웁니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventQueueRedisBufferBenchmark {
+
+	private static final int REDIS_PORT = 6390;
+
+	@Param({"JSON", "COMPACT"})
+	private EventCodecType codec;
+
+	@Param({"100"})
+	private int batchSize;
+
+	private RedisServer redisServer;
+	private LettuceConnectionFactory connectionFactory;
+	private EventQueueRedisBuffer<ClickEventRequest> buffer;
+	private SessionIdentifier identifier;
+	private ClickEventRequest event;
+	private List<ClickEventRequest> batch;
+
+	@Setup(Level.Trial)
+	public void startRedis() throws IOException {
+		redisServer = new RedisServer(REDIS_PORT);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+		connectionFactory.afterPropertiesSet();
+		StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+
+		buffer = new EventQueueRedisBuffer<>(redisTemplate, new ObjectMapper(), ClickEventRequest.class, codec);
+		identifier = new SessionIdentifier("e25f6b52-4a1b-4721-8651-8839f23727cb", "localhost:3000/myPage",
+			"a07cb1fc-e5db-4578-89a6-34d7a31f9389");
+		event = ClickEventRequest.builder()
+			.eventId("e25f6b52-4a1b-4721-8651-8839f23727cb")
+			.timestamp(1711963200000L)
+			.browserWidth(1920)
+			.scrollHeight(3000)
+			.viewportHeight(900)
+			.sessionIdentifier(identifier)
+			.clientX(100)
+			.clientY(200)
+			.scrollY(300)
+			.tag("button")
+			.build();
+		batch = new ArrayList<>(batchSize);
+		for (int i = 0; i < batchSize; i++) {
+			batch.add(event);
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void clearBuffer() {
+		buffer.clearAll();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@Benchmark
+	public void cacheEvents() {
+		buffer.cacheEvents(identifier, event);
+	}
+
+	@Benchmark
+	public void cacheAllEvents() {
+		buffer.cacheAllEvents(identifier, batch);
+	}
+
+	@Benchmark
+	public int cacheAllThenDrainEvents() {
+		buffer.cacheAllEvents(identifier, batch);
+		return buffer.drainEvents(identifier, event, EventQueueRedisBuffer.DEFAULT_DRAIN_CHUNK_SIZE, chunk -> {
+		});
+	}
+}
@@ -0,0 +1,69 @@
+package com.dajava.backend.utils.event;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+import com.dajava.backend.utils.event.codec.EventCodecType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * Redis 버퍼 이벤트의 직렬화, 역직렬화 성능을 코덱별로 측정하는 벤치마크 입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventSerializerBenchmark {
+
+	@Param({"JSON", "COMPACT"})
+	private EventCodecType codec;
+
+	private EventSerializer<ClickEventRequest> serializer;
+	private SessionIdentifier identifier;
+	private ClickEventRequest event;
+	private String encoded;
+
+	@Setup
+	public void setUp() throws Exception {
+		serializer = new EventSerializer<>(new ObjectMapper(), ClickEventRequest.class, codec);
+		identifier = new SessionIdentifier("e25f6b52-4a1b-4721-8651-8839f23727cb", "localhost:3000/myPage",
+			"a07cb1fc-e5db-4578-89a6-34d7a31f9389");
+		event = ClickEventRequest.builder()
+			.eventId("e25f6b52-4a1b-4721-8651-8839f23727cb")
+			.timestamp(1711963200000L)
+			.browserWidth(1920)
+			.scrollHeight(3000)
+			.viewportHeight(900)
+			.sessionIdentifier(identifier)
+			.clientX(100)
+			.clientY(200)
+			.scrollY(300)
+			.tag("button")
+			.build();
+		encoded = serializer.serialize(event);
+	}
+
+	@Benchmark
+	public String serialize() throws Exception {
+		return serializer.serialize(event);
+	}
+
+	@Benchmark
+	public ClickEventRequest deserialize() {
+		return serializer.deserialize(encoded, identifier);
+	}
+
+	@Benchmark
+	public ClickEventRequest roundTrip() throws Exception {
+		return serializer.deserialize(serializer.serialize(event), identifier);
+	}
+}
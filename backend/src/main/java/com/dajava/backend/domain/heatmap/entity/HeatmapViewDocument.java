@@ -0,0 +1,221 @@
+package com.dajava.backend.domain.heatmap.entity;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+
+import com.dajava.backend.domain.mouseeventvalidation.entity.SolutionEventDocument;
+import com.dajava.backend.utils.session.HyperLogLog;
+import com.dajava.backend.utils.session.SessionCounter;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (serialNumber, type, widthRange) 단위로 누적한 클릭, 이동 히트맵 그리드를 저장하는 ES 인덱스 입니다.
+ * 그리드는 페이지 크기와 무관한 상대 좌표 기준 viewGridsX * viewGridsY 해상도로 저장하며,
+ * 이벤트가 있는 셀만 cellKeys(gridY * viewGridsX + gridX 오름차순), cellCounts 로 보관합니다.
+ * 세션 수는 병합 가능한 HyperLogLog 스케치로 저장하며, exact 모드에서는 sessionId 를 모두 저장합니다.
+ * savedUpTo 로 생성 시 반영한 이벤트를 기록해 같은 이벤트가 변경분으로 다시 합쳐지지 않도록 합니다.
+ * 생성 도중 저장된 이벤트를 반영(catch-up)하기 전까지는 변경분으로 합친 배치의 savedAt 을 appliedBatches 에 따로 기록합니다.
+ * seqNoPrimaryTerm 으로 동시 갱신 시 optimistic locking 을 적용합니다.
+ */
+@Document(indexName = "heatmap-view")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class HeatmapViewDocument {
+
+	@Id
+	private String id; // serialNumber + type + widthRange 사용
+
+	@Field(type = FieldType.Keyword)
+	private String serialNumber;
+
+	@Field(type = FieldType.Keyword)
+	private String type;
+
+	@Field(type = FieldType.Integer)
+	private int widthRange;
+
+	@Field(type = FieldType.Integer, index = false)
+	private int viewGridsX;
+
+	@Field(type = FieldType.Integer, index = false)
+	private int viewGridsY;
+
+	@Field(type = FieldType.Long, index = false)
+	private long totalEvents;
+
+	@Field(type = FieldType.Integer, index = false)
+	private int maxPageWidth;
+
+	@Field(type = FieldType.Integer, index = false)
+	private int maxPageHeight;
+
+	@Field(type = FieldType.Long, index = false)
+	private Long firstTimestamp;
+
+	@Field(type = FieldType.Long, index = false)
+	private Long lastTimestamp;
+
+	// 뷰 생성 시 반영한 이벤트 중 가장 큰 savedAt, 이하인 이벤트는 이미 반영되어 있어 다시 합치지 않음
+	@Field(type = FieldType.Long, index = false)
+	private Long savedUpTo;
+
+	// 생성 도중 저장된 이벤트의 반영이 끝났는지 여부
+	@Field(type = FieldType.Boolean, index = false)
+	private boolean caughtUp;
+
+	// 반영이 끝나기 전에 변경분으로 합친 배치의 savedAt, 반영이 끝나면 savedUpTo 로 합쳐지고 비워짐
+	@Field(type = FieldType.Long, index = false)
+	@Builder.Default
+	private Set<Long> appliedBatches = new HashSet<>();
+
+	// exact 모드에서만 사용, 스케치 모드에서는 비어 있음
+	@Field(type = FieldType.Keyword, index = false, docValues = false)
+	@Builder.Default
+	private Set<String> sessionIds = new HashSet<>();
+
+	// 세션 수 HyperLogLog 스케치 precision, 0 이면 sessionIds 로 정확하게 계산
+	@Field(type = FieldType.Integer, index = false)
+	private int sessionPrecision;
+
+	// HyperLogLog.toByteArray 의 Base64 인코딩 값
+	@Field(type = FieldType.Binary)
+	private String sessionSketch;
+
+	@Field(type = FieldType.Integer, index = false, docValues = false)
+	@Builder.Default
+	private int[] cellKeys = new int[0];
+
+	@Field(type = FieldType.Integer, index = false, docValues = false)
+	@Builder.Default
+	private int[] cellCounts = new int[0];
+
+	private SeqNoPrimaryTerm seqNoPrimaryTerm;
+
+	public static String idOf(String serialNumber, String type, int widthRange) {
+		return serialNumber + "_" + type + "_" + widthRange;
+	}
+
+	/**
+	 * 뷰에 이미 반영된 이벤트인지 확인합니다. savedAt 이 없는 이벤트는 반영되지 않은 것으로 봅니다.
+	 */
+	public boolean covers(SolutionEventDocument event) {
+		Long savedAt = event.getSavedAt();
+		return savedAt != null && ((savedUpTo != null && savedAt <= savedUpTo) || appliedBatches.contains(savedAt));
+	}
+
+	/**
+	 * 변경분으로 합친 이벤트의 배치를 기록합니다.
+	 * 생성 도중 저장된 이벤트의 반영이 끝나기 전에는 같은 배치가 다시 합쳐지지 않도록 배치별로 기록하고,
+	 * 끝난 뒤에는 배치가 저장 순서대로 합쳐지므로 savedUpTo 만 올립니다.
+	 */
+	public void markApplied(List<SolutionEventDocument> events) {
+		for (SolutionEventDocument event : events) {
+			Long savedAt = event.getSavedAt();
+			if (savedAt == null) {
+				continue;
+			}
+			if (caughtUp) {
+				savedUpTo = savedUpTo == null ? savedAt : Math.max(savedUpTo, savedAt);
+			} else {
+				appliedBatches.add(savedAt);
+			}
+		}
+	}
+
+	/**
+	 * 생성 도중 저장된 이벤트의 반영이 끝났음을 기록하고, 지금까지 반영한 배치를 savedUpTo 로 합칩니다.
+	 *
+	 * @param caughtUpTo 반영한 이벤트의 최대 savedAt
+	 */
+	public void markCaughtUp(long caughtUpTo) {
+		long maxSavedAt = savedUpTo == null ? caughtUpTo : Math.max(savedUpTo, caughtUpTo);
+		for (long savedAt : appliedBatches) {
+			maxSavedAt = Math.max(maxSavedAt, savedAt);
+		}
+		savedUpTo = maxSavedAt;
+		appliedBatches.clear();
+		caughtUp = true;
+	}
+
+	public int getTotalSessions() {
+		return sessionSketch != null ? (int) decodeSketch(sessionSketch).estimate() : sessionIds.size();
+	}
+
+	/**
+	 * 같은 해상도로 누적한 변경분을 합칩니다.
+	 * 셀은 두 정렬된 배열을 한 번에 병합하므로 비용이 저장된 셀 수와 변경된 셀 수의 합에 비례합니다.
+	 *
+	 * @param delta 새로 저장된 이벤트로 만든 히트맵 뷰
+	 */
+	public void merge(HeatmapViewDocument delta) {
+		totalEvents += delta.totalEvents;
+		sessionIds.addAll(delta.sessionIds);
+		if (sessionSketch != null && delta.sessionSketch != null) {
+			HyperLogLog sketch = decodeSketch(sessionSketch);
+			sketch.merge(decodeSketch(delta.sessionSketch));
+			sessionSketch = Base64.getEncoder().encodeToString(sketch.toByteArray());
+		}
+		maxPageWidth = Math.max(maxPageWidth, delta.maxPageWidth);
+		maxPageHeight = Math.max(maxPageHeight, delta.maxPageHeight);
+		if (delta.firstTimestamp != null && (firstTimestamp == null || delta.firstTimestamp < firstTimestamp)) {
+			firstTimestamp = delta.firstTimestamp;
+		}
+		if (delta.lastTimestamp != null && (lastTimestamp == null || delta.lastTimestamp > lastTimestamp)) {
+			lastTimestamp = delta.lastTimestamp;
+		}
+
+		int[] mergedKeys = new int[cellKeys.length + delta.cellKeys.length];
+		int[] mergedCounts = new int[mergedKeys.length];
+		int i = 0;
+		int j = 0;
+		int size = 0;
+		while (i < cellKeys.length || j < delta.cellKeys.length) {
+			if (j == delta.cellKeys.length || (i < cellKeys.length && cellKeys[i] < delta.cellKeys[j])) {
+				mergedKeys[size] = cellKeys[i];
+				mergedCounts[size++] = cellCounts[i++];
+			} else if (i == cellKeys.length || delta.cellKeys[j] < cellKeys[i]) {
+				mergedKeys[size] = delta.cellKeys[j];
+				mergedCounts[size++] = delta.cellCounts[j++];
+			} else {
+				mergedKeys[size] = cellKeys[i];
+				mergedCounts[size++] = cellCounts[i++] + delta.cellCounts[j++];
+			}
+		}
+		cellKeys = Arrays.copyOf(mergedKeys, size);
+		cellCounts = Arrays.copyOf(mergedCounts, size);
+	}
+
+	private static HyperLogLog decodeSketch(String encoded) {
+		return HyperLogLog.fromByteArray(Base64.getDecoder().decode(encoded));
+	}
+
+	public static class HeatmapViewDocumentBuilder {
+
+		/**
+		 * 세션 수 계산 방식에 맞게 sessionIds 또는 스케치를 채웁니다.
+		 */
+		public HeatmapViewDocumentBuilder sessions(SessionCounter sessionCounter) {
+			if (sessionCounter.isExact()) {
+				return sessionIds(new HashSet<>(sessionCounter.sessionIds()));
+			}
+			return sessionPrecision(sessionCounter.sketch().precision())
+				.sessionSketch(Base64.getEncoder().encodeToString(sessionCounter.sketch().toByteArray()));
+		}
+	}
+}
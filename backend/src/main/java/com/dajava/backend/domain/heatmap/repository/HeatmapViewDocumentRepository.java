@@ -0,0 +1,14 @@
+package com.dajava.backend.domain.heatmap.repository;
+
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.stereotype.Repository;
+
+import com.dajava.backend.domain.heatmap.entity.HeatmapViewDocument;
+
+/**
+ * HeatmapViewDocumentRepository
+ * (serialNumber, type, widthRange) 단위로 누적한 히트맵 그리드를 저장하는 ES 인덱스입니다.
+ */
+@Repository
+public interface HeatmapViewDocumentRepository extends ElasticsearchRepository<HeatmapViewDocument, String> {
+}
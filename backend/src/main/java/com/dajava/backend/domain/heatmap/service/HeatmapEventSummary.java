@@ -0,0 +1,17 @@
+package com.dajava.backend.domain.heatmap.service;
+
+/**
+ * 스트리밍 히트맵 생성 전 ES 집계로 구한 대상 이벤트 정보 입니다.
+ *
+ * @param serialEvents serialNumber 의 전체 이벤트 수
+ * @param matchedEvents URL, width, 타입 조건을 만족하는 이벤트 수 (샘플링 여부 판단에 사용)
+ * @param maxPageWidth 대상 이벤트의 최대 browserWidth
+ * @param maxPageHeight 대상 이벤트의 최대 scrollHeight (없으면 viewportHeight)
+ */
+public record HeatmapEventSummary(
+	long serialEvents,
+	long matchedEvents,
+	int maxPageWidth,
+	int maxPageHeight
+) {
+}
@@ -0,0 +1,400 @@
+package com.dajava.backend.domain.heatmap.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.dajava.backend.domain.heatmap.dto.GridCell;
+import com.dajava.backend.domain.mouseeventvalidation.entity.SolutionEventDocument;
+import com.dajava.backend.utils.session.SessionCounter;
+
+/**
+ * 이벤트를 한 건씩 받아 dense primitive 그리드에 누적하고 그리드 셀을 생성하는 집계 로직 입니다.
+ * 1. 이벤트에서 필요한 필드만 primitive 값으로 읽어 그리드 좌표를 배열 인덱스로 사용하므로 Map 조회나 박싱이 발생하지 않습니다.
+ * 2. 누적기는 그리드, 세션 수 스케치, 이벤트 시간 범위만 보관하므로 ES 페이지를 받는 즉시 누적하면
+ *    메모리 사용량이 전체 이벤트 수가 아닌 페이지 크기와 그리드 크기에 비례합니다.
+ * 3. 전체 이벤트를 primitive 컬럼 배열로 옮겨 담던 HeatmapEventColumns 는 사용하지 않습니다.
+ *    필요한 필드만 가져오는 일은 {@link SolutionEventFetcher} 의 _source 필터링이, 박싱 없는 집계는 이 누적기가 대신합니다.
+ * 셀은 gridY, gridX 오름차순으로 생성됩니다.
+ */
+final class HeatmapGridAggregator {
+
+	// 이벤트 시간 간격이 이 값을 넘으면 이탈로 보고 보정
+	private static final long MAX_DWELL_MILLIS = 30000;
+	private static final long IDLE_DWELL_MILLIS = 5000;
+	// 스크롤 이벤트의 viewportHeight 가 없을 때 사용하는 기본값
+	private static final int DEFAULT_VIEWPORT_HEIGHT = 1024;
+
+	private HeatmapGridAggregator() {
+	}
+
+	/**
+	 * 그리드별 이벤트 수 배열(gridY * totalGridsX + gridX 인덱스)을 그리드 셀로 변환합니다.
+	 * 이벤트 수가 0 인 셀은 생성하지 않습니다.
+	 */
+	static HeatmapGrid toCoordinateGrid(int[] counts, int totalGridsX) {
+		int maxCount = 0;
+		for (int count : counts) {
+			if (count > maxCount) {
+				maxCount = count;
+			}
+		}
+
+		List<GridCell> gridCells = new ArrayList<>();
+		for (int gridKey = 0; gridKey < counts.length; gridKey++) {
+			int count = counts[gridKey];
+			if (count == 0) {
+				continue;
+			}
+
+			// 최대 카운트 값 대비 강도 계산
+			int intensity = (int) (((double) count / maxCount) * 100);
+
+			gridCells.add(GridCell.builder()
+				.gridX(gridKey % totalGridsX)
+				.gridY(gridKey / totalGridsX)
+				.count(count)
+				.intensity(intensity)
+				.build());
+		}
+		return new HeatmapGrid(gridCells, maxCount);
+	}
+
+	/**
+	 * 좌표 히트맵의 dense 그리드 배열을 생성합니다.
+	 */
+	static int[] newCoordinateCounts(int totalGridsX, int totalGridsY) {
+		return new int[Math.multiplyExact(Math.max(0, totalGridsX), Math.max(0, totalGridsY))];
+	}
+
+	/**
+	 * 이벤트 좌표를 페이지 크기 대비 상대 좌표로 변환해 그리드 인덱스(gridY * totalGridsX + gridX)를 계산합니다.
+	 * 좌표값이 없거나 그리드가 비어 있으면 -1 을 반환합니다.
+	 */
+	static int coordinateCellKey(SolutionEventDocument event, int totalGridsX, int totalGridsY) {
+		Integer clientX = event.getClientX();
+		Integer clientY = event.getClientY();
+		if (clientX == null || clientY == null || totalGridsX <= 0 || totalGridsY <= 0) {
+			return -1;
+		}
+
+		// 상대 좌표로 변환
+		int y = clientY + valueOrDefault(event.getScrollY(), 0);
+		float relativeX = (float) clientX / valueOrDefault(event.getBrowserWidth(), 0);
+		float relativeY = (float) y / valueOrDefault(event.getScrollHeight(), 0);
+
+		// 강제 형변환으로 그리드 할당 후 범위 제한
+		int gridX = Math.clamp((int) (relativeX * totalGridsX), 0, totalGridsX - 1);
+		int gridY = Math.clamp((int) (relativeY * totalGridsY), 0, totalGridsY - 1);
+
+		return gridY * totalGridsX + gridX;
+	}
+
+	/**
+	 * 다른 해상도로 누적한 셀별 이벤트 수를 요청 해상도의 dense 그리드 배열로 재조정합니다.
+	 * 원본 셀이 겹치는 면적 비율만큼 대상 셀에 나눠 더하므로 해상도 비율이 정수가 아니어도 줄무늬가 생기지 않습니다.
+	 * 나눠 더한 값은 최대 잉여 방식으로 정수화하므로 업샘플링해도 전체 이벤트 수가 유지됩니다.
+	 *
+	 * @param cellKeys 원본 셀 인덱스 (gridY * fromGridsX + gridX)
+	 * @param cellCounts 원본 셀별 이벤트 수
+	 */
+	static int[] rescaleCounts(int[] cellKeys, int[] cellCounts, int fromGridsX, int fromGridsY,
+		int totalGridsX, int totalGridsY) {
+		int[] counts = newCoordinateCounts(totalGridsX, totalGridsY);
+		if (counts.length == 0) {
+			return counts;
+		}
+
+		double[] scaled = new double[counts.length];
+		double scaleX = (double) totalGridsX / fromGridsX;
+		double scaleY = (double) totalGridsY / fromGridsY;
+		for (int i = 0; i < cellKeys.length; i++) {
+			int fromX = cellKeys[i] % fromGridsX;
+			int fromY = cellKeys[i] / fromGridsX;
+			double startX = fromX * scaleX;
+			double endX = (fromX + 1) * scaleX;
+			double startY = fromY * scaleY;
+			double endY = (fromY + 1) * scaleY;
+
+			for (int gridY = (int) startY; gridY < Math.min(totalGridsY, Math.ceil(endY)); gridY++) {
+				double weightY = (Math.min(endY, gridY + 1) - Math.max(startY, gridY)) / scaleY;
+				for (int gridX = (int) startX; gridX < Math.min(totalGridsX, Math.ceil(endX)); gridX++) {
+					double weightX = (Math.min(endX, gridX + 1) - Math.max(startX, gridX)) / scaleX;
+					scaled[gridY * totalGridsX + gridX] += cellCounts[i] * weightX * weightY;
+				}
+			}
+		}
+
+		distributeLargestRemainder(scaled, counts);
+		return counts;
+	}
+
+	/**
+	 * 실수로 나눈 셀별 이벤트 수를 정수로 바꾸면서 전체 합이 유지되도록 소수부가 큰 셀부터 1씩 더 배정합니다.
+	 * 셀마다 반올림하면 업샘플링 시 한 원본 셀의 이벤트가 여러 셀에서 함께 올림되거나 버려져 전체 합이 달라집니다.
+	 */
+	private static void distributeLargestRemainder(double[] scaled, int[] counts) {
+		double total = 0;
+		long assigned = 0;
+		int fractions = 0;
+		for (int gridKey = 0; gridKey < scaled.length; gridKey++) {
+			total += scaled[gridKey];
+			counts[gridKey] = (int) scaled[gridKey];
+			assigned += counts[gridKey];
+			if (scaled[gridKey] > counts[gridKey]) {
+				fractions++;
+			}
+		}
+
+		long remaining = Math.round(total) - assigned;
+		if (remaining <= 0) {
+			return;
+		}
+
+		// 상위 비트에 소수부, 하위 비트에 셀 인덱스를 담아 박싱 없이 소수부 기준으로 정렬
+		long[] remainders = new long[fractions];
+		for (int gridKey = 0, i = 0; gridKey < scaled.length; gridKey++) {
+			double fraction = scaled[gridKey] - counts[gridKey];
+			if (fraction > 0) {
+				remainders[i++] = ((long) (fraction * Integer.MAX_VALUE) << 32) | gridKey;
+			}
+		}
+		Arrays.sort(remainders);
+		for (int i = remainders.length - 1; i >= 0 && remaining > 0; i--, remaining--) {
+			counts[(int) remainders[i]]++;
+		}
+	}
+
+	private static int valueOrDefault(Integer value, int defaultValue) {
+		return value != null ? value : defaultValue;
+	}
+
+	/**
+	 * 집계된 그리드 셀과 메타데이터의 maxCount 값 입니다.
+	 */
+	record HeatmapGrid(List<GridCell> gridCells, int maxCount) {
+	}
+
+	/**
+	 * 타입별 누적기의 공통 부분으로, 누적한 이벤트 수와 세션 수, 이벤트 시간 범위를 관리합니다.
+	 */
+	abstract static class HeatmapAccumulator {
+		private final SessionCounter sessionCounter;
+		private int totalEvents;
+		protected Long firstTimestamp;
+		protected Long lastTimestamp;
+
+		HeatmapAccumulator(SessionCounter sessionCounter) {
+			this.sessionCounter = sessionCounter;
+		}
+
+		final void accept(SolutionEventDocument event) {
+			totalEvents++;
+			sessionCounter.add(event.getSessionId());
+			bin(event);
+		}
+
+		abstract void bin(SolutionEventDocument event);
+
+		abstract HeatmapGrid toGrid();
+
+		int totalEvents() {
+			return totalEvents;
+		}
+
+		int totalSessions() {
+			return sessionCounter.count();
+		}
+
+		SessionCounter sessionCounter() {
+			return sessionCounter;
+		}
+
+		Long firstTimestamp() {
+			return firstTimestamp;
+		}
+
+		Long lastTimestamp() {
+			return lastTimestamp;
+		}
+	}
+
+	/**
+	 * 클릭, 이동 이벤트의 좌표를 그리드별 발생 횟수로 집계합니다.
+	 * 좌표가 없는 이벤트는 세션 수에만 반영되며, 첫, 마지막 이벤트 시간은 좌표가 있는 이벤트 중 최소, 최대 값입니다.
+	 */
+	static final class CoordinateAccumulator extends HeatmapAccumulator {
+		private final int totalGridsX;
+		private final int totalGridsY;
+		private final int[] counts;
+
+		CoordinateAccumulator(int totalGridsX, int totalGridsY, SessionCounter sessionCounter) {
+			super(sessionCounter);
+			this.totalGridsX = totalGridsX;
+			this.totalGridsY = totalGridsY;
+			this.counts = newCoordinateCounts(totalGridsX, totalGridsY);
+		}
+
+		@Override
+		void bin(SolutionEventDocument event) {
+			Integer clientX = event.getClientX();
+			Integer clientY = event.getClientY();
+			// 좌표값이 없다면 건너뜀
+			if (clientX == null || clientY == null) {
+				return;
+			}
+
+			Long timestamp = event.getTimestampMillis();
+			if (timestamp != null) {
+				if (firstTimestamp == null || timestamp < firstTimestamp) {
+					firstTimestamp = timestamp;
+				}
+				if (lastTimestamp == null || timestamp > lastTimestamp) {
+					lastTimestamp = timestamp;
+				}
+			}
+
+			int gridKey = coordinateCellKey(event, totalGridsX, totalGridsY);
+			if (gridKey >= 0) {
+				counts[gridKey]++;
+			}
+		}
+
+		/**
+		 * 누적된 그리드별 이벤트 수 배열 입니다.
+		 */
+		int[] counts() {
+			return counts;
+		}
+
+		@Override
+		HeatmapGrid toGrid() {
+			return toCoordinateGrid(counts, totalGridsX);
+		}
+	}
+
+	/**
+	 * 직전 이벤트의 화면 범위에 두 이벤트 사이의 체류 시간을 누적합니다. 이벤트는 timestamp 순으로 전달되어야 합니다.
+	 * 화면 범위마다 모든 행을 갱신하지 않고 차분 배열에 시작, 끝만 기록한 뒤 누적합으로 행별 체류 시간을 구합니다.
+	 * scrollY 가 없으면 0, viewportHeight 가 없으면 1024, scrollHeight 가 없으면 viewportHeight 를 사용하며,
+	 * timestamp 가 없는 이벤트는 직전 이벤트의 시간을 이어받아 체류 시간이 0 으로 계산됩니다.
+	 */
+	static final class ScrollDepthAccumulator extends HeatmapAccumulator {
+		private final int totalGridsY;
+		private final int widthInGrids;
+		private final long[] durationDiff;
+		private final int[] coverageDiff;
+
+		// 직전 이벤트의 화면 범위
+		private boolean hasPrevious;
+		private int prevViewportTop;
+		private int prevViewportHeight;
+		private int prevScrollHeight;
+		private long prevTimestamp;
+
+		/**
+		 * @param widthInGrids 행마다 생성할 셀 수 (페이지 width 를 그리드 단위로 계산한 값)
+		 */
+		ScrollDepthAccumulator(int totalGridsY, int widthInGrids, SessionCounter sessionCounter) {
+			super(sessionCounter);
+			this.totalGridsY = totalGridsY;
+			this.widthInGrids = widthInGrids;
+			int rows = Math.max(0, totalGridsY);
+			this.durationDiff = new long[rows + 1];
+			this.coverageDiff = new int[rows + 1];
+		}
+
+		@Override
+		void bin(SolutionEventDocument event) {
+			// 시간순으로 전달되므로, 첫 데이터와 마지막 데이터로 시간 설정
+			Long rawTimestamp = event.getTimestampMillis();
+			if (!hasPrevious) {
+				firstTimestamp = rawTimestamp;
+			}
+			lastTimestamp = rawTimestamp;
+			long timestamp = rawTimestamp != null ? rawTimestamp : prevTimestamp;
+
+			if (hasPrevious) {
+				addDwell(timestamp - prevTimestamp);
+			}
+
+			int viewportHeight = valueOrDefault(event.getViewportHeight(), DEFAULT_VIEWPORT_HEIGHT);
+			prevViewportTop = valueOrDefault(event.getScrollY(), 0);
+			prevViewportHeight = viewportHeight;
+			prevScrollHeight = valueOrDefault(event.getScrollHeight(), viewportHeight);
+			prevTimestamp = timestamp;
+			hasPrevious = true;
+		}
+
+		private void addDwell(long duration) {
+			// 이벤트 시간 간격이 30초 이상인 경우 5초로 재설정
+			if (duration > MAX_DWELL_MILLIS) {
+				duration = IDLE_DWELL_MILLIS;
+			}
+
+			// 이전 이벤트 위치의 화면 Top, Bottom 을 상대 위치(0~1)로 변환
+			int viewportBottom = prevViewportTop + prevViewportHeight;
+			double relativeTop = (double) prevViewportTop / prevScrollHeight;
+			double relativeBottom = (double) viewportBottom / prevScrollHeight;
+
+			// 상대 위치를 총 그리드 개수에 맞게 스케일링 후 범위 제한
+			int gridYStart = Math.max(0, (int) (relativeTop * totalGridsY));
+			int gridYEnd = Math.min(totalGridsY - 1, (int) (relativeBottom * totalGridsY));
+			if (gridYStart > gridYEnd) {
+				return;
+			}
+
+			durationDiff[gridYStart] += duration;
+			durationDiff[gridYEnd + 1] -= duration;
+			coverageDiff[gridYStart]++;
+			coverageDiff[gridYEnd + 1]--;
+		}
+
+		@Override
+		HeatmapGrid toGrid() {
+			int rows = Math.max(0, totalGridsY);
+
+			// 누적합으로 행별 체류 시간 복원, 한 번도 화면에 포함되지 않은 행은 제외
+			long[] durations = new long[rows];
+			boolean[] covered = new boolean[rows];
+			long runningDuration = 0L;
+			int runningCoverage = 0;
+			long maxDuration = Long.MIN_VALUE;
+			for (int gridY = 0; gridY < rows; gridY++) {
+				runningDuration += durationDiff[gridY];
+				runningCoverage += coverageDiff[gridY];
+				if (runningCoverage > 0) {
+					durations[gridY] = runningDuration;
+					covered[gridY] = true;
+					maxDuration = Math.max(maxDuration, runningDuration);
+				}
+			}
+			if (maxDuration == Long.MIN_VALUE) {
+				maxDuration = 1L;
+			}
+
+			List<GridCell> gridCells = new ArrayList<>();
+			for (int gridY = 0; gridY < rows; gridY++) {
+				if (!covered[gridY]) {
+					continue;
+				}
+				long duration = durations[gridY];
+
+				// 최대 체류 시간 대비 강도 계산
+				int intensity = (int) ((duration * 100.0) / maxDuration);
+				int count = duration > 100 ? (int) (duration / 100.0) : 1;
+
+				// 전체 페이지 width 로 히트맵 생성
+				for (int gridX = 0; gridX < widthInGrids; gridX++) {
+					gridCells.add(GridCell.builder()
+						.gridX(gridX)
+						.gridY(gridY)
+						.count(count)
+						.intensity(intensity)
+						.build());
+				}
+			}
+			return new HeatmapGrid(gridCells, (int) (maxDuration / 100));
+		}
+	}
+}
@@ -2,14 +2,9 @@ package com.dajava.backend.domain.heatmap.service;
 
 import static com.dajava.backend.global.exception.ErrorCode.*;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -29,7 +24,10 @@ import com.dajava.backend.domain.register.entity.PageCaptureData;
 import com.dajava.backend.domain.register.entity.Register;
 import com.dajava.backend.domain.register.repository.RegisterRepository;
 import com.dajava.backend.domain.solution.exception.SolutionException;
+import com.dajava.backend.global.component.analyzer.HeatmapProperties;
 import com.dajava.backend.utils.PasswordUtils;
+import com.dajava.backend.utils.TimeUtils;
+import com.dajava.backend.utils.session.SessionCounter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -49,6 +47,9 @@ public class HeatmapServiceImpl implements HeatmapService {
 	private final RegisterRepository registerRepository;
 	private final FileStorageService fileStorageService;
 	private final SolutionEventFetcher solutionEventFetcher;
+	private final SolutionEventAggregator solutionEventAggregator;
+	private final HeatmapViewService heatmapViewService;
+	private final HeatmapProperties heatmapProperties;
 
 	// 현재 구현된 히트맵 타입
 	private static final Set<String> EVENT_TYPES = Set.of("click", "move", "scroll");
@@ -81,31 +82,37 @@ public class HeatmapServiceImpl implements HeatmapService {
 				throw new HeatmapException(SOLUTION_PASSWORD_INVALID);
 			}
 
-			// ES에 접근 후 데이터 가져오도록 변경
-			List<SolutionEventDocument> events = solutionEventFetcher.getAllEvents(serialNumber, sortByTimestamp);
-
-			// targetUrl 과 일치하고, width 가 widthRange 조건에 충족한 이벤트만 필터링 (프로토콜 무시)
-			List<SolutionEventDocument> filteredEvents = SolutionEventManager.getValidEvents(events, targetUrl, widthRange);
-
-			// scroll 타입이 아니라면 타입에 따라 이벤트 필터링
-			if (!sortByTimestamp) {
-				filteredEvents = SolutionEventManager.getTargetEvents(filteredEvents, type);
-			}
-
-			// 샘플링 처리 전 totalEvents
-			int totalEvents = filteredEvents.size();
-
-			// 이벤트 샘플링으로 데이터가 방대한 경우 반환 시간 최적화
-			if (filteredEvents.size() > 10000) {
-				filteredEvents = sampleEvents(filteredEvents, type);
-			}
-
 			// 그리드 생성 로직으로 결과값 생성
 			HeatmapResponse response;
-			if (sortByTimestamp) {
-				response = createScrollDepthHeatmap(filteredEvents, targetUrl, gridSize);
+			int totalEvents;
+			if (heatmapProperties.isMaterializedView() && !sortByTimestamp) {
+				// 이벤트 저장 시 갱신되는 히트맵 뷰를 요청 그리드 크기로 재조정만 함
+				response = heatmapViewService.getHeatmap(serialNumber, targetUrl, type, widthRange, gridSize)
+					.orElseGet(this::createEmptyHeatmapResponse);
+				totalEvents = response.metadata().totalEvents();
+			} else if (heatmapProperties.isElasticsearchAggregation() && !sortByTimestamp) {
+				// 필터링과 그리드 집계를 ES 에서 수행하고 셀별 이벤트 수만 받아옴
+				response = solutionEventAggregator.aggregateCoordinateHeatmap(
+						serialNumber, targetUrl, type, widthRange, gridSize)
+					.orElseGet(this::createEmptyHeatmapResponse);
+				totalEvents = response.metadata().totalEvents();
 			} else {
-				response = createCoordinateHeatmap(filteredEvents, targetUrl, gridSize);
+				// 그리드 크기와 샘플링 비율을 정하기 위해 대상 이벤트 수와 최대 페이지 크기를 ES 에서 먼저 집계
+				HeatmapEventSummary summary = solutionEventAggregator.summarize(
+					serialNumber, targetUrl, sortByTimestamp ? null : type, widthRange);
+				if (summary.serialEvents() == 0) {
+					throw new HeatmapException(SOLUTION_EVENT_DATA_NOT_FOUND);
+				}
+
+				if (summary.matchedEvents() == 0) {
+					// 필터링 결과가 없으면 빈 히트맵 리턴
+					response = createEmptyHeatmapResponse();
+					totalEvents = 0;
+				} else {
+					response = createStreamingHeatmap(summary, serialNumber, targetUrl, type, widthRange, gridSize,
+						sortByTimestamp);
+					totalEvents = (int) summary.matchedEvents();
+				}
 			}
 
 			// toBuilder 를 통해 pageCapture 경로값 추가
@@ -150,8 +157,8 @@ public class HeatmapServiceImpl implements HeatmapService {
 
 			// 소요 시간 측정
 			long endTime = System.currentTimeMillis();
-			log.info("히트맵 생성 성능 분석 결과: 일련 번호={}, type={}, totalEvent={}, afterSamplingEvent={} 소요시간={}ms",
-				serialNumber, type, events.size(), totalEvents, (endTime - startTime)
+			log.info("히트맵 생성 성능 분석 결과: 일련 번호={}, type={}, totalEvent={}, 소요시간={}ms",
+				serialNumber, type, totalEvents, (endTime - startTime)
 			);
 
 			return response;
@@ -185,278 +192,93 @@ public class HeatmapServiceImpl implements HeatmapService {
 	}
 
 	/**
-	 * 이벤트 목록에서 샘플링을 수행합니다.
+	 * 이벤트 샘플링 비율을 계산합니다.
 	 * 이벤트 수가 많을 경우 모든 이벤트를 처리하는 대신 일부만 샘플링하여 효율성을 높힐 수 있습니다.
 	 */
-	private List<SolutionEventDocument> sampleEvents(List<SolutionEventDocument> events, String eventType) {
-		int sampleRate;
+	private int getSampleRate(long matchedEvents, String eventType) {
+		if (matchedEvents <= 10000) {
+			return 1;
+		}
 
 		if ("move".equalsIgnoreCase(eventType)) {
-			sampleRate = events.size() > 10000 ? 10 : 5; // 이동 이벤트가 10000개 이상 ? 20 : 1 / 10 : 1
+			return 10; // 이동 이벤트 10 : 1
 		} else if ("scroll".equalsIgnoreCase(eventType)) {
-			sampleRate = 5; // 스크롤 이벤트 5 : 1
+			return 5; // 스크롤 이벤트 5 : 1
 		} else {
-			sampleRate = 2; // 클릭 이벤트 2 : 1
-		}
-
-		List<SolutionEventDocument> sampledEvents = new ArrayList<>();
-		for (int i = 0; i < events.size(); i++) {
-			if (i % sampleRate == 0) {
-				sampledEvents.add(events.get(i));
-			}
+			return 2; // 클릭 이벤트 2 : 1
 		}
-
-		log.info("이벤트 샘플링 적용: {} 이벤트 {} -> {}", eventType, events.size(), sampledEvents.size());
-		return sampledEvents;
 	}
 
 	/**
-	 * 클릭 및 이동 타입 히트맵 생성 로직
-	 * 타입에 맞는 이벤트에 따라 분석해 히트맵 데이터를 반환합니다.
+	 * 이벤트를 ES 페이지 단위로 받아 바로 그리드에 누적하는 히트맵 생성 로직
+	 * 클릭, 이동 타입은 좌표별 발생 횟수를, scroll 타입은 전체 이벤트의 화면 체류 시간을 누적합니다.
+	 * 전체 이벤트 리스트를 만들지 않으므로 메모리 사용량은 페이지 크기와 그리드 크기에 비례합니다.
 	 *
-	 * @param events serialNumber 를 통해 가져온 세션 데이터
+	 * @param summary ES 집계로 구한 대상 이벤트 수와 최대 페이지 크기
 	 * @param type 세션 데이터에서 추출할 로그 데이터의 타입
+	 * @param sortByTimestamp scroll 타입이면 timestamp 순으로 순회
 	 * @return HeatmapResponse 그리드 데이터와 메타 데이터를 포함한 히트맵 응답 DTO
 	 */
-	private HeatmapResponse createCoordinateHeatmap(List<SolutionEventDocument> events, String targetUrl, int gridSize) {
-		// 필터링 결과가 없으면 빈 히트맵 리턴
-		if (events.isEmpty()) {
-			return createEmptyHeatmapResponse();
-		}
-
-		// 전체 이벤트에서 max 값 사전 설정
-		int maxPageWidth = SolutionEventManager.getMaxPageWidth(events);
-		int maxPageHeight = SolutionEventManager.getMaxPageHeight(events);
-
+	private HeatmapResponse createStreamingHeatmap(HeatmapEventSummary summary, String serialNumber,
+		String targetUrl, String type, int widthRange, int gridSize, boolean sortByTimestamp) {
 		// 그리드 갯수 계산
-		int totalGridsX = maxPageWidth / gridSize;
-		int totalGridsY = maxPageHeight / gridSize;
-
-		// 그리드 맵 - 좌표를 키로 사용하는 HashMap
-		Map<Integer, Integer> gridMap = new HashMap<>();
-
-		// 이벤트 시간 초기화
-		LocalDateTime firstEventTime = null;
-		LocalDateTime lastEventTime = null;
+		int totalGridsX = summary.maxPageWidth() / gridSize;
+		int totalGridsY = summary.maxPageHeight() / gridSize;
 
-		// 세션을 구분하기 위한 고유 식별자 저장 HashSet
-		Set<String> sessionIds = new HashSet<>();
-
-		for (SolutionEventDocument event : events) {
-			// 총 세션수를 count 하기 위해 HashSet 에 추가함
-			if (event.getSessionId() != null) {
-				sessionIds.add(event.getSessionId());
-			}
-
-			// 좌표값이 없다면 건너뜀
-			if (event.getClientX() == null || event.getClientY() == null) {
-				continue;
-			}
-
-			int x = event.getClientX();
-			int y = event.getClientY() + event.getScrollY();
-
-			// 상대 좌표로 변환
-			// 강제 형변환에서 소수점이 버려지기 때문에 float 사용으로 메모리 사용 최적화
-			float relativeX = (float) x / event.getBrowserWidth();
-			float relativeY = (float) y / event.getScrollHeight();
-
-			// 이벤트 시간 업데이트
-			if (firstEventTime == null || event.getTimestamp().isBefore(firstEventTime)) {
-				firstEventTime = event.getTimestamp();
-			}
-			if (lastEventTime == null || event.getTimestamp().isAfter(lastEventTime)) {
-				lastEventTime = event.getTimestamp();
-			}
-
-			// 강제 형변환으로 그리드 할당
-			int gridX = (int) (relativeX * totalGridsX);
-			int gridY = (int) (relativeY * totalGridsY);
-
-			// 그리드 범위 제한
-			gridX = Math.clamp(gridX, 0, totalGridsX - 1);
-			gridY = Math.clamp(gridY, 0, totalGridsY - 1);
-
-			// String gridKey = gridX + ":" + gridY;
-			Integer gridKey = gridY * totalGridsX + gridX;
-
-			// 해당 그리드 셀 카운트 증가
-			gridMap.put(gridKey, gridMap.getOrDefault(gridKey, 0) + 1);
-		}
+		// 세션 수는 설정에 따라 HyperLogLog 스케치로 추정하거나 정확하게 계산
+		SessionCounter sessionCounter = SessionCounter.of(heatmapProperties.isExactSessionCount(),
+			heatmapProperties.getSessionSketchPrecision());
+		HeatmapGridAggregator.HeatmapAccumulator accumulator = sortByTimestamp
+			// 페이지 width 를 그리드 단위로 계산
+			? new HeatmapGridAggregator.ScrollDepthAccumulator(totalGridsY, Math.max(1, totalGridsX), sessionCounter)
+			: new HeatmapGridAggregator.CoordinateAccumulator(totalGridsX, totalGridsY, sessionCounter);
+
+		// 이벤트 샘플링으로 데이터가 방대한 경우 반환 시간 최적화
+		int sampleRate = getSampleRate(summary.matchedEvents(), type);
+		long[] validIndex = {0L};
+
+		solutionEventFetcher.streamEvents(serialNumber, targetUrl, sortByTimestamp ? null : type, widthRange,
+			sortByTimestamp, page -> {
+				for (SolutionEventDocument event : page) {
+					// targetUrl 과 일치하고, width 가 widthRange 조건에 충족한 이벤트만 반영 (프로토콜 무시)
+					if (!SolutionEventManager.isValidEvent(event, targetUrl, widthRange)
+						|| (!sortByTimestamp && !type.equals(event.getType()))) {
+						continue;
+					}
+					if (validIndex[0]++ % sampleRate == 0) {
+						accumulator.accept(event);
+					}
+				}
+			});
 
-		// 최대 카운트 값
-		int maxCount = gridMap.values().stream().max(Integer::compareTo).orElse(0);
-
-		// 그리드 셀 리스트 생성
-		List<GridCell> gridCells = new ArrayList<>();
-		for (Map.Entry<Integer, Integer> entry : gridMap.entrySet()) {
-			Integer gridKey = entry.getKey();
-			int gridX = gridKey % totalGridsX;
-			int gridY = gridKey / totalGridsX;
-			// int gridX = Integer.parseInt(coordinates[0]);
-			// int gridY = Integer.parseInt(coordinates[1]);
-			int count = entry.getValue();
-
-			// 최대 카운트 값 대비 강도 계산
-			int intensity = maxCount > 0 ? (int)(((double)count / maxCount) * 100) : 0;
-
-			gridCells.add(GridCell.builder()
-				.gridX(gridX)
-				.gridY(gridY)
-				.count(count)
-				.intensity(intensity)
-				.build());
+		if (sampleRate > 1) {
+			log.info("이벤트 샘플링 적용: {} 이벤트 {} -> {}", type, validIndex[0], accumulator.totalEvents());
 		}
 
-		int totalSessions = sessionIds.size();
-
-		// 메타데이터 생성
-		HeatmapMetadata metadata = HeatmapMetadata.builder()
-			.maxCount(maxCount)
-			.totalEvents(events.size())
-			.pageUrl(targetUrl)
-			.totalSessions(totalSessions)
-			.firstEventTime(firstEventTime)
-			.lastEventTime(lastEventTime)
-			.build();
-
-		// Heatmap Response 생성
-		return HeatmapResponse.builder()
-			.gridSizeX(totalGridsX)
-			.gridSizeY(totalGridsY)
-			.pageWidth(maxPageWidth)
-			.pageHeight(maxPageHeight)
-			.gridCells(gridCells)
-			.metadata(metadata)
-			.build();
-	}
-
-	/**
-	 * Scroll Depth 히트맵 생성 로직
-	 * 전체 이벤트 타입의 로그에 대해 화면 체류 시간을 측정해 히트맵 데이터를 반환합니다.
-	 *
-	 * @param events serialNumber 를 통해 가져온 세션 데이터
-	 * @return HeatmapResponse 그리드 데이터와 메타 데이터를 포함한 히트맵 응답 DTO
-	 */
-	private HeatmapResponse createScrollDepthHeatmap(List<SolutionEventDocument> events, String targetUrl, int gridSize) {
-		// 필터링 결과가 없으면 빈 히트맵 리턴
-		if (events.isEmpty()) {
+		// 대상 이벤트가 집계 이후 모두 삭제된 경우
+		if (accumulator.totalEvents() == 0) {
 			return createEmptyHeatmapResponse();
 		}
 
-		// 전체 이벤트에서 max 값 사전 설정
-		int maxPageWidth = SolutionEventManager.getMaxPageWidth(events);
-		int maxPageHeight = SolutionEventManager.getMaxPageHeight(events);
-
-		// 그리드 갯수 계산
-		int totalGridsX = maxPageWidth / gridSize;
-		int totalGridsY = maxPageHeight / gridSize;
-
-		// 시간순 정렬로 데이터를 가져오므로, 첫 데이터와 마지막 데이터로 시간 설정
-		LocalDateTime firstEventTime = events.getFirst().getTimestamp();
-		LocalDateTime lastEventTime = events.getLast().getTimestamp();
-
-		// 화면 체류 시간 저장을 위한 HashMap
-		Map<Integer, Long> durationByRelativeGridY = new HashMap<>();
-
-		// 세션을 구분하기 위한 고유 식별자 저장 HashSet
-		Set<String> sessionIds = new HashSet<>();
-
-		// 시간 간격 비교를 위한 직전 이벤트
-		SolutionEventDocument prevEvent = events.getFirst();
-
-		// 첫번째 데이터 로그의 sessionId 를 HashSet 에 저장
-		sessionIds.add(prevEvent.getSessionId());
-
-		// event 리스트에서 전후 데이터의 타임스탬프를 비교해 grid 정보를 생성하는 로직
-		for (int i = 1; i < events.size(); i++) {
-			SolutionEventDocument cntEvent = events.get(i);
-
-			// 총 세션수를 count 하기 위해 HashSet 에 추가함
-			if (cntEvent.getSessionId() != null) {
-				sessionIds.add(cntEvent.getSessionId());
-			}
-
-			// 두 이벤트 시간 간격 계산
-			long duration = Duration.between(prevEvent.getTimestamp(), cntEvent.getTimestamp()).toMillis();
-
-			// 이벤트 시간 간격이 30초 이상인 경우 5초로 재설정
-			if (duration > 30000) {
-				duration = 5000;
-			}
-
-			// 이전 이벤트 위치의 Y 좌표에 따른 화면 Top, Bottom 설정
-			int viewportTop = prevEvent.getScrollY() != null ? prevEvent.getScrollY() : 0;
-			int viewportHeight = prevEvent.getViewportHeight() != null ? prevEvent.getViewportHeight() : 1024;
-			int viewportBottom = viewportTop + viewportHeight;
-
-			int scrollHeight = prevEvent.getScrollHeight() != null ? prevEvent.getScrollHeight() : viewportHeight;
-
-			// 상대적 위치 계산 (0~1 범위)
-			double relativeTop = (double) viewportTop / scrollHeight;
-			double relativeBottom = (double) viewportBottom / scrollHeight;
-
-			// 상대 위치를 총 그리드 개수에 맞게 스케일링
-			int gridYStart = (int) (relativeTop * totalGridsY);
-			int gridYEnd = (int) (relativeBottom * totalGridsY);
-
-			// 그리드 범위 제한
-			gridYStart = Math.max(0, gridYStart);
-			gridYEnd = Math.min(totalGridsY - 1, gridYEnd);
-
-			// 지정된 범위로 각 그리드에 체류 시간 설정
-			for (int gridY = gridYStart; gridY <= gridYEnd; gridY++) {
-				durationByRelativeGridY.put(gridY, durationByRelativeGridY.getOrDefault(gridY, 0L) + duration);
-			}
-
-			prevEvent = cntEvent;
-		}
-
-		// 최대 체류 시간
-		long maxDuration = durationByRelativeGridY.values().stream().max(Long::compareTo).orElse(1L);
-
-		// 그리드 셀 리스트 생성
-		List<GridCell> gridCells = new ArrayList<>();
-		for (Map.Entry<Integer, Long> entry : durationByRelativeGridY.entrySet()) {
-			int gridY = entry.getKey();
-			long duration = entry.getValue();
-
-			// 페이지 width 를 그리드 단위로 계산
-			int widthInGrids = Math.max(1, maxPageWidth / gridSize);
-
-			// 최대 체류 시간 대비 강도 계산
-			int intensity = (int)((duration * 100.0) / maxDuration);
-
-			// 전체 페이지 width 로 히트맵 생성
-			for (int gridX = 0; gridX < widthInGrids; gridX++) {
-				gridCells.add(GridCell.builder()
-					.gridX(gridX)
-					.gridY(gridY)
-					.count(duration > 100 ? (int)(duration / 100.0) : 1)
-					.intensity(intensity)
-					.build());
-			}
-		}
-
-		int totalSessions = sessionIds.size();
+		HeatmapGridAggregator.HeatmapGrid grid = accumulator.toGrid();
 
 		// 메타데이터 생성
 		HeatmapMetadata metadata = HeatmapMetadata.builder()
-			.maxCount((int)(maxDuration / 100))
-			.totalEvents(events.size())
+			.maxCount(grid.maxCount())
+			.totalEvents(accumulator.totalEvents())
 			.pageUrl(targetUrl)
-			.totalSessions(totalSessions)
-			.firstEventTime(firstEventTime)
-			.lastEventTime(lastEventTime)
+			.totalSessions(accumulator.totalSessions())
+			.firstEventTime(TimeUtils.toLocalDateTime(accumulator.firstTimestamp()))
+			.lastEventTime(TimeUtils.toLocalDateTime(accumulator.lastTimestamp()))
 			.build();
 
 		// Heatmap Response 생성
 		return HeatmapResponse.builder()
 			.gridSizeX(totalGridsX)
 			.gridSizeY(totalGridsY)
-			.pageWidth(maxPageWidth)
-			.pageHeight(maxPageHeight)
-			.gridCells(gridCells)
+			.pageWidth(summary.maxPageWidth())
+			.pageHeight(summary.maxPageHeight())
+			.gridCells(grid.gridCells())
 			.metadata(metadata)
 			.build();
 	}
@@ -0,0 +1,424 @@
+package com.dajava.backend.domain.heatmap.service;
+
+import static com.dajava.backend.global.exception.ErrorCode.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import com.dajava.backend.domain.heatmap.dto.HeatmapMetadata;
+import com.dajava.backend.domain.heatmap.dto.HeatmapResponse;
+import com.dajava.backend.domain.heatmap.entity.HeatmapViewDocument;
+import com.dajava.backend.domain.heatmap.exception.HeatmapException;
+import com.dajava.backend.domain.heatmap.repository.HeatmapViewDocumentRepository;
+import com.dajava.backend.domain.heatmap.validation.ScreenWidthValidator;
+import com.dajava.backend.domain.heatmap.validation.UrlEqualityValidator;
+import com.dajava.backend.domain.mouseeventvalidation.entity.SolutionEventDocument;
+import com.dajava.backend.domain.register.entity.Register;
+import com.dajava.backend.domain.register.repository.RegisterRepository;
+import com.dajava.backend.global.component.analyzer.HeatmapProperties;
+import com.dajava.backend.utils.TimeUtils;
+import com.dajava.backend.utils.session.SessionCounter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클릭, 이동 히트맵을 (serialNumber, type, widthRange) 단위 히트맵 뷰로 유지하는 서비스 입니다.
+ * 1. SolutionEventDocument 가 저장될 때 저장된 이벤트만으로 변경분을 만들어 기존 뷰에 합칩니다.
+ * 2. 뷰는 페이지 크기와 무관한 상대 좌표 기준 고정 해상도로 저장되며, 조회 시 요청 그리드 크기로 재조정만 합니다.
+ * 3. 뷰가 없으면 첫 조회 시 저장된 이벤트 전체로 생성합니다. 그 전에 저장된 이벤트는 생성 시 함께 반영되므로 갱신하지 않습니다.
+ * 4. 뷰는 생성 시 반영한 이벤트의 최대 savedAt 을 기록하며, 이후 갱신에서는 그 값 이하의 이벤트를 건너뛰어 중복 집계하지 않습니다.
+ * 5. 뷰 생성 도중 저장된 이벤트는 저장 직후 savedAt 이 더 큰 이벤트를 다시 조회해 합치며, 그 사이 갱신으로 합친 배치는 건너뜁니다.
+ * 6. 뷰를 사용하지 않는 동안 저장된 이벤트는 해당 뷰를 삭제해, 다시 사용할 때 누락된 뷰가 아닌 새로 생성한 뷰를 사용합니다.
+ * 갱신에 실패한 뷰는 삭제되어 다음 조회 시 다시 생성됩니다.
+ * 스크롤 히트맵은 전체 이벤트의 시간 순서가 필요해 이벤트 단위로 누적할 수 없으므로 뷰를 사용하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HeatmapViewService {
+
+	// 히트맵 뷰로 유지하는 이벤트 타입
+	private static final Set<String> VIEW_TYPES = Set.of("click", "move");
+
+	private static final UrlEqualityValidator urlEqualityValidator = new UrlEqualityValidator();
+	private static final ScreenWidthValidator screenWidthValidator = new ScreenWidthValidator();
+
+	private final HeatmapViewDocumentRepository heatmapViewDocumentRepository;
+	private final RegisterRepository registerRepository;
+	private final SolutionEventFetcher solutionEventFetcher;
+	private final SolutionEventAggregator solutionEventAggregator;
+	private final HeatmapProperties heatmapProperties;
+
+	/**
+	 * 새로 저장된 이벤트를 (serialNumber, type, widthRange) 별로 묶어 해당 히트맵 뷰에 합칩니다.
+	 * 뷰 갱신 실패가 이벤트 저장 흐름에 영향을 주지 않도록 예외를 전파하지 않고 뷰를 삭제합니다.
+	 *
+	 * @param events 저장된 SolutionEventDocument 리스트
+	 */
+	public void applyEvents(List<SolutionEventDocument> events) {
+		if (events == null || events.isEmpty()) {
+			return;
+		}
+		if (!heatmapProperties.isMaterializedView()) {
+			invalidateViews(events);
+			return;
+		}
+
+		// 등록된 URL 과 일치하는 이벤트만 뷰 단위로 분류
+		Map<String, Optional<String>> registerUrls = new HashMap<>();
+		Map<String, List<SolutionEventDocument>> viewEvents = new LinkedHashMap<>();
+		for (SolutionEventDocument event : events) {
+			if (event.getSerialNumber() == null || event.getBrowserWidth() == null
+				|| !VIEW_TYPES.contains(event.getType())) {
+				continue;
+			}
+			Optional<String> registerUrl = registerUrls.computeIfAbsent(event.getSerialNumber(),
+				serialNumber -> registerRepository.findBySerialNumber(serialNumber).map(Register::getUrl));
+			if (registerUrl.isEmpty() || !urlEqualityValidator.isMatching(registerUrl.get(), event.getPageUrl())) {
+				continue;
+			}
+
+			int widthRange = screenWidthValidator.normalizeToWidthRange(event.getBrowserWidth());
+			String id = HeatmapViewDocument.idOf(event.getSerialNumber(), event.getType(), widthRange);
+			viewEvents.computeIfAbsent(id, key -> new ArrayList<>()).add(event);
+		}
+
+		viewEvents.forEach((id, matchedEvents) -> {
+			try {
+				applyDelta(id, matchedEvents);
+			} catch (RuntimeException e) {
+				log.warn("[HeatmapViewService] 히트맵 뷰 갱신 실패, 뷰를 삭제합니다 id : {}, {}", id, e.getMessage());
+				invalidate(id);
+			}
+		});
+	}
+
+	/**
+	 * 히트맵 뷰를 요청 그리드 크기로 재조정해 히트맵 응답을 생성합니다.
+	 * 뷰가 없으면 저장된 이벤트 전체로 뷰를 생성한 뒤 사용합니다.
+	 *
+	 * @param targetUrl 비교할 Register 의 URL
+	 * @return 조건에 맞는 이벤트가 없으면 Optional.empty()
+	 */
+	public Optional<HeatmapResponse> getHeatmap(String serialNumber, String targetUrl, String type, int widthRange,
+		int gridSize) {
+		String id = HeatmapViewDocument.idOf(serialNumber, type, widthRange);
+		HeatmapViewDocument view = heatmapViewDocumentRepository.findById(id)
+			.filter(this::isCompatible)
+			.orElseGet(() -> createView(serialNumber, targetUrl, type, widthRange));
+
+		if (view.getTotalEvents() == 0) {
+			return Optional.empty();
+		}
+
+		// 그리드 갯수 계산
+		int totalGridsX = view.getMaxPageWidth() / gridSize;
+		int totalGridsY = view.getMaxPageHeight() / gridSize;
+
+		int[] counts = HeatmapGridAggregator.rescaleCounts(view.getCellKeys(), view.getCellCounts(),
+			view.getViewGridsX(), view.getViewGridsY(), totalGridsX, totalGridsY);
+		HeatmapGridAggregator.HeatmapGrid grid = HeatmapGridAggregator.toCoordinateGrid(counts, totalGridsX);
+
+		// 메타데이터 생성
+		HeatmapMetadata metadata = HeatmapMetadata.builder()
+			.maxCount(grid.maxCount())
+			.totalEvents((int) view.getTotalEvents())
+			.pageUrl(targetUrl)
+			.totalSessions(view.getTotalSessions())
+			.firstEventTime(TimeUtils.toLocalDateTime(view.getFirstTimestamp()))
+			.lastEventTime(TimeUtils.toLocalDateTime(view.getLastTimestamp()))
+			.build();
+
+		// Heatmap Response 생성
+		return Optional.of(HeatmapResponse.builder()
+			.gridSizeX(totalGridsX)
+			.gridSizeY(totalGridsY)
+			.pageWidth(view.getMaxPageWidth())
+			.pageHeight(view.getMaxPageHeight())
+			.gridCells(grid.gridCells())
+			.metadata(metadata)
+			.build());
+	}
+
+	/**
+	 * 변경분을 기존 뷰에 합쳐 저장합니다. 동시 수정으로 충돌하면 뷰를 다시 읽어 재시도합니다.
+	 * 뷰가 없으면 첫 조회 시 전체 이벤트로 생성되므로 갱신하지 않고, 뷰 생성 시 이미 반영된 이벤트는 제외합니다.
+	 */
+	private void applyDelta(String id, List<SolutionEventDocument> events) {
+		for (int attempt = 0; ; attempt++) {
+			Optional<HeatmapViewDocument> optionalView = heatmapViewDocumentRepository.findById(id);
+			if (optionalView.isEmpty()) {
+				return;
+			}
+
+			HeatmapViewDocument view = optionalView.get();
+			if (!isCompatible(view)) {
+				// 해상도나 세션 수 계산 방식이 바뀐 뷰는 다음 조회 시 다시 생성
+				invalidate(id);
+				return;
+			}
+
+			// 재시도 사이에 뷰가 다시 생성될 수 있으므로 읽은 뷰 기준으로 변경분을 만듦
+			List<SolutionEventDocument> newEvents = events.stream()
+				.filter(event -> !view.covers(event))
+				.toList();
+			if (newEvents.isEmpty()) {
+				return;
+			}
+			view.merge(toDelta(view, newEvents));
+			view.markApplied(newEvents);
+
+			try {
+				heatmapViewDocumentRepository.save(view);
+				return;
+			} catch (OptimisticLockingFailureException e) {
+				if (attempt >= heatmapProperties.getViewUpdateRetries()) {
+					throw e;
+				}
+				log.debug("[HeatmapViewService] 히트맵 뷰 동시 수정 충돌, 재시도 id : {}", id);
+			}
+		}
+	}
+
+	/**
+	 * 새로 저장된 이벤트만으로 뷰와 같은 해상도의 변경분을 생성합니다.
+	 * 셀 인덱스를 정렬해 같은 셀끼리 묶으므로 해상도 크기의 배열을 만들지 않습니다.
+	 */
+	private HeatmapViewDocument toDelta(HeatmapViewDocument view, List<SolutionEventDocument> events) {
+		int[] gridKeys = new int[events.size()];
+		int size = 0;
+		// 뷰와 같은 방식으로 세션 수를 계산해야 병합 가능
+		SessionCounter sessionCounter = view.getSessionPrecision() == 0
+			? SessionCounter.exact()
+			: SessionCounter.approximate(view.getSessionPrecision());
+		Long firstTimestamp = null;
+		Long lastTimestamp = null;
+		int maxPageWidth = 0;
+		int maxPageHeight = 0;
+
+		for (SolutionEventDocument event : events) {
+			sessionCounter.add(event.getSessionId());
+			maxPageWidth = Math.max(maxPageWidth, event.getBrowserWidth());
+			maxPageHeight = Math.max(maxPageHeight, event.getScrollHeight() != null ? event.getScrollHeight() :
+				(event.getViewportHeight() != null ? event.getViewportHeight() : 0));
+
+			// 좌표값이 없다면 세션 수에만 반영
+			if (event.getClientX() == null || event.getClientY() == null) {
+				continue;
+			}
+			Long timestamp = event.getTimestampMillis();
+			if (timestamp != null) {
+				firstTimestamp = firstTimestamp == null ? timestamp : Math.min(firstTimestamp, timestamp);
+				lastTimestamp = lastTimestamp == null ? timestamp : Math.max(lastTimestamp, timestamp);
+			}
+			int gridKey = HeatmapGridAggregator.coordinateCellKey(event, view.getViewGridsX(), view.getViewGridsY());
+			if (gridKey >= 0) {
+				gridKeys[size++] = gridKey;
+			}
+		}
+
+		Arrays.sort(gridKeys, 0, size);
+		int[] cellKeys = new int[size];
+		int[] cellCounts = new int[size];
+		int cells = 0;
+		for (int i = 0; i < size; i++) {
+			if (cells > 0 && cellKeys[cells - 1] == gridKeys[i]) {
+				cellCounts[cells - 1]++;
+			} else {
+				cellKeys[cells] = gridKeys[i];
+				cellCounts[cells++] = 1;
+			}
+		}
+
+		return HeatmapViewDocument.builder()
+			.totalEvents(events.size())
+			.sessions(sessionCounter)
+			.firstTimestamp(firstTimestamp)
+			.lastTimestamp(lastTimestamp)
+			.maxPageWidth(maxPageWidth)
+			.maxPageHeight(maxPageHeight)
+			.cellKeys(Arrays.copyOf(cellKeys, cells))
+			.cellCounts(Arrays.copyOf(cellCounts, cells))
+			.build();
+	}
+
+	/**
+	 * 저장된 이벤트 전체를 페이지 단위로 순회해 뷰를 생성하고 저장합니다.
+	 * 조건에 맞는 이벤트가 없어도 이후 저장되는 이벤트를 반영할 수 있도록 빈 뷰를 저장합니다.
+	 */
+	private HeatmapViewDocument createView(String serialNumber, String targetUrl, String type, int widthRange) {
+		HeatmapEventSummary summary = solutionEventAggregator.summarize(serialNumber, targetUrl, type, widthRange);
+		if (summary.serialEvents() == 0) {
+			throw new HeatmapException(SOLUTION_EVENT_DATA_NOT_FOUND);
+		}
+
+		int viewGridsX = heatmapProperties.getViewGridsX();
+		int viewGridsY = heatmapProperties.getViewGridsY();
+		HeatmapGridAggregator.CoordinateAccumulator accumulator =
+			new HeatmapGridAggregator.CoordinateAccumulator(viewGridsX, viewGridsY, SessionCounter.of(
+				heatmapProperties.isExactSessionCount(), heatmapProperties.getSessionSketchPrecision()));
+		// point in time 에 포함된 이벤트의 최대 savedAt, 이후 갱신에서 이 값 이하의 이벤트는 제외
+		long[] savedUpTo = new long[1];
+		if (summary.matchedEvents() > 0) {
+			solutionEventFetcher.streamEvents(serialNumber, targetUrl, type, widthRange, false, page -> {
+				for (SolutionEventDocument event : page) {
+					if (event.getSavedAt() != null) {
+						savedUpTo[0] = Math.max(savedUpTo[0], event.getSavedAt());
+					}
+					if (SolutionEventManager.isValidEvent(event, targetUrl, widthRange) && type.equals(event.getType())) {
+						accumulator.accept(event);
+					}
+				}
+			});
+		}
+
+		// dense 그리드에서 이벤트가 있는 셀만 추출
+		int[] counts = accumulator.counts();
+		int cells = 0;
+		for (int count : counts) {
+			if (count > 0) {
+				cells++;
+			}
+		}
+		int[] cellKeys = new int[cells];
+		int[] cellCounts = new int[cells];
+		for (int gridKey = 0, i = 0; gridKey < counts.length; gridKey++) {
+			if (counts[gridKey] > 0) {
+				cellKeys[i] = gridKey;
+				cellCounts[i++] = counts[gridKey];
+			}
+		}
+
+		HeatmapViewDocument view = HeatmapViewDocument.builder()
+			.id(HeatmapViewDocument.idOf(serialNumber, type, widthRange))
+			.serialNumber(serialNumber)
+			.type(type)
+			.widthRange(widthRange)
+			.viewGridsX(viewGridsX)
+			.viewGridsY(viewGridsY)
+			.totalEvents(accumulator.totalEvents())
+			.maxPageWidth(summary.maxPageWidth())
+			.maxPageHeight(summary.maxPageHeight())
+			.firstTimestamp(accumulator.firstTimestamp())
+			.lastTimestamp(accumulator.lastTimestamp())
+			.savedUpTo(savedUpTo[0])
+			.sessions(accumulator.sessionCounter())
+			.cellKeys(cellKeys)
+			.cellCounts(cellCounts)
+			.build();
+
+		log.info("[HeatmapViewService] 히트맵 뷰 생성 id : {}, 이벤트 수 : {}, 셀 수 : {}",
+			view.getId(), view.getTotalEvents(), cells);
+		HeatmapViewDocument saved = heatmapViewDocumentRepository.save(view);
+		try {
+			return catchUp(saved, targetUrl, widthRange);
+		} catch (RuntimeException e) {
+			// 누락분을 반영하지 못한 뷰는 이번 조회에만 사용하고 다음 조회 시 다시 생성
+			log.warn("[HeatmapViewService] 히트맵 뷰 누락분 반영 실패, 뷰를 삭제합니다 id : {}, {}", saved.getId(),
+				e.getMessage());
+			invalidate(saved.getId());
+			return saved;
+		}
+	}
+
+	/**
+	 * 뷰 생성 도중 저장되어 point in time 에 포함되지 않은 이벤트를 조회해 뷰에 합칩니다.
+	 * 뷰 저장 전에 갱신을 건너뛴 배치는 모두 조회 대상에 포함되고, 저장 후 갱신으로 이미 합친 배치는 제외합니다.
+	 * 반영이 끝나면 이후 갱신은 savedUpTo 만으로 중복 여부를 판단합니다.
+	 */
+	private HeatmapViewDocument catchUp(HeatmapViewDocument created, String targetUrl, int widthRange) {
+		String type = created.getType();
+		List<SolutionEventDocument> missedEvents = new ArrayList<>();
+		long[] caughtUpTo = {created.getSavedUpTo() != null ? created.getSavedUpTo() : 0L};
+		solutionEventFetcher.streamEventsSavedAfter(created.getSerialNumber(), targetUrl, type, widthRange,
+			caughtUpTo[0], page -> {
+				for (SolutionEventDocument event : page) {
+					caughtUpTo[0] = Math.max(caughtUpTo[0], event.getSavedAt());
+					if (SolutionEventManager.isValidEvent(event, targetUrl, widthRange)
+						&& type.equals(event.getType())) {
+						missedEvents.add(event);
+					}
+				}
+			});
+
+		for (int attempt = 0; ; attempt++) {
+			Optional<HeatmapViewDocument> optionalView = heatmapViewDocumentRepository.findById(created.getId());
+			if (optionalView.isEmpty()) {
+				return created;
+			}
+
+			HeatmapViewDocument view = optionalView.get();
+			List<SolutionEventDocument> newEvents = missedEvents.stream()
+				.filter(event -> !view.covers(event))
+				.toList();
+			if (!newEvents.isEmpty()) {
+				view.merge(toDelta(view, newEvents));
+			}
+			view.markCaughtUp(caughtUpTo[0]);
+
+			try {
+				HeatmapViewDocument saved = heatmapViewDocumentRepository.save(view);
+				log.info("[HeatmapViewService] 히트맵 뷰 누락분 반영 id : {}, 이벤트 수 : {}", saved.getId(),
+					newEvents.size());
+				return saved;
+			} catch (OptimisticLockingFailureException e) {
+				if (attempt >= heatmapProperties.getViewUpdateRetries()) {
+					throw e;
+				}
+				log.debug("[HeatmapViewService] 히트맵 뷰 동시 수정 충돌, 재시도 id : {}", created.getId());
+			}
+		}
+	}
+
+	/**
+	 * 그리드 해상도와 세션 수 계산 방식이 현재 설정과 같은지 확인합니다.
+	 */
+	private boolean isCompatible(HeatmapViewDocument view) {
+		int sessionPrecision = heatmapProperties.isExactSessionCount() ? 0 : heatmapProperties.getSessionSketchPrecision();
+		return view.getViewGridsX() == heatmapProperties.getViewGridsX()
+			&& view.getViewGridsY() == heatmapProperties.getViewGridsY()
+			&& view.getSessionPrecision() == sessionPrecision;
+	}
+
+	/**
+	 * 뷰를 사용하지 않는 동안 저장된 이벤트가 속한 뷰를 삭제합니다.
+	 * 이벤트가 반영되지 않은 뷰가 다시 사용되지 않도록, 뷰를 다시 사용할 때 첫 조회에서 새로 생성되게 합니다.
+	 */
+	private void invalidateViews(List<SolutionEventDocument> events) {
+		Set<String> ids = new HashSet<>();
+		for (SolutionEventDocument event : events) {
+			if (event.getSerialNumber() != null && event.getBrowserWidth() != null
+				&& VIEW_TYPES.contains(event.getType())) {
+				ids.add(HeatmapViewDocument.idOf(event.getSerialNumber(), event.getType(),
+					screenWidthValidator.normalizeToWidthRange(event.getBrowserWidth())));
+			}
+		}
+		if (ids.isEmpty()) {
+			return;
+		}
+		try {
+			heatmapViewDocumentRepository.deleteAllById(ids);
+		} catch (RuntimeException e) {
+			log.error("[HeatmapViewService] 히트맵 뷰 삭제 실패 ids : {}", ids, e);
+		}
+	}
+
+	private void invalidate(String id) {
+		try {
+			heatmapViewDocumentRepository.deleteById(id);
+		} catch (RuntimeException e) {
+			log.error("[HeatmapViewService] 히트맵 뷰 삭제 실패 id : {}", id, e);
+		}
+	}
+}
@@ -0,0 +1,293 @@
+package com.dajava.backend.domain.heatmap.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Service;
+
+import com.dajava.backend.domain.heatmap.dto.HeatmapMetadata;
+import com.dajava.backend.domain.heatmap.dto.HeatmapResponse;
+import com.dajava.backend.domain.heatmap.exception.HeatmapException;
+import com.dajava.backend.domain.mouseeventvalidation.entity.SolutionEventDocument;
+import com.dajava.backend.global.component.analyzer.HeatmapProperties;
+import com.dajava.backend.global.exception.ErrorCode;
+import com.dajava.backend.utils.TimeUtils;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.Script;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregationSource;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.FilterAggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.ValueType;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클릭, 이동 히트맵의 필터링과 그리드 집계를 ES 에서 수행하는 컴포넌트 입니다.
+ * 1. serialNumber, type, widthRange, pageUrl(프로토콜 무시) 조건을 ES 쿼리로 전달합니다.
+ *    스트리밍, 히트맵 뷰 방식과 같은 결과가 나오도록 이상치로 판정된 이벤트도 포함합니다.
+ * 2. 첫 요청에서 페이지 최대 너비, 높이, 세션 수, 이벤트 시간 범위를 집계합니다.
+ * 3. 이후 script 기반 composite aggregation 으로 그리드 좌표를 계산해 셀별 이벤트 수만 페이지 단위로 받아옵니다.
+ * 이벤트 문서를 메모리로 가져오지 않으므로 메모리 사용량과 응답 시간이 이벤트 수와 무관합니다.
+ * 스크롤 히트맵은 연속한 이벤트 사이의 시간 간격이 필요해 집계로 표현할 수 없으므로 기존 방식을 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SolutionEventAggregator {
+
+	private static final String MATCHED_EVENTS = "matchedEvents";
+	private static final String MAX_PAGE_WIDTH = "maxPageWidth";
+	private static final String MAX_PAGE_HEIGHT = "maxPageHeight";
+	private static final String TOTAL_SESSIONS = "totalSessions";
+	private static final String POINTER_EVENTS = "pointerEvents";
+	private static final String FIRST_EVENT_TIME = "firstEventTime";
+	private static final String LAST_EVENT_TIME = "lastEventTime";
+	private static final String GRID = "grid";
+	private static final String GRID_X = "gridX";
+	private static final String GRID_Y = "gridY";
+
+	// scrollHeight 가 없으면 viewportHeight, 둘 다 없으면 0 (히트맵 뷰 변경분의 페이지 높이 계산과 동일)
+	private static final String PAGE_HEIGHT_SCRIPT = """
+		if (doc['scrollHeight'].size() != 0) { return doc['scrollHeight'].value; }
+		return doc['viewportHeight'].size() != 0 ? doc['viewportHeight'].value : 0;
+		""";
+
+	// 인메모리 집계와 동일하게 float 상대 좌표를 그리드 개수로 스케일링 후 범위 제한
+	private static final String GRID_X_SCRIPT = """
+		float relativeX = (float) doc['clientX'].value / doc['browserWidth'].value;
+		int gridX = (int) (relativeX * params.totalGridsX);
+		return Math.max(0, Math.min(params.totalGridsX - 1, gridX));
+		""";
+
+	private static final String GRID_Y_SCRIPT = """
+		long scrollY = doc['scrollY'].size() != 0 ? doc['scrollY'].value : 0;
+		float relativeY = (float) (doc['clientY'].value + scrollY) / doc['scrollHeight'].value;
+		int gridY = (int) (relativeY * params.totalGridsY);
+		return Math.max(0, Math.min(params.totalGridsY - 1, gridY));
+		""";
+
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final HeatmapProperties heatmapProperties;
+
+	/**
+	 * 조건에 맞는 이벤트의 그리드별 이벤트 수를 ES 에서 집계해 히트맵 응답을 생성합니다.
+	 * gridSize, pageCapture 는 호출 측에서 채웁니다.
+	 *
+	 * @param serialNumber 솔루션 시리얼 번호
+	 * @param targetUrl 비교할 Register 의 URL
+	 * @param type 히트맵 타입 (click, move)
+	 * @param widthRange 비교할 대상 너비 범위 값
+	 * @param gridSize 그리드 한 칸의 크기(px)
+	 * @return 조건에 맞는 이벤트가 없으면 Optional.empty()
+	 */
+	public Optional<HeatmapResponse> aggregateCoordinateHeatmap(String serialNumber, String targetUrl, String type,
+		int widthRange, int gridSize) {
+		Query eventFilter = SolutionEventQueries.heatmapFilter(serialNumber, targetUrl, type, widthRange);
+		Query pointerFilter = Query.of(q -> q.bool(b -> b
+			.filter(f -> f.exists(e -> e.field("clientX")))
+			.filter(f -> f.exists(e -> e.field("clientY")))));
+
+		NativeQuery summaryQuery = NativeQuery.builder()
+			.withQuery(eventFilter)
+			.withMaxResults(0)
+			.withTrackTotalHits(true)
+			.withAggregation(MAX_PAGE_WIDTH, Aggregation.of(a -> a.max(m -> m.field("browserWidth"))))
+			.withAggregation(MAX_PAGE_HEIGHT, Aggregation.of(a -> a.max(m -> m.script(
+				Script.of(s -> s.source(PAGE_HEIGHT_SCRIPT))))))
+			.withAggregation(TOTAL_SESSIONS, Aggregation.of(a -> a.cardinality(c -> c
+				.field("sessionId")
+				.precisionThreshold(heatmapProperties.getSessionPrecisionThreshold()))))
+			// 첫, 마지막 이벤트 시간은 좌표가 있는 이벤트 기준
+			.withAggregation(POINTER_EVENTS, Aggregation.of(a -> a.filter(pointerFilter)
+				.aggregations(FIRST_EVENT_TIME, Aggregation.of(f -> f.min(m -> m.field("timestamp"))))
+				.aggregations(LAST_EVENT_TIME, Aggregation.of(f -> f.max(m -> m.field("timestamp"))))))
+			.build();
+
+		SearchHits<SolutionEventDocument> summaryHits = search(summaryQuery);
+		if (summaryHits.getTotalHits() == 0) {
+			return Optional.empty();
+		}
+
+		Map<String, Aggregate> summary = aggregatesOf(summaryHits);
+		int maxPageWidth = (int) valueOrZero(summary.get(MAX_PAGE_WIDTH).max().value());
+		int maxPageHeight = (int) valueOrZero(summary.get(MAX_PAGE_HEIGHT).max().value());
+		int totalSessions = (int) summary.get(TOTAL_SESSIONS).cardinality().value();
+		Map<String, Aggregate> pointerEvents = summary.get(POINTER_EVENTS).filter().aggregations();
+		boolean hasPointerEvents = summary.get(POINTER_EVENTS).filter().docCount() > 0;
+
+		// 그리드 갯수 계산
+		int totalGridsX = maxPageWidth / gridSize;
+		int totalGridsY = maxPageHeight / gridSize;
+
+		HeatmapGridAggregator.HeatmapGrid grid = totalGridsX > 0 && totalGridsY > 0
+			? aggregateGrid(eventFilter, pointerFilter, totalGridsX, totalGridsY)
+			: new HeatmapGridAggregator.HeatmapGrid(Collections.emptyList(), 0);
+
+		HeatmapMetadata metadata = HeatmapMetadata.builder()
+			.maxCount(grid.maxCount())
+			.totalEvents((int) summaryHits.getTotalHits())
+			.pageUrl(targetUrl)
+			.totalSessions(totalSessions)
+			.firstEventTime(toLocalDateTime(hasPointerEvents, pointerEvents.get(FIRST_EVENT_TIME).min().value()))
+			.lastEventTime(toLocalDateTime(hasPointerEvents, pointerEvents.get(LAST_EVENT_TIME).max().value()))
+			.build();
+
+		return Optional.of(HeatmapResponse.builder()
+			.gridSizeX(totalGridsX)
+			.gridSizeY(totalGridsY)
+			.pageWidth(maxPageWidth)
+			.pageHeight(maxPageHeight)
+			.gridCells(grid.gridCells())
+			.metadata(metadata)
+			.build());
+	}
+
+	/**
+	 * 스트리밍 히트맵 생성 전 전체 이벤트를 가져오지 않고 페이지 크기와 대상 이벤트 수를 집계합니다.
+	 * SolutionEventManager 의 필터 조건과 동일한 이벤트를 대상으로 합니다.
+	 *
+	 * @param type 이벤트 타입, null 이면 모든 타입 (스크롤 히트맵)
+	 */
+	public HeatmapEventSummary summarize(String serialNumber, String targetUrl, String type, int widthRange) {
+		NativeQuery summaryQuery = NativeQuery.builder()
+			.withQuery(q -> q.term(t -> t.field("serialNumber").value(serialNumber)))
+			.withMaxResults(0)
+			.withTrackTotalHits(true)
+			.withAggregation(MATCHED_EVENTS, Aggregation.of(a -> a
+				.filter(SolutionEventQueries.heatmapFilter(serialNumber, targetUrl, type, widthRange))
+				.aggregations(MAX_PAGE_WIDTH, Aggregation.of(m -> m.max(x -> x.field("browserWidth"))))
+				.aggregations(MAX_PAGE_HEIGHT, Aggregation.of(m -> m.max(x -> x.script(
+					Script.of(s -> s.source(PAGE_HEIGHT_SCRIPT))))))))
+			.build();
+
+		SearchHits<SolutionEventDocument> summaryHits = search(summaryQuery);
+		if (summaryHits.getTotalHits() == 0) {
+			return new HeatmapEventSummary(0, 0, 0, 0);
+		}
+
+		FilterAggregate matched = aggregatesOf(summaryHits).get(MATCHED_EVENTS).filter();
+		return new HeatmapEventSummary(
+			summaryHits.getTotalHits(),
+			matched.docCount(),
+			(int) valueOrZero(matched.aggregations().get(MAX_PAGE_WIDTH).max().value()),
+			(int) valueOrZero(matched.aggregations().get(MAX_PAGE_HEIGHT).max().value()));
+	}
+
+	/**
+	 * composite aggregation 을 after key 로 페이지 단위 조회하며 셀별 이벤트 수를 dense 그리드에 누적합니다.
+	 * 응답 크기는 이벤트 수가 아닌 이벤트가 존재하는 셀 수에 비례합니다.
+	 */
+	private HeatmapGridAggregator.HeatmapGrid aggregateGrid(Query eventFilter, Query pointerFilter,
+		int totalGridsX, int totalGridsY) {
+		// 상대 좌표 계산에 필요한 필드가 모두 있는 이벤트만 그리드에 반영
+		Query binningFilter = Query.of(q -> q.bool(b -> b
+			.filter(eventFilter)
+			.filter(pointerFilter)
+			.filter(f -> f.exists(e -> e.field("browserWidth")))
+			.filter(f -> f.exists(e -> e.field("scrollHeight")))));
+
+		Map<String, JsonData> params = Map.of(
+			"totalGridsX", JsonData.of(totalGridsX),
+			"totalGridsY", JsonData.of(totalGridsY));
+		Script gridXScript = Script.of(s -> s.source(GRID_X_SCRIPT).params(params));
+		Script gridYScript = Script.of(s -> s.source(GRID_Y_SCRIPT).params(params));
+
+		int pageSize = Math.max(1, heatmapProperties.getAggregationPageSize());
+		int[] counts = HeatmapGridAggregator.newCoordinateCounts(totalGridsX, totalGridsY);
+		Map<String, FieldValue> afterKey = null;
+
+		while (true) {
+			Map<String, FieldValue> after = afterKey;
+			NativeQuery gridQuery = NativeQuery.builder()
+				.withQuery(binningFilter)
+				.withMaxResults(0)
+				.withAggregation(GRID, Aggregation.of(a -> a.composite(c -> {
+					// script terms source 는 value_type 이 없으면 keyword 로 처리되어 key 가 문자열로 반환됨
+					c.size(pageSize)
+						.sources(List.of(
+							Map.of(GRID_X, CompositeAggregationSource.of(s -> s.terms(t -> t
+								.script(gridXScript)
+								.valueType(ValueType.Long)))),
+							Map.of(GRID_Y, CompositeAggregationSource.of(s -> s.terms(t -> t
+								.script(gridYScript)
+								.valueType(ValueType.Long))))));
+					if (after != null) {
+						c.after(after);
+					}
+					return c;
+				})))
+				.build();
+
+			CompositeAggregate composite = aggregatesOf(search(gridQuery)).get(GRID).composite();
+			List<CompositeBucket> buckets = composite.buckets().array();
+			for (CompositeBucket bucket : buckets) {
+				int gridX = toInt(bucket.key().get(GRID_X));
+				int gridY = toInt(bucket.key().get(GRID_Y));
+				counts[gridY * totalGridsX + gridX] += (int) bucket.docCount();
+			}
+
+			if (buckets.size() < pageSize || composite.afterKey() == null || composite.afterKey().isEmpty()) {
+				break;
+			}
+			afterKey = composite.afterKey();
+		}
+
+		return HeatmapGridAggregator.toCoordinateGrid(counts, totalGridsX);
+	}
+
+	private SearchHits<SolutionEventDocument> search(NativeQuery query) {
+		try {
+			return elasticsearchOperations.search(query, SolutionEventDocument.class);
+		} catch (ElasticsearchException | DataAccessException ex) {
+			log.error("히트맵 집계 쿼리 실패: {}", ex.getMessage(), ex);
+			throw new HeatmapException(ErrorCode.ELASTICSEARCH_QUERY_FAILED);
+		}
+	}
+
+	private Map<String, Aggregate> aggregatesOf(SearchHits<?> hits) {
+		ElasticsearchAggregations aggregations = (ElasticsearchAggregations) hits.getAggregations();
+		if (aggregations == null) {
+			throw new HeatmapException(ErrorCode.ELASTICSEARCH_QUERY_FAILED);
+		}
+		Map<String, Aggregate> aggregates = new HashMap<>();
+		for (Map.Entry<String, ElasticsearchAggregation> entry : aggregations.aggregationsAsMap().entrySet()) {
+			aggregates.put(entry.getKey(), entry.getValue().aggregation().getAggregate());
+		}
+		return aggregates;
+	}
+
+	private static double valueOrZero(double value) {
+		return Double.isFinite(value) ? value : 0;
+	}
+
+	private static LocalDateTime toLocalDateTime(boolean present, double epochMillis) {
+		return present && Double.isFinite(epochMillis) ? TimeUtils.toLocalDateTime((long) epochMillis) : null;
+	}
+
+	private static int toInt(FieldValue value) {
+		if (value.isLong()) {
+			return (int) value.longValue();
+		}
+		if (value.isString()) {
+			return (int) Double.parseDouble(value.stringValue());
+		}
+		return (int) value.doubleValue();
+	}
+}
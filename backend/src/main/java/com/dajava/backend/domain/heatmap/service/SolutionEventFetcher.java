@@ -1,15 +1,14 @@
 package com.dajava.backend.domain.heatmap.service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.dajava.backend.domain.mouseeventvalidation.entity.SolutionEventDocument;
-import com.dajava.backend.domain.mouseeventvalidation.repository.SolutionEventDocumentRepository;
 import com.dajava.backend.domain.heatmap.exception.HeatmapException;
+import com.dajava.backend.global.elasticsearch.ElasticsearchCursorFetcher;
 import com.dajava.backend.global.exception.ErrorCode;
 
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
@@ -17,51 +16,63 @@ import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 @Service
 public class SolutionEventFetcher {
 
-    // 페이지 사이즈 고정 값
-    private static final int PAGE_SIZE = 1000;
+    // 히트맵 생성에 사용하는 필드만 _source 에서 가져옴
+    private static final String[] HEATMAP_FIELDS = {
+        "sessionId", "pageUrl", "type", "scrollY", "scrollHeight", "viewportHeight",
+        "browserWidth", "timestamp", "clientX", "clientY", "savedAt"
+    };
 
-    private final SolutionEventDocumentRepository repository;
+    private final ElasticsearchCursorFetcher cursorFetcher;
 
-    public SolutionEventFetcher(SolutionEventDocumentRepository repository) {
-        this.repository = repository;
+    public SolutionEventFetcher(ElasticsearchCursorFetcher cursorFetcher) {
+        this.cursorFetcher = cursorFetcher;
     }
 
     /**
-     * Pagenation으로 1회 쿼리 호출시 1000개의 이벤트를 가져옵니다.
+     * point in time 와 search_after 로 히트맵 조건에 맞는 이벤트를 페이지 단위로 순회합니다.
+     * url, width 범위, 타입 필터링을 ES 에서 수행하고, 전체 이벤트를 모으지 않고 페이지마다 consumer 에 전달합니다.
      * sortByTimestamp 플래그로 정렬 여부를 결정합니다.
-     * 데이터가 없다면 중단되고 모든 이벤트를 반환합니다.
      *
      * @param serialNumber ES에 접근해 데이터를 가져오기 위한 값입니다.
+     * @param targetUrl 비교할 Register 의 URL
+     * @param type 이벤트 타입, null 이면 모든 타입
+     * @param widthRange 비교할 대상 너비 범위 값
      * @param sortByTimestamp 플래그 여부에 따라 정렬을 할지 말지 결정합니다.
-     * @return List<SolutionEventDocument>
+     * @param pageConsumer 페이지 처리 로직
+     * @return 순회한 전체 이벤트 수
      */
-    public List<SolutionEventDocument> getAllEvents(String serialNumber, boolean sortByTimestamp) {
-        List<SolutionEventDocument> allEvents = new ArrayList<>();
-        int pageNumber = 0;
-        List<SolutionEventDocument> pageData;
+    public long streamEvents(String serialNumber, String targetUrl, String type, int widthRange,
+        boolean sortByTimestamp, Consumer<List<SolutionEventDocument>> pageConsumer) {
+        Sort sort = sortByTimestamp
+            ? Sort.by(Sort.Direction.ASC, "timestamp")
+            : ElasticsearchCursorFetcher.SHARD_DOC_ORDER;
 
-        do {
-            PageRequest pageRequest;
-            if (sortByTimestamp) {
-                pageRequest = PageRequest.of(pageNumber, PAGE_SIZE, Sort.by(Sort.Direction.ASC, "timestamp"));
-            } else {
-                pageRequest = PageRequest.of(pageNumber, PAGE_SIZE);
-            }
-            try {
-                pageData = repository.findBySerialNumber(serialNumber, pageRequest);
-            } catch (ElasticsearchException ex) {
-                // 예외 로깅 및 처리
-                // (생략)
-                throw new HeatmapException(ErrorCode.ELASTICSEARCH_QUERY_FAILED);
-            }
-            allEvents.addAll(pageData);
-            pageNumber++;
-        } while (!pageData.isEmpty());
-        
-        if (allEvents.isEmpty()) {
-            throw new HeatmapException(ErrorCode.SOLUTION_EVENT_DATA_NOT_FOUND);
+        try {
+            return cursorFetcher.forEachPage(SolutionEventDocument.class,
+                SolutionEventQueries.heatmapFilter(serialNumber, targetUrl, type, widthRange),
+                sort, 0, pageConsumer, HEATMAP_FIELDS);
+        } catch (ElasticsearchException ex) {
+            throw new HeatmapException(ErrorCode.ELASTICSEARCH_QUERY_FAILED);
         }
+    }
 
-        return allEvents;
+    /**
+     * 히트맵 조건에 맞는 이벤트 중 savedAt 이 기준 시각보다 큰 이벤트만 페이지 단위로 순회합니다.
+     * 히트맵 뷰 생성 도중 저장되어 point in time 에 포함되지 않은 이벤트를 찾는 데 사용합니다.
+     *
+     * @param savedAfter 이 값보다 큰 savedAt 을 가진 이벤트만 조회
+     * @param pageConsumer 페이지 처리 로직
+     * @return 순회한 전체 이벤트 수
+     */
+    public long streamEventsSavedAfter(String serialNumber, String targetUrl, String type, int widthRange,
+        long savedAfter, Consumer<List<SolutionEventDocument>> pageConsumer) {
+        try {
+            return cursorFetcher.forEachPage(SolutionEventDocument.class,
+                SolutionEventQueries.savedAfter(
+                    SolutionEventQueries.heatmapFilter(serialNumber, targetUrl, type, widthRange), savedAfter),
+                ElasticsearchCursorFetcher.SHARD_DOC_ORDER, 0, pageConsumer, HEATMAP_FIELDS);
+        } catch (ElasticsearchException ex) {
+            throw new HeatmapException(ErrorCode.ELASTICSEARCH_QUERY_FAILED);
+        }
     }
 }
@@ -0,0 +1,57 @@
+package com.dajava.backend.domain.heatmap.service;
+
+import com.dajava.backend.domain.heatmap.validation.UrlEqualityValidator;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+
+/**
+ * 히트맵 대상 이벤트 조건을 ES 쿼리로 표현하는 클래스 입니다.
+ * SolutionEventManager.isValidEvent 의 URL, 너비 조건과 타입 조건을 ES 에서 먼저 적용해 필요 없는 문서를 가져오지 않습니다.
+ */
+final class SolutionEventQueries {
+
+	private static final UrlEqualityValidator urlEqualityValidator = new UrlEqualityValidator();
+
+	private SolutionEventQueries() {
+	}
+
+	/**
+	 * width 는 100 단위로 정규화한 값이 widthRange 와 같아야 하므로 [widthRange, widthRange + 100) 범위로 비교합니다.
+	 * URL 은 프로토콜을 제외하고 대소문자 구분 없이 비교합니다.
+	 * 이상치로 판정된 이벤트도 히트맵에 포함하므로 isOutlier 는 조건에 넣지 않습니다.
+	 *
+	 * @param type 이벤트 타입, null 이면 모든 타입 (스크롤 히트맵)
+	 */
+	static Query heatmapFilter(String serialNumber, String targetUrl, String type, int widthRange) {
+		String url = urlEqualityValidator.removeProtocol(targetUrl);
+
+		BoolQuery.Builder bool = new BoolQuery.Builder()
+			.filter(f -> f.term(t -> t.field("serialNumber").value(serialNumber)))
+			.filter(f -> f.range(r -> r.number(n -> n
+				.field("browserWidth")
+				.gte((double) widthRange)
+				.lt((double) widthRange + 100))))
+			.filter(f -> f.bool(u -> u
+				.should(s -> s.term(t -> t.field("pageUrl").value(url).caseInsensitive(true)))
+				.should(s -> s.term(t -> t.field("pageUrl").value("http://" + url).caseInsensitive(true)))
+				.should(s -> s.term(t -> t.field("pageUrl").value("https://" + url).caseInsensitive(true)))
+				.minimumShouldMatch("1")));
+
+		if (type != null) {
+			bool.filter(f -> f.term(t -> t.field("type").value(type)));
+		}
+		return Query.of(q -> q.bool(bool.build()));
+	}
+
+	/**
+	 * 조건에 savedAt 이 기준 시각보다 큰 이벤트만 남기는 조건을 더합니다.
+	 */
+	static Query savedAfter(Query filter, long savedAfter) {
+		return Query.of(q -> q.bool(b -> b
+			.filter(filter)
+			.filter(f -> f.range(r -> r.number(n -> n
+				.field("savedAt")
+				.gt((double) savedAfter))))));
+	}
+}
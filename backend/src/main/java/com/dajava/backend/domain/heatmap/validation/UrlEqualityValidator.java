@@ -28,7 +28,7 @@ public class UrlEqualityValidator {
 	 * @param url 비교할 원본 URL
 	 * @return 프로토콜이 제거된 URL
 	 */
-	private String removeProtocol(String url) {
+	public String removeProtocol(String url) {
 		String lowerCaseUrl = url.toLowerCase();
 		if (lowerCaseUrl.startsWith("http://")) {
 			return url.substring(7);  // "http://"의 길이
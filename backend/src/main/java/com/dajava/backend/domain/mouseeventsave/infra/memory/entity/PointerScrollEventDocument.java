@@ -63,6 +63,13 @@ public class PointerScrollEventDocument {
 		return TimeUtils.toLocalDateTime(this.timestamp);
 	}
 
+	/**
+	 * LocalDateTime 변환 없이 epoch millisecond 값을 반환합니다. 분석기의 시간 비교에 사용합니다.
+	 */
+	public Long getTimestampMillis() {
+		return this.timestamp;
+	}
+
 	public boolean isValid() {
 		return sessionId != null
 				&& pageUrl != null
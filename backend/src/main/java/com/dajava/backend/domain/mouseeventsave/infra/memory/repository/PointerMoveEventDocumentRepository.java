@@ -22,8 +22,6 @@ public interface PointerMoveEventDocumentRepository
 	 */
 	Page<PointerMoveEventDocument> findBySessionId(String sessionId, Pageable pageable);
 
-	boolean existsBySessionId(String sessionId);
-
 	/**
 	 * 해당 sesssionId와 pageUrl을 가지는 모든 이동 이벤트의 개수 반환
 	 * @param sessionId
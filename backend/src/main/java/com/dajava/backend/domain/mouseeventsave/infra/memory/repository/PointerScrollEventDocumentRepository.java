@@ -21,8 +21,6 @@ public interface PointerScrollEventDocumentRepository
 	 */
 	Page<PointerScrollEventDocument> findBySessionId(String sessionId, Pageable pageable);
 
-	boolean existsBySessionId(String sessionId);
-
 	/**
 	 * 해당 sesssionId와 pageUrl을 가지는 모든 스크롤 이벤트의 개수 반환
 	 * @param sessionId
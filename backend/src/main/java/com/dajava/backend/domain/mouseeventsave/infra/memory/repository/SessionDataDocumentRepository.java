@@ -3,8 +3,6 @@ package com.dajava.backend.domain.mouseeventsave.infra.memory.repository;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -41,14 +39,6 @@ public interface SessionDataDocumentRepository
 
 	Optional<SessionDataDocument> findBySessionId(String sessionId);
 
-	/**
-	 * IsSessionEnded가 true이미 isVerified가 false인 sessionDataDocument를 조회
-	 * 한번에 가져오지 않고 페이징해 가져옴
-	 * @param pageable
-	 * @return Page<SessionDataDocument>
-	 */
-	Page<SessionDataDocument> findByIsSessionEndedTrueAndIsVerifiedFalse(Pageable pageable);
-
 	/**
 	 * 현재 시각으로 부터 1시간 이내 세션 데이터 조회
 	 * 마지막 데이터 저장 시간은 lastEventTimestamp 기준으로 함
@@ -1,16 +1,23 @@
 package com.dajava.backend.domain.mouseeventsave.infra.memory.scheduler;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.springframework.stereotype.Component;
 
 import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.SessionDataKey;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.service.ActivityHandleService;
 import com.dajava.backend.global.component.analyzer.BufferSchedulerProperties;
+import com.dajava.backend.global.component.buffer.BufferStats;
 import com.dajava.backend.global.component.buffer.EventBuffer;
-import com.dajava.backend.utils.SessionDataKeyUtils;
-import com.dajava.backend.utils.TimeUtils;
+import com.dajava.backend.global.component.buffer.EventFlushBatch;
+import com.dajava.backend.global.component.buffer.EventWriteAheadLog;
+import com.dajava.backend.global.component.bulk.PointerEventBulkIndexer;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
  * 주기적으로 버퍼내 데이터를 리포지드로 전송합니다.
  * 1. 비활성 세션의 처리 : 마지막 활동 시간 기준 10분이 경과하면 세션 데이터를 최종 저장 및 캐시에서 제거
  * 2. 활성 세션의 주기적 처리 : 활성 상태의 세션 데이터로 주기적으로 저장
+ * 3. 즉시 flush 요청 처리 : 버퍼 용량에 도달한 세션을 요청 스레드가 아닌 별도 스레드에서 저장
  * @author nodonghui, Metronon
  */
 @Component
@@ -28,6 +36,34 @@ public class EventBufferScheduler {
 	private final EventBuffer eventBuffer;
 	private final ActivityHandleService activityHandleService;
 	private final BufferSchedulerProperties properties;
+	private final PointerEventBulkIndexer pointerEventBulkIndexer;
+	private final EventWriteAheadLog eventWriteAheadLog;
+
+	// 즉시 flush 는 하나의 스레드에서 순서대로 처리해 요청 폭주 시에도 ES 부하를 제한
+	private final ExecutorService earlyFlushExecutor =
+		Executors.newSingleThreadExecutor(Thread.ofPlatform().name("early-flush-", 0).factory());
+	private final Set<SessionDataKey> earlyFlushPending = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * 세션의 즉시 flush 를 예약하고 바로 반환합니다. (EARLY_FLUSH 정책)
+	 * 같은 세션의 요청이 이미 대기 중이면 다시 예약하지 않습니다.
+	 * @param sessionKey 버퍼 용량에 도달한 세션 키
+	 */
+	public void requestEarlyFlush(SessionDataKey sessionKey) {
+		if (!earlyFlushPending.add(sessionKey)) {
+			return;
+		}
+		earlyFlushExecutor.execute(() -> {
+			// 처리 시작 전에 대기 표시를 지워, 처리 중 다시 가득 찬 세션은 새로 예약되도록 함
+			earlyFlushPending.remove(sessionKey);
+			try {
+				activityHandleService.processActiveBatchForSession(sessionKey);
+				log.debug("[BufferScheduler] 세션 {} 즉시 flush 완료", sessionKey);
+			} catch (Exception e) {
+				log.error("[BufferScheduler] 세션 {} 즉시 flush 중 오류 발생: {}", sessionKey, e.getMessage(), e);
+			}
+		});
+	}
 
 	/**
 	 * 1분마다 실행되어 비활성 세션을 감지하고 처리합니다.
@@ -39,34 +75,25 @@ public class EventBufferScheduler {
 	public void flushInactiveEventBuffers() {
 		log.info("[BufferScheduler] 비활성 세션 처리 작업 시작");
 		long now = System.currentTimeMillis();
-		Set<SessionDataKey> activeKeys = eventBuffer.getAllActiveSessionKeys();
-		int inactiveCount = 0;
-		for (SessionDataKey sessionKey : activeKeys) {
-			String key = SessionDataKeyUtils.toKey(sessionKey);
-
-			// 세션의 마지막 활동 시간 확인
-			Long lastClickUpdate = eventBuffer.getClickBuffer().getLastUpdatedMap().get(key);
-			Long lastMoveUpdate = eventBuffer.getMoveBuffer().getLastUpdatedMap().get(key);
-			Long lastScrollUpdate = eventBuffer.getScrollBuffer().getLastUpdatedMap().get(key);
-
-			// 가장 최근 업데이트 시간 계산
-			Long latestUpdate = TimeUtils.getLatestUpdate(lastClickUpdate, lastMoveUpdate, lastScrollUpdate);
-
-			// 비활성 세션 여부 확인
-			if (latestUpdate == null || (now - latestUpdate) >= properties.getInactiveThresholdMs()) {
-				log.debug("[BufferScheduler] 비활성 세션 감지: {}", sessionKey);
-				inactiveCount++;
-
-				// 배치 처리를 통해 데이터 저장 및 캐시 제거
-				try {
-					activityHandleService.processInactiveBatchForSession(sessionKey);
-					log.debug("[BufferScheduler] 비활성 세션 {} 데이터 저장 완료", sessionKey);
-				} catch (Exception e) {
-					log.error("[BufferScheduler] 세션 {} 처리 중 오류 발생: {}", sessionKey, e.getMessage(), e);
-				}
+		// 세션별 공유 활동 기록에서 기준 시간 이상 비활성인 세션만 조회
+		List<SessionDataKey> inactiveKeys = eventBuffer.getSessionKeysIdleSince(now - properties.getInactiveThresholdMs());
+		int inactiveCount = inactiveKeys.size();
+		EventFlushBatch batch = new EventFlushBatch(pointerEventBulkIndexer.openTracker());
+		for (SessionDataKey sessionKey : inactiveKeys) {
+			log.debug("[BufferScheduler] 비활성 세션 감지: {}", sessionKey);
+
+			// 배치 처리를 통해 데이터 저장 및 캐시 제거
+			try {
+				activityHandleService.processInactiveBatchForSession(sessionKey, batch);
+				log.debug("[BufferScheduler] 비활성 세션 {} 데이터 저장 완료", sessionKey);
+			} catch (Exception e) {
+				log.error("[BufferScheduler] 세션 {} 처리 중 오류 발생: {}", sessionKey, e.getMessage(), e);
 			}
 		}
 
+		// 이번 주기에 모인 pointer 문서의 저장 결과를 기다리고, ES 저장이 확인된 세션만 WAL 에서 커밋
+		eventWriteAheadLog.commitFlushed(batch, pointerEventBulkIndexer.flush(batch.getTracker()));
+
 		log.info("[BufferScheduler] 비활성 세션 처리 완료: 총 {}개 세션 처리됨", inactiveCount);
 	}
 
@@ -85,17 +112,27 @@ public class EventBufferScheduler {
 		log.info("[BufferScheduler] 처리할 활성 세션 수: {}", activeKeys.size());
 		log.debug("[BufferScheduler] 현재 활성 세션 키 목록: {}", activeKeys.stream().limit(5).toList());
 
+		EventFlushBatch batch = new EventFlushBatch(pointerEventBulkIndexer.openTracker());
 		for (SessionDataKey sessionKey : activeKeys) {
 			try {
-				activityHandleService.processActiveBatchForSession(sessionKey);
+				activityHandleService.processActiveBatchForSession(sessionKey, batch);
 				log.debug("[BufferScheduler] 활성 세션 {} 데이터 저장 완료", sessionKey);
 			} catch (Exception e) {
 				log.error("[BufferScheduler] 세션 {} 처리 중 오류 발생: {}", sessionKey, e.getMessage(), e);
 			}
 		}
 
-		log.info("[BufferScheduler] 모든 활성 세션 정기 처리 완료");
-	}
+		// ES 저장이 확인된 세션만 WAL 에서 커밋
+		eventWriteAheadLog.commitFlushed(batch, pointerEventBulkIndexer.flush(batch.getTracker()));
 
+		BufferStats stats = eventBuffer.getStats();
+		log.info("[BufferScheduler] 모든 활성 세션 정기 처리 완료, 버퍼 점유율 {}% ({}/{}), 누적 drop {}, reject {}, 즉시 flush {}",
+			String.format("%.1f", stats.occupancy() * 100), stats.events(), stats.capacity(),
+			stats.dropped(), stats.rejected(), stats.earlyFlushRequests());
+	}
 
+	@PreDestroy
+	public void shutdown() {
+		earlyFlushExecutor.shutdown();
+	}
 }
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.SessionDataKey;
+import com.dajava.backend.global.component.buffer.EventFlushBatch;
 
 import lombok.RequiredArgsConstructor;
 
@@ -35,4 +36,22 @@ public class ActivityHandleService {
 	public void processInactiveBatchForSession(SessionDataKey key) {
 		eventBatchService.processBatchForSession(key, true);
 	}
+
+	/**
+	 * 스케줄러 주기 단위로 문서를 모아 색인하는 활성 세션 배치 처리 메서드
+	 * 저장 결과는 호출 측이 batch 로 확인합니다.
+	 */
+	@Transactional
+	public void processActiveBatchForSession(SessionDataKey key, EventFlushBatch batch) {
+		eventBatchService.processBatchForSession(key, false, batch);
+	}
+
+	/**
+	 * 스케줄러 주기 단위로 문서를 모아 색인하는 비활성 세션 배치 처리 메서드
+	 * 저장 결과는 호출 측이 batch 로 확인합니다.
+	 */
+	@Transactional
+	public void processInactiveBatchForSession(SessionDataKey key, EventFlushBatch batch) {
+		eventBatchService.processBatchForSession(key, true, batch);
+	}
 }
@@ -14,13 +14,13 @@ import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerClick
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerMoveEventDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerScrollEventDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.SessionDataDocument;
-import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.PointerClickEventDocumentRepository;
-import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.PointerMoveEventDocumentRepository;
-import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.PointerScrollEventDocumentRepository;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.SessionDataDocumentRepository;
 import com.dajava.backend.global.component.buffer.EventBuffer;
+import com.dajava.backend.global.component.buffer.EventFlushBatch;
+import com.dajava.backend.global.component.buffer.EventWriteAheadLog;
+import com.dajava.backend.global.component.bulk.BulkIndexTracker;
+import com.dajava.backend.global.component.bulk.PointerEventBulkIndexer;
 import com.dajava.backend.utils.SessionDataKeyUtils;
-import com.dajava.backend.utils.TimeUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,18 +36,29 @@ import lombok.extern.slf4j.Slf4j;
 public class EventBatchService {
 	private final EventBuffer eventBuffer;
 	private final SessionCacheService sessionCacheService;
-	private final PointerClickEventDocumentRepository pointerClickEventDocumentRepository;
-	private final PointerMoveEventDocumentRepository pointerMoveEventDocumentRepository;
-	private final PointerScrollEventDocumentRepository pointerScrollEventDocumentRepository;
 	private final SessionDataDocumentRepository sessionDataDocumentRepository;
+	private final PointerEventBulkIndexer pointerEventBulkIndexer;
+	private final EventWriteAheadLog eventWriteAheadLog;
 
 	/**
-	 * 각 이벤트 타입의 저장 로직을 배치화한 로직입니다.
+	 * 한 세션만 처리하고, 세션의 문서가 ES 에 저장된 것을 확인한 뒤 WAL 에 커밋합니다.
 	 * @param sessionDataKey sessionData 객체 생성 및 캐싱을 위해 주입합니다.
 	 */
 	public void processBatchForSession(SessionDataKey sessionDataKey, boolean isInactive) {
+		EventFlushBatch batch = new EventFlushBatch(pointerEventBulkIndexer.openTracker());
+		processBatchForSession(sessionDataKey, isInactive, batch);
+		eventWriteAheadLog.commitFlushed(batch, pointerEventBulkIndexer.flush(batch.getTracker()));
+	}
 
-		int totalPendingEvents = countPendingEvents(sessionDataKey);
+	/**
+	 * 각 이벤트 타입의 저장 로직을 배치화한 로직입니다.
+	 * 문서는 batch 의 tracker 와 함께 bulk indexer 에 전달되며, 저장 결과는 호출 측이 tracker 로 flush 해 확인합니다.
+	 * @param sessionDataKey sessionData 객체 생성 및 캐싱을 위해 주입합니다.
+	 * @param batch 호출 측의 bulk 색인 결과와 WAL 커밋 기준을 모을 배치
+	 */
+	public void processBatchForSession(SessionDataKey sessionDataKey, boolean isInactive, EventFlushBatch batch) {
+
+		long totalPendingEvents = countPendingEvents(sessionDataKey);
 
 		//initData로 테스트시 throw 주석처리 후 사용
 		if (totalPendingEvents == 0) {
@@ -58,9 +69,21 @@ public class EventBatchService {
 		// repository 에서 불린 값을 가져와서 체크
 		SessionDataDocument sessionDataDocument = sessionCacheService.createOrFindSessionDataDocument(sessionDataKey);
 
-		processClickEvents(sessionDataKey);
-		processMoveEvents(sessionDataKey);
-		processScrollEvents(sessionDataKey);
+		// 세 이벤트 타입 중 가장 최근 업데이트 시간, flush 시 세션이 버퍼에서 제거되므로 먼저 조회
+		Long latestUpdate = eventBuffer.getLastUpdated(sessionDataKey);
+
+		// 버퍼를 비우기 전에 WAL seq 를 받아, 비운 뒤 유입된 이벤트가 이번 커밋에 포함되지 않도록 함
+		long walMark = eventWriteAheadLog.beginFlush(sessionDataKey);
+		try {
+			BulkIndexTracker tracker = batch.getTracker();
+			processClickEvents(sessionDataKey, tracker);
+			processMoveEvents(sessionDataKey, tracker);
+			processScrollEvents(sessionDataKey, tracker);
+			batch.flushed(sessionDataKey, walMark);
+		} catch (RuntimeException e) {
+			batch.failed(sessionDataKey, walMark);
+			throw e;
+		}
 
 		if (isInactive) {
 			sessionCacheService.removeFromEsCache(sessionDataKey);
@@ -68,16 +91,6 @@ public class EventBatchService {
 			sessionDataDocument.endSession();
 		}
 
-
-		String key = SessionDataKeyUtils.toKey(sessionDataKey);
-		// 세션의 마지막 활동 시간 확인
-		Long lastClickUpdate = eventBuffer.getClickBuffer().getLastUpdatedMap().get(key);
-		Long lastMoveUpdate = eventBuffer.getMoveBuffer().getLastUpdatedMap().get(key);
-		Long lastScrollUpdate = eventBuffer.getScrollBuffer().getLastUpdatedMap().get(key);
-
-		// 가장 최근 업데이트 시간 계산
-		Long latestUpdate = TimeUtils.getLatestUpdate(lastClickUpdate, lastMoveUpdate, lastScrollUpdate);
-
 		// 최근 업데이트 시간 갱신 -> 어뷰징 필터링에 사용
 		sessionDataDocument.updateLastEventTimeStamp(latestUpdate);
 
@@ -86,22 +99,20 @@ public class EventBatchService {
 	}
 
 	/**
-	 *
+	 * 버퍼를 복사하지 않고, 세션 활동 기록에 유지되는 카운터로 대기 이벤트 수를 조회합니다.
 	 * @param sessionDataKey sessionDataKey 를 통해 버퍼의 이벤트 갯수를 가져옵니다
-	 * @return 총 이벤트 갯수 (int)
+	 * @return 총 이벤트 갯수 (long)
 	 */
-	private int countPendingEvents(SessionDataKey sessionDataKey) {
-		return eventBuffer.getClickEvents(sessionDataKey).size()
-			+ eventBuffer.getMoveEvents(sessionDataKey).size()
-			+ eventBuffer.getScrollEvents(sessionDataKey).size();
+	private long countPendingEvents(SessionDataKey sessionDataKey) {
+		return eventBuffer.countPendingEvents(sessionDataKey);
 	}
 
 	/**
 	 * 클릭 이벤트의 버퍼에 접근 후, sessionData 에 데이터를 저장합니다.
-	 * 현재 es에도 같이 저장합니다.
+	 * 현재 es에도 같이 저장하며, 여러 세션의 문서를 모아 bulk 요청으로 전송하도록 bulk indexer 에 전달합니다.
 	 * @param sessionDataKey sessionDataKey 를 통해 eventBuffer 에 접근한 뒤, 관련 이벤트 리스트를 가져오고, 버퍼를 초기화합니다.
 	 */
-	private void processClickEvents(SessionDataKey sessionDataKey) {
+	private void processClickEvents(SessionDataKey sessionDataKey, BulkIndexTracker tracker) {
 		List<PointerClickEventRequest> clickEvents = eventBuffer.flushClickEvents(sessionDataKey);
 		log.info("[배치 처리] 세션 {}: 클릭 이벤트 {} 개 처리", sessionDataKey, clickEvents.size());
 
@@ -113,7 +124,7 @@ public class EventBatchService {
 		}
 
 		if (!documents.isEmpty()) {
-			pointerClickEventDocumentRepository.saveAll(documents); // Elasticsearch 저장
+			pointerEventBulkIndexer.enqueueClickEvents(tracker, SessionDataKeyUtils.toKey(sessionDataKey), documents);
 		}
 	}
 
@@ -121,7 +132,7 @@ public class EventBatchService {
 	 * 무브 이벤트의 버퍼에 접근 후, sessionData 에 데이터를 저장합니다.
 	 * @param sessionDataKey sessionDataKey 를 통해 eventBuffer 에 접근한 뒤, 관련 이벤트 리스트를 가져오고, 버퍼를 초기화합니다.
 	 */
-	private void processMoveEvents(SessionDataKey sessionDataKey) {
+	private void processMoveEvents(SessionDataKey sessionDataKey, BulkIndexTracker tracker) {
 		List<PointerMoveEventRequest> moveEvents = eventBuffer.flushMoveEvents(sessionDataKey);
 		log.info("[배치 처리] 세션 {}: 이동 이벤트 {} 개 처리", sessionDataKey, moveEvents.size());
 
@@ -133,7 +144,7 @@ public class EventBatchService {
 		}
 
 		if (!documents.isEmpty()) {
-			pointerMoveEventDocumentRepository.saveAll(documents);
+			pointerEventBulkIndexer.enqueueMoveEvents(tracker, SessionDataKeyUtils.toKey(sessionDataKey), documents);
 		}
 	}
 
@@ -141,7 +152,7 @@ public class EventBatchService {
 	 * 스크롤 이벤트의 버퍼에 접근 후, sessionData 에 데이터를 저장합니다.
 	 * @param sessionDataKey sessionDataKey 를 통해 eventBuffer 에 접근한 뒤, 관련 이벤트 리스트를 가져오고, 버퍼를 초기화합니다.
 	 */
-	private void processScrollEvents(SessionDataKey sessionDataKey) {
+	private void processScrollEvents(SessionDataKey sessionDataKey, BulkIndexTracker tracker) {
 		List<PointerScrollEventRequest> scrollEvents = eventBuffer.flushScrollEvents(sessionDataKey);
 		log.info("[배치 처리] 세션 {}: 스크롤 이벤트 {} 개 처리", sessionDataKey, scrollEvents.size());
 
@@ -154,7 +165,7 @@ public class EventBatchService {
 		}
 
 		if (!documents.isEmpty()) {
-			pointerScrollEventDocumentRepository.saveAll(documents);
+			pointerEventBulkIndexer.enqueueScrollEvents(tracker, SessionDataKeyUtils.toKey(sessionDataKey), documents);
 		}
 	}
 }
@@ -9,6 +9,7 @@ import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.PointerScrollEv
 import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.SessionDataKey;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.SessionDataDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.SessionDataDocumentRepository;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.scheduler.EventBufferScheduler;
 import com.dajava.backend.global.component.buffer.EventBuffer;
 
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,7 @@ public class EventLogServiceImpl implements EventLogService {
 	private final EventBuffer eventBuffer;
 	private final ActivityHandleService activityHandleService;
 	private final SessionDataDocumentRepository sessionDataDocumentRepository;
+	private final EventBufferScheduler eventBufferScheduler;
 
 	/**
 	 * 클릭 이벤트 DTO 를 통해 sessionDataKey 를 발급하고, 버퍼에 담습니다.
@@ -46,8 +48,10 @@ public class EventLogServiceImpl implements EventLogService {
 		// SessionDataKey 를 통해 Cache 확인, 없으면 생성
 		sessionCacheService.createOrFindSessionDataDocument(sessionDataKey);
 
-		// 클릭 이벤트 버퍼링
-		eventBuffer.addClickEvent(request, sessionDataKey);
+		// 클릭 이벤트 버퍼링, 세션 버퍼가 가득 차면 즉시 flush
+		if (eventBuffer.addClickEvent(request, sessionDataKey)) {
+			flushEarly(sessionDataKey);
+		}
 	}
 
 	/**
@@ -64,8 +68,10 @@ public class EventLogServiceImpl implements EventLogService {
 		// SessionDataKey 를 통해 Cache 확인, 없으면 생성
 		sessionCacheService.createOrFindSessionDataDocument(sessionDataKey);
 
-		// 이동 이벤트 버퍼링
-		eventBuffer.addMoveEvent(request, sessionDataKey);
+		// 이동 이벤트 버퍼링, 세션 버퍼가 가득 차면 즉시 flush
+		if (eventBuffer.addMoveEvent(request, sessionDataKey)) {
+			flushEarly(sessionDataKey);
+		}
 	}
 
 	/**
@@ -82,8 +88,19 @@ public class EventLogServiceImpl implements EventLogService {
 		// SessionDataKey 를 통해 Cache 확인, 없으면 생성
 		sessionCacheService.createOrFindSessionDataDocument(sessionDataKey);
 
-		// 스크롤 이벤트 버퍼링
-		eventBuffer.addScrollEvent(request, sessionDataKey);
+		// 스크롤 이벤트 버퍼링, 세션 버퍼가 가득 차면 즉시 flush
+		if (eventBuffer.addScrollEvent(request, sessionDataKey)) {
+			flushEarly(sessionDataKey);
+		}
+	}
+
+	/**
+	 * 버퍼 용량에 도달한 세션을 스케줄러 주기를 기다리지 않고 저장하도록 예약합니다. (EARLY_FLUSH 정책)
+	 * 저장은 스케줄러의 별도 스레드에서 실행되며, 요청 스레드는 ES 응답을 기다리지 않고 바로 반환합니다.
+	 */
+	private void flushEarly(SessionDataKey sessionDataKey) {
+		log.info("[EventLogService] 버퍼 용량 도달로 세션 {} 즉시 flush 예약", sessionDataKey);
+		eventBufferScheduler.requestEarlyFlush(sessionDataKey);
 	}
 
 	@Override
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.EventBatchRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.MovementEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ScrollEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.service.EventService;
@@ -66,4 +67,17 @@ public class EventController {
 		eventService.createScrollEvent(scrollEventRequest);
 		return "스크롤 이벤트 수신 완료";
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 하나의 세션에서 발생한 click, mousemove, scroll 이벤트 묶음이 redis에 저장
+	 */
+	@Operation(summary = "배치 이벤트 로깅", description = "동일 세션의 여러 타입 이벤트를 한 번의 요청으로 로깅합니다.")
+	@PostMapping("/batch")
+	@ResponseStatus(HttpStatus.OK)
+	public String BatchEvent(
+		@RequestBody EventBatchRequest eventBatchRequest
+	) {
+		eventService.createBatchEvents(eventBatchRequest);
+		return "배치 이벤트 수신 완료";
+	}
+}
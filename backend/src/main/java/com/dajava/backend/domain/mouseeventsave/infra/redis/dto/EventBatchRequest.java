@@ -0,0 +1,51 @@
+package com.dajava.backend.domain.mouseeventsave.infra.redis.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 하나의 세션에서 발생한 여러 타입의 이벤트를 한 번의 요청으로 수신하기 위한 DTO 입니다.
+ * 세션 식별 정보는 최상위에 한 번만 포함되며, 개별 이벤트에는 수신 시점에 동일한 식별자가 부여됩니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventBatchRequest {
+	@NotNull
+	@JsonUnwrapped // 평탄화 어노테이션
+	private SessionIdentifier sessionIdentifier;
+
+	@Schema(description = "클릭(터치) 이벤트 목록")
+	@Builder.Default
+	private List<ClickEventRequest> clickEvents = new ArrayList<>();
+
+	@Schema(description = "이동 이벤트 목록")
+	@Builder.Default
+	private List<MovementEventRequest> movementEvents = new ArrayList<>();
+
+	@Schema(description = "스크롤 이벤트 목록")
+	@Builder.Default
+	private List<ScrollEventRequest> scrollEvents = new ArrayList<>();
+
+	/**
+	 * 배치에 포함된 전체 이벤트 수를 반환합니다.
+	 */
+	public int size() {
+		return sizeOf(clickEvents) + sizeOf(movementEvents) + sizeOf(scrollEvents);
+	}
+
+	private static int sizeOf(List<?> events) {
+		return events == null ? 0 : events.size();
+	}
+}
@@ -33,4 +33,12 @@ public abstract class BaseEventRequest {
 	@NotNull
 	@JsonUnwrapped // 평탄화 어노테이션
 	private SessionIdentifier sessionIdentifier;
+
+	/**
+	 * 배치 수신 시 상위 요청의 세션 식별자를 개별 이벤트에 부여합니다.
+	 * @param sessionIdentifier 배치 요청에 포함된 공통 세션 식별자
+	 */
+	public void assignSessionIdentifier(SessionIdentifier sessionIdentifier) {
+		this.sessionIdentifier = sessionIdentifier;
+	}
 }
@@ -0,0 +1,224 @@
+package com.dajava.backend.domain.mouseeventsave.infra.redis.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+import com.dajava.backend.global.component.analyzer.BufferSchedulerProperties;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 flush 작업을 세션 키 해시 기준으로 샤딩해 병렬 처리하는 실행기 입니다.
+ * 1. 하나의 샤드는 하나의 워커에서 순차 처리되므로, 한 주기 안에서 같은 세션이 동시에 flush 되지 않습니다.
+ * 2. 처리 중인 세션은 다른 주기나 비활성 세션 처리에서 건너뜁니다.
+ *    주기에서 처리한 세션은 주기 완료 후 작업이 끝날 때까지 처리 중으로 유지되어, 주기 단위로 저장 결과를 반영하는 동안 겹치지 않습니다.
+ * 3. 이전 주기가 끝나지 않았다면 새 주기를 시작하지 않아 작업이 누적되지 않습니다.
+ * 4. 주기 완료 후 작업은 제한 시간과 관계없이 모든 샤드가 끝난 뒤에 한 번 실행됩니다.
+ */
+@Component
+@Slf4j
+public class SessionFlushExecutor {
+
+	private final int shardCount;
+	private final long cycleTimeoutMs;
+	private final ExecutorService executor;
+	private final Set<SessionIdentifier> inFlight = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean cycleRunning = new AtomicBoolean(false);
+
+	@Getter
+	private volatile FlushCycleStats lastCycleStats;
+
+	public SessionFlushExecutor(BufferSchedulerProperties properties) {
+		this.shardCount = Math.max(1, properties.getFlushParallelism());
+		this.cycleTimeoutMs = properties.getFlushCycleTimeoutMs();
+		this.executor = properties.isFlushVirtualThreads()
+			? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("session-flush-", 0).factory())
+			: Executors.newFixedThreadPool(shardCount, Thread.ofPlatform().name("session-flush-", 0).factory());
+	}
+
+	/**
+	 * 세션 목록을 샤드로 나누어 병렬로 flush 합니다.
+	 * 이전 주기가 아직 실행 중이면 아무것도 하지 않고 null 을 반환합니다.
+	 * 제한 시간 안에 끝나지 않은 경우에도 null 을 반환하며, 통계는 완료 시점에 로그로 남습니다.
+	 *
+	 * @param sessions flush 대상 세션 목록
+	 * @param flushAction 세션 하나를 처리하는 로직
+	 * @return 이번 주기의 처리 통계, 주기를 건너뛰었거나 제한 시간을 넘긴 경우 null
+	 */
+	public FlushCycleStats flushAll(Collection<SessionIdentifier> sessions, Consumer<SessionIdentifier> flushAction) {
+		return flushAll(sessions, flushAction, stats -> { });
+	}
+
+	/**
+	 * 세션 목록을 샤드로 나누어 병렬로 flush 하고, 모든 샤드가 끝나면 주기 완료 후 작업을 실행합니다.
+	 * 제한 시간이 지나 호출 스레드가 먼저 반환되더라도 완료 후 작업은 남은 샤드가 모두 끝난 뒤에 실행되므로,
+	 * 샤드가 아직 적재 중인 결과를 대상으로 실행되지 않습니다.
+	 * 완료 후 작업이 끝날 때까지 다음 주기는 시작되지 않습니다.
+	 *
+	 * @param sessions flush 대상 세션 목록
+	 * @param flushAction 세션 하나를 처리하는 로직
+	 * @param onCycleComplete 모든 샤드가 끝난 뒤 이번 주기의 통계로 실행할 작업
+	 * @return 이번 주기의 처리 통계, 주기를 건너뛰었거나 제한 시간을 넘긴 경우 null
+	 */
+	public FlushCycleStats flushAll(Collection<SessionIdentifier> sessions, Consumer<SessionIdentifier> flushAction,
+		Consumer<FlushCycleStats> onCycleComplete) {
+		if (!cycleRunning.compareAndSet(false, true)) {
+			log.warn("이전 세션 flush 주기가 아직 실행 중이므로 이번 주기를 건너뜁니다.");
+			return null;
+		}
+
+		long startedAt = System.currentTimeMillis();
+		AtomicInteger flushed = new AtomicInteger();
+		AtomicInteger skipped = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+		AtomicLong slowestShardMs = new AtomicLong();
+		Queue<SessionIdentifier> acquired = new ConcurrentLinkedQueue<>();
+
+		List<CompletableFuture<Void>> shardFutures = new ArrayList<>(shardCount);
+		for (List<SessionIdentifier> shard : partition(sessions)) {
+			if (shard.isEmpty()) continue;
+			shardFutures.add(CompletableFuture.runAsync(() -> {
+				long shardStartedAt = System.currentTimeMillis();
+				for (SessionIdentifier session : shard) {
+					if (!inFlight.add(session)) {
+						skipped.incrementAndGet();
+						continue;
+					}
+					acquired.add(session);
+					try {
+						flushAction.accept(session);
+						flushed.incrementAndGet();
+					} catch (Exception e) {
+						failed.incrementAndGet();
+						log.error("세션 {} 처리 중 오류 발생: {}", session, e.getMessage(), e);
+					}
+				}
+				slowestShardMs.accumulateAndGet(System.currentTimeMillis() - shardStartedAt, Math::max);
+			}, executor));
+		}
+
+		// 완료 후 작업까지 끝나야 주기가 끝난 것으로 보고, 반환 시점에 처리 중 표시가 해제되어 있도록 함
+		CompletableFuture<Void> shards = CompletableFuture.allOf(shardFutures.toArray(new CompletableFuture[0]));
+		CompletableFuture<Void> cycle = shards.whenComplete((ignored, throwable) -> {
+			FlushCycleStats stats = new FlushCycleStats(sessions.size(), flushed.get(), skipped.get(), failed.get(),
+				System.currentTimeMillis() - startedAt, slowestShardMs.get());
+			lastCycleStats = stats;
+			log.info("세션 flush 주기 완료: {}", stats);
+			try {
+				onCycleComplete.accept(stats);
+			} catch (Exception e) {
+				log.error("세션 flush 주기 완료 후 작업 중 오류 발생: {}", e.getMessage(), e);
+			} finally {
+				release(acquired);
+				cycleRunning.set(false);
+			}
+		});
+
+		try {
+			if (cycleTimeoutMs > 0) {
+				cycle.get(cycleTimeoutMs, TimeUnit.MILLISECONDS);
+			} else {
+				cycle.get();
+			}
+		} catch (TimeoutException e) {
+			log.warn("세션 flush 주기가 {}ms 안에 끝나지 않았습니다. 남은 작업과 완료 후 작업은 계속 진행됩니다.", cycleTimeoutMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			log.error("세션 flush 주기 실행 중 오류 발생: {}", e.getMessage(), e);
+		}
+		return cycle.isDone() ? lastCycleStats : null;
+	}
+
+	/**
+	 * 다른 flush 작업과 겹치지 않는 경우에만 세션 처리 로직을 실행합니다.
+	 *
+	 * @param session 처리할 세션
+	 * @param action 처리 로직
+	 * @return 실행했다면 true, 이미 처리 중이라 건너뛰었다면 false
+	 */
+	public boolean runExclusively(SessionIdentifier session, Runnable action) {
+		if (!inFlight.add(session)) {
+			return false;
+		}
+		try {
+			action.run();
+			return true;
+		} finally {
+			inFlight.remove(session);
+		}
+	}
+
+	/**
+	 * 다른 flush 작업과 겹치지 않는 경우에만 세션을 처리 중으로 표시합니다.
+	 * 여러 세션의 저장 결과를 한 번에 반영하는 경우에 사용하며, 반영이 끝나면 {@link #release} 로 해제해야 합니다.
+	 *
+	 * @param session 처리할 세션
+	 * @return 표시했다면 true, 이미 처리 중이라 건너뛰어야 한다면 false
+	 */
+	public boolean tryAcquire(SessionIdentifier session) {
+		return inFlight.add(session);
+	}
+
+	/**
+	 * {@link #tryAcquire} 로 처리 중으로 표시한 세션을 해제합니다.
+	 */
+	public void release(Collection<SessionIdentifier> sessions) {
+		inFlight.removeAll(sessions);
+	}
+
+	private List<List<SessionIdentifier>> partition(Collection<SessionIdentifier> sessions) {
+		List<List<SessionIdentifier>> shards = new ArrayList<>(shardCount);
+		for (int i = 0; i < shardCount; i++) {
+			shards.add(new ArrayList<>(sessions.size() / shardCount + 1));
+		}
+		for (SessionIdentifier session : sessions) {
+			shards.get(Math.floorMod(session.hashCode(), shardCount)).add(session);
+		}
+		return shards;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * 한 번의 flush 주기에 대한 처리 통계 입니다.
+	 * @param total 대상 세션 수
+	 * @param flushed 처리 완료 세션 수
+	 * @param skipped 다른 작업에서 처리 중이라 건너뛴 세션 수
+	 * @param failed 처리 실패 세션 수
+	 * @param elapsedMs 주기 전체 소요 시간
+	 * @param slowestShardMs 가장 오래 걸린 샤드의 소요 시간
+	 */
+	public record FlushCycleStats(
+		int total,
+		int flushed,
+		int skipped,
+		int failed,
+		long elapsedMs,
+		long slowestShardMs
+	) {
+	}
+}
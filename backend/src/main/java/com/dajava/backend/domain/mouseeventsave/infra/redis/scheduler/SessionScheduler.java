@@ -1,15 +1,17 @@
 package com.dajava.backend.domain.mouseeventsave.infra.redis.scheduler;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.service.RedisFlushBatch;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.service.SessionService;
 import com.dajava.backend.global.component.analyzer.BufferSchedulerProperties;
-import com.dajava.backend.utils.LogUtils;
-import com.dajava.backend.utils.event.EventRedisBuffer;
+import com.dajava.backend.global.component.bulk.PointerEventBulkIndexer;
 import com.dajava.backend.utils.session.SessionKeyCollector;
 
 import lombok.RequiredArgsConstructor;
@@ -27,10 +29,11 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SessionScheduler {
 
-	private final EventRedisBuffer eventRedisBuffer;
 	private final BufferSchedulerProperties properties;
 	private final SessionKeyCollector sessionKeyCollector;
 	private final SessionService sessionService;
+	private final SessionFlushExecutor sessionFlushExecutor;
+	private final PointerEventBulkIndexer pointerEventBulkIndexer;
 
 	/**
 	 * 1분마다 실행되어 비활성 세션을 감지하고 처리합니다.
@@ -41,26 +44,38 @@ public class SessionScheduler {
 	@Scheduled(fixedRateString = "#{@bufferSchedulerProperties.inactiveSessionDetectThresholdMs}")
 	public void flushInactiveSessions() {
 		log.info("비활성 세션 처리 작업 시작");
-		long now = System.currentTimeMillis();
-		Set<SessionIdentifier> activeKeys = sessionKeyCollector.collectAllActiveSessionKeys();
-		int inactiveCount = 0;
-		for (SessionIdentifier sessionIdentifier : activeKeys) {
-			String key = LogUtils.createRedisKey(sessionIdentifier);
-			// 세션의 마지막 활동 시간 확인
-			Long lastClickUpdate = eventRedisBuffer.getClick().getLastUpdated(key);
-			Long lastMoveUpdate = eventRedisBuffer.getMovement().getLastUpdated(key);
-			Long lastScrollUpdate = eventRedisBuffer.getScroll().getLastUpdated(key);
-			// 가장 최근 업데이트 시간 계산
-			Long latestUpdate = getLatestUpdate(lastClickUpdate, lastMoveUpdate, lastScrollUpdate);
-			// 비활성 세션 여부 확인
-			if (latestUpdate == null || (now - latestUpdate) >= properties.getInactiveThresholdMs()) {
+		// 활성 세션 인덱스 범위 조회로 기준 시간이 지난 세션만 가져옴
+		Set<SessionIdentifier> inactiveKeys =
+			sessionKeyCollector.collectInactiveSessionKeys(properties.getInactiveThresholdMs());
+		// 주기의 모든 세션 문서를 하나의 batch 로 모아 한 번에 저장
+		RedisFlushBatch batch = new RedisFlushBatch(pointerEventBulkIndexer.openTracker());
+		List<SessionIdentifier> acquired = new ArrayList<>();
+		List<SessionIdentifier> failedSessions = new ArrayList<>();
+		try {
+			for (SessionIdentifier sessionIdentifier : inactiveKeys) {
 				log.info("비활성 세션 감지: {}", sessionIdentifier);
-				inactiveCount++;
-				// 배치 처리를 통해 데이터 저장 및 캐시 제거
-				sessionService.SessionFlagInActive(sessionIdentifier);
+				// 정기 처리 중인 세션은 해당 처리에 맡기고 건너뜀, 표시한 세션은 저장 결과를 반영할 때까지 유지
+				if (!sessionFlushExecutor.tryAcquire(sessionIdentifier)) {
+					continue;
+				}
+				acquired.add(sessionIdentifier);
+				try {
+					sessionService.SessionFlagInActive(sessionIdentifier, batch);
+				} catch (Exception e) {
+					failedSessions.add(sessionIdentifier);
+					log.error("세션 {} 처리 중 오류 발생: {}", sessionIdentifier, e.getMessage(), e);
+				}
 			}
+			// 저장이 확인된 세션만 캐시 제거, 실패한 세션은 처리하지 못한 이벤트와 함께 활성 인덱스에 남음
+			failedSessions.addAll(sessionService.commitFlushed(batch));
+		} finally {
+			sessionFlushExecutor.release(acquired);
 		}
 
+		if (!failedSessions.isEmpty()) {
+			log.warn("비활성 세션 처리 실패, 다음 주기에 재시도: {}", failedSessions);
+		}
+		int inactiveCount = acquired.size() - failedSessions.size();
 		log.info("비활성 세션 처리 완료: 총 {}개 세션 처리됨", inactiveCount);
 	}
 
@@ -68,6 +83,7 @@ public class SessionScheduler {
 	 * 5분마다 실행되어 모든 활성 세션의 데이터를 주기적으로 저장합니다.
 	 * 세션의 활성 상태와 관계없이 현재 버퍼에 있는 모든 세션 데이터를
 	 * 처리하여 데이터 손실 위험을 줄입니다.
+	 * 세션 키 해시 기준으로 샤딩하여 {@link SessionFlushExecutor} 에서 병렬 처리합니다.
 	 * secret yml 을 통해 주기를 조정할 수 있습니다.
 	 */
 	@Scheduled(fixedRateString = "#{@bufferSchedulerProperties.activeSessionFlushIntervalMs}")
@@ -77,29 +93,14 @@ public class SessionScheduler {
 		Set<SessionIdentifier> activeKeys = sessionKeyCollector.collectAllActiveSessionKeys();
 		log.info("처리할 활성 세션 수: {}", activeKeys.size());
 
-		for (SessionIdentifier sessionKey : activeKeys) {
-			try {
-				sessionService.SessionFlagActive(sessionKey);
-			} catch (Exception e) {
-				log.error("세션 {} 처리 중 오류 발생: {}", sessionKey, e.getMessage(), e);
-			}
-		}
-
-		log.info("모든 활성 세션 정기 처리 완료");
-	}
-
-	/**
-	 * 주어진 업데이트 시간들 중 가장 최근 값을 반환합니다.
-	 * 모든 값이 null인 경우 null을 반환합니다.
-	 */
-	private Long getLatestUpdate(Long... updates) {
-		Long latest = null;
-		for (Long update : updates) {
-			if (update != null && (latest == null || update > latest)) {
-				latest = update;
-			}
-		}
-		return latest;
+		// 주기의 모든 세션 문서를 하나의 batch 로 모아, 모든 샤드가 끝난 뒤 한 번 저장하고 결과를 반영
+		// 색인에 실패한 세션은 임시 키와 활성 인덱스에 남아 다음 주기에 다시 처리됨
+		RedisFlushBatch batch = new RedisFlushBatch(pointerEventBulkIndexer.openTracker());
+		sessionFlushExecutor.flushAll(activeKeys,
+			sessionIdentifier -> sessionService.SessionFlagActive(sessionIdentifier, batch),
+			stats -> {
+				List<SessionIdentifier> failedSessions = sessionService.commitFlushed(batch);
+				log.info("모든 활성 세션 정기 처리 완료: {}, 색인 실패 세션 {}개", stats, failedSessions.size());
+			});
 	}
 }
-
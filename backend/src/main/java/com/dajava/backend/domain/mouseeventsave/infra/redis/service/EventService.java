@@ -1,6 +1,7 @@
 package com.dajava.backend.domain.mouseeventsave.infra.redis.service;
 
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.EventBatchRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.MovementEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ScrollEventRequest;
 
@@ -20,4 +21,9 @@ public interface EventService {
 	 * @param scrollEventRequest // scroll Dto
 	 */
 	void createScrollEvent(ScrollEventRequest scrollEventRequest);
+	/**
+	 * 하나의 세션에서 발생한 여러 타입의 이벤트를 한 번에 버퍼에 담습니다.
+	 * @param eventBatchRequest // 공통 세션 식별자와 타입별 이벤트 목록을 담은 batch Dto
+	 */
+	void createBatchEvents(EventBatchRequest eventBatchRequest);
 }
@@ -1,10 +1,15 @@
 package com.dajava.backend.domain.mouseeventsave.infra.redis.service;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.EventBatchRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.MovementEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ScrollEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.base.BaseEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
 import com.dajava.backend.utils.event.EventRedisBuffer;
 
@@ -82,4 +87,45 @@ public class EventServiceImpl implements EventService {
 			throw e;
 		}
 	}
+
+	@Override
+	public void createBatchEvents(EventBatchRequest request) {
+		try {
+			SessionIdentifier sessionIdentifier = new SessionIdentifier(
+				request.getSessionIdentifier().getSessionId(),
+				request.getSessionIdentifier().getPageUrl(),
+				request.getSessionIdentifier().getMemberSerialNumber()
+			);
+			List<ClickEventRequest> clickEvents = assignIdentifier(request.getClickEvents(), sessionIdentifier);
+			List<MovementEventRequest> movementEvents = assignIdentifier(request.getMovementEvents(), sessionIdentifier);
+			List<ScrollEventRequest> scrollEvents = assignIdentifier(request.getScrollEvents(), sessionIdentifier);
+
+			redisSessionDataService.createOrFindSessionDataDocument(sessionIdentifier);
+			if (!clickEvents.isEmpty()) {
+				eventRedisBuffer.addClickEvents(clickEvents, sessionIdentifier);
+			}
+			if (!movementEvents.isEmpty()) {
+				eventRedisBuffer.addMoveEvents(movementEvents, sessionIdentifier);
+			}
+			if (!scrollEvents.isEmpty()) {
+				eventRedisBuffer.addScrollEvents(scrollEvents, sessionIdentifier);
+			}
+		} catch (Exception e) {
+			log.error("[배치 이벤트][에러] 배치 이벤트 실패: sessionIdentifier={}, size={}",
+				request.getSessionIdentifier(), request.size(), e);
+			throw e;
+		}
+	}
+
+	/**
+	 * 배치 요청의 공통 세션 식별자를 개별 이벤트에 부여합니다.
+	 * 개별 이벤트에 포함된 식별 정보는 무시되며, 항상 상위 요청의 식별자로 덮어씁니다.
+	 */
+	private <T extends BaseEventRequest> List<T> assignIdentifier(List<T> events, SessionIdentifier sessionIdentifier) {
+		if (events == null || events.isEmpty()) {
+			return Collections.emptyList();
+		}
+		events.forEach(event -> event.assignSessionIdentifier(sessionIdentifier));
+		return events;
+	}
 }
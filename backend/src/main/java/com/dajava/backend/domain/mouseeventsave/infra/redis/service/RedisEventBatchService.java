@@ -10,16 +10,21 @@ import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerClick
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerMoveEventDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerScrollEventDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.SessionDataDocument;
-import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.PointerClickEventDocumentRepository;
-import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.PointerMoveEventDocumentRepository;
-import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.PointerScrollEventDocumentRepository;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.SessionDataDocumentRepository;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.exception.PointerEventException;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.exception.LogException;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.converter.EventConverter;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ClickEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.MovementEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ScrollEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+import com.dajava.backend.global.component.analyzer.BufferSchedulerProperties;
+import com.dajava.backend.global.component.bulk.BulkIndexResult;
+import com.dajava.backend.global.component.bulk.BulkIndexTracker;
+import com.dajava.backend.global.component.bulk.PointerEventBulkIndexer;
+import com.dajava.backend.global.exception.ErrorCode;
+import com.dajava.backend.utils.LogUtils;
+import com.dajava.backend.utils.event.EventQueueRedisBuffer;
 import com.dajava.backend.utils.event.EventRedisBuffer;
 
 import lombok.RequiredArgsConstructor;
@@ -38,105 +43,159 @@ public class RedisEventBatchService {
 
 	private final SessionDataDocumentRepository sessionDataDocumentRepository;
 	private final RedisSessionDataService redisSessionDataService;
-	private final PointerClickEventDocumentRepository pointerClickEventDocumentRepository;
-	private final PointerMoveEventDocumentRepository pointerMoveEventDocumentRepository;
-	private final PointerScrollEventDocumentRepository pointerScrollEventDocumentRepository;
+	private final BufferSchedulerProperties properties;
+	private final PointerEventBulkIndexer pointerEventBulkIndexer;
 
 	/**
-	 * 각 이벤트 타입의 저장 로직을 배치화한 로직입니다.
+	 * 한 세션만 처리하고, 세션의 문서가 ES 에 저장된 것을 확인한 뒤 Redis 임시 키를 지웁니다.
 	 * @param sessionIdentifier sessionData 객체 생성 및 캐싱을 위해 주입합니다.
+	 * @throws LogException 색인에 실패한 경우, 이벤트는 임시 키에 남아 다음 주기에 다시 처리됩니다.
 	 */
 	@Transactional
 	public void processBatchForSession(SessionIdentifier sessionIdentifier, boolean isInactive) {
+		RedisFlushBatch batch = new RedisFlushBatch(pointerEventBulkIndexer.openTracker());
+		processBatchForSession(sessionIdentifier, isInactive, batch);
+		if (!commitFlushed(batch).isEmpty()) {
+			throw new LogException(ErrorCode.EVENT_BULK_INDEX_FAILED);
+		}
+	}
+
+	/**
+	 * 각 이벤트 타입의 저장 로직을 배치화한 로직입니다.
+	 * 이벤트는 Redis 임시 키로 분리해 청크 단위로 batch 의 tracker 와 함께 bulk indexer 에 전달하며, 임시 키는 지우지 않습니다.
+	 * 저장 결과 확인과 임시 키 삭제는 호출 측이 주기의 모든 세션을 전달한 뒤 {@link #commitFlushed} 로 한 번에 처리합니다.
+	 * @param sessionIdentifier sessionData 객체 생성 및 캐싱을 위해 주입합니다.
+	 * @param batch 주기의 bulk 색인 결과와 분리한 임시 키를 모을 배치
+	 */
+	public void processBatchForSession(SessionIdentifier sessionIdentifier, boolean isInactive, RedisFlushBatch batch) {
 		log.info("{} 세션 이벤트 일괄 처리 시작", sessionIdentifier);
 
-		int totalPendingEvents = countPendingEvents(sessionIdentifier);
+		long totalPendingEvents = countPendingEvents(sessionIdentifier);
 
 		if (totalPendingEvents == 0) {
 			return;
 		}
 		SessionDataDocument sessionDataDocument = redisSessionDataService.createOrFindSessionDataDocument(sessionIdentifier);
-		processClickEvents(sessionIdentifier);
-		processMoveEvents(sessionIdentifier);
-		processScrollEvents(sessionIdentifier);
-
-		if (isInactive) {
-			try {
-				redisSessionDataService.removeFromEsCache(sessionIdentifier);
-				sessionDataDocument.endSession();
-			} catch (PointerEventException e) {
-				// Todo...
-				log.info(e.getMessage());
+		BulkIndexTracker tracker = batch.getTracker();
+		batch.claimed(new RedisFlushBatch.ClaimedSession(
+			sessionIdentifier,
+			sessionDataDocument,
+			isInactive,
+			processClickEvents(sessionIdentifier, tracker),
+			processMoveEvents(sessionIdentifier, tracker),
+			processScrollEvents(sessionIdentifier, tracker)
+		));
+	}
+
+	/**
+	 * batch 의 문서를 한 번에 flush 하고, 모든 문서가 색인된 세션만 Redis 임시 키를 지우고 세션 데이터를 저장합니다.
+	 * 색인되지 않은 문서가 남은 세션은 임시 키와 활성 인덱스에 남아 다음 주기에 다시 처리됩니다.
+	 * @param batch {@link #processBatchForSession(SessionIdentifier, boolean, RedisFlushBatch)} 로 세션을 모은 배치
+	 * @return 색인에 실패해 다음 주기로 넘긴 세션 목록
+	 */
+	public List<SessionIdentifier> commitFlushed(RedisFlushBatch batch) {
+		BulkIndexResult result = pointerEventBulkIndexer.flush(batch.getTracker());
+		List<SessionIdentifier> failedSessions = new ArrayList<>();
+		for (RedisFlushBatch.ClaimedSession session : batch.sessions()) {
+			SessionIdentifier sessionIdentifier = session.sessionIdentifier();
+			if (result.failedSessionKeys().contains(LogUtils.createRedisKey(sessionIdentifier))) {
+				failedSessions.add(sessionIdentifier);
+				continue;
 			}
+			eventRedisBuffer.acknowledgeClickEvents(sessionIdentifier, session.click());
+			eventRedisBuffer.acknowledgeMoveEvents(sessionIdentifier, session.move());
+			eventRedisBuffer.acknowledgeScrollEvents(sessionIdentifier, session.scroll());
+
+			SessionDataDocument sessionDataDocument = session.sessionDataDocument();
+			if (session.isInactive()) {
+				try {
+					redisSessionDataService.removeFromEsCache(sessionIdentifier);
+					sessionDataDocument.endSession();
+				} catch (PointerEventException e) {
+					// Todo...
+					log.info(e.getMessage());
+				}
+			}
+			sessionDataDocumentRepository.save(sessionDataDocument);
+		}
+		if (!failedSessions.isEmpty()) {
+			log.warn("세션 {} 개 이벤트 색인 실패, 다음 주기에 다시 처리합니다: {}", failedSessions.size(), failedSessions);
 		}
-		sessionDataDocumentRepository.save(sessionDataDocument);
+		return failedSessions;
 	}
 
 	/**
 	 *
 	 * @param sessionIdentifier sessionDataKey 를 통해 버퍼의 이벤트 갯수를 가져옵니다
-	 * @return 총 이벤트 갯수 (int)
+	 * 리스트를 읽지 않고 세 타입의 LLEN 을 한 번의 파이프라인으로 조회합니다.
+	 * @return 총 이벤트 갯수 (long)
 	 */
-	private int countPendingEvents(SessionIdentifier sessionIdentifier) {
-		return eventRedisBuffer.getClickEvents(sessionIdentifier).size()
-			+ eventRedisBuffer.getMoveEvents(sessionIdentifier).size()
-			+ eventRedisBuffer.getScrollEvents(sessionIdentifier).size();
+	private long countPendingEvents(SessionIdentifier sessionIdentifier) {
+		return eventRedisBuffer.countPendingEvents(sessionIdentifier);
 	}
 
 	/**
 	 * 클릭 이벤트의 버퍼에 접근 후, sessionData 에 데이터를 저장합니다.
-	 * 현재 es에도 같이 저장합니다.
-	 * @param sessionIdentifier sessionDataKey 를 통해 eventBuffer 에 접근한 뒤, 관련 이벤트 리스트를 가져오고, 버퍼를 초기화합니다.
+	 * 현재 es에도 같이 저장하며, 청크마다 변환한 문서를 주기의 tracker 와 함께 bulk indexer 에 전달합니다.
+	 * 버퍼의 임시 키는 색인 결과를 확인한 뒤 {@link #commitFlushed} 에서 지웁니다.
+	 * @param sessionIdentifier sessionDataKey 를 통해 eventBuffer 에 접근한 뒤, 관련 이벤트를 청크 단위로 가져옵니다.
 	 */
-	private void processClickEvents(SessionIdentifier sessionIdentifier) {
-		List<ClickEventRequest> clickEvents = eventRedisBuffer.flushClickEvents(sessionIdentifier);
-		log.info("세션 {}: 클릭 이벤트 {} 개 처리", sessionIdentifier, clickEvents.size());
-		List<PointerClickEventDocument> documents = new ArrayList<>();
-		for (ClickEventRequest request : clickEvents) {
-
-			PointerClickEventDocument doc = EventConverter.toClickEventDocument(request);
-			documents.add(doc);
-		}
-
-		if (!documents.isEmpty()) {
-			pointerClickEventDocumentRepository.saveAll(documents);
-		}
+	private EventQueueRedisBuffer.DrainClaim processClickEvents(SessionIdentifier sessionIdentifier,
+		BulkIndexTracker tracker) {
+		String sessionKey = LogUtils.createRedisKey(sessionIdentifier);
+		EventQueueRedisBuffer.DrainClaim claim = eventRedisBuffer.claimClickEvents(sessionIdentifier,
+			properties.getFlushChunkSize(), chunk -> {
+				List<PointerClickEventDocument> documents = new ArrayList<>(chunk.size());
+				for (ClickEventRequest request : chunk) {
+					documents.add(EventConverter.toClickEventDocument(request));
+				}
+				if (!documents.isEmpty()) {
+					pointerEventBulkIndexer.enqueueClickEvents(tracker, sessionKey, documents);
+				}
+			});
+		log.info("세션 {}: 클릭 이벤트 {} 개 처리", sessionIdentifier, claim.claimed());
+		return claim;
 	}
 
 	/**
 	 * 무브 이벤트의 버퍼에 접근 후, sessionData 에 데이터를 저장합니다.
-	 * @param sessionIdentifier sessionDataKey 를 통해 eventBuffer 에 접근한 뒤, 관련 이벤트 리스트를 가져오고, 버퍼를 초기화합니다.
+	 * @param sessionIdentifier sessionDataKey 를 통해 eventBuffer 에 접근한 뒤, 관련 이벤트를 청크 단위로 가져옵니다.
 	 */
-	private void processMoveEvents(SessionIdentifier sessionIdentifier) {
-		List<MovementEventRequest> moveEvents = eventRedisBuffer.flushMoveEvents(sessionIdentifier);
-		log.info("세션 {}: 이동 이벤트 {} 개 처리", sessionIdentifier, moveEvents.size());
-		List<PointerMoveEventDocument> documents = new ArrayList<>();
-		for (MovementEventRequest request : moveEvents) {
-			PointerMoveEventDocument doc = EventConverter.toMoveEventDocument(request);
-			documents.add(doc);
-		}
-
-		if (!documents.isEmpty()) {
-			pointerMoveEventDocumentRepository.saveAll(documents);
-		}
+	private EventQueueRedisBuffer.DrainClaim processMoveEvents(SessionIdentifier sessionIdentifier,
+		BulkIndexTracker tracker) {
+		String sessionKey = LogUtils.createRedisKey(sessionIdentifier);
+		EventQueueRedisBuffer.DrainClaim claim = eventRedisBuffer.claimMoveEvents(sessionIdentifier,
+			properties.getFlushChunkSize(), chunk -> {
+				List<PointerMoveEventDocument> documents = new ArrayList<>(chunk.size());
+				for (MovementEventRequest request : chunk) {
+					documents.add(EventConverter.toMoveEventDocument(request));
+				}
+				if (!documents.isEmpty()) {
+					pointerEventBulkIndexer.enqueueMoveEvents(tracker, sessionKey, documents);
+				}
+			});
+		log.info("세션 {}: 이동 이벤트 {} 개 처리", sessionIdentifier, claim.claimed());
+		return claim;
 	}
 
 	/**
 	 * 스크롤 이벤트의 버퍼에 접근 후, sessionData 에 데이터를 저장합니다.
-	 * @param sessionIdentifier sessionDataKey 를 통해 eventBuffer 에 접근한 뒤, 관련 이벤트 리스트를 가져오고, 버퍼를 초기화합니다.
+	 * @param sessionIdentifier sessionDataKey 를 통해 eventBuffer 에 접근한 뒤, 관련 이벤트를 청크 단위로 가져옵니다.
 	 */
-	private void processScrollEvents(SessionIdentifier sessionIdentifier) {
-		List<ScrollEventRequest> scrollEvents = eventRedisBuffer.flushScrollEvents(sessionIdentifier);
-		log.info("세션 {}: 스크롤 이벤트 {} 개 처리", sessionIdentifier, scrollEvents.size());
-		List<PointerScrollEventDocument> documents = new ArrayList<>();
-		for (ScrollEventRequest request : scrollEvents) {
-
-			PointerScrollEventDocument doc = EventConverter.toScrollEventDocument(request);
-			documents.add(doc);
-		}
-		if (!documents.isEmpty()) {
-			pointerScrollEventDocumentRepository.saveAll(documents);
-		}
+	private EventQueueRedisBuffer.DrainClaim processScrollEvents(SessionIdentifier sessionIdentifier,
+		BulkIndexTracker tracker) {
+		String sessionKey = LogUtils.createRedisKey(sessionIdentifier);
+		EventQueueRedisBuffer.DrainClaim claim = eventRedisBuffer.claimScrollEvents(sessionIdentifier,
+			properties.getFlushChunkSize(), chunk -> {
+				List<PointerScrollEventDocument> documents = new ArrayList<>(chunk.size());
+				for (ScrollEventRequest request : chunk) {
+					documents.add(EventConverter.toScrollEventDocument(request));
+				}
+				if (!documents.isEmpty()) {
+					pointerEventBulkIndexer.enqueueScrollEvents(tracker, sessionKey, documents);
+				}
+			});
+		log.info("세션 {}: 스크롤 이벤트 {} 개 처리", sessionIdentifier, claim.claimed());
+		return claim;
 	}
 }
-
@@ -0,0 +1,49 @@
+package com.dajava.backend.domain.mouseeventsave.infra.redis.service;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.SessionDataDocument;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+import com.dajava.backend.global.component.bulk.BulkIndexTracker;
+import com.dajava.backend.utils.event.EventQueueRedisBuffer;
+
+/**
+ * 한 번의 flush 주기에서 Redis 임시 키로 분리해 bulk indexer 에 전달한 세션을 모으는 객체 입니다.
+ * 주기의 모든 세션 문서는 하나의 tracker 로 전달되고, {@link RedisEventBatchService#commitFlushed} 에서
+ * 한 번 flush 한 결과에 따라 저장된 세션의 임시 키만 지웁니다.
+ */
+public final class RedisFlushBatch {
+	private final BulkIndexTracker tracker;
+	private final Queue<ClaimedSession> sessions = new ConcurrentLinkedQueue<>();
+
+	public RedisFlushBatch(BulkIndexTracker tracker) {
+		this.tracker = tracker;
+	}
+
+	public BulkIndexTracker getTracker() {
+		return tracker;
+	}
+
+	/**
+	 * 세션의 세 타입 이벤트를 모두 bulk indexer 에 전달했음을 기록합니다.
+	 */
+	void claimed(ClaimedSession session) {
+		sessions.add(session);
+	}
+
+	List<ClaimedSession> sessions() {
+		return List.copyOf(sessions);
+	}
+
+	record ClaimedSession(
+		SessionIdentifier sessionIdentifier,
+		SessionDataDocument sessionDataDocument,
+		boolean isInactive,
+		EventQueueRedisBuffer.DrainClaim click,
+		EventQueueRedisBuffer.DrainClaim move,
+		EventQueueRedisBuffer.DrainClaim scroll
+	) {
+	}
+}
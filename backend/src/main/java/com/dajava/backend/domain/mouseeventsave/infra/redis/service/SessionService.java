@@ -1,5 +1,7 @@
 package com.dajava.backend.domain.mouseeventsave.infra.redis.service;
 
+import java.util.List;
+
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
 
 public interface SessionService {
@@ -18,4 +20,19 @@ public interface SessionService {
 	 * isInactive 값이 true 로, 캐시가 제거됩니다.
 	 */
 	void SessionFlagInActive(SessionIdentifier sessionIdentifier);
+	/**
+	 * 활성 세션 주기 처리
+	 * 이벤트를 batch 에 모으며, 저장 결과는 {@link #commitFlushed} 에서 한 번에 반영됩니다.
+	 */
+	void SessionFlagActive(SessionIdentifier sessionIdentifier, RedisFlushBatch batch);
+	/**
+	 * 비활성 세션 주기 처리
+	 * 이벤트를 batch 에 모으며, 캐시는 {@link #commitFlushed} 에서 저장이 확인된 세션만 제거됩니다.
+	 */
+	void SessionFlagInActive(SessionIdentifier sessionIdentifier, RedisFlushBatch batch);
+	/**
+	 * 주기 저장 결과 반영
+	 * batch 의 문서를 한 번에 저장하고, 저장에 실패한 세션 목록을 반환합니다.
+	 */
+	List<SessionIdentifier> commitFlushed(RedisFlushBatch batch);
 }
@@ -1,19 +1,26 @@
 package com.dajava.backend.domain.mouseeventsave.infra.redis.service;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.SessionDataDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.SessionDataDocumentRepository;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.scheduler.SessionFlushExecutor;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class SessionServiceImpl implements SessionService  {
 	private final SessionDataDocumentRepository sessionDataDocumentRepository;
 	private final RedisEventBatchService redisEventBatchService;
+	private final SessionFlushExecutor sessionFlushExecutor;
+
 	@Override
 	@Transactional
 	public void expireSession(String sessionId) {
@@ -22,7 +29,12 @@ public class SessionServiceImpl implements SessionService  {
 		SessionIdentifier sessionIdentifier = new SessionIdentifier(
 			esData.getSessionId(), esData.getPageUrl(), esData.getMemberSerialNumber()
 		);
-		SessionFlagInActive(sessionIdentifier);
+		// 정기 처리 중인 세션과 겹치지 않도록 스케줄러와 같은 실행기를 거쳐 처리
+		boolean processed = sessionFlushExecutor.runExclusively(sessionIdentifier,
+			() -> SessionFlagInActive(sessionIdentifier));
+		if (!processed) {
+			log.info("세션 {} 은 처리 중이므로 비활성 세션 처리에서 종료됩니다.", sessionIdentifier);
+		}
 	}
 
 	@Override
@@ -37,4 +49,19 @@ public class SessionServiceImpl implements SessionService  {
 		redisEventBatchService.processBatchForSession(sessionIdentifier, true);
 	}
 
+	@Override
+	public void SessionFlagActive(SessionIdentifier sessionIdentifier, RedisFlushBatch batch) {
+		redisEventBatchService.processBatchForSession(sessionIdentifier, false, batch);
+	}
+
+	@Override
+	public void SessionFlagInActive(SessionIdentifier sessionIdentifier, RedisFlushBatch batch) {
+		redisEventBatchService.processBatchForSession(sessionIdentifier, true, batch);
+	}
+
+	@Override
+	public List<SessionIdentifier> commitFlushed(RedisFlushBatch batch) {
+		return redisEventBatchService.commitFlushed(batch);
+	}
+
 }
@@ -0,0 +1,22 @@
+package com.dajava.backend.domain.mouseeventvalidation.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerClickEventDocument;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerMoveEventDocument;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerScrollEventDocument;
+
+/**
+ * 한 세션의 click, move, scroll 이벤트를 timestamp 오름차순으로 담는 객체 입니다.
+ */
+public record SessionPointerEvents(
+	List<PointerClickEventDocument> clickEvents,
+	List<PointerMoveEventDocument> moveEvents,
+	List<PointerScrollEventDocument> scrollEvents
+) {
+
+	public static SessionPointerEvents empty() {
+		return new SessionPointerEvents(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+	}
+}
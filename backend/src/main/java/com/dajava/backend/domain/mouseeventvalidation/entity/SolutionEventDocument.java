@@ -64,10 +64,29 @@ public class SolutionEventDocument {
 	@Field(type = FieldType.Boolean)
 	private Boolean isOutlier;
 
+	// 검증 후 저장된 시각 (epoch millisecond), 같은 배치로 저장된 이벤트는 같은 값을 가짐
+	@Field(type = FieldType.Long)
+	private Long savedAt;
+
 	public LocalDateTime getTimestamp() {
 		return TimeUtils.toLocalDateTime(this.timestamp);
 	}
 
+	/**
+	 * LocalDateTime 변환 없이 epoch millisecond 값을 그대로 반환합니다.
+	 * 대량 이벤트를 집계할 때 이벤트마다 객체가 생성되지 않도록 사용합니다.
+	 */
+	public Long getTimestampMillis() {
+		return this.timestamp;
+	}
+
+	/**
+	 * 저장 배치 시각을 기록합니다. 히트맵 뷰가 생성 시 이미 반영한 이벤트를 구분하는 데 사용합니다.
+	 */
+	public void markSaved(long savedAt) {
+		this.savedAt = savedAt;
+	}
+
 	public static SolutionEventDocument create(
 		String sessionId,
 		String pageUrl,
@@ -1,16 +1,21 @@
 package com.dajava.backend.domain.mouseeventvalidation.scheduler;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.stereotype.Component;
 
+import com.dajava.backend.domain.heatmap.service.HeatmapViewService;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.exception.PointerEventException;
-import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerClickEventDocument;
-import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerMoveEventDocument;
-import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerScrollEventDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.SessionDataDocument;
+import com.dajava.backend.domain.mouseeventvalidation.dto.SessionPointerEvents;
 import com.dajava.backend.domain.mouseeventvalidation.entity.SolutionEventDocument;
 import com.dajava.backend.domain.mouseeventvalidation.service.PointerEventDocumentService;
 import com.dajava.backend.domain.mouseeventvalidation.service.SessionDataDocumentService;
@@ -40,12 +45,14 @@ public class EventValidateScheduler {
 	private final SessionDataDocumentService sessionDataDocumentService;
 	private final SolutionEventDocumentService solutionEventDocumentService;
 	private final PointerEventDocumentService pointerEventDocumentService;
+	private final HeatmapViewService heatmapViewService;
 
 	private final ClickEventAnalyzer ClickEventAnalyzer;
 	private final MoveEventAnalyzer MoveEventAnalyzer;
 	private final ScrollEventAnalyzer ScrollEventAnalyzer;
 
 	private final BufferSchedulerProperties bufferSchedulerProperties;
+	private final ValidationPipelineExecutor pipelineExecutor;
 
 
 
@@ -54,7 +61,11 @@ public class EventValidateScheduler {
 	 * 이상치 데이터는 isoutlier가 true로 저장되며
 	 * click, move, scroll 이벤트 document는 soluitonEventDocument로 변환되어 es에 저장됩니다.
 	 * 한번에 많은 데이터가 메모리에 들어오는 걸 대비해 배치 처리합니다.
-	 * 배치 처리 구현에 페이징을 사용했습니다.
+	 * 배치 처리 구현에 point in time 과 search_after 를 사용했습니다.
+	 * 배치 안의 세션은 단계별 파이프라인으로 동시에 검증합니다.
+	 * 1. 여러 세션의 click, move, scroll 이벤트를 sessionId terms 조건의 multi search 요청 한 번으로, 동시 조회 수 제한 안에서 병렬로 조회합니다.
+	 * 2. 조회가 끝난 세션부터 분석 스레드 풀에서 이상치를 분석합니다.
+	 * 3. 배치의 SolutionEventDocument 와 세션 검증 상태를 한 번에 bulk 저장하며, 저장은 다음 배치의 조회, 분석과 겹쳐 실행됩니다.
 	 * 그래도 메모리 터지는 경우 최대 데이터 상한선을 설정해 스케줄러가 처리 가능한 데이터 제한
 	 */
 	//@Scheduled(fixedRateString = "#{@bufferSchedulerProperties.validateEndSessionMs}")
@@ -64,119 +75,210 @@ public class EventValidateScheduler {
 		log.info("[ValidateScheduler] 검증 스케줄러 시작");
 
 		int batchSize = bufferSchedulerProperties.getBatchSize();
-		int page = 0;
-
-		Page<SessionDataDocument> resultPage;
-
-		do {
-			// private boolean isVerified; 도 조건에 추가해 애초에 조회되지 않게
-			resultPage = sessionDataDocumentService.getEndedSessions(page, batchSize);
-
-			log.info("[ValidateScheduler] Batch {}: SessionData size : {}", page, resultPage.getContent().size());
-
-			for (SessionDataDocument sessionDataDocument : resultPage.getContent()) {
-				try {
-					processSession(sessionDataDocument);
-				} catch (PointerEventException e) {
-					log.warn("[ValidateScheduler] 세션 검증 실패 (이미 검증된 세션일 수 있음): {}, {}",
-						sessionDataDocument.getSessionId(), e.getMessage());
-				} catch (ElasticsearchException | UncategorizedElasticsearchException e) {
-					log.warn("[ValidateScheduler] 세션 ID: {} - Elasticsearch 쿼리 실패", sessionDataDocument.getSessionId());
-					log.warn("[ValidateScheduler] Exception Message: {}", e.getMessage());
-					log.warn("[ValidateScheduler] Full Stack Trace", e);
-
-				} catch (Exception e) {
-					log.error("[ValidateScheduler] 예상치 못한 에러 발생 - 세션 ID: {}", sessionDataDocument.getSessionId(), e);
-				}
-			}
-
-			page++;
-
-			// 가비지 컬렉션 여유를 위해 짧은 sleep (optional)
-			try {
-				Thread.sleep(100);
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt(); // 인터럽트 상태 복구
-				log.warn("Thread sleep interrupted", e);
-			}
+		AtomicInteger batchNumber = new AtomicInteger();
+		// 저장 중인 배치는 최대 하나, 메모리에 올라오는 세션은 조회 중인 배치와 저장 중인 배치로 제한됨
+		AtomicReference<CompletableFuture<Void>> pendingWrite = new AtomicReference<>(
+			CompletableFuture.completedFuture(null));
+
+		// point in time 스냅샷을 순회하므로 검증 완료로 변경된 세션 때문에 페이지가 밀리지 않음
+		long total;
+		try {
+			total = sessionDataDocumentService.forEachEndedSessionBatch(batchSize, sessions -> {
+				log.info("[ValidateScheduler] Batch {}: SessionData size : {}", batchNumber.getAndIncrement(), sessions.size());
+
+				List<SessionValidationResult> results = validateBatch(sessions);
+
+				awaitWrite(pendingWrite.get());
+				pendingWrite.set(pipelineExecutor.write(() -> saveResults(results))
+					.whenComplete((ignored, throwable) -> {
+						if (throwable != null) {
+							log.error("[ValidateScheduler] 검증 결과 저장 실패, 세션 {}개는 다음 주기에 다시 검증됩니다",
+								results.size(), unwrap(throwable));
+						}
+					}));
+			});
+		} finally {
+			awaitWrite(pendingWrite.get());
+		}
 
-		} while (!resultPage.isLast());
+		log.info("[ValidateScheduler] 검증 스케줄러 종료, 조회된 세션 수 : {}", total);
 	}
 
 	/**
 	 * 세션 검증을 진행하는 메소드로 sessionDataDocument의 sessionId로 각 클릭, 무브 ,스크롤
 	 * 데이터를 조회합니다. 조회 시 timestamp를 기준으로 오름차순 합니다.
 	 * 3종류 이벤트 데이터를 SolutionEventDocument로 통합시켜 저장합니다.
-	 *
+	 * 세션 하나를 호출한 스레드에서 바로 검증할 때 사용합니다.
 	 */
 	public void processSession(SessionDataDocument sessionDataDocument) {
 
 		//현재 조회도 isVerified false인 값을 조회하지만 혹시 몰라 조건 추가
-		if (sessionDataDocument.isVerified()) {
-			log.info("[ValidateScheduler] 이미 검증된 세션 데이터 입니다 sessionId : {}", sessionDataDocument.getSessionId());
+		if (isAlreadyVerified(sessionDataDocument)) {
 			return;
 		}
 
 		String sessionId = sessionDataDocument.getSessionId();
 		log.info("[ValidateScheduler] 검증 되는 세션 아이디 : {}", sessionId);
 
-		List<PointerClickEventDocument> clickEvents = fetchValidClickEvents(sessionId);
-		List<PointerMoveEventDocument> moveEvents = fetchValidMoveEvents(sessionId);
-		List<PointerScrollEventDocument> scrollEvents = fetchValidScrollEvents(sessionId);
-
-		analyzeEvents(clickEvents, moveEvents, scrollEvents);
-		saveResults(sessionDataDocument, clickEvents, moveEvents, scrollEvents);
+		saveResults(List.of(analyzeEvents(fetchValidEvents(sessionDataDocument))));
 	}
 
-	private List<PointerClickEventDocument> fetchValidClickEvents(String sessionId) {
-		List<PointerClickEventDocument> list = pointerEventDocumentService.fetchAllClickEventDocumentsBySessionId(sessionId, bufferSchedulerProperties.getBatchSize());
-		EventsUtils.filterValidClickEvents(list);
-		log.info("[ValidateScheduler] 검증되는 clickEvents 개수: {}", list.size());
-		return list;
+	/**
+	 * 배치의 세션을 파이프라인으로 조회, 분석합니다.
+	 * 세션을 validateSessionsPerQuery 개씩 묶어 한 번의 요청으로 이벤트를 조회하고, 조회 결과를 세션별로 나눠 분석합니다.
+	 * 실패한 세션은 로그만 남기고 결과에서 제외되므로 검증되지 않은 상태로 다음 주기에 다시 조회됩니다.
+	 */
+	private List<SessionValidationResult> validateBatch(List<SessionDataDocument> sessions) {
+		List<SessionDataDocument> unverified = new ArrayList<>(sessions.size());
+		for (SessionDataDocument sessionDataDocument : sessions) {
+			if (!isAlreadyVerified(sessionDataDocument)) {
+				unverified.add(sessionDataDocument);
+			}
+		}
+
+		int sessionsPerQuery = Math.max(1, bufferSchedulerProperties.getValidateSessionsPerQuery());
+		List<CompletableFuture<SessionValidationResult>> futures = new ArrayList<>(unverified.size());
+		for (int from = 0; from < unverified.size(); from += sessionsPerQuery) {
+			List<SessionDataDocument> group = unverified.subList(from,
+				Math.min(from + sessionsPerQuery, unverified.size()));
+			CompletableFuture<Map<String, SessionPointerEvents>> fetched = prefetchEvents(group);
+
+			for (SessionDataDocument sessionDataDocument : group) {
+				CompletableFuture<SessionEvents> sessionEvents = fetched.thenApply(eventsBySession ->
+					toValidSessionEvents(sessionDataDocument, eventsBySession.get(sessionDataDocument.getSessionId())));
+				futures.add(pipelineExecutor.analyze(sessionEvents, this::analyzeEvents)
+					.exceptionally(throwable -> {
+						logValidationFailure(sessionDataDocument, unwrap(throwable));
+						return null;
+					}));
+			}
+		}
+
+		List<SessionValidationResult> results = new ArrayList<>(futures.size());
+		for (CompletableFuture<SessionValidationResult> future : futures) {
+			SessionValidationResult result = future.join();
+			if (result != null) {
+				results.add(result);
+			}
+		}
+		return results;
 	}
 
-	private List<PointerMoveEventDocument> fetchValidMoveEvents(String sessionId) {
-		List<PointerMoveEventDocument> list = pointerEventDocumentService.fetchAllMoveEventDocumentsBySessionId(sessionId, bufferSchedulerProperties.getBatchSize());
-		EventsUtils.filterValidMoveEvents(list);
-		log.info("[ValidateScheduler] 검증되는 moveEvents 개수: {}", list.size());
-		return list;
+	private CompletableFuture<Map<String, SessionPointerEvents>> prefetchEvents(List<SessionDataDocument> group) {
+		List<String> sessionIds = new ArrayList<>(group.size());
+		for (SessionDataDocument sessionDataDocument : group) {
+			sessionIds.add(sessionDataDocument.getSessionId());
+		}
+		log.info("[ValidateScheduler] 검증 되는 세션 아이디 : {}", sessionIds);
+		return pipelineExecutor.fetch(() -> pointerEventDocumentService.fetchAllEventDocumentsBySessionIds(
+			sessionIds, bufferSchedulerProperties.getValidateEventFetchSize()));
 	}
 
-	private List<PointerScrollEventDocument> fetchValidScrollEvents(String sessionId) {
-		List<PointerScrollEventDocument> list = pointerEventDocumentService.fetchAllScrollEventDocumentsBySessionId(sessionId, bufferSchedulerProperties.getBatchSize());
-		EventsUtils.filterValidScrollEvents(list);
-		log.info("[ValidateScheduler] 검증되는 scrollEvents 개수: {}", list.size());
-		return list;
+	private boolean isAlreadyVerified(SessionDataDocument sessionDataDocument) {
+		if (sessionDataDocument.isVerified()) {
+			log.info("[ValidateScheduler] 이미 검증된 세션 데이터 입니다 sessionId : {}", sessionDataDocument.getSessionId());
+			return true;
+		}
+		return false;
 	}
 
-	private void analyzeEvents(
-		List<PointerClickEventDocument> clickEvents,
-		List<PointerMoveEventDocument> moveEvents,
-		List<PointerScrollEventDocument> scrollEvents
-	) {
-		ClickEventAnalyzer.analyze(clickEvents);
-		MoveEventAnalyzer.analyze(moveEvents);
-		ScrollEventAnalyzer.analyze(scrollEvents);
+	/**
+	 * 세션의 click, move, scroll 이벤트를 한 번의 multi search 요청으로 조회합니다.
+	 */
+	private SessionEvents fetchValidEvents(SessionDataDocument sessionDataDocument) {
+		return toValidSessionEvents(sessionDataDocument, pointerEventDocumentService.fetchAllEventDocumentsBySessionId(
+			sessionDataDocument.getSessionId(), bufferSchedulerProperties.getBatchSize()));
 	}
 
-	private void saveResults(
-		SessionDataDocument sessionDataDocument,
-		List<PointerClickEventDocument> clickEvents,
-		List<PointerMoveEventDocument> moveEvents,
-		List<PointerScrollEventDocument> scrollEvents
-	) {
-		sessionDataDocument.markAsVerified();
+	private SessionEvents toValidSessionEvents(SessionDataDocument sessionDataDocument, SessionPointerEvents events) {
+		EventsUtils.filterValidClickEvents(events.clickEvents());
+		EventsUtils.filterValidMoveEvents(events.moveEvents());
+		EventsUtils.filterValidScrollEvents(events.scrollEvents());
+		log.info("[ValidateScheduler] 검증되는 clickEvents 개수: {}", events.clickEvents().size());
+		log.info("[ValidateScheduler] 검증되는 moveEvents 개수: {}", events.moveEvents().size());
+		log.info("[ValidateScheduler] 검증되는 scrollEvents 개수: {}", events.scrollEvents().size());
 
-		log.info("[ValidateScheduler] 검증 완료");
+		return new SessionEvents(sessionDataDocument, events);
+	}
+
+	private SessionValidationResult analyzeEvents(SessionEvents sessionEvents) {
+		SessionPointerEvents events = sessionEvents.events();
+		ClickEventAnalyzer.analyze(events.clickEvents());
+		MoveEventAnalyzer.analyze(events.moveEvents());
+		ScrollEventAnalyzer.analyze(events.scrollEvents());
 
 		List<SolutionEventDocument> solutionEvents = EventConverter.toSolutionEventDocuments(
-			clickEvents, moveEvents, scrollEvents
+			events.clickEvents(), events.moveEvents(), events.scrollEvents()
 		);
+		return new SessionValidationResult(sessionEvents.sessionDataDocument(), solutionEvents);
+	}
 
+	private void saveResults(List<SessionValidationResult> results) {
+		if (results.isEmpty()) {
+			return;
+		}
+
+		List<SolutionEventDocument> solutionEvents = new ArrayList<>();
+		List<SessionDataDocument> sessionDataDocuments = new ArrayList<>(results.size());
+		for (SessionValidationResult result : results) {
+			result.sessionDataDocument().markAsVerified();
+			solutionEvents.addAll(result.solutionEvents());
+			sessionDataDocuments.add(result.sessionDataDocument());
+		}
+
+		log.info("[ValidateScheduler] 검증 완료 세션 수 : {}", results.size());
+
+		// 저장은 배치 단위로 순서대로 진행되므로 뷰 생성 시점 이후의 배치만 더 큰 값을 가짐
+		long savedAt = System.currentTimeMillis();
+		solutionEvents.forEach(event -> event.markSaved(savedAt));
 		solutionEventDocumentService.saveAllSolutionEvents(solutionEvents);
 		log.info("[ValidateScheduler] 저장된 SolutionEventDocument 개수 : {}", solutionEvents.size());
 
-		sessionDataDocumentService.save(sessionDataDocument);
+		// 저장된 이벤트만 히트맵 뷰에 반영
+		heatmapViewService.applyEvents(solutionEvents);
+
+		// 이벤트 저장이 끝난 세션만 검증 완료로 저장
+		sessionDataDocumentService.saveAll(sessionDataDocuments);
+	}
+
+	private void awaitWrite(CompletableFuture<Void> pendingWrite) {
+		try {
+			pendingWrite.join();
+		} catch (CompletionException | CancellationException e) {
+			// 실패 로그는 저장 작업에서 남김
+		}
+	}
+
+	private void logValidationFailure(SessionDataDocument sessionDataDocument, Throwable throwable) {
+		if (throwable instanceof PointerEventException) {
+			log.warn("[ValidateScheduler] 세션 검증 실패 (이미 검증된 세션일 수 있음): {}, {}",
+				sessionDataDocument.getSessionId(), throwable.getMessage());
+		} else if (throwable instanceof ElasticsearchException
+			|| throwable instanceof UncategorizedElasticsearchException) {
+			log.warn("[ValidateScheduler] 세션 ID: {} - Elasticsearch 쿼리 실패", sessionDataDocument.getSessionId());
+			log.warn("[ValidateScheduler] Exception Message: {}", throwable.getMessage());
+			log.warn("[ValidateScheduler] Full Stack Trace", throwable);
+		} else {
+			log.error("[ValidateScheduler] 예상치 못한 에러 발생 - 세션 ID: {}", sessionDataDocument.getSessionId(), throwable);
+		}
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+		return throwable instanceof CompletionException && throwable.getCause() != null
+			? throwable.getCause()
+			: throwable;
+	}
+
+	private record SessionEvents(
+		SessionDataDocument sessionDataDocument,
+		SessionPointerEvents events
+	) {
+	}
+
+	private record SessionValidationResult(
+		SessionDataDocument sessionDataDocument,
+		List<SolutionEventDocument> solutionEvents
+	) {
 	}
 
 }
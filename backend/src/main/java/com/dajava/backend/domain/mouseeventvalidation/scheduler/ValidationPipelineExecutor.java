@@ -0,0 +1,80 @@
+package com.dajava.backend.domain.mouseeventvalidation.scheduler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.dajava.backend.global.component.analyzer.BufferSchedulerProperties;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 세션 검증 파이프라인의 단계별 실행기 입니다.
+ * 1. 이벤트 조회와 저장은 ES 응답을 기다리는 I/O 작업이므로 가상 스레드에서 실행하고, 동시 조회 수는 validateFetchConcurrency 로 제한합니다.
+ * 2. 이상치 분석은 CPU 작업이므로 코어 수 크기의 고정 스레드 풀에서 실행합니다.
+ */
+@Component
+public class ValidationPipelineExecutor {
+
+	private final ExecutorService ioExecutor;
+	private final ExecutorService analyzeExecutor;
+	private final Semaphore fetchPermits;
+
+	public ValidationPipelineExecutor(BufferSchedulerProperties properties) {
+		int fetchConcurrency = Math.max(1, properties.getValidateFetchConcurrency());
+		int analyzeThreads = properties.getValidateAnalyzeThreads() > 0
+			? properties.getValidateAnalyzeThreads()
+			: Runtime.getRuntime().availableProcessors();
+		this.fetchPermits = new Semaphore(fetchConcurrency);
+		this.ioExecutor = properties.isValidateVirtualThreads()
+			? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("validate-io-", 0).factory())
+			: Executors.newFixedThreadPool(fetchConcurrency + 1, Thread.ofPlatform().name("validate-io-", 0).factory());
+		this.analyzeExecutor = Executors.newFixedThreadPool(analyzeThreads,
+			Thread.ofPlatform().name("validate-analyze-", 0).factory());
+	}
+
+	/**
+	 * 동시 조회 수 제한 안에서 ES 조회를 비동기로 실행합니다.
+	 */
+	public <T> CompletableFuture<T> fetch(Supplier<T> fetchAction) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				fetchPermits.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CompletionException(e);
+			}
+			try {
+				return fetchAction.get();
+			} finally {
+				fetchPermits.release();
+			}
+		}, ioExecutor);
+	}
+
+	/**
+	 * 조회가 끝난 결과를 분석 스레드 풀에서 처리합니다.
+	 */
+	public <T, R> CompletableFuture<R> analyze(CompletableFuture<T> fetched, Function<T, R> analyzeAction) {
+		return fetched.thenApplyAsync(analyzeAction, analyzeExecutor);
+	}
+
+	/**
+	 * 저장 작업을 비동기로 실행합니다. 다음 배치의 조회, 분석과 겹쳐서 실행됩니다.
+	 */
+	public CompletableFuture<Void> write(Runnable writeAction) {
+		return CompletableFuture.runAsync(writeAction, ioExecutor);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		ioExecutor.shutdown();
+		analyzeExecutor.shutdown();
+	}
+}
@@ -2,7 +2,7 @@ package com.dajava.backend.domain.mouseeventvalidation.scheduler.analyzer;
 
 
 
-import java.time.Duration;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 
@@ -92,6 +92,7 @@ public class ClickEventAnalyzer implements Analyzer<PointerClickEventDocument> {
 
 	/**
 	 * 클릭 이벤트를 검증해 이상치가 존재하는지 판단하는 구현체
+	 * 이벤트를 컬럼 뷰로 한 번 옮긴 뒤 분석하고, 이상치는 마지막에 한 번만 Document 에 반영합니다.
 	 * @param eventDocuments 클릭 이벤트 리스트
 	 * @return 내부에서 객체 isOutlier값을 변경함 void 반환
 	 */
@@ -99,10 +100,12 @@ public class ClickEventAnalyzer implements Analyzer<PointerClickEventDocument> {
 	public void analyze(List<PointerClickEventDocument> eventDocuments) {
 		//es에서 시계열로 정렬해 가져옴
 		log.info("클릭 이벤트 분석 시작 - 이벤트 수: {}, sessionId : {}", eventDocuments.size(),
-			eventDocuments.getFirst().getSessionId());
-		findRageClicks(eventDocuments);
-		findSuspiciousClicks(eventDocuments);
-		log.info("무브 이벤트 분석 완료");
+			eventDocuments.isEmpty() ? null : eventDocuments.getFirst().getSessionId());
+		PositionEventColumns columns = PositionEventColumns.ofClicks(eventDocuments);
+		findRageClicks(columns);
+		findSuspiciousClicks(eventDocuments, columns.outliers);
+		markOutliers(eventDocuments, columns.outliers);
+		log.info("클릭 이벤트 분석 완료");
 	}
 
 
@@ -113,31 +116,53 @@ public class ClickEventAnalyzer implements Analyzer<PointerClickEventDocument> {
 	 * @return void
 	 */
 	public void findRageClicks(List<PointerClickEventDocument> clickEvents) {
-		if (clickEvents == null || clickEvents.size() < minClickCount) {
+		if (clickEvents == null) {
+			log.debug("이벤트 수 부족으로 Rage click 분석 생략");
+			return;
+		}
+		PositionEventColumns columns = PositionEventColumns.ofClicks(clickEvents);
+		findRageClicks(columns);
+		markOutliers(clickEvents, columns.outliers);
+	}
+
+	/**
+	 * 컬럼 뷰에서 Rage Click 을 탐지해 outliers 비트에 기록합니다.
+	 * 윈도우는 이벤트 인덱스 구간 [start, end) 로 표현합니다.
+	 */
+	private void findRageClicks(PositionEventColumns columns) {
+		if (columns.size < minClickCount) {
 			log.debug("이벤트 수 부족으로 Rage click 분석 생략");
 			return;
 		}
 
-		PointerClickEventDocument[] window = new PointerClickEventDocument[clickEvents.size()];
 		int start = 0;
-		int end = 0;
 
 		log.info("Rage Click 분석 시작");
 
-		for (PointerClickEventDocument current : clickEvents) {
-			window[end++] = current;
+		for (int current = 0; current < columns.size; current++) {
+			int end = current + 1;
 
 			// 시간 범위를 벗어난 이벤트 제거
-			start = removeOldEvents(window, start, end, current);
+			while (start < end && columns.timestamps[current] - columns.timestamps[start] > timeThresholdMs) {
+				start++;
+			}
 
 			// 현재 윈도우 내에서 근접 클릭 수 계산
-			int proximityCount = countProximityEvents(window, start, end, current);
-
+			int proximityCount = 0;
+			for (int i = start; i < end; i++) {
+				if (isInProximity(columns, i, current)) {
+					proximityCount++;
+				}
+			}
 
 			// 근접 클릭이 임계값 이상이면 이상치로 처리
 			if (proximityCount >= minClickCount) {
 				log.debug("Rage Click 이상치 로그 개수 : {}", (end - start));
-				markProximityEventsAsOutliers(window, start, end, current);
+				for (int i = start; i < end; i++) {
+					if (isInProximity(columns, i, current)) {
+						columns.outliers.set(i);
+					}
+				}
 				start = end; // 중복 방지
 			}
 		}
@@ -146,39 +171,11 @@ public class ClickEventAnalyzer implements Analyzer<PointerClickEventDocument> {
 	}
 
 	/**
-	 * 시간 범위를 벗어난 이벤트를 제거하고 새로운 시작 인덱스를 반환합니다.
+	 * outliers 비트가 켜진 이벤트를 이상치로 표시합니다.
 	 */
-	private int removeOldEvents(PointerClickEventDocument[] window, int start, int end,
-		PointerClickEventDocument current) {
-		while (start < end && isOutOfTimeRange(window[start], current)) {
-			start++;
-		}
-		return start;
-	}
-
-	/**
-	 * 주어진 이벤트와 근접한 이벤트의 수를 계산합니다.
-	 */
-	private int countProximityEvents(PointerClickEventDocument[] window, int start, int end,
-		PointerClickEventDocument current) {
-		int count = 0;
-		for (int i = start; i < end; i++) {
-			if (isInProximity(window[i], current)) {
-				count++;
-			}
-		}
-		return count;
-	}
-
-	/**
-	 * 근접 이벤트들을 이상치로 표시합니다.
-	 */
-	private void markProximityEventsAsOutliers(PointerClickEventDocument[] window, int start, int end,
-		PointerClickEventDocument current) {
-		for (int i = start; i < end; i++) {
-			if (isInProximity(window[i], current)) {
-				markAsOutlier(window[i]);
-			}
+	private void markOutliers(List<PointerClickEventDocument> events, BitSet outliers) {
+		for (int i = outliers.nextSetBit(0); i >= 0; i = outliers.nextSetBit(i + 1)) {
+			markAsOutlier(events.get(i));
 		}
 	}
 
@@ -193,14 +190,9 @@ public class ClickEventAnalyzer implements Analyzer<PointerClickEventDocument> {
 		}
 	}
 
-	private boolean isOutOfTimeRange(PointerClickEventDocument first, PointerClickEventDocument current) {
-		Duration duration = Duration.between(first.getTimestamp(), current.getTimestamp());
-		return duration.toMillis() > timeThresholdMs;
-	}
-
-	private boolean isInProximity(PointerClickEventDocument clickEvent1, PointerClickEventDocument clickEvent2) {
-		return (Math.abs(clickEvent1.getClientX() - clickEvent2.getClientX()) <= positionThresholdPx)
-			&& (Math.abs(clickEvent1.getClientY() - clickEvent2.getClientY()) <= positionThresholdPx);
+	private boolean isInProximity(PositionEventColumns columns, int first, int second) {
+		return (Math.abs(columns.clientX[first] - columns.clientX[second]) <= positionThresholdPx)
+			&& (Math.abs(columns.clientY[first] - columns.clientY[second]) <= positionThresholdPx);
 	}
 
 	/**
@@ -216,18 +208,29 @@ public class ClickEventAnalyzer implements Analyzer<PointerClickEventDocument> {
 	 * @return void
 	 */
 	public void findSuspiciousClicks(List<PointerClickEventDocument> events) {
-		if (events == null || events.isEmpty()) {
+		if (events == null) {
+			log.info("이벤트 수 부족으로 suspiciousClick 실행 ");
+			return;
+		}
+		BitSet outliers = new BitSet(events.size());
+		findSuspiciousClicks(events, outliers);
+		markOutliers(events, outliers);
+	}
+
+	private void findSuspiciousClicks(List<PointerClickEventDocument> events, BitSet outliers) {
+		if (events.isEmpty()) {
 			log.info("이벤트 수 부족으로 suspiciousClick 실행 ");
 			return;
 		}
 
 		log.info("suspiciousClicks 분석 시작");
 
-		for (PointerClickEventDocument event : events) {
+		for (int i = 0; i < events.size(); i++) {
+			PointerClickEventDocument event = events.get(i);
 			int suspiciousScore = calculateSuspiciousScore(event);
 
 			if (suspiciousScore >= SUSPICIOUS_THRESHOLD) {
-				markAsOutlier(event);
+				outliers.set(i);
 			} else {
 				log.debug("정상 클릭으로 판단됨: {} (점수: {})", event.getId(), suspiciousScore);
 			}
@@ -1,10 +1,7 @@
 package com.dajava.backend.domain.mouseeventvalidation.scheduler.analyzer;
 
-import java.time.Duration;
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
@@ -28,12 +25,17 @@ public class MoveEventAnalyzer implements Analyzer<PointerMoveEventDocument> {
 	private final double angleThresholdDegrees;
 
 	private static final int MAXWINDOWSIZE = 50;
+	// 기준 코사인과 이 값 이내로 가까우면 각도로 다시 비교
+	private static final double COSINE_EPSILON = 1e-9;
 
+	// angleThresholdDegrees 의 코사인
+	private final double turnCosineThreshold;
 
 	public MoveEventAnalyzer(MoveAnalyzerProperties props) {
 		this.timeWindowMs = props.getTimeWindowMs();
 		this.turnThreshold = props.getTurnThreshold();
 		this.angleThresholdDegrees = props.getAngleThresholdDegrees();
+		this.turnCosineThreshold = Math.cos(Math.toRadians(angleThresholdDegrees));
 	}
 
 	@Override
@@ -56,114 +58,105 @@ public class MoveEventAnalyzer implements Analyzer<PointerMoveEventDocument> {
 			return;
 		}
 
-
-		PointerMoveEventDocument[] window = new PointerMoveEventDocument[MAXWINDOWSIZE];
-		int start = 0;
-		int end = 0;
-
-		for (PointerMoveEventDocument current : events) {
-			// 윈도우에 현재 이벤트 추가
-			window[end % MAXWINDOWSIZE] = current;
-			end++;
-
-			// 오래된 이벤트 제거 (시간 조건)
-			start = removeOldEvents(window, start, end, current);
-
-			int windowSize = end - start;
-			if (windowSize >= 3) {
-				processWindow(window, start, end);
-			}
-		}
+		PositionEventColumns columns = PositionEventColumns.ofMoves(events);
+		detectZigzagMovementByAngle(columns);
+		markOutliers(events, columns.outliers);
 	}
 
 	/**
-	 * 시간 범위를 벗어난 이벤트를 제거하고 새로운 시작 인덱스를 반환합니다.
+	 * 컬럼 뷰에서 지그재그 움직임을 감지해 outliers 비트에 기록합니다.
+	 * 윈도우는 이벤트 인덱스 구간 [start, end) 로 표현하며 최근 MAXWINDOWSIZE 개까지만 유지합니다.
+	 * 1. i 지점의 꺾임 여부는 i - 1, i, i + 1 세 이벤트로만 정해지므로 i + 1 이 들어올 때 한 번만 계산합니다.
+	 * 2. 윈도우 안의 꺾임 수는 이벤트가 들어오고 나갈 때 증감해 이벤트당 O(1) 로 유지합니다.
+	 * 3. 꺾임 수가 기준 이상이면 직전 기록 이후 새로 들어온 꺾임 지점과 직전 이벤트만 이상치로 기록합니다.
 	 */
-	private int removeOldEvents(PointerMoveEventDocument[] window, int start, int end,
-		PointerMoveEventDocument current) {
-		while (start < end && isOutOfTimeRange(window[start % MAXWINDOWSIZE], current)) {
-
-			log.debug("윈도우 시간 초과: 제거 대상 ID={}, 타임스탬프={}",
-				window[start % MAXWINDOWSIZE].getId(),
-				window[start % MAXWINDOWSIZE].getTimestamp());
-
-			start++;
-		}
-		return start;
-	}
+	void detectZigzagMovementByAngle(PositionEventColumns columns) {
+		BitSet turns = new BitSet(columns.size);
+		int start = 0;
+		// 윈도우 내부 지점 [start + 1, current - 1] 의 꺾임 수
+		int turnCount = 0;
+		// 이상치 기록을 마친 마지막 꺾임 지점
+		int lastMarkedTurn = 0;
 
-	/**
-	 * 현재 윈도우의 이벤트를 처리하여 지그재그 움직임을 감지합니다.
-	 */
-	private void processWindow(PointerMoveEventDocument[] window, int start, int end) {
-		List<EsVector> vectors = calculateVectors(window, start, end);
+		for (int current = 0; current < columns.size; current++) {
+			int end = current + 1;
 
-		if (vectors.isEmpty()) {
-			return;
-		}
+			// current 가 들어오면서 current - 1 이 윈도우 내부 지점이 됨
+			int vertex = current - 1;
+			if (vertex > start && isTurn(columns, vertex)) {
+				turns.set(vertex);
+				turnCount++;
+			}
 
-		Set<PointerMoveEventDocument> outliers = new HashSet<>();
-		int turnCount = detectOutliers(vectors, window, start, outliers);
+			// 오래된 이벤트 제거 (개수, 시간 조건), 새 시작 이벤트는 더 이상 내부 지점이 아니므로 꺾임 수에서 뺌
+			while (end - start > MAXWINDOWSIZE) {
+				start++;
+				if (start < current && turns.get(start)) {
+					turnCount--;
+				}
+			}
+			while (start < end && columns.timestamps[current] - columns.timestamps[start] > timeWindowMs) {
+				if (log.isDebugEnabled()) {
+					log.debug("윈도우 시간 초과: 제거 대상 인덱스={}, 타임스탬프={}", start, columns.timestamps[start]);
+				}
+				start++;
+				if (start < current && turns.get(start)) {
+					turnCount--;
+				}
+			}
 
-		if (turnCount >= turnThreshold) {
-			markOutliers(outliers);
-			// 윈도우 리셋은 호출자가 처리하도록 함
+			if (end - start >= 3 && turnCount >= turnThreshold) {
+				// 윈도우 리셋은 호출자가 처리하도록 함
+				for (int i = turns.nextSetBit(Math.max(start + 1, lastMarkedTurn + 1));
+					i >= 0 && i < current; i = turns.nextSetBit(i + 1)) {
+					columns.outliers.set(i - 1, i + 1);
+				}
+				lastMarkedTurn = current - 1;
+			}
 		}
 	}
 
 	/**
-	 * 윈도우 내 이벤트들로부터 벡터를 계산합니다.
+	 * i - 1 → i, i → i + 1 두 이동 벡터의 각도가 기준 이상인지 확인합니다.
+	 * 각도 대신 미리 계산한 기준 코사인과 비교하며(각도가 클수록 코사인이 작음),
+	 * 기준 코사인과 거의 같은 경계 값만 기존과 같은 결과를 보장하도록 acos 로 각도를 계산해 비교합니다.
 	 */
-	private List<EsVector> calculateVectors(PointerMoveEventDocument[] window, int start, int end) {
-		List<EsVector> vectors = new ArrayList<>();
-
-		for (int i = start + 1; i < end; i++) {
-			PointerMoveEventDocument prev = window[(i - 1) % MAXWINDOWSIZE];
-			PointerMoveEventDocument next = window[i % MAXWINDOWSIZE];
-			vectors.add(new EsVector(
-				next.getClientX() - prev.getClientX(),
-				next.getClientY() - prev.getClientY()
-			));
+	private boolean isTurn(PositionEventColumns columns, int i) {
+		if (angleThresholdDegrees <= 0) {
+			return true;
+		}
+		if (angleThresholdDegrees > 180) {
+			return false;
 		}
 
-		return vectors;
-	}
-
-	/**
-	 * 벡터들을 분석하여 이상 패턴을 보이는 이벤트들을 감지합니다.
-	 */
-	private int detectOutliers(List<EsVector> vectors,
-		PointerMoveEventDocument[] window,
-		int start,
-		Set<PointerMoveEventDocument> outliers) {
+		double dx1 = columns.clientX[i] - columns.clientX[i - 1];
+		double dy1 = columns.clientY[i] - columns.clientY[i - 1];
+		double dx2 = columns.clientX[i + 1] - columns.clientX[i];
+		double dy2 = columns.clientY[i + 1] - columns.clientY[i];
 
-		int turnCount = 0;
+		double dot = dx1 * dx2 + dy1 * dy2;
+		double mag1 = Math.sqrt(dx1 * dx1 + dy1 * dy1);
+		double mag2 = Math.sqrt(dx2 * dx2 + dy2 * dy2);
 
-		for (int i = 1; i < vectors.size(); i++) {
-			EsVector v1 = vectors.get(i - 1);
-			EsVector v2 = vectors.get(i);
-			double angle = v1.angleWith(v2);
+		if (mag1 == 0 || mag2 == 0) {
+			return false; // 움직임이 없으면 각도 0
+		}
 
-			if (angle >= angleThresholdDegrees) {
-				PointerMoveEventDocument e1 = window[(start + i - 1) % MAXWINDOWSIZE];
-				PointerMoveEventDocument e2 = window[(start + i) % MAXWINDOWSIZE];
-				outliers.add(e1);
-				outliers.add(e2);
-				turnCount++;
+		double cosTheta = dot / (mag1 * mag2);
+		cosTheta = Math.clamp(cosTheta, -1.0, 1.0); // 안전하게 clamp 부동 소수점 계산 문제
 
-				log.debug("지그재그 감지됨: angle={} (threshold={})", angle, angleThresholdDegrees);
-				log.debug("이상치 후보 이벤트 ID들: {}, {}", e1.getId(), e2.getId());
-			}
+		if (Math.abs(cosTheta - turnCosineThreshold) > COSINE_EPSILON) {
+			return cosTheta < turnCosineThreshold;
 		}
-
-		return turnCount;
+		return Math.toDegrees(Math.acos(cosTheta)) >= angleThresholdDegrees;
 	}
 
 	/**
 	 * 감지된 이상치 이벤트들을 마킹합니다.
 	 */
-	private void markOutliers(Set<PointerMoveEventDocument> outliers) {
-		for (PointerMoveEventDocument outlier : outliers) {
+	private void markOutliers(List<PointerMoveEventDocument> events, BitSet outliers) {
+		for (int i = outliers.nextSetBit(0); i >= 0; i = outliers.nextSetBit(i + 1)) {
+			PointerMoveEventDocument outlier = events.get(i);
 			try {
 				outlier.markAsOutlier();
 			} catch (PointerEventException ignored) {
@@ -172,40 +165,4 @@ public class MoveEventAnalyzer implements Analyzer<PointerMoveEventDocument> {
 		}
 	}
 
-	private boolean isOutOfTimeRange(PointerMoveEventDocument first, PointerMoveEventDocument current) {
-		return Duration.between(first.getTimestamp(), current.getTimestamp()).toMillis() > timeWindowMs;
-	}
-
-	// 내부 벡터 클래스 (2D)
-	public static class EsVector {
-		final int dx;
-		final int dy;
-
-		public EsVector(int dx, int dy) {
-			this.dx = dx;
-			this.dy = dy;
-		}
-
-		public double angleWith(EsVector other) {
-			double thisDx = this.dx;
-			double thisDy = this.dy;
-			double otherDx = other.dx;
-			double otherDy = other.dy;
-
-			double dot = thisDx * otherDx + thisDy * otherDy;
-			double mag1 = Math.sqrt(thisDx * thisDx + thisDy * thisDy);
-			double mag2 = Math.sqrt(otherDx * otherDx + otherDy * otherDy);
-
-			if (mag1 == 0 || mag2 == 0) {
-				return 0; // 움직임이 없으면 각도 없음
-			}
-
-			double cosTheta = dot / (mag1 * mag2);
-			cosTheta = Math.clamp(cosTheta, -1.0, 1.0); // 안전하게 clamp 부동 소수점 계산 문제
-
-			return Math.toDegrees(Math.acos(cosTheta)); // 코사인 역함수로 각도 계산,라디안 → 도(degree)
-		}
-	}
-
 }
-
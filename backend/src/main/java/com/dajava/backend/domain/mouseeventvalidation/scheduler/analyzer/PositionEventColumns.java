@@ -0,0 +1,60 @@
+package com.dajava.backend.domain.mouseeventvalidation.scheduler.analyzer;
+
+import java.util.BitSet;
+import java.util.List;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerClickEventDocument;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerMoveEventDocument;
+
+/**
+ * 클릭, 무브 이벤트를 분석기용 primitive 배열로 옮긴 컬럼 뷰 입니다.
+ * 1. i 번째 원소는 이벤트 리스트의 i 번째 Document 에 대응하며, 시간 비교와 좌표 계산에 LocalDateTime, Integer 를 거치지 않습니다.
+ * 2. 분석 결과는 outliers 비트로 기록하고, 분석이 끝난 뒤 한 번만 Document 에 반영합니다.
+ * 값이 없는 필드는 0 으로 채웁니다.
+ */
+final class PositionEventColumns {
+
+	final int size;
+	final long[] timestamps;
+	final int[] clientX;
+	final int[] clientY;
+	final BitSet outliers;
+
+	private PositionEventColumns(int size) {
+		this.size = size;
+		this.timestamps = new long[size];
+		this.clientX = new int[size];
+		this.clientY = new int[size];
+		this.outliers = new BitSet(size);
+	}
+
+	static PositionEventColumns ofClicks(List<PointerClickEventDocument> events) {
+		PositionEventColumns columns = new PositionEventColumns(events.size());
+		for (int i = 0; i < columns.size; i++) {
+			PointerClickEventDocument event = events.get(i);
+			columns.timestamps[i] = orZero(event.getTimestampMillis());
+			columns.clientX[i] = orZero(event.getClientX());
+			columns.clientY[i] = orZero(event.getClientY());
+		}
+		return columns;
+	}
+
+	static PositionEventColumns ofMoves(List<PointerMoveEventDocument> events) {
+		PositionEventColumns columns = new PositionEventColumns(events.size());
+		for (int i = 0; i < columns.size; i++) {
+			PointerMoveEventDocument event = events.get(i);
+			columns.timestamps[i] = orZero(event.getTimestampMillis());
+			columns.clientX[i] = orZero(event.getClientX());
+			columns.clientY[i] = orZero(event.getClientY());
+		}
+		return columns;
+	}
+
+	static long orZero(Long value) {
+		return value != null ? value : 0L;
+	}
+
+	static int orZero(Integer value) {
+		return value != null ? value : 0;
+	}
+}
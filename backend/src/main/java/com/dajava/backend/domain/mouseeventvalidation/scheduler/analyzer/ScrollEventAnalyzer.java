@@ -1,10 +1,7 @@
 package com.dajava.backend.domain.mouseeventvalidation.scheduler.analyzer;
 
-import java.time.Duration;
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
@@ -41,14 +38,19 @@ public class ScrollEventAnalyzer implements Analyzer<PointerScrollEventDocument>
 		this.contentConsumedThreshold = props.getContentConsumedThreshold();
 	}
 
+	/**
+	 * 이벤트를 컬럼 뷰로 한 번 옮긴 뒤 분석하고, 이상치는 마지막에 한 번만 Document 에 반영합니다.
+	 */
 	@Override
 	public void analyze(List<PointerScrollEventDocument> documents) {
 		//es 에서 조회시 정렬
 		log.info("스크롤 이벤트 분석 시작 - 이벤트 수: {}", documents.size());
 
-		findRageScrollBursts(documents);
-		findBackAndForthScrollOutliers(documents);
-		findTopRepeatScrollOutliers(documents);
+		ScrollEventColumns columns = ScrollEventColumns.of(documents);
+		findRageScrollBursts(columns);
+		findBackAndForthScrollOutliers(columns);
+		findTopRepeatScrollOutliers(columns);
+		markOutliers(documents, columns.outliers);
 
 		log.info("스크롤 이벤트 분석 완료");
 	}
@@ -61,97 +63,68 @@ public class ScrollEventAnalyzer implements Analyzer<PointerScrollEventDocument>
 	 * @return void
 	 */
 	public void findRageScrollBursts(List<PointerScrollEventDocument> events) {
-		if (events == null || events.size() < minEventCount) {
+		if (events == null) {
+			log.debug("이벤트 수 부족으로 Rage Scroll 분석 생략");
+			return;
+		}
+		ScrollEventColumns columns = ScrollEventColumns.of(events);
+		findRageScrollBursts(columns);
+		markOutliers(events, columns.outliers);
+	}
+
+	/**
+	 * 컬럼 뷰에서 rage scroll 을 감지해 outliers 비트에 기록합니다.
+	 * 윈도우는 이벤트 인덱스 구간 [start, end) 로 표현합니다.
+	 */
+	private void findRageScrollBursts(ScrollEventColumns columns) {
+		if (columns.size < minEventCount) {
 			log.debug("이벤트 수 부족으로 Rage Scroll 분석 생략");
 			return;
 		}
 
 		log.info("Rage Scroll 분석 시작");
 
-		PointerScrollEventDocument[] window = new PointerScrollEventDocument[events.size()];
 		int start = 0;
-		int end = 0;
-
+		// 윈도우마다 새로 만들지 않고 재사용
+		BitSet windowOutliers = new BitSet(columns.size);
 
-		Set<PointerScrollEventDocument> detectedOutliers = new HashSet<>();
-
-		for (PointerScrollEventDocument current : events) {
-			window[end++] = current;
+		for (int current = 0; current < columns.size; current++) {
+			int end = current + 1;
 
 			// 오래된 이벤트 제거
-			start = removeOldEvents(window, start, end, current);
+			while (start < end && columns.timestamps[current] - columns.timestamps[start] > timeWindowMs) {
+				start++;
+			}
 
 			// 현재 윈도우에서 이상 이벤트 분석
-			List<PointerScrollEventDocument> windowList = extractWindowList(window, start, end);
-
-			int rageWithinWindow = processCurrentWindow(windowList, detectedOutliers);
+			windowOutliers.clear();
+			int rageWithinWindow = countRageScrolls(columns, start, end, windowOutliers);
 
 			if (rageWithinWindow >= rageThresholdPerWindow) {
-				log.info("Rage Scroll 이상치 감지 - 이벤트 수: {}, 윈도우 범위: {}~{}", windowList.size(), start, end);
+				columns.outliers.or(windowOutliers);
+				log.info("Rage Scroll 이상치 감지 - 이벤트 수: {}, 윈도우 범위: {}~{}", end - start, start, end);
 				start = end; // 윈도우 초기화 (중복 감지 방지)
 			}
 		}
-
-		// 이상치로 판별된 이벤트에 markAsOutlier 호출
-		markOutliers(detectedOutliers);
-	}
-
-	/**
-	 * 현재 윈도우에서 이벤트 목록을 추출합니다.
-	 */
-	private List<PointerScrollEventDocument> extractWindowList(PointerScrollEventDocument[] window,
-		int start,
-		int end) {
-
-		List<PointerScrollEventDocument> windowList = new ArrayList<>(end - start);
-		for (int i = start; i < end; i++) {
-			windowList.add(window[i]);
-		}
-		return windowList;
-	}
-
-	/**
-	 * 현재 윈도우를 처리하고 rage scroll 수를 반환합니다.
-	 */
-	private int processCurrentWindow(List<PointerScrollEventDocument> windowList,
-		Set<PointerScrollEventDocument> detectedOutliers) {
-
-		List<PointerScrollEventDocument> windowOutliers = new ArrayList<>();
-		int rageWithinWindow = countRageScrolls(windowList, windowOutliers);
-
-		if (rageWithinWindow >= rageThresholdPerWindow) {
-			detectedOutliers.addAll(windowOutliers);
-		}
-
-		return rageWithinWindow;
-	}
-
-	/**
-	 * 오래된 이벤트를 제거하고 새로운 시작 인덱스를 반환합니다.
-	 */
-	private int removeOldEvents(PointerScrollEventDocument[] window, int start, int end,
-		PointerScrollEventDocument current) {
-		while (start < end && isOutOfTimeRange(window[start], current)) {
-			start++;
-		}
-		return start;
 	}
 
 	/**
 	 * rage scroll을 감지합니다.
 	 * 짫은 시간 내 여러번 rage scroll이 있는 경우
-	 * @param window PointerScrollEvent 리스트
+	 * 윈도우의 각 위치에서 이벤트를 하나씩 늘려가며 최소 이벤트 수와 스크롤 변화량을 만족하는 구간을 찾고,
+	 * 찾은 구간의 끝으로 점프합니다. 스크롤 변화량은 구간의 최소, 최대 scrollY 를 이어서 갱신해 계산합니다.
 	 * @return TIME_WINDOW_MS 동안 rage scroll 횟수 반환
 	 */
-	private int countRageScrolls(List<PointerScrollEventDocument> window, List<PointerScrollEventDocument> outliers) {
+	private int countRageScrolls(ScrollEventColumns columns, int start, int end, BitSet windowOutliers) {
 		int count = 0;
-		int index = 0;
+		int index = start;
 
-		while (index < window.size()) {
-			List<PointerScrollEventDocument> subList = initializeSubList(window, index);
-			int jumpIndex = findMatchingScrollEventsAndGetJumpIndex(window, subList, index, outliers);
+		while (index < end) {
+			int jumpIndex = findMatchingScrollEventsAndGetJumpIndex(columns, index, end);
 
 			if (jumpIndex > index) {
+				log.debug("Rage Scroll 조건 만족 - 이벤트 수: {}", jumpIndex - index + 1);
+				windowOutliers.set(index, jumpIndex + 1);
 				count++;
 				index = jumpIndex; // 점프 처리
 			} else {
@@ -162,30 +135,18 @@ public class ScrollEventAnalyzer implements Analyzer<PointerScrollEventDocument>
 		return count;
 	}
 
-	/**
-	 * 초기 subList를 생성합니다.
-	 */
-	private List<PointerScrollEventDocument> initializeSubList(List<PointerScrollEventDocument> window, int index) {
-		List<PointerScrollEventDocument> subList = new ArrayList<>();
-		subList.add(window.get(index));
-		return subList;
-	}
-
 	/**
 	 * 일치하는 스크롤 이벤트를 찾습니다.
 	 */
-	private int findMatchingScrollEventsAndGetJumpIndex(List<PointerScrollEventDocument> window,
-		List<PointerScrollEventDocument> subList,
-		int startIndex,
-		List<PointerScrollEventDocument> outliers) {
-		for (int j = startIndex + 1; j < window.size(); j++) {
-			PointerScrollEventDocument next = window.get(j);
-			subList.add(next);
-
-			if (isRageScrollPattern(subList)) {
-				log.debug("Rage Scroll 조건 만족 - 이벤트 수: {}, 스크롤 변화량: {}",
-					subList.size(), scrollDelta(subList));
-				outliers.addAll(subList);
+	private int findMatchingScrollEventsAndGetJumpIndex(ScrollEventColumns columns, int startIndex, int end) {
+		int min = columns.scrollY[startIndex];
+		int max = min;
+		for (int j = startIndex + 1; j < end; j++) {
+			min = Math.min(min, columns.scrollY[j]);
+			max = Math.max(max, columns.scrollY[j]);
+
+			// Rage 스크롤 패턴인지 확인
+			if (j - startIndex + 1 >= minEventCount && Math.abs(max - min) >= minScrollDelta) {
 				return j;
 			}
 		}
@@ -193,28 +154,11 @@ public class ScrollEventAnalyzer implements Analyzer<PointerScrollEventDocument>
 	}
 
 	/**
-	 * Rage 스크롤 패턴인지 확인합니다.
-	 */
-	private boolean isRageScrollPattern(List<PointerScrollEventDocument> subList) {
-		return subList.size() >= minEventCount && scrollDelta(subList) >= minScrollDelta;
-	}
-
-	private boolean isOutOfTimeRange(PointerScrollEventDocument first, PointerScrollEventDocument current) {
-		return Duration.between(first.getTimestamp(), current.getTimestamp()).toMillis() > timeWindowMs;
-	}
-
-	private int scrollDelta(List<PointerScrollEventDocument> events) {
-		int min = events.stream().mapToInt(PointerScrollEventDocument::getScrollY).min().orElse(0);
-		int max = events.stream().mapToInt(PointerScrollEventDocument::getScrollY).max().orElse(0);
-		return Math.abs(max - min);
-	}
-
-	/**
-	 * 이상치로 표시된 문서들을 마킹합니다.
+	 * outliers 비트가 켜진 문서들을 마킹합니다.
 	 */
-	private void markOutliers(Set<PointerScrollEventDocument> outliers) {
-		for (PointerScrollEventDocument outlier : outliers) {
-			markAsOutlier(outlier);
+	private void markOutliers(List<PointerScrollEventDocument> events, BitSet outliers) {
+		for (int i = outliers.nextSetBit(0); i >= 0; i = outliers.nextSetBit(i + 1)) {
+			markAsOutlier(events.get(i));
 		}
 	}
 
@@ -236,56 +180,52 @@ public class ScrollEventAnalyzer implements Analyzer<PointerScrollEventDocument>
 	 * @return 왕복 스크롤이 감지되면 true
 	 */
 	public void findBackAndForthScrollOutliers(List<PointerScrollEventDocument> events) {
-		if (events == null || events.size() < 2) {
+		if (events == null) {
+			log.debug("왕복 스크롤 분석 생략 - 이벤트 수 부족");
+			return;
+		}
+		ScrollEventColumns columns = ScrollEventColumns.of(events);
+		findBackAndForthScrollOutliers(columns);
+		markOutliers(events, columns.outliers);
+	}
+
+	private void findBackAndForthScrollOutliers(ScrollEventColumns columns) {
+		if (columns.size < 2) {
 			log.debug("왕복 스크롤 분석 생략 - 이벤트 수 부족");
 			return;
 		}
 
 		log.info("왕복 스크롤 분석 시작");
 
-		Set<PointerScrollEventDocument> outliers = detectDirectionChanges(events);
+		BitSet directionChanges = detectDirectionChanges(columns);
+		int changeCount = directionChanges.cardinality();
 
-		if (outliers.size() >= minDirectionChanges) {
-			log.info("왕복 스크롤 이상치 감지 - 변경 횟수: {}", outliers.size());
-			markOutliers(outliers);
+		if (changeCount >= minDirectionChanges) {
+			log.info("왕복 스크롤 이상치 감지 - 변경 횟수: {}", changeCount);
+			columns.outliers.or(directionChanges);
 		}
 	}
 
 	/**
-	 * 방향 변경을 감지하고 관련 이상치를 반환합니다.
+	 * 방향 변경을 감지하고 방향이 바뀐 이벤트를 비트로 반환합니다.
 	 */
-	private Set<PointerScrollEventDocument> detectDirectionChanges(List<PointerScrollEventDocument> events) {
-		Set<PointerScrollEventDocument> outliers = new HashSet<>();
-		Integer prevY = null;
-		Integer prevDirection = null; // 1: down, -1: up
-
-		for (PointerScrollEventDocument event : events) {
-			int currentY = event.getScrollY();
+	private BitSet detectDirectionChanges(ScrollEventColumns columns) {
+		BitSet directionChanges = new BitSet(columns.size);
+		int prevDirection = 0; // 1: down, -1: up, 0: 아직 움직임 없음
 
-			if (prevY != null) {
-				int delta = currentY - prevY;
-				int direction = Integer.compare(delta, 0); // 1: down, -1: up, 0: no move
+		for (int i = 1; i < columns.size; i++) {
+			int direction = Integer.compare(columns.scrollY[i] - columns.scrollY[i - 1], 0); // 1: down, -1: up, 0: no move
 
-				if (isDirectionChange(direction, prevDirection)) {
-					outliers.add(event);
-				}
-
-				if (direction != 0) {
-					prevDirection = direction;
-				}
+			if (direction != 0 && prevDirection != 0 && direction != prevDirection) {
+				directionChanges.set(i);
 			}
 
-			prevY = currentY;
+			if (direction != 0) {
+				prevDirection = direction;
+			}
 		}
 
-		return outliers;
-	}
-
-	/**
-	 * 방향 변경이 발생했는지 확인합니다.
-	 */
-	private boolean isDirectionChange(int direction, Integer prevDirection) {
-		return direction != 0 && prevDirection != null && direction != prevDirection;
+		return directionChanges;
 	}
 
 	/**
@@ -295,49 +235,59 @@ public class ScrollEventAnalyzer implements Analyzer<PointerScrollEventDocument>
 	 * @return void
 	 */
 	public void findTopRepeatScrollOutliers(List<PointerScrollEventDocument> events) {
-		if (events == null || events.isEmpty()) {
+		if (events == null) {
+			log.debug("Top Scroll 분석 생략 - 이벤트 없음");
+			return;
+		}
+		ScrollEventColumns columns = ScrollEventColumns.of(events);
+		findTopRepeatScrollOutliers(columns);
+		markOutliers(events, columns.outliers);
+	}
+
+	private void findTopRepeatScrollOutliers(ScrollEventColumns columns) {
+		if (columns.size == 0) {
 			log.debug("Top Scroll 분석 생략 - 이벤트 없음");
 			return;
 		}
 
-		PointerScrollEventDocument maxScrollEvent = findMaxScrollEvent(events);
+		int maxScrollEvent = findMaxScrollEvent(columns);
 
-		if (maxScrollEvent != null) {
-			log.info("컨텐츠 소모율 낮은 이상치 감지 - ID: {}, 소모율: {}",
-				maxScrollEvent.getId(), calculateConsumedRatio(maxScrollEvent));
-			markAsOutlier(maxScrollEvent);
+		if (maxScrollEvent >= 0) {
+			log.info("컨텐츠 소모율 낮은 이상치 감지 - 인덱스: {}, 소모율: {}",
+				maxScrollEvent, calculateConsumedRatio(columns, maxScrollEvent));
+			columns.outliers.set(maxScrollEvent);
 		}
 	}
 
 	/**
-	 * 가장 스크롤 소모율이 높은 이벤트를 찾습니다.
+	 * 가장 스크롤 소모율이 높은 이벤트의 인덱스를 찾습니다.
 	 */
-	private PointerScrollEventDocument findMaxScrollEvent(List<PointerScrollEventDocument> events) {
+	private int findMaxScrollEvent(ScrollEventColumns columns) {
 		double maxConsumedRatio = -1.0;
-		PointerScrollEventDocument maxScrollEvent = null;
+		int maxScrollEvent = -1;
 
-		for (PointerScrollEventDocument e : events) {
-			if (e.getScrollHeight() == null || e.getScrollHeight() == 0) {
+		for (int i = 0; i < columns.size; i++) {
+			if (columns.scrollHeight[i] == 0) {
 				continue;
 			}
 
-			double ratio = calculateConsumedRatio(e);
+			double ratio = calculateConsumedRatio(columns, i);
 
 			if (ratio > maxConsumedRatio) {
 				maxConsumedRatio = ratio;
-				maxScrollEvent = e;
+				maxScrollEvent = i;
 			}
 		}
 
 		// 소모율이 기준 이하인 경우에만 반환
-		return maxConsumedRatio < contentConsumedThreshold ? maxScrollEvent : null;
+		return maxConsumedRatio < contentConsumedThreshold ? maxScrollEvent : -1;
 	}
 
 	/**
 	 * 컨텐츠 소모율을 계산합니다.
 	 */
-	private double calculateConsumedRatio(PointerScrollEventDocument event) {
-		int bottom = event.getScrollY() + event.getViewportHeight();
-		return (double) bottom / event.getScrollHeight();
+	private double calculateConsumedRatio(ScrollEventColumns columns, int index) {
+		int bottom = columns.scrollY[index] + columns.viewportHeight[index];
+		return (double) bottom / columns.scrollHeight[index];
 	}
 }
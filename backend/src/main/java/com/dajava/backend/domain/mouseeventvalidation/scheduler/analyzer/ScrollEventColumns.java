@@ -0,0 +1,44 @@
+package com.dajava.backend.domain.mouseeventvalidation.scheduler.analyzer;
+
+import static com.dajava.backend.domain.mouseeventvalidation.scheduler.analyzer.PositionEventColumns.*;
+
+import java.util.BitSet;
+import java.util.List;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerScrollEventDocument;
+
+/**
+ * 스크롤 이벤트를 분석기용 primitive 배열로 옮긴 컬럼 뷰 입니다.
+ * i 번째 원소는 이벤트 리스트의 i 번째 Document 에 대응하며, 분석 결과는 outliers 비트로 기록합니다.
+ * 값이 없는 필드는 0 으로 채우며, scrollHeight 가 0 인 이벤트는 컨텐츠 소모율 계산에서 제외됩니다.
+ */
+final class ScrollEventColumns {
+
+	final int size;
+	final long[] timestamps;
+	final int[] scrollY;
+	final int[] viewportHeight;
+	final int[] scrollHeight;
+	final BitSet outliers;
+
+	private ScrollEventColumns(int size) {
+		this.size = size;
+		this.timestamps = new long[size];
+		this.scrollY = new int[size];
+		this.viewportHeight = new int[size];
+		this.scrollHeight = new int[size];
+		this.outliers = new BitSet(size);
+	}
+
+	static ScrollEventColumns of(List<PointerScrollEventDocument> events) {
+		ScrollEventColumns columns = new ScrollEventColumns(events.size());
+		for (int i = 0; i < columns.size; i++) {
+			PointerScrollEventDocument event = events.get(i);
+			columns.timestamps[i] = orZero(event.getTimestampMillis());
+			columns.scrollY[i] = orZero(event.getScrollY());
+			columns.viewportHeight[i] = orZero(event.getViewportHeight());
+			columns.scrollHeight[i] = orZero(event.getScrollHeight());
+		}
+		return columns;
+	}
+}
@@ -1,10 +1,9 @@
 package com.dajava.backend.domain.mouseeventvalidation.service;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Map;
 
-import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerClickEventDocument;
-import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerMoveEventDocument;
-import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerScrollEventDocument;
+import com.dajava.backend.domain.mouseeventvalidation.dto.SessionPointerEvents;
 
 /**
  *
@@ -15,25 +14,20 @@ import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerScrol
 public interface PointerEventDocumentService {
 
 	/**
-	 * sessionId에 해당하는 ClickEventDocument를 내부적으로 배처 처리해 나눠 가져옴
+	 * sessionId에 해당하는 click, move, scroll 이벤트를 한 번의 multi search 요청으로 가져옴
 	 * @param sessionId, batchSize
-	 * @return sessionId에 해당하는 모든 pointerClickEventDocument
+	 * @return sessionId에 해당하는 세 종류의 이벤트, timestamp 오름차순
 	 */
-	public List<PointerClickEventDocument> fetchAllClickEventDocumentsBySessionId(String sessionId,int batchSize);
+	public SessionPointerEvents fetchAllEventDocumentsBySessionId(String sessionId, int batchSize);
 
 	/**
-	 * sessionId에 해당하는 ClickEventDocument를 내부적으로 배처 처리해 나눠 가져옴
-	 * @param sessionId, batchSize
-	 * @return sessionId에 해당하는 모든 pointerMoveEventDocument
-	 */
-	public List<PointerMoveEventDocument> fetchAllMoveEventDocumentsBySessionId(String sessionId, int batchSize);
-
-	/**
-	 * sessionId에 해당하는 ClickEventDocument를 내부적으로 배처 처리해 나눠 가져옴
-	 * @param sessionId, batchSize
-	 * @return sessionId에 해당하는 모든 pointerScrollEventDocument
+	 * 여러 세션의 click, move, scroll 이벤트를 sessionId terms 조건의 multi search 요청 한 번으로 가져와 세션별로 나눔
+	 *  한 종류의 이벤트가 batchSize 이상이면 해당 종류만 point in time 커서로 다시 조회
+	 * @param sessionIds, batchSize
+	 * @return sessionId 별 세 종류의 이벤트, 이벤트가 없는 세션도 빈 리스트로 포함
 	 */
-	public List<PointerScrollEventDocument> fetchAllScrollEventDocumentsBySessionId(String sessionId, int batchSize);
+	public Map<String, SessionPointerEvents> fetchAllEventDocumentsBySessionIds(Collection<String> sessionIds,
+		int batchSize);
 
 	/**
 	 * sessionId와 url에 해당하는 클릭 이벤트 개수 반환
@@ -1,14 +1,18 @@
 package com.dajava.backend.domain.mouseeventvalidation.service;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.function.Function;
-import java.util.function.Supplier;
+import java.util.Map;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.PointerClickEventDocumentRepository;
@@ -17,6 +21,8 @@ import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.PointerS
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerClickEventDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerMoveEventDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerScrollEventDocument;
+import com.dajava.backend.domain.mouseeventvalidation.dto.SessionPointerEvents;
+import com.dajava.backend.global.elasticsearch.ElasticsearchCursorFetcher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,68 +38,116 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PointerEventDocumentServiceImpl implements PointerEventDocumentService {
 
+	private static final Sort TIMESTAMP_ASC = Sort.by(Sort.Direction.ASC, "timestamp");
+	// multi search 요청의 검색 순서, 응답도 같은 순서로 반환됨
+	private static final List<Class<?>> EVENT_DOCUMENT_CLASSES = List.of(
+		PointerClickEventDocument.class,
+		PointerMoveEventDocument.class,
+		PointerScrollEventDocument.class
+	);
+
 	private final PointerClickEventDocumentRepository clickEventDocumentRepository;
 	private final PointerMoveEventDocumentRepository moveEventDocumentRepository;
 	private final PointerScrollEventDocumentRepository scrollEventDocumentRepository;
+	private final ElasticsearchCursorFetcher cursorFetcher;
+	private final ElasticsearchOperations elasticsearchOperations;
 
-	private <T> List<T> fetchAllEventsBySessionId(
-		String sessionId,
-		int batchSize,
-		Function<PageRequest, Page<T>> pageFetcher,
-		Supplier<Boolean> sessionExistsChecker,
-		String eventType
-	) {
-		if (!sessionExistsChecker.get()) {
-			log.info("[PointerEventDocumentService] {} 이벤트 없음: {}", eventType, sessionId);
-			return Collections.emptyList();
-		}
+	@Override
+	public SessionPointerEvents fetchAllEventDocumentsBySessionId(String sessionId, int batchSize) {
+		return fetchAllEventDocumentsBySessionIds(List.of(sessionId), batchSize).get(sessionId);
+	}
 
-		List<T> allEvents = new ArrayList<>();
-		int page = 0;
-		Page<T> resultPage;
+	/**
+	 * 세 이벤트 인덱스에 sessionId terms 조건, timestamp 오름차순 검색을 multi search 로 한 번에 요청합니다.
+	 * 존재 여부 확인과 인덱스별 페이지 요청이 없어 대부분의 세션은 ES 요청 한 번으로 끝납니다.
+	 */
+	@Override
+	public Map<String, SessionPointerEvents> fetchAllEventDocumentsBySessionIds(Collection<String> sessionIds,
+		int batchSize) {
+		Map<String, SessionPointerEvents> eventsBySession = new LinkedHashMap<>();
+		for (String sessionId : sessionIds) {
+			eventsBySession.put(sessionId, SessionPointerEvents.empty());
+		}
+		if (eventsBySession.isEmpty()) {
+			return eventsBySession;
+		}
 
-		do {
-			PageRequest pageRequest = PageRequest.of(page, batchSize, Sort.by(Sort.Direction.ASC, "timestamp"));
-			resultPage = pageFetcher.apply(pageRequest);
-			allEvents.addAll(resultPage.getContent());
-			page++;
-		} while (!resultPage.isLast());
+		Criteria criteria = new Criteria("sessionId").in(eventsBySession.keySet());
+		List<Query> queries = new ArrayList<>(EVENT_DOCUMENT_CLASSES.size());
+		for (int i = 0; i < EVENT_DOCUMENT_CLASSES.size(); i++) {
+			queries.add(new CriteriaQueryBuilder(criteria)
+				.withSort(TIMESTAMP_ASC)
+				.withMaxResults(batchSize)
+				.build());
+		}
+		List<SearchHits<?>> responses = elasticsearchOperations.multiSearch(queries, EVENT_DOCUMENT_CLASSES);
 
-		return allEvents;
+		Collection<String> sessionIdSet = eventsBySession.keySet();
+		for (PointerClickEventDocument event : contents(responses.get(0), PointerClickEventDocument.class,
+			sessionIdSet, batchSize)) {
+			eventsBySession.get(event.getSessionId()).clickEvents().add(event);
+		}
+		for (PointerMoveEventDocument event : contents(responses.get(1), PointerMoveEventDocument.class,
+			sessionIdSet, batchSize)) {
+			eventsBySession.get(event.getSessionId()).moveEvents().add(event);
+		}
+		for (PointerScrollEventDocument event : contents(responses.get(2), PointerScrollEventDocument.class,
+			sessionIdSet, batchSize)) {
+			eventsBySession.get(event.getSessionId()).scrollEvents().add(event);
+		}
+		return eventsBySession;
 	}
 
+	/**
+	 * multi search 응답의 문서를 꺼냅니다.
+	 * 응답이 batchSize 만큼 찼다면 마지막 문서의 timestamp 보다 앞선 문서는 모두 받은 것이므로 그대로 사용하고,
+	 * 마지막 timestamp 부터 남은 문서만 point in time 커서로 이어서 가져옵니다.
+	 * 같은 timestamp 의 문서가 응답 경계에서 나뉠 수 있어 마지막 timestamp 의 문서는 커서 조회 결과로 대체합니다.
+	 */
+	private <T> List<T> contents(SearchHits<?> searchHits, Class<T> documentClass, Collection<String> sessionIds,
+		int batchSize) {
+		List<? extends SearchHit<?>> hits = searchHits.getSearchHits();
+		if (hits.size() < batchSize) {
+			List<T> documents = new ArrayList<>(hits.size());
+			for (SearchHit<?> searchHit : hits) {
+				documents.add(documentClass.cast(searchHit.getContent()));
+			}
+			return documents;
+		}
 
-	@Override
-	public List<PointerClickEventDocument> fetchAllClickEventDocumentsBySessionId(String sessionId, int batchSize) {
-		return fetchAllEventsBySessionId(
-			sessionId,
-			batchSize,
-			pageRequest -> clickEventDocumentRepository.findBySessionId(sessionId, pageRequest),
-			() -> clickEventDocumentRepository.existsBySessionId(sessionId),
-			"Click"
-		);
-	}
+		Criteria criteria = new Criteria("sessionId").in(sessionIds);
+		Long lastTimestamp = sortTimestamp(hits.get(hits.size() - 1));
+		if (lastTimestamp == null) {
+			// timestamp 가 없는 문서는 정렬 뒤쪽에 모이므로 이어서 조회할 기준이 없어 전체를 다시 가져옴
+			log.info("[PointerEventDocumentService] {} 이벤트가 {}건 이상이라 커서로 다시 조회합니다",
+				documentClass.getSimpleName(), batchSize);
+			return cursorFetcher.fetchAll(documentClass, criteria, TIMESTAMP_ASC, batchSize);
+		}
 
-	@Override
-	public List<PointerMoveEventDocument> fetchAllMoveEventDocumentsBySessionId(String sessionId, int batchSize) {
-		return fetchAllEventsBySessionId(
-			sessionId,
-			batchSize,
-			pageRequest -> moveEventDocumentRepository.findBySessionId(sessionId, pageRequest),
-			() -> moveEventDocumentRepository.existsBySessionId(sessionId),
-			"Move"
-		);
+		List<T> documents = new ArrayList<>(hits.size());
+		for (SearchHit<?> searchHit : hits) {
+			if (lastTimestamp.equals(sortTimestamp(searchHit))) {
+				break;
+			}
+			documents.add(documentClass.cast(searchHit.getContent()));
+		}
+		log.info("[PointerEventDocumentService] {} 이벤트가 {}건 이상이라 timestamp {} 부터 커서로 이어서 조회합니다",
+			documentClass.getSimpleName(), batchSize, lastTimestamp);
+		documents.addAll(cursorFetcher.fetchAll(documentClass,
+			criteria.and(new Criteria("timestamp").greaterThanEqual(lastTimestamp)), TIMESTAMP_ASC, batchSize));
+		return documents;
 	}
 
-	@Override
-	public List<PointerScrollEventDocument> fetchAllScrollEventDocumentsBySessionId(String sessionId, int batchSize) {
-		return fetchAllEventsBySessionId(
-			sessionId,
-			batchSize,
-			pageRequest -> scrollEventDocumentRepository.findBySessionId(sessionId, pageRequest),
-			() -> scrollEventDocumentRepository.existsBySessionId(sessionId),
-			"Scroll"
-		);
+	/**
+	 * timestamp 정렬 값을 반환합니다. timestamp 가 없는 문서는 ES 가 Long.MAX_VALUE 로 정렬하므로 null 로 취급합니다.
+	 */
+	private Long sortTimestamp(SearchHit<?> searchHit) {
+		List<Object> sortValues = searchHit.getSortValues();
+		if (sortValues.isEmpty() || !(sortValues.get(0) instanceof Number timestamp)
+			|| timestamp.longValue() == Long.MAX_VALUE) {
+			return null;
+		}
+		return timestamp.longValue();
 	}
 
 	@Override
@@ -1,8 +1,7 @@
 package com.dajava.backend.domain.mouseeventvalidation.service;
 
 import java.util.List;
-
-import org.springframework.data.domain.Page;
+import java.util.function.Consumer;
 
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.SessionDataDocument;
 
@@ -15,12 +14,13 @@ import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.SessionDataD
 public interface SessionDataDocumentService {
 
 	/**
-	 * 세션이 끝난 데이터를 페이징으로 분할해 반환
-	 *  스케줄러에서 for문으로 분할해 가져옴
-	 * @param page, pageSize
-	 * @return SessionDataDocuments 일부를 가진 페이징 객체
+	 * 세션이 끝나고 검증되지 않은 세션 데이터를 point in time 스냅샷에서 batchSize 씩 순회
+	 *  순회 도중 검증 완료로 변경된 세션이 있어도 페이지가 밀리거나 건너뛰지 않음
+	 * @param batchSize 한 번에 가져오는 세션 수
+	 * @param batchConsumer 배치 처리 로직
+	 * @return 순회한 세션 수
 	 */
-	public Page<SessionDataDocument> getEndedSessions(int page, int size);
+	public long forEachEndedSessionBatch(int batchSize, Consumer<List<SessionDataDocument>> batchConsumer);
 
 	/**
 	 * 세션데이터 저장 메서드
@@ -30,6 +30,13 @@ public interface SessionDataDocumentService {
 	 */
 	public void save(SessionDataDocument sessionDataDocument);
 
+	/**
+	 * 세션데이터 일괄 저장 메서드
+	 *  검증 스케줄러에서 배치 단위로 검증한 세션의 isverify 변경사항을 한 번의 bulk 요청으로 저장
+	 * @param sessionDataDocuments
+	 */
+	public void saveAll(List<SessionDataDocument> sessionDataDocuments);
+
 	/**
 	 * 현재 시각으로 부터 1시간 이내 세션 데이터를 조회하는 메서드
 	 * @return
@@ -3,13 +3,14 @@ package com.dajava.backend.domain.mouseeventvalidation.service;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.function.Consumer;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
 import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.SessionDataDocumentRepository;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.SessionDataDocument;
+import com.dajava.backend.global.elasticsearch.ElasticsearchCursorFetcher;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,11 +24,14 @@ import lombok.RequiredArgsConstructor;
 public class SessionDataDocumentServiceImpl implements SessionDataDocumentService {
 
 	private final SessionDataDocumentRepository sessionDataDocumentRepository;
+	private final ElasticsearchCursorFetcher cursorFetcher;
 
 	@Override
-	public Page<SessionDataDocument> getEndedSessions(int page, int size) {
-		PageRequest pageRequest = PageRequest.of(page, size);
-		return sessionDataDocumentRepository.findByIsSessionEndedTrueAndIsVerifiedFalse(pageRequest);
+	public long forEachEndedSessionBatch(int batchSize, Consumer<List<SessionDataDocument>> batchConsumer) {
+		Criteria criteria = new Criteria("isSessionEnded").is(true)
+			.and(new Criteria("isVerified").is(false));
+		return cursorFetcher.forEachPage(SessionDataDocument.class, criteria,
+			ElasticsearchCursorFetcher.SHARD_DOC_ORDER, batchSize, batchConsumer);
 	}
 
 	@Override
@@ -35,6 +39,14 @@ public class SessionDataDocumentServiceImpl implements SessionDataDocumentServic
 		sessionDataDocumentRepository.save(sessionDataDocument);
 	}
 
+	@Override
+	public void saveAll(List<SessionDataDocument> sessionDataDocuments) {
+		if (sessionDataDocuments.isEmpty()) {
+			return;
+		}
+		sessionDataDocumentRepository.saveAll(sessionDataDocuments);
+	}
+
 	@Override
 	public List<SessionDataDocument> getRecentSessionsInLastHour() {
 		LocalDateTime now = LocalDateTime.now();
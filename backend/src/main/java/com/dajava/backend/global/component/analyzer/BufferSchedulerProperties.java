@@ -15,4 +15,22 @@ public class BufferSchedulerProperties {
 	private long validateEndSessionMs;
 	private int batchSize;
 	private int abusingCheckMs;
+	// Redis 버퍼를 비울 때 한 번에 읽어 저장하는 이벤트 수
+	private int flushChunkSize = 1000;
+	// 세션 flush 병렬 처리 샤드(워커) 수
+	private int flushParallelism = 4;
+	// true 이면 flush 워커를 가상 스레드로 실행
+	private boolean flushVirtualThreads = true;
+	// 한 주기의 flush 완료를 기다리는 최대 시간, 초과 시 다음 주기는 이전 작업이 끝날 때까지 건너뜀
+	private long flushCycleTimeoutMs = 60000;
+	// 세션 검증 시 동시에 실행하는 이벤트 조회 ES 요청 수
+	private int validateFetchConcurrency = 8;
+	// 세션 검증 분석 스레드 수, 0 이하이면 사용 가능한 코어 수
+	private int validateAnalyzeThreads = 0;
+	// 세션 검증 시 한 번의 이벤트 조회 요청에 담는 세션 수
+	private int validateSessionsPerQuery = 50;
+	// 세션 검증 이벤트 조회 요청 한 번에 인덱스별로 가져오는 최대 이벤트 수, 넘으면 커서로 다시 조회
+	private int validateEventFetchSize = 5000;
+	// true 이면 세션 검증 이벤트 조회와 저장을 가상 스레드로 실행
+	private boolean validateVirtualThreads = true;
 }
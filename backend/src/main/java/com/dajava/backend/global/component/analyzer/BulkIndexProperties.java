@@ -0,0 +1,20 @@
+package com.dajava.backend.global.component.analyzer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "event.bulk")
+@Data
+@Component
+public class BulkIndexProperties {
+	// bulk 요청 하나에 담을 최대 문서 수
+	private int maxDocuments = 1000;
+	// bulk 요청 하나의 최대 추정 크기(byte)
+	private long maxBytes = 5 * 1024 * 1024;
+	// 동시에 전송 중일 수 있는 bulk 요청 수
+	private int concurrency = 4;
+	// 실패한 문서를 다시 전송하는 최대 횟수, 넘기면 문서를 버리고 세션을 실패로 보고
+	private int maxRetries = 3;
+}
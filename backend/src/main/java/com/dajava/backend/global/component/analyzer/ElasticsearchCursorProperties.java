@@ -0,0 +1,18 @@
+package com.dajava.backend.global.component.analyzer;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "elasticsearch.cursor")
+@Data
+@Component
+public class ElasticsearchCursorProperties {
+	// search_after 요청 한 번에 가져오는 기본 문서 수
+	private int pageSize = 1000;
+	// point in time 유지 시간, 페이지 요청마다 갱신됨
+	private Duration keepAlive = Duration.ofMinutes(1);
+}
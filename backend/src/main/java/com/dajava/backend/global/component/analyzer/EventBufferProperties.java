@@ -0,0 +1,33 @@
+package com.dajava.backend.global.component.analyzer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.dajava.backend.global.component.buffer.BufferFullPolicy;
+import com.dajava.backend.utils.event.codec.EventCodecType;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "event.buffer")
+@Data
+@Component
+public class EventBufferProperties {
+	// Redis 버퍼 기록 형식, 읽기는 형식과 무관하게 모두 지원
+	private EventCodecType codec = EventCodecType.JSON;
+	// 인메모리 버퍼의 lock stripe 수 (2의 거듭제곱으로 올림)
+	private int memoryStripes = 16;
+	// 인메모리 버퍼의 세션, 이벤트 타입별 최대 이벤트 수
+	private int memoryMaxEventsPerSession = 10000;
+	// 인메모리 버퍼의 이벤트 타입별 전체 최대 이벤트 수
+	private int memoryMaxTotalEvents = 1000000;
+	// 용량 초과 시 처리 정책
+	private BufferFullPolicy memoryFullPolicy = BufferFullPolicy.REJECT;
+	// true 이면 인메모리 버퍼 이벤트를 로컬 디스크 WAL 에 함께 기록하고 재시작 시 복구
+	private boolean memoryWalEnabled = false;
+	// WAL 세그먼트 파일 디렉토리
+	private String memoryWalDirectory = "./data/event-wal";
+	// WAL 을 나누어 기록하는 stripe 수, stripe 마다 세그먼트와 lock 을 따로 가짐
+	private int memoryWalStripes = 8;
+	// WAL 세그먼트 파일 하나의 크기 (memory-mapped)
+	private int memoryWalSegmentBytes = 64 * 1024 * 1024;
+}
@@ -0,0 +1,29 @@
+package com.dajava.backend.global.component.analyzer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "heatmap")
+@Data
+@Component
+public class HeatmapProperties {
+	// true 이면 클릭, 이동 히트맵의 필터링과 그리드 집계를 ES aggregation 으로 수행
+	private boolean elasticsearchAggregation = false;
+	// composite aggregation 한 페이지에 받아오는 그리드 셀 수
+	private int aggregationPageSize = 10000;
+	// 세션 수 cardinality 집계의 정확도 임계값, 이 값 이하의 세션 수는 정확하게 계산됨
+	private int sessionPrecisionThreshold = 40000;
+	// true 이면 세션 수를 sessionId 를 모두 보관해 정확하게 계산, false 이면 HyperLogLog 스케치로 추정
+	private boolean exactSessionCount = false;
+	// HyperLogLog 스케치 precision, 메모리 2^precision 바이트, 표준 오차 약 1.04 / sqrt(2^precision)
+	private int sessionSketchPrecision = 14;
+	// true 이면 클릭, 이동 히트맵을 이벤트 저장 시 갱신되는 히트맵 뷰에서 조회
+	private boolean materializedView = false;
+	// 히트맵 뷰 기본 그리드의 가로, 세로 셀 수, 조회 시 요청 그리드 크기로 재조정
+	private int viewGridsX = 256;
+	private int viewGridsY = 1024;
+	// 히트맵 뷰 갱신이 동시 수정으로 충돌한 경우 재시도 횟수
+	private int viewUpdateRetries = 3;
+}
@@ -0,0 +1,13 @@
+package com.dajava.backend.global.component.buffer;
+
+/**
+ * 인메모리 이벤트 버퍼가 세션 또는 전체 용량에 도달했을 때의 처리 정책 입니다.
+ */
+public enum BufferFullPolicy {
+	// 새 이벤트를 거부하고 429 응답을 반환
+	REJECT,
+	// 해당 세션의 가장 오래된 이벤트를 버리고 새 이벤트를 저장
+	DROP_OLDEST,
+	// 해당 세션의 즉시 flush 를 호출 측에 요청
+	EARLY_FLUSH
+}
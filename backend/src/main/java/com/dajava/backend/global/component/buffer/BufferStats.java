@@ -0,0 +1,34 @@
+package com.dajava.backend.global.component.buffer;
+
+/**
+ * 인메모리 이벤트 버퍼의 점유율 및 누적 카운터 스냅샷 입니다.
+ * @param sessions 이벤트가 존재하는 세션 수
+ * @param events 현재 버퍼에 저장된 이벤트 수
+ * @param capacity 전체 이벤트 용량
+ * @param dropped 용량 초과로 버려진 이벤트 누적 수
+ * @param rejected 용량 초과로 거부된 이벤트 누적 수
+ * @param earlyFlushRequests 용량 초과로 요청된 즉시 flush 누적 수
+ */
+public record BufferStats(
+	int sessions,
+	long events,
+	long capacity,
+	long dropped,
+	long rejected,
+	long earlyFlushRequests
+) {
+	public double occupancy() {
+		return capacity == 0 ? 0 : (double)events / capacity;
+	}
+
+	public BufferStats plus(BufferStats other) {
+		return new BufferStats(
+			sessions + other.sessions,
+			events + other.events,
+			capacity + other.capacity,
+			dropped + other.dropped,
+			rejected + other.rejected,
+			earlyFlushRequests + other.earlyFlushRequests
+		);
+	}
+}
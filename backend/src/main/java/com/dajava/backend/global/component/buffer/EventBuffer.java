@@ -1,39 +1,116 @@
 package com.dajava.backend.global.component.buffer;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.PointerClickEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.PointerMoveEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.PointerScrollEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.SessionDataKey;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.exception.PointerEventException;
+import com.dajava.backend.global.component.analyzer.EventBufferProperties;
 
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 리포지드에 저장하기 전 이벤트 데이터를 임시 저장하는 버퍼 데이터 구조 입니다.
+ * 이벤트 타입별 버퍼는 세션별, 전체 용량 상한을 가지며 add 메서드는 즉시 flush 가 필요한 경우 true 를 반환합니다.
+ * 세 버퍼는 하나의 {@link SessionActivityRegistry} 를 공유해 세션당 하나의 활동 기록을 유지합니다.
+ * WAL 이 활성화되어 있으면 버퍼에 추가된 이벤트를 {@link EventWriteAheadLog} 에 함께 기록하고, 시작 시 복구합니다.
  */
 @Getter
 @Component
+@Slf4j
 public class EventBuffer {
-	private final EventQueueBuffer<PointerClickEventRequest> clickBuffer = new EventQueueBuffer<>();
-	private final EventQueueBuffer<PointerMoveEventRequest> moveBuffer = new EventQueueBuffer<>();
-	private final EventQueueBuffer<PointerScrollEventRequest> scrollBuffer = new EventQueueBuffer<>();
+	private final EventQueueBuffer<PointerClickEventRequest> clickBuffer;
+	private final EventQueueBuffer<PointerMoveEventRequest> moveBuffer;
+	private final EventQueueBuffer<PointerScrollEventRequest> scrollBuffer;
+	private final SessionActivityRegistry activityRegistry = new SessionActivityRegistry();
+	// null 이면 WAL 기록 없이 동작
+	private final EventWriteAheadLog writeAheadLog;
+
+	public EventBuffer() {
+		this(new EventBufferProperties(), null);
+	}
+
+	@Autowired
+	public EventBuffer(EventBufferProperties properties, EventWriteAheadLog writeAheadLog) {
+		this.writeAheadLog = writeAheadLog;
+		this.clickBuffer = createBuffer(properties, activityRegistry);
+		this.moveBuffer = createBuffer(properties, activityRegistry);
+		this.scrollBuffer = createBuffer(properties, activityRegistry);
+	}
+
+	private static <T> EventQueueBuffer<T> createBuffer(EventBufferProperties properties,
+		SessionActivityRegistry activityRegistry) {
+		return new EventQueueBuffer<>(
+			properties.getMemoryStripes(),
+			properties.getMemoryMaxEventsPerSession(),
+			properties.getMemoryMaxTotalEvents(),
+			properties.getMemoryFullPolicy(),
+			activityRegistry
+		);
+	}
 
-	// add
-	public void addClickEvent(PointerClickEventRequest event, SessionDataKey sessionDataKey) {
-		clickBuffer.addEvent(sessionDataKey, event);
+	/**
+	 * WAL 에 남아 있는 커밋되지 않은 이벤트를 버퍼로 복구합니다.
+	 * 등록한 함수는 저장에 실패한 범위를 버퍼에 다시 추가할 때도 사용됩니다.
+	 */
+	@PostConstruct
+	public void recover() {
+		if (writeAheadLog == null) {
+			return;
+		}
+		writeAheadLog.recover(walEvent -> {
+			try {
+				switch (walEvent.type()) {
+					case EventWriteAheadLog.CLICK ->
+						addClickEvent((PointerClickEventRequest)walEvent.event(), walEvent.sessionDataKey());
+					case EventWriteAheadLog.MOVE ->
+						addMoveEvent((PointerMoveEventRequest)walEvent.event(), walEvent.sessionDataKey());
+					case EventWriteAheadLog.SCROLL ->
+						addScrollEvent((PointerScrollEventRequest)walEvent.event(), walEvent.sessionDataKey());
+					default -> {
+						log.warn("[EventBuffer] 알 수 없는 WAL 이벤트 타입: {}", walEvent.type());
+						return false;
+					}
+				}
+				return true;
+			} catch (PointerEventException e) {
+				log.warn("[EventBuffer] 버퍼 용량 초과로 WAL 이벤트를 복구하지 못했습니다: {}", walEvent.sessionDataKey());
+				return false;
+			}
+		});
 	}
 
-	public void addMoveEvent(PointerMoveEventRequest event, SessionDataKey sessionDataKey) {
-		moveBuffer.addEvent(sessionDataKey, event);
+	// add, 버퍼에 저장된 이벤트만 WAL 에 기록
+	public boolean addClickEvent(PointerClickEventRequest event, SessionDataKey sessionDataKey) {
+		boolean flushRequested = clickBuffer.addEvent(sessionDataKey, event);
+		if (writeAheadLog != null) {
+			writeAheadLog.appendClickEvent(sessionDataKey, event);
+		}
+		return flushRequested;
 	}
 
-	public void addScrollEvent(PointerScrollEventRequest event, SessionDataKey sessionDataKey) {
-		scrollBuffer.addEvent(sessionDataKey, event);
+	public boolean addMoveEvent(PointerMoveEventRequest event, SessionDataKey sessionDataKey) {
+		boolean flushRequested = moveBuffer.addEvent(sessionDataKey, event);
+		if (writeAheadLog != null) {
+			writeAheadLog.appendMoveEvent(sessionDataKey, event);
+		}
+		return flushRequested;
+	}
+
+	public boolean addScrollEvent(PointerScrollEventRequest event, SessionDataKey sessionDataKey) {
+		boolean flushRequested = scrollBuffer.addEvent(sessionDataKey, event);
+		if (writeAheadLog != null) {
+			writeAheadLog.appendScrollEvent(sessionDataKey, event);
+		}
+		return flushRequested;
 	}
 
 	// get
@@ -62,6 +139,26 @@ public class EventBuffer {
 		return scrollBuffer.flushEvents(sessionDataKey);
 	}
 
+	// 세 타입 중 가장 최근 이벤트 수신 시간, 버퍼에 세션이 없으면 null
+	public Long getLastUpdated(SessionDataKey sessionDataKey) {
+		return activityRegistry.getLastUpdated(sessionDataKey);
+	}
+
+	// 세 타입을 합친 세션의 대기 이벤트 수, 버퍼를 복사하지 않고 활동 기록의 카운터를 조회
+	public long countPendingEvents(SessionDataKey sessionDataKey) {
+		return activityRegistry.getPendingEvents(sessionDataKey);
+	}
+
+	// 마지막 활동 시간이 기준 시각 이하인 세션 목록
+	public List<SessionDataKey> getSessionKeysIdleSince(long idleSince) {
+		return activityRegistry.getSessionKeysIdleSince(idleSince);
+	}
+
+	// 세 타입 버퍼의 점유율 및 카운터 합계
+	public BufferStats getStats() {
+		return clickBuffer.getStats().plus(moveBuffer.getStats()).plus(scrollBuffer.getStats());
+	}
+
 	// 전체 클리어
 	public void clearAll() {
 		clickBuffer.clearAll();
@@ -71,13 +168,7 @@ public class EventBuffer {
 
 	// 활성 세션 목록 반환 메서드
 	public Set<SessionDataKey> getAllActiveSessionKeys() {
-		Set<SessionDataKey> activeSessionKeys = new HashSet<>();
-
-		activeSessionKeys.addAll(clickBuffer.getActiveSessionKeys());
-		activeSessionKeys.addAll(moveBuffer.getActiveSessionKeys());
-		activeSessionKeys.addAll(scrollBuffer.getActiveSessionKeys());
-
-		return activeSessionKeys;
+		return activityRegistry.getActiveSessionKeys();
 	}
 }
 
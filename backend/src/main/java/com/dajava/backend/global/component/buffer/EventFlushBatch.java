@@ -0,0 +1,47 @@
+package com.dajava.backend.global.component.buffer;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.SessionDataKey;
+import com.dajava.backend.global.component.bulk.BulkIndexTracker;
+
+/**
+ * 한 번의 flush 에서 버퍼를 비운 세션과, 비우기 직전에 읽은 WAL seq 를 모으는 객체 입니다.
+ * bulk 색인 결과와 함께 {@link EventWriteAheadLog#commitFlushed} 에 전달되어 이 flush 에서 비운 이벤트만 커밋합니다.
+ */
+public final class EventFlushBatch {
+	private final BulkIndexTracker tracker;
+	private final Queue<FlushMark> marks = new ConcurrentLinkedQueue<>();
+
+	public EventFlushBatch(BulkIndexTracker tracker) {
+		this.tracker = tracker;
+	}
+
+	public BulkIndexTracker getTracker() {
+		return tracker;
+	}
+
+	/**
+	 * 세션의 이벤트를 모두 bulk indexer 에 전달했음을 기록합니다.
+	 * @param walMark 버퍼를 비우기 전에 {@link EventWriteAheadLog#beginFlush} 로 받은 seq
+	 */
+	public void flushed(SessionDataKey sessionDataKey, long walMark) {
+		marks.add(new FlushMark(sessionDataKey, walMark, true));
+	}
+
+	/**
+	 * 버퍼를 비우는 도중 실패해 이벤트가 bulk indexer 에 전달되지 않았을 수 있음을 기록합니다.
+	 */
+	public void failed(SessionDataKey sessionDataKey, long walMark) {
+		marks.add(new FlushMark(sessionDataKey, walMark, false));
+	}
+
+	List<FlushMark> marks() {
+		return List.copyOf(marks);
+	}
+
+	record FlushMark(SessionDataKey sessionDataKey, long walMark, boolean handedOff) {
+	}
+}
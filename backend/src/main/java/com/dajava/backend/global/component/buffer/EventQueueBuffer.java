@@ -1,78 +1,320 @@
 package com.dajava.backend.global.component.buffer;
 
-import static com.dajava.backend.utils.SessionDataKeyUtils.*;
-
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.SessionDataKey;
-import com.dajava.backend.utils.SessionDataKeyUtils;
-
-import lombok.Getter;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.exception.PointerEventException;
+import com.dajava.backend.global.exception.ErrorCode;
 
 /**
  * 3가지 로그 데이터를 제네릭 방식으로 저장하는 자료 구조 입니다.
+ * 세션 키의 해시로 나뉜 stripe 단위로 lock 을 잡아, 서로 다른 stripe 의 세션은 동시에 적재할 수 있습니다.
+ * 세션별 이벤트 수와 전체 이벤트 수에 상한이 있으며, 상한 도달 시 {@link BufferFullPolicy} 에 따라 처리합니다.
+ * 세션별 이벤트는 ArrayDeque 에 보관해 이벤트마다 노드 객체를 만들지 않습니다.
+ * 버퍼는 SessionDataKey 로 직접 키잉되며, 마지막 활동 시간은 {@link SessionActivityRegistry} 의 세션 기록에 남깁니다.
+ * 여러 버퍼가 같은 registry 를 공유하면 세션당 하나의 활동 기록과 키 인스턴스만 유지됩니다.
  */
-@Getter
 public class EventQueueBuffer<T> {
-	private final Map<String, Queue<T>> bufferMap = new ConcurrentHashMap<>();
-	private final Map<String, Long> lastUpdatedMap = new ConcurrentHashMap<>();
+	public static final int DEFAULT_STRIPES = 16;
+	public static final int DEFAULT_MAX_EVENTS_PER_SESSION = 10000;
+	public static final int DEFAULT_MAX_TOTAL_EVENTS = 1000000;
+
+	private final Stripe<T>[] stripes;
+	private final int stripeMask;
+	private final int maxEventsPerSession;
+	private final long maxTotalEvents;
+	private final BufferFullPolicy fullPolicy;
+	private final SessionActivityRegistry activityRegistry;
+	private final int typeBit;
+
+	private final AtomicLong totalEvents = new AtomicLong();
+	private final LongAdder droppedEvents = new LongAdder();
+	private final LongAdder rejectedEvents = new LongAdder();
+	private final LongAdder earlyFlushRequests = new LongAdder();
+
+	public EventQueueBuffer() {
+		this(DEFAULT_STRIPES, DEFAULT_MAX_EVENTS_PER_SESSION, DEFAULT_MAX_TOTAL_EVENTS, BufferFullPolicy.REJECT);
+	}
+
+	public EventQueueBuffer(int stripeCount, int maxEventsPerSession, long maxTotalEvents,
+		BufferFullPolicy fullPolicy) {
+		this(stripeCount, maxEventsPerSession, maxTotalEvents, fullPolicy, new SessionActivityRegistry());
+	}
+
+	@SuppressWarnings("unchecked")
+	public EventQueueBuffer(int stripeCount, int maxEventsPerSession, long maxTotalEvents,
+		BufferFullPolicy fullPolicy, SessionActivityRegistry activityRegistry) {
+		if (maxEventsPerSession <= 0 || maxTotalEvents <= 0) {
+			throw new IllegalArgumentException("Buffer capacity must be positive");
+		}
+		int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+		this.stripes = new Stripe[stripeCount <= 1 ? 1 : size];
+		for (int i = 0; i < stripes.length; i++) {
+			stripes[i] = new Stripe<>();
+		}
+		this.stripeMask = stripes.length - 1;
+		this.maxEventsPerSession = maxEventsPerSession;
+		this.maxTotalEvents = maxTotalEvents;
+		this.fullPolicy = fullPolicy;
+		this.activityRegistry = activityRegistry;
+		this.typeBit = activityRegistry.registerBuffer();
+	}
+
+	/**
+	 * 이벤트를 세션 버퍼에 추가합니다.
+	 * @return 호출 측이 해당 세션을 즉시 flush 해야 하면 true (EARLY_FLUSH 정책)
+	 * @throws PointerEventException 용량 초과이며 REJECT 정책인 경우 (429)
+	 */
+	public boolean addEvent(SessionDataKey sessionDataKey, T event) {
+		return addEvent(sessionDataKey, event, System.currentTimeMillis());
+	}
+
+	/**
+	 * 지정한 시각을 마지막 갱신 시간으로 기록하며 이벤트를 추가합니다.
+	 * DROP_OLDEST, EARLY_FLUSH 정책에서 전체 용량이 가득 찼는데 세션에 교체할 이벤트가 없으면,
+	 * 이벤트가 가장 많이 쌓인 세션의 가장 오래된 이벤트를 버리고 새 이벤트를 담습니다.
+	 */
+	public boolean addEvent(SessionDataKey sessionDataKey, T event, long now) {
+		Stripe<T> stripe = stripeFor(sessionDataKey);
+		boolean evictedElsewhere = false;
+		while (true) {
+			synchronized (stripe) {
+				SessionQueue<T> queue = stripe.sessions.get(sessionDataKey);
+				int queued = queue == null ? 0 : queue.events.size();
+
+				if (queued < maxEventsPerSession && tryReserve()) {
+					queue = appendNew(stripe, queue, sessionDataKey, event, now);
+					// 세션 상한에 도달하거나 다른 세션의 이벤트를 버리고 자리를 얻은 경우 유실 전에 flush 를 요청
+					return fullPolicy == BufferFullPolicy.EARLY_FLUSH
+						&& (evictedElsewhere || queue.events.size() >= maxEventsPerSession) && requestEarlyFlush();
+				}
+
+				if (fullPolicy == BufferFullPolicy.REJECT) {
+					rejectedEvents.increment();
+					throw new PointerEventException(ErrorCode.EVENT_BUFFER_FULL);
+				}
+
+				// DROP_OLDEST, EARLY_FLUSH : 세션의 가장 오래된 이벤트를 새 이벤트로 교체 (전체 이벤트 수 유지)
+				if (queue != null) {
+					droppedEvents.increment();
+					queue.events.pollFirst();
+					queue.events.addLast(event);
+					activityRegistry.touch(sessionDataKey, typeBit, now, 0);
+					return fullPolicy == BufferFullPolicy.EARLY_FLUSH && requestEarlyFlush();
+				}
+
+				// 세션에 교체할 이벤트가 없으면 같은 stripe 에서 가장 큰 세션의 이벤트와 교체 (전체 이벤트 수 유지)
+				if (evictOldestOfLargestSession(stripe)) {
+					appendNew(stripe, null, sessionDataKey, event, now);
+					return fullPolicy == BufferFullPolicy.EARLY_FLUSH && requestEarlyFlush();
+				}
+
+				// 다른 stripe 에서 비운 자리를 그 사이 다른 요청이 가져갔으면 새 이벤트를 버림
+				if (evictedElsewhere) {
+					droppedEvents.increment();
+					return false;
+				}
+			}
+
+			// stripe 가 비어 있으면 lock 을 놓은 뒤 다른 stripe 에서 한 건을 비우고 한 번 더 시도
+			if (!evictFromLargestStripe()) {
+				droppedEvents.increment();
+				return false;
+			}
+			evictedElsewhere = true;
+		}
+	}
+
+	/**
+	 * 예약된 자리에 이벤트를 추가합니다. 세션 큐가 없으면 새로 만듭니다. 호출 측이 stripe lock 을 잡고 있어야 합니다.
+	 */
+	private SessionQueue<T> appendNew(Stripe<T> stripe, SessionQueue<T> queue, SessionDataKey sessionDataKey,
+		T event, long now) {
+		SessionDataKey canonicalKey = activityRegistry.touch(sessionDataKey, typeBit, now, 1);
+		if (queue == null) {
+			queue = new SessionQueue<>();
+			stripe.sessions.put(canonicalKey, queue);
+		}
+		queue.events.addLast(event);
+		return queue;
+	}
+
+	/**
+	 * stripe 에서 이벤트가 가장 많이 쌓인 세션의 가장 오래된 이벤트를 버립니다.
+	 * 버린 자리는 호출 측이 바로 사용하므로 전체 이벤트 수는 줄이지 않습니다. 호출 측이 stripe lock 을 잡고 있어야 합니다.
+	 * @return 버릴 이벤트가 없으면 false
+	 */
+	private boolean evictOldestOfLargestSession(Stripe<T> stripe) {
+		Map.Entry<SessionDataKey, SessionQueue<T>> largest = null;
+		for (Map.Entry<SessionDataKey, SessionQueue<T>> entry : stripe.sessions.entrySet()) {
+			if (largest == null || entry.getValue().events.size() > largest.getValue().events.size()) {
+				largest = entry;
+			}
+		}
+		if (largest == null) {
+			return false;
+		}
+		SessionDataKey victimKey = largest.getKey();
+		SessionQueue<T> victim = largest.getValue();
+		victim.events.pollFirst();
+		droppedEvents.increment();
+		if (victim.events.isEmpty()) {
+			stripe.sessions.remove(victimKey);
+			activityRegistry.release(victimKey, typeBit, 1);
+		} else {
+			activityRegistry.discard(victimKey, 1);
+		}
+		return true;
+	}
 
-	public void addEvent(SessionDataKey sessionDataKey, T event) {
-		String key = toKey(sessionDataKey);
-		bufferMap.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).add(event);
-		lastUpdatedMap.put(key, System.currentTimeMillis());
+	/**
+	 * 가장 큰 세션을 가진 stripe 에서 이벤트 한 건을 버리고 전체 이벤트 수를 줄입니다.
+	 * stripe lock 을 하나씩만 잡아 stripe 간 lock 순서 문제가 생기지 않습니다.
+	 * @return 버릴 이벤트가 없으면 false
+	 */
+	private boolean evictFromLargestStripe() {
+		Stripe<T> target = null;
+		int targetSize = 0;
+		for (Stripe<T> candidate : stripes) {
+			synchronized (candidate) {
+				for (SessionQueue<T> queue : candidate.sessions.values()) {
+					if (queue.events.size() > targetSize) {
+						targetSize = queue.events.size();
+						target = candidate;
+					}
+				}
+			}
+		}
+		if (target == null) {
+			return false;
+		}
+		synchronized (target) {
+			if (!evictOldestOfLargestSession(target)) {
+				return false;
+			}
+		}
+		totalEvents.decrementAndGet();
+		return true;
 	}
 
 	public List<T> getEvents(SessionDataKey sessionDataKey) {
-		String key = toKey(sessionDataKey);
-		Queue<T> queue = bufferMap.getOrDefault(key, new ConcurrentLinkedQueue<>());
-		return new ArrayList<>(queue);
+		Stripe<T> stripe = stripeFor(sessionDataKey);
+		synchronized (stripe) {
+			SessionQueue<T> queue = stripe.sessions.get(sessionDataKey);
+			return queue == null ? new ArrayList<>() : new ArrayList<>(queue.events);
+		}
 	}
 
 	public List<T> flushEvents(SessionDataKey sessionDataKey) {
-		String key = toKey(sessionDataKey);
-		Queue<T> queue = bufferMap.remove(key);
+		Stripe<T> stripe = stripeFor(sessionDataKey);
+		SessionQueue<T> queue;
+		synchronized (stripe) {
+			queue = stripe.sessions.remove(sessionDataKey);
+			if (queue != null) {
+				activityRegistry.release(sessionDataKey, typeBit, queue.events.size());
+			}
+		}
 		if (queue == null) {
 			return Collections.emptyList();
 		}
+		totalEvents.addAndGet(-queue.events.size());
+		return new ArrayList<>(queue.events);
+	}
 
-		List<T> events = new ArrayList<>();
-		while (!queue.isEmpty()) {
-			events.add(queue.poll());
+	/**
+	 * 세션의 대기 이벤트 수를 복사 없이 반환합니다.
+	 */
+	public int countEvents(SessionDataKey sessionDataKey) {
+		Stripe<T> stripe = stripeFor(sessionDataKey);
+		synchronized (stripe) {
+			SessionQueue<T> queue = stripe.sessions.get(sessionDataKey);
+			return queue == null ? 0 : queue.events.size();
 		}
-		lastUpdatedMap.remove(key);
-		return events;
+	}
+
+	/**
+	 * 세션의 마지막 활동 시간을 반환합니다. registry 를 공유하는 경우 모든 이벤트 타입을 통틀어 가장 최근 값입니다.
+	 * @return 마지막 활동 시간, 이벤트가 없는 세션이면 null
+	 */
+	public Long getLastUpdated(SessionDataKey sessionDataKey) {
+		return activityRegistry.getLastUpdated(sessionDataKey);
 	}
 
 	public void clearAll() {
-		bufferMap.clear();
-		lastUpdatedMap.clear();
+		for (Stripe<T> stripe : stripes) {
+			synchronized (stripe) {
+				stripe.sessions.forEach((sessionDataKey, queue) -> {
+					totalEvents.addAndGet(-queue.events.size());
+					activityRegistry.release(sessionDataKey, typeBit, queue.events.size());
+				});
+				stripe.sessions.clear();
+			}
+		}
 	}
 
 	/**
-	 * 이벤트가 있는 모든 세션의 키를 반환합니다.
+	 * 이 버퍼에 이벤트가 있는 모든 세션의 키를 반환합니다.
 	 * @return Set 이벤트의 세션 키 반환
 	 */
-	public Set<String> getActiveKeys() {
-		return bufferMap.keySet();
+	public Set<SessionDataKey> getActiveSessionKeys() {
+		Set<SessionDataKey> keys = new HashSet<>();
+		for (Stripe<T> stripe : stripes) {
+			synchronized (stripe) {
+				keys.addAll(stripe.sessions.keySet());
+			}
+		}
+		return keys;
 	}
 
 	/**
-	 * SessionDataKey 객체로 변환후 Set 으로 반환합니다.
-	 * @return Set buffer 의 키 형식에 맞게 변환 및 반환
+	 * 현재 점유율과 누적 drop, reject, early flush 카운터를 반환합니다.
 	 */
-	public Set<SessionDataKey> getActiveSessionKeys() {
-		return getActiveKeys().stream()
-			.map(SessionDataKeyUtils::parseKey)
-			.collect(Collectors.toSet());
+	public BufferStats getStats() {
+		int sessions = 0;
+		for (Stripe<T> stripe : stripes) {
+			synchronized (stripe) {
+				sessions += stripe.sessions.size();
+			}
+		}
+		return new BufferStats(sessions, totalEvents.get(), maxTotalEvents, droppedEvents.sum(),
+			rejectedEvents.sum(), earlyFlushRequests.sum());
+	}
+
+	private boolean tryReserve() {
+		long current;
+		do {
+			current = totalEvents.get();
+			if (current >= maxTotalEvents) {
+				return false;
+			}
+		} while (!totalEvents.compareAndSet(current, current + 1));
+		return true;
 	}
-}
 
+	private boolean requestEarlyFlush() {
+		earlyFlushRequests.increment();
+		return true;
+	}
+
+	private Stripe<T> stripeFor(SessionDataKey sessionDataKey) {
+		int h = sessionDataKey.hashCode();
+		return stripes[(h ^ (h >>> 16)) & stripeMask];
+	}
+
+	private static final class Stripe<T> {
+		private final Map<SessionDataKey, SessionQueue<T>> sessions = new HashMap<>();
+	}
+
+	private static final class SessionQueue<T> {
+		private final ArrayDeque<T> events = new ArrayDeque<>();
+	}
+}
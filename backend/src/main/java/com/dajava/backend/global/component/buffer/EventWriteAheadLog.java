@@ -0,0 +1,558 @@
+package com.dajava.backend.global.component.buffer;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.PointerClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.PointerMoveEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.PointerScrollEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.SessionDataKey;
+import com.dajava.backend.global.component.analyzer.EventBufferProperties;
+import com.dajava.backend.global.component.bulk.BulkIndexResult;
+import com.dajava.backend.utils.SessionDataKeyUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 이벤트 버퍼의 로컬 디스크 WAL(write-ahead log) 입니다.
+ * 1. 버퍼에 추가된 이벤트를 memory-mapped 세그먼트 파일에 순서 번호(seq)와 함께 append 합니다.
+ *    세션 키 해시로 나뉜 stripe 마다 세그먼트와 lock 을 따로 두어, 서로 다른 stripe 의 세션은 동시에 기록합니다.
+ * 2. 세션의 버퍼를 비우기 전에 그 시점의 seq 를 받아 두고({@link #beginFlush}),
+ *    bulk indexer 가 해당 flush 의 문서 저장을 확인하면 그 seq 까지 커밋 레코드를 남깁니다({@link #commitFlushed}).
+ *    같은 세션의 flush 가 여러 개 진행 중이면 모두 끝난 뒤에 커밋합니다.
+ *    저장에 실패한 범위는 세그먼트에서 다시 읽어 버퍼에 추가하고, 더 큰 seq 로 다시 기록된 뒤에 커밋합니다.
+ * 3. 모든 세션이 커밋된 세그먼트는 stripe 마다 오래된 순서대로 삭제됩니다.
+ * 4. 재시작 시 커밋되지 않은 이벤트만 seq 순서로 버퍼에 복구합니다({@link #recover}).
+ * 기록은 OS 페이지 캐시에 반영되므로 JVM 장애에는 유지되며, 세그먼트 교체와 종료 시 디스크에 force 합니다.
+ * 같은 이벤트가 중복 복구될 수 있으나 ES 문서 id 가 같아 덮어쓰기로 처리됩니다. (at-least-once)
+ */
+@Component
+@Slf4j
+public class EventWriteAheadLog {
+	static final byte CLICK = 1;
+	static final byte MOVE = 2;
+	static final byte SCROLL = 3;
+	static final byte COMMIT = 9;
+
+	private static final String SEGMENT_PREFIX = "segment-";
+	private static final String SEGMENT_SUFFIX = ".wal";
+	// [length:4][seq:8][type:1][keyLength:2][key][body]
+	private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Byte.BYTES + Short.BYTES;
+
+	private final EventBufferProperties properties;
+	private final ObjectMapper objectMapper;
+	private final Stripe[] stripes;
+	private final AtomicLong nextSeq = new AtomicLong();
+	// 재시작마다 증가하는 세그먼트 파일 세대, 복구가 끝나기 전까지 남아 있는 이전 세그먼트와 이름이 겹치지 않게 함
+	private long generation;
+	// 복구와 저장 실패 범위 재처리에 사용하는, 이벤트를 버퍼에 다시 추가하는 함수
+	private volatile Predicate<WalEvent> replayer;
+
+	public EventWriteAheadLog(EventBufferProperties properties, ObjectMapper objectMapper) {
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+		this.stripes = new Stripe[Math.max(1, properties.getMemoryWalStripes())];
+		for (int i = 0; i < stripes.length; i++) {
+			stripes[i] = new Stripe(i);
+		}
+	}
+
+	public boolean isEnabled() {
+		return properties.isMemoryWalEnabled();
+	}
+
+	/**
+	 * 기존 세그먼트에서 커밋되지 않은 이벤트를 seq 순서로 전달하고, 새 세그먼트에서 기록을 시작합니다.
+	 * 복구된 이벤트는 replayer 를 통해 버퍼에 다시 추가되며 새 세그먼트에 다시 기록된 뒤 기존 세그먼트가 삭제됩니다.
+	 * @param replayer 복구된 이벤트를 버퍼에 추가하고 추가 여부를 반환하는 함수, 저장 실패 범위 재처리에도 사용합니다.
+	 */
+	public void recover(Predicate<WalEvent> replayer) {
+		if (!isEnabled()) {
+			return;
+		}
+		Path directory = Paths.get(properties.getMemoryWalDirectory());
+		List<Path> previousSegments;
+		Recovery recovery;
+		try {
+			Files.createDirectories(directory);
+			previousSegments = listSegments(directory);
+			recovery = readUncommitted(previousSegments);
+		} catch (IOException e) {
+			throw new UncheckedIOException("WAL 디렉토리를 읽을 수 없습니다: " + directory, e);
+		}
+
+		// 복구 도중 중단되어 이전 세그먼트가 남더라도 새 레코드의 seq 가 이전 커밋 범위에 들어가지 않도록 이어서 발급
+		nextSeq.accumulateAndGet(recovery.nextSeq(), Math::max);
+		// 이전 실행에서 기록이 없었다면 seq 가 그대로라 이름이 겹치므로 세대를 올려 새 세그먼트를 만듦
+		generation = previousSegments.stream().mapToLong(EventWriteAheadLog::generationOf).max().orElse(-1L) + 1;
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				roll(stripe, properties.getMemoryWalSegmentBytes());
+			}
+		}
+
+		this.replayer = replayer;
+		List<WalEvent> pending = recovery.events();
+		pending.forEach(replayer::test);
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				stripe.active.buffer.force();
+			}
+		}
+		for (Path segment : previousSegments) {
+			deleteQuietly(segment);
+		}
+		log.info("[WAL] 이전 세그먼트 {}개에서 이벤트 {}건 복구", previousSegments.size(), pending.size());
+	}
+
+	public void appendClickEvent(SessionDataKey sessionDataKey, PointerClickEventRequest event) {
+		append(CLICK, sessionDataKey, event);
+	}
+
+	public void appendMoveEvent(SessionDataKey sessionDataKey, PointerMoveEventRequest event) {
+		append(MOVE, sessionDataKey, event);
+	}
+
+	public void appendScrollEvent(SessionDataKey sessionDataKey, PointerScrollEventRequest event) {
+		append(SCROLL, sessionDataKey, event);
+	}
+
+	/**
+	 * 세션의 버퍼를 비우기 직전에 호출해, 커밋 기준이 될 seq 를 반환합니다.
+	 * 버퍼는 이벤트를 추가한 뒤에 WAL 에 기록하므로, 반환한 seq 보다 작은 이벤트는 이미 버퍼에 있어 이번 flush 에 포함됩니다.
+	 * 이후 유입된 이벤트는 반환한 seq 이상을 받으므로 이번 커밋에 포함되지 않습니다.
+	 * @return 이번 flush 의 커밋 기준 seq, 결과는 {@link EventFlushBatch} 에 기록합니다.
+	 */
+	public long beginFlush(SessionDataKey sessionDataKey) {
+		if (!isEnabled()) {
+			return 0L;
+		}
+		Stripe stripe = stripeFor(sessionDataKey);
+		synchronized (stripe) {
+			stripe.flushStates.computeIfAbsent(sessionDataKey, key -> new FlushState()).pending++;
+			return nextSeq.get();
+		}
+	}
+
+	/**
+	 * flush 한 세션 중 이 배치의 문서가 모두 ES 에 저장된 세션을 커밋하고 정리 가능한 세그먼트를 삭제합니다.
+	 * 문서가 버려졌거나 버퍼를 비우는 도중 실패한 세션은 실패한 범위를 버퍼에 다시 추가한 뒤 커밋합니다.
+	 * 버퍼가 가득 차 다시 추가하지 못한 범위는 커밋하지 않고 다음 호출에서 다시 시도합니다.
+	 * @param batch 이번 flush 에서 비운 세션과 커밋 기준 seq
+	 * @param result batch 의 tracker 로 flush 한 bulk 색인 결과
+	 */
+	public void commitFlushed(EventFlushBatch batch, BulkIndexResult result) {
+		if (!isEnabled() || batch == null) {
+			return;
+		}
+		for (EventFlushBatch.FlushMark mark : batch.marks()) {
+			boolean durable = result != null && mark.handedOff()
+				&& !result.failedSessionKeys().contains(SessionDataKeyUtils.toKey(mark.sessionDataKey()));
+			complete(mark.sessionDataKey(), mark.walMark(), durable);
+		}
+		for (Stripe stripe : stripes) {
+			requeueFailed(stripe);
+		}
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				deleteCommittedSegments(stripe);
+			}
+		}
+	}
+
+	private void complete(SessionDataKey sessionDataKey, long walMark, boolean durable) {
+		Stripe stripe = stripeFor(sessionDataKey);
+		synchronized (stripe) {
+			FlushState state = stripe.flushStates.get(sessionDataKey);
+			if (state == null) {
+				return;
+			}
+			state.pending--;
+			if (durable) {
+				state.durableMark = Math.max(state.durableMark, walMark);
+			} else {
+				state.failedMark = Math.max(state.failedMark, walMark);
+				log.warn("[WAL] 세션 {} 의 이벤트 저장에 실패해 실패한 범위를 버퍼에 다시 추가합니다.", sessionDataKey);
+			}
+			// 먼저 seq 를 받은 flush 가 늦게 비운 이벤트를 포함할 수 있어, 같은 세션의 flush 가 모두 끝난 뒤에만 커밋
+			if (state.pending > 0 || state.failedMark != Long.MIN_VALUE) {
+				return;
+			}
+			stripe.flushStates.remove(sessionDataKey);
+			if (stripe.active != null) {
+				commit(stripe, sessionDataKey, state.durableMark);
+			}
+		}
+	}
+
+	/**
+	 * 진행 중인 flush 가 없고 저장에 실패한 범위가 남은 세션의 이벤트를 세그먼트에서 읽어 버퍼에 다시 추가합니다.
+	 * 버퍼는 추가한 이벤트를 다시 WAL 에 기록하므로 stripe lock 을 놓은 뒤 추가하고,
+	 * 그동안 같은 세션이 커밋되지 않도록 진행 중인 flush 로 계산합니다.
+	 * 다시 기록된 이벤트는 실패한 범위보다 큰 seq 를 받으므로, 모두 추가되면 실패한 범위까지 커밋할 수 있습니다.
+	 */
+	private void requeueFailed(Stripe stripe) {
+		Map<SessionDataKey, Long> failedMarks = new HashMap<>();
+		List<WalEvent> events;
+		synchronized (stripe) {
+			stripe.flushStates.forEach((sessionDataKey, state) -> {
+				if (state.pending == 0 && state.failedMark != Long.MIN_VALUE) {
+					failedMarks.put(sessionDataKey, state.failedMark);
+					state.pending++;
+				}
+			});
+			if (failedMarks.isEmpty()) {
+				return;
+			}
+			events = readFailedEvents(stripe, failedMarks);
+		}
+
+		Set<SessionDataKey> rejected = new HashSet<>();
+		Predicate<WalEvent> requeue = replayer;
+		for (WalEvent event : events) {
+			if (requeue == null || !requeue.test(event)) {
+				rejected.add(event.sessionDataKey());
+			}
+		}
+
+		synchronized (stripe) {
+			failedMarks.forEach((sessionDataKey, failedMark) -> {
+				FlushState state = stripe.flushStates.get(sessionDataKey);
+				state.pending--;
+				if (rejected.contains(sessionDataKey)) {
+					log.warn("[WAL] 세션 {} 의 실패한 범위를 버퍼에 다시 추가하지 못해 다음 flush 에서 다시 시도합니다.",
+						sessionDataKey);
+					return;
+				}
+				state.durableMark = Math.max(state.durableMark, failedMark);
+				// 재처리 중 새로 실패한 flush 가 있으면 그 범위는 다음 호출에서 처리
+				if (state.failedMark == failedMark) {
+					state.failedMark = Long.MIN_VALUE;
+				}
+				if (state.pending > 0 || state.failedMark != Long.MIN_VALUE) {
+					return;
+				}
+				stripe.flushStates.remove(sessionDataKey);
+				if (stripe.active != null) {
+					commit(stripe, sessionDataKey, state.durableMark);
+				}
+			});
+		}
+	}
+
+	/**
+	 * stripe 의 세그먼트에서 세션별 실패 기준 seq 보다 작고 아직 커밋되지 않은 이벤트를 seq 순서로 읽습니다.
+	 * 호출 측이 stripe lock 을 잡고 있어야 합니다.
+	 */
+	private List<WalEvent> readFailedEvents(Stripe stripe, Map<SessionDataKey, Long> failedMarks) {
+		Map<String, SessionDataKey> sessionKeys = new HashMap<>();
+		failedMarks.keySet().forEach(key -> sessionKeys.put(SessionDataKeyUtils.toKey(key), key));
+		Map<SessionDataKey, Long> committed = new HashMap<>();
+		List<WalEvent> events = new ArrayList<>();
+		for (Segment segment : stripe.segments) {
+			ByteBuffer written = segment.buffer.duplicate().flip();
+			readRecords(written, record -> {
+				SessionDataKey sessionDataKey = sessionKeys.get(record.sessionKey());
+				if (sessionDataKey == null) {
+					return;
+				}
+				if (record.type() == COMMIT) {
+					committed.merge(sessionDataKey, ByteBuffer.wrap(record.body()).getLong(), Math::max);
+				} else if (record.seq() < failedMarks.get(sessionDataKey)) {
+					Object event = readEvent(record.type(), record.body());
+					if (event != null) {
+						events.add(new WalEvent(record.seq(), record.type(), sessionDataKey, event));
+					}
+				}
+			});
+		}
+		return events.stream()
+			.filter(event -> event.seq() >= committed.getOrDefault(event.sessionDataKey(), Long.MIN_VALUE))
+			.toList();
+	}
+
+	private void append(byte type, SessionDataKey sessionDataKey, Object event) {
+		if (!isEnabled()) {
+			return;
+		}
+		byte[] body;
+		try {
+			body = objectMapper.writeValueAsBytes(event);
+		} catch (IOException e) {
+			log.error("[WAL] 이벤트 직렬화 실패, 세션 {}: {}", sessionDataKey, e.getMessage());
+			return;
+		}
+		Stripe stripe = stripeFor(sessionDataKey);
+		synchronized (stripe) {
+			if (stripe.active == null) {
+				log.warn("[WAL] 복구 전이라 이벤트를 기록하지 않습니다: {}", sessionDataKey);
+				return;
+			}
+			// 세션 키 문자열은 세그먼트마다 세션의 첫 레코드에서만 만들고 이후 레코드는 인코딩된 값을 재사용
+			SegmentSession session = stripe.active.sessions.get(sessionDataKey);
+			byte[] key = session != null ? session.key : encodeKey(sessionDataKey);
+			long seq = write(stripe, type, key, body);
+			// 기록 도중 세그먼트가 교체되었을 수 있어 현재 활성 세그먼트에 기록
+			stripe.active.sessions.computeIfAbsent(sessionDataKey, k -> new SegmentSession(key)).maxSeq = seq;
+		}
+	}
+
+	private void commit(Stripe stripe, SessionDataKey sessionDataKey, long uptoSeq) {
+		write(stripe, COMMIT, encodeKey(sessionDataKey), ByteBuffer.allocate(Long.BYTES).putLong(uptoSeq).array());
+		for (Segment segment : stripe.segments) {
+			SegmentSession session = segment.sessions.get(sessionDataKey);
+			if (session != null && session.maxSeq < uptoSeq) {
+				segment.sessions.remove(sessionDataKey);
+			}
+		}
+	}
+
+	private static byte[] encodeKey(SessionDataKey sessionDataKey) {
+		return SessionDataKeyUtils.toKey(sessionDataKey).getBytes(UTF_8);
+	}
+
+	/**
+	 * stripe 의 활성 세그먼트에 레코드를 기록합니다. 호출 측이 stripe lock 을 잡고 있어야 합니다.
+	 * seq 는 stripe lock 안에서 발급되므로 한 stripe 안에서는 파일 순서와 seq 순서가 같습니다.
+	 */
+	private long write(Stripe stripe, byte type, byte[] key, byte[] body) {
+		int length = HEADER_BYTES + key.length + body.length;
+		// 세그먼트 끝 표시(length 0)를 위한 여유 공간 확보
+		if (stripe.active.buffer.remaining() < length + Integer.BYTES) {
+			roll(stripe, Math.max(properties.getMemoryWalSegmentBytes(), length + Integer.BYTES));
+		}
+		long seq = nextSeq.getAndIncrement();
+		stripe.active.buffer.putInt(length).putLong(seq).put(type).putShort((short)key.length).put(key).put(body);
+		return seq;
+	}
+
+	/**
+	 * stripe 의 가장 오래된 세그먼트부터, 모든 세션이 커밋된 세그먼트를 삭제합니다.
+	 * 커밋 레코드는 세션과 같은 stripe 에 기록되므로, 순서대로만 삭제하면 이전 세그먼트의 이벤트보다 먼저 지워지지 않습니다.
+	 */
+	private void deleteCommittedSegments(Stripe stripe) {
+		while (stripe.segments.size() > 1 && stripe.segments.peekFirst().sessions.isEmpty()) {
+			Segment segment = stripe.segments.pollFirst();
+			segment.close();
+			deleteQuietly(segment.path);
+		}
+	}
+
+	private void roll(Stripe stripe, int size) {
+		if (stripe.active != null) {
+			stripe.active.buffer.force();
+		}
+		Path path = Paths.get(properties.getMemoryWalDirectory(),
+			String.format("%s%06d-%02d-%020d%s", SEGMENT_PREFIX, generation, stripe.index, nextSeq.get(), SEGMENT_SUFFIX));
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+			StandardOpenOption.WRITE)) {
+			// 매핑은 채널을 닫은 뒤에도 유지됨
+			stripe.active = new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+			stripe.segments.addLast(stripe.active);
+		} catch (IOException e) {
+			throw new UncheckedIOException("WAL 세그먼트를 생성할 수 없습니다: " + path, e);
+		}
+	}
+
+	private Stripe stripeFor(SessionDataKey sessionDataKey) {
+		int h = sessionDataKey.hashCode();
+		return stripes[Math.floorMod(h ^ (h >>> 16), stripes.length)];
+	}
+
+	private Recovery readUncommitted(List<Path> segmentPaths) throws IOException {
+		List<WalEvent> events = new ArrayList<>();
+		Map<String, Long> committed = new HashMap<>();
+		long[] nextSeq = new long[1];
+		for (Path path : segmentPaths) {
+			readRecords(ByteBuffer.wrap(Files.readAllBytes(path)), record -> {
+				nextSeq[0] = Math.max(nextSeq[0], record.seq() + 1);
+				if (record.type() == COMMIT) {
+					long uptoSeq = ByteBuffer.wrap(record.body()).getLong();
+					committed.merge(record.sessionKey(), uptoSeq, Math::max);
+					nextSeq[0] = Math.max(nextSeq[0], uptoSeq);
+				} else {
+					Object event = readEvent(record.type(), record.body());
+					if (event != null) {
+						events.add(new WalEvent(record.seq(), record.type(),
+							SessionDataKeyUtils.parseKey(record.sessionKey()), event));
+					}
+				}
+			});
+		}
+		// stripe 별 세그먼트를 합쳐 seq 순서로 복구
+		List<WalEvent> uncommitted = events.stream()
+			.filter(event -> event.seq() >= committed.getOrDefault(
+				SessionDataKeyUtils.toKey(event.sessionDataKey()), Long.MIN_VALUE))
+			.sorted(Comparator.comparingLong(WalEvent::seq))
+			.toList();
+		return new Recovery(uncommitted, nextSeq[0]);
+	}
+
+	/**
+	 * 버퍼의 현재 위치부터 세그먼트 끝 표시 또는 기록 도중 중단된 레코드 전까지 레코드를 읽습니다.
+	 */
+	private static void readRecords(ByteBuffer buffer, Consumer<WalRecord> consumer) {
+		while (buffer.remaining() >= HEADER_BYTES) {
+			int length = buffer.getInt();
+			if (length < HEADER_BYTES || length - Integer.BYTES > buffer.remaining()) {
+				// 세그먼트 끝 또는 기록 도중 중단된 레코드
+				return;
+			}
+			long seq = buffer.getLong();
+			byte type = buffer.get();
+			byte[] key = new byte[buffer.getShort() & 0xFFFF];
+			buffer.get(key);
+			byte[] body = new byte[length - HEADER_BYTES - key.length];
+			buffer.get(body);
+			consumer.accept(new WalRecord(seq, type, new String(key, UTF_8), body));
+		}
+	}
+
+	private Object readEvent(byte type, byte[] body) {
+		try {
+			return switch (type) {
+				case CLICK -> objectMapper.readValue(body, PointerClickEventRequest.class);
+				case MOVE -> objectMapper.readValue(body, PointerMoveEventRequest.class);
+				case SCROLL -> objectMapper.readValue(body, PointerScrollEventRequest.class);
+				default -> null;
+			};
+		} catch (IOException e) {
+			log.warn("[WAL] 손상된 이벤트 레코드를 건너뜁니다: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private static List<Path> listSegments(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.filter(path -> {
+					String name = path.getFileName().toString();
+					return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+				})
+				.sorted()
+				.toList();
+		}
+	}
+
+	/**
+	 * segment-{generation}-{stripe}-{seq}.wal 형식의 세그먼트 세대를 반환합니다. 세대가 없는 이름은 0 으로 봅니다.
+	 */
+	private static long generationOf(Path segment) {
+		String name = segment.getFileName().toString();
+		String[] parts = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()).split("-");
+		try {
+			return parts.length == 3 ? Long.parseLong(parts[0]) : 0L;
+		} catch (NumberFormatException e) {
+			return 0L;
+		}
+	}
+
+	private static void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("[WAL] 세그먼트 삭제 실패: {}", path, e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				for (Segment segment : stripe.segments) {
+					segment.close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * WAL 에서 복구된 이벤트 입니다.
+	 * @param type CLICK, MOVE, SCROLL 중 하나
+	 */
+	public record WalEvent(long seq, byte type, SessionDataKey sessionDataKey, Object event) {
+	}
+
+	private record Recovery(List<WalEvent> events, long nextSeq) {
+	}
+
+	private record WalRecord(long seq, byte type, String sessionKey, byte[] body) {
+	}
+
+	/**
+	 * 세션 키 해시로 나뉜 WAL 단위 입니다. 아래 필드는 모두 stripe 모니터로 보호됩니다.
+	 */
+	private static final class Stripe {
+		private final int index;
+		private final Deque<Segment> segments = new ArrayDeque<>();
+		// 진행 중이거나 커밋이 보류된 세션별 flush 상태
+		private final Map<SessionDataKey, FlushState> flushStates = new HashMap<>();
+		private Segment active;
+
+		private Stripe(int index) {
+			this.index = index;
+		}
+	}
+
+	private static final class FlushState {
+		// 아직 결과를 받지 못한 flush 수
+		private int pending;
+		// 저장이 확인된 flush 중 가장 큰 커밋 기준 seq
+		private long durableMark = Long.MIN_VALUE;
+		// 저장에 실패한 flush 중 가장 큰 커밋 기준 seq, 그 전 범위를 버퍼에 다시 추가할 때까지 커밋하지 않음
+		private long failedMark = Long.MIN_VALUE;
+	}
+
+	private static final class Segment {
+		private final Path path;
+		private final MappedByteBuffer buffer;
+		// 세그먼트에 기록된 세션, 커밋되면 제거
+		private final Map<SessionDataKey, SegmentSession> sessions = new HashMap<>();
+
+		private Segment(Path path, MappedByteBuffer buffer) {
+			this.path = path;
+			this.buffer = buffer;
+		}
+
+		private void close() {
+			buffer.force();
+		}
+	}
+
+	private static final class SegmentSession {
+		// 레코드에 기록하는 UTF-8 세션 키
+		private final byte[] key;
+		// 세그먼트에 기록된 세션의 마지막 이벤트 seq
+		private long maxSeq;
+
+		private SegmentSession(byte[] key) {
+			this.key = key;
+		}
+	}
+}
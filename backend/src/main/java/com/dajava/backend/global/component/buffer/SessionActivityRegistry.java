@@ -0,0 +1,152 @@
+package com.dajava.backend.global.component.buffer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.SessionDataKey;
+
+/**
+ * 클릭, 이동, 스크롤 버퍼가 공유하는 세션별 활동 기록 입니다.
+ * 1. 세션마다 하나의 기록만 유지하며, 버퍼는 이 기록의 SessionDataKey 인스턴스를 키로 재사용합니다.
+ * 2. 기록은 마지막 활동 시간, 대기 중인 이벤트 수, 이벤트가 남아 있는 버퍼 타입의 비트마스크를 가집니다.
+ * 3. 모든 타입의 버퍼가 비워지면 기록이 제거됩니다.
+ * 스케줄러는 문자열 키 생성이나 파싱 없이 이 기록만으로 활성 세션과 마지막 활동 시간을 조회합니다.
+ */
+public class SessionActivityRegistry {
+	private final Map<SessionDataKey, SessionActivity> sessions = new ConcurrentHashMap<>();
+	private final AtomicInteger registeredBuffers = new AtomicInteger();
+
+	/**
+	 * 버퍼 하나를 등록하고 해당 버퍼 타입을 나타내는 비트를 반환합니다.
+	 */
+	int registerBuffer() {
+		int index = registeredBuffers.getAndIncrement();
+		if (index >= Integer.SIZE) {
+			throw new IllegalStateException("Too many buffers registered: " + index);
+		}
+		return 1 << index;
+	}
+
+	/**
+	 * 세션의 활동을 기록하고, 버퍼에서 키로 사용할 정규 SessionDataKey 를 반환합니다.
+	 * @param typeBit 이벤트가 추가된 버퍼 타입의 비트
+	 * @param added 새로 추가된 이벤트 수 (기존 이벤트를 교체한 경우 0)
+	 */
+	SessionDataKey touch(SessionDataKey sessionDataKey, int typeBit, long now, int added) {
+		while (true) {
+			SessionActivity activity = sessions.get(sessionDataKey);
+			if (activity == null) {
+				SessionActivity created = new SessionActivity(sessionDataKey);
+				activity = sessions.putIfAbsent(sessionDataKey, created);
+				if (activity == null) {
+					activity = created;
+				}
+			}
+			synchronized (activity) {
+				// 제거 직전의 기록이면 새 기록이 생길 때까지 다시 시도
+				if (!activity.removed) {
+					activity.bufferedTypes |= typeBit;
+					activity.pendingEvents += added;
+					if (now > activity.lastUpdated) {
+						activity.lastUpdated = now;
+					}
+					return activity.key;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 버퍼 타입의 이벤트가 비워졌음을 기록합니다. 모든 타입이 비워지면 세션 기록을 제거합니다.
+	 * @param removed 버퍼에서 꺼낸 이벤트 수
+	 */
+	void release(SessionDataKey sessionDataKey, int typeBit, int removed) {
+		SessionActivity activity = sessions.get(sessionDataKey);
+		if (activity == null) {
+			return;
+		}
+		synchronized (activity) {
+			activity.bufferedTypes &= ~typeBit;
+			activity.pendingEvents -= removed;
+			if (activity.bufferedTypes == 0 && !activity.removed) {
+				activity.removed = true;
+				sessions.remove(sessionDataKey, activity);
+			}
+		}
+	}
+
+	/**
+	 * 버퍼 타입에 이벤트가 남은 채로 일부 이벤트가 버려졌음을 기록합니다.
+	 * @param removed 버려진 이벤트 수
+	 */
+	void discard(SessionDataKey sessionDataKey, int removed) {
+		SessionActivity activity = sessions.get(sessionDataKey);
+		if (activity == null) {
+			return;
+		}
+		synchronized (activity) {
+			activity.pendingEvents -= removed;
+		}
+	}
+
+	/**
+	 * 세션의 마지막 활동 시간을 반환합니다.
+	 * @return 마지막 활동 시간, 버퍼에 이벤트가 없는 세션이면 null
+	 */
+	public Long getLastUpdated(SessionDataKey sessionDataKey) {
+		SessionActivity activity = sessions.get(sessionDataKey);
+		return activity == null ? null : activity.lastUpdated;
+	}
+
+	/**
+	 * 세션의 모든 이벤트 타입을 합친 대기 이벤트 수를 버퍼를 복사하지 않고 반환합니다.
+	 */
+	public long getPendingEvents(SessionDataKey sessionDataKey) {
+		SessionActivity activity = sessions.get(sessionDataKey);
+		return activity == null ? 0L : activity.pendingEvents;
+	}
+
+	/**
+	 * 이벤트가 남아 있는 모든 세션의 키를 반환합니다.
+	 */
+	public Set<SessionDataKey> getActiveSessionKeys() {
+		return new HashSet<>(sessions.keySet());
+	}
+
+	/**
+	 * 마지막 활동 시간이 기준 시각 이하인 세션의 키를 반환합니다.
+	 * @param idleSince 기준 시각 (epoch ms)
+	 */
+	public List<SessionDataKey> getSessionKeysIdleSince(long idleSince) {
+		List<SessionDataKey> idleKeys = new ArrayList<>();
+		for (SessionActivity activity : sessions.values()) {
+			if (activity.lastUpdated <= idleSince) {
+				idleKeys.add(activity.key);
+			}
+		}
+		return idleKeys;
+	}
+
+	public int size() {
+		return sessions.size();
+	}
+
+	private static final class SessionActivity {
+		private final SessionDataKey key;
+		private volatile long lastUpdated;
+		// 갱신은 activity 모니터 안에서만 수행
+		private volatile long pendingEvents;
+		// activity 모니터로 보호
+		private int bufferedTypes;
+		private boolean removed;
+
+		private SessionActivity(SessionDataKey key) {
+			this.key = key;
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.dajava.backend.global.component.bulk;
+
+import java.util.Set;
+
+/**
+ * 하나의 {@link BulkIndexTracker} 에 대한 bulk flush 결과 입니다.
+ * 세션별 저장 결과를 함께 전달하여 호출 측에서 커밋 또는 재처리 여부를 판단할 수 있습니다.
+ *
+ * @param requests 추적기의 문서가 담겨 전송된 bulk 요청 수
+ * @param indexed 색인에 성공한 문서 수
+ * @param failed 재시도 한도를 넘겨 버려졌거나 처리가 끝나지 않은 문서 수
+ * @param retried 재전송한 횟수
+ * @param durableSessionKeys 모든 문서가 색인된 세션 키 (sessionId|pageUrl|memberSerialNumber)
+ * @param failedSessionKeys 색인되지 않은 문서가 남은 세션 키
+ * @param elapsedMs 추적 시작부터 flush 완료까지의 소요 시간
+ */
+public record BulkIndexResult(
+	int requests,
+	int indexed,
+	int failed,
+	int retried,
+	Set<String> durableSessionKeys,
+	Set<String> failedSessionKeys,
+	long elapsedMs
+) {
+	public boolean hasFailures() {
+		return failed > 0 || !failedSessionKeys.isEmpty();
+	}
+}
@@ -0,0 +1,114 @@
+package com.dajava.backend.global.component.bulk;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 호출 측이 {@link PointerEventBulkIndexer} 에 전달한 문서의 처리 결과를 모으는 추적기 입니다.
+ * 1. 여러 호출 측의 문서가 같은 bulk 요청에 섞여 전송되더라도, 결과는 추적기에 전달된 문서만 집계합니다.
+ * 2. 문서는 색인에 성공하거나 재시도 한도를 넘겨 버려질 때까지 미완료로 남습니다.
+ * 3. 세션별 미완료 문서 수를 유지해, 모든 문서가 색인된 세션만 저장 완료로 보고합니다.
+ */
+public final class BulkIndexTracker {
+
+	private final long startedAt = System.currentTimeMillis();
+	private final AtomicInteger outstanding = new AtomicInteger();
+	private final AtomicInteger requests = new AtomicInteger();
+	private final AtomicInteger indexed = new AtomicInteger();
+	private final AtomicInteger failed = new AtomicInteger();
+	private final AtomicInteger retried = new AtomicInteger();
+	private final Map<String, AtomicInteger> pendingBySession = new ConcurrentHashMap<>();
+	private final Set<String> failedSessionKeys = ConcurrentHashMap.newKeySet();
+	private final Queue<CompletableFuture<Void>> inFlight = new ConcurrentLinkedQueue<>();
+
+	BulkIndexTracker() {
+	}
+
+	void added(String sessionKey) {
+		pendingBySession.computeIfAbsent(sessionKey, key -> new AtomicInteger()).incrementAndGet();
+		outstanding.incrementAndGet();
+	}
+
+	void dispatched(CompletableFuture<Void> request) {
+		requests.incrementAndGet();
+		inFlight.add(request);
+		signal();
+	}
+
+	void indexed(String sessionKey) {
+		indexed.incrementAndGet();
+		settle(sessionKey);
+	}
+
+	void retried() {
+		retried.incrementAndGet();
+	}
+
+	void dropped(String sessionKey) {
+		failed.incrementAndGet();
+		failedSessionKeys.add(sessionKey);
+		settle(sessionKey);
+	}
+
+	boolean isSettled() {
+		return outstanding.get() == 0;
+	}
+
+	/**
+	 * 이 추적기의 문서가 담긴 bulk 요청이 끝날 때까지 기다립니다.
+	 * 기다릴 요청이 없으면 다른 스레드가 문서를 전송하거나 처리할 때까지 최대 timeoutMs 동안 대기합니다.
+	 */
+	void awaitProgress(long timeoutMs) throws InterruptedException {
+		boolean joined = false;
+		CompletableFuture<Void> request;
+		while ((request = inFlight.poll()) != null) {
+			request.join();
+			joined = true;
+		}
+		if (joined) {
+			return;
+		}
+		synchronized (this) {
+			if (outstanding.get() > 0 && inFlight.isEmpty()) {
+				wait(timeoutMs);
+			}
+		}
+	}
+
+	/**
+	 * 지금까지의 처리 결과를 반환합니다. 아직 미완료 문서가 남은 세션은 실패 세션으로 보고합니다.
+	 */
+	BulkIndexResult toResult() {
+		Set<String> durableSessionKeys = new HashSet<>();
+		Set<String> failedSessions = new HashSet<>(failedSessionKeys);
+		int unsettled = 0;
+		for (Map.Entry<String, AtomicInteger> entry : pendingBySession.entrySet()) {
+			int pending = entry.getValue().get();
+			if (pending > 0) {
+				unsettled += pending;
+				failedSessions.add(entry.getKey());
+			} else if (!failedSessions.contains(entry.getKey())) {
+				durableSessionKeys.add(entry.getKey());
+			}
+		}
+		return new BulkIndexResult(requests.get(), indexed.get(), failed.get() + unsettled, retried.get(),
+			durableSessionKeys, failedSessions, System.currentTimeMillis() - startedAt);
+	}
+
+	private void settle(String sessionKey) {
+		pendingBySession.get(sessionKey).decrementAndGet();
+		if (outstanding.decrementAndGet() == 0) {
+			signal();
+		}
+	}
+
+	private synchronized void signal() {
+		notifyAll();
+	}
+}
@@ -0,0 +1,272 @@
+package com.dajava.backend.global.component.bulk;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerClickEventDocument;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerMoveEventDocument;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerScrollEventDocument;
+import com.dajava.backend.global.component.analyzer.BulkIndexProperties;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 세션에서 변환된 pointer 이벤트 Document 를 모아 ES bulk 요청으로 전송하는 컴포넌트 입니다.
+ * 1. 문서 타입(인덱스)별로 문서를 모으고, 문서 수 또는 추정 크기가 기준을 넘으면 bulk 요청을 비동기로 전송합니다.
+ * 2. 동시에 전송 중인 bulk 요청 수는 concurrency 로 제한되며, 초과 시 문서를 추가하는 쪽이 대기합니다.
+ * 3. 호출 측은 {@link #openTracker} 로 받은 추적기와 함께 문서를 전달하고, {@link #flush} 로 자신의 문서 결과만 기다립니다.
+ *    여러 호출 측의 문서는 같은 bulk 요청으로 묶여 전송되지만 결과는 추적기별로 집계됩니다.
+ * 4. 실패한 문서는 maxRetries 횟수까지 바로 다시 전송되며, 한도를 넘긴 문서는 버려지고 해당 세션이 실패 세션으로 보고됩니다.
+ */
+@Component
+@Slf4j
+public class PointerEventBulkIndexer {
+
+	// 필드명, 숫자 필드, bulk 메타데이터 라인 등 문자열 외 부분의 대략적인 크기
+	private static final int BASE_DOCUMENT_BYTES = 256;
+	// 다른 스레드가 추적기의 문서를 전송 중일 때 진행 여부를 다시 확인하는 간격
+	private static final long PROGRESS_WAIT_MS = 100;
+
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final BulkIndexProperties properties;
+	private final ExecutorService executor;
+	private final Semaphore permits;
+	private final Map<Class<?>, PendingBulk> pendingBulks = new ConcurrentHashMap<>();
+	private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+
+	public PointerEventBulkIndexer(ElasticsearchOperations elasticsearchOperations, BulkIndexProperties properties) {
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.properties = properties;
+		this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("bulk-index-", 0).factory());
+		this.permits = new Semaphore(Math.max(1, properties.getConcurrency()));
+	}
+
+	/**
+	 * 호출 측 하나의 문서 결과를 모을 추적기를 생성합니다.
+	 */
+	public BulkIndexTracker openTracker() {
+		return new BulkIndexTracker();
+	}
+
+	public void enqueueClickEvents(BulkIndexTracker tracker, String sessionKey,
+		List<PointerClickEventDocument> documents) {
+		for (PointerClickEventDocument document : documents) {
+			add(PointerClickEventDocument.class, new BulkIndexItem(tracker, sessionKey, document.getId(), document,
+				estimateBytes(document.getId(), document.getSessionId(), document.getPageUrl(),
+					document.getMemberSerialNumber(), document.getElement()), 0));
+		}
+	}
+
+	public void enqueueMoveEvents(BulkIndexTracker tracker, String sessionKey,
+		List<PointerMoveEventDocument> documents) {
+		for (PointerMoveEventDocument document : documents) {
+			add(PointerMoveEventDocument.class, new BulkIndexItem(tracker, sessionKey, document.getId(), document,
+				estimateBytes(document.getId(), document.getSessionId(), document.getPageUrl(),
+					document.getMemberSerialNumber()), 0));
+		}
+	}
+
+	public void enqueueScrollEvents(BulkIndexTracker tracker, String sessionKey,
+		List<PointerScrollEventDocument> documents) {
+		for (PointerScrollEventDocument document : documents) {
+			add(PointerScrollEventDocument.class, new BulkIndexItem(tracker, sessionKey, document.getId(), document,
+				estimateBytes(document.getId(), document.getSessionId(), document.getPageUrl(),
+					document.getMemberSerialNumber()), 0));
+		}
+	}
+
+	/**
+	 * 대기 중인 문서를 전송하고, 추적기에 전달된 문서가 모두 색인되거나 재시도 한도를 넘겨 버려질 때까지 기다립니다.
+	 * 다른 호출 측의 문서 결과는 포함하지 않습니다.
+	 * 대기 중 인터럽트되면 끝나지 않은 문서의 세션을 실패 세션으로 보고합니다.
+	 * @param tracker 결과를 기다릴 추적기
+	 * @return 추적기에 전달된 문서의 처리 결과
+	 */
+	public BulkIndexResult flush(BulkIndexTracker tracker) {
+		try {
+			while (!tracker.isSettled()) {
+				dispatchPending();
+				tracker.awaitProgress(PROGRESS_WAIT_MS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("[BulkIndexer] flush 대기 중 인터럽트되어 처리되지 않은 문서를 실패로 보고합니다.");
+		}
+
+		BulkIndexResult result = tracker.toResult();
+		if (result.hasFailures()) {
+			log.warn("[BulkIndexer] flush 완료, 실패 문서 존재: {}", result);
+		} else {
+			log.debug("[BulkIndexer] flush 완료: {}", result);
+		}
+		return result;
+	}
+
+	private void add(Class<?> documentType, BulkIndexItem item) {
+		item.tracker().added(item.sessionKey());
+		enqueue(documentType, item);
+	}
+
+	private void enqueue(Class<?> documentType, BulkIndexItem item) {
+		List<BulkIndexItem> ready = pendingBulks.computeIfAbsent(documentType, type -> new PendingBulk())
+			.add(item, properties.getMaxDocuments(), properties.getMaxBytes());
+		if (ready != null) {
+			dispatch(documentType, ready);
+		}
+	}
+
+	private void dispatchPending() {
+		pendingBulks.forEach((documentType, pendingBulk) -> {
+			List<BulkIndexItem> remaining = pendingBulk.drain();
+			if (!remaining.isEmpty()) {
+				dispatch(documentType, remaining);
+			}
+		});
+	}
+
+	/**
+	 * bulk 요청을 비동기로 전송하고, 요청에 문서가 담긴 추적기에 등록합니다.
+	 * 동시에 전송 중인 요청이 concurrency 에 도달하면 허용량이 생길 때까지 호출 스레드가 대기합니다.
+	 */
+	private void dispatch(Class<?> documentType, List<BulkIndexItem> items) {
+		permits.acquireUninterruptibly();
+		CompletableFuture<Void> request = CompletableFuture.runAsync(() -> {
+			Set<String> failedIds;
+			try {
+				failedIds = send(documentType, items);
+			} finally {
+				permits.release();
+			}
+			complete(documentType, items, failedIds);
+		}, executor);
+		inFlight.add(request);
+		request.whenComplete((ignored, throwable) -> inFlight.remove(request));
+
+		Map<BulkIndexTracker, Boolean> trackers = new IdentityHashMap<>();
+		for (BulkIndexItem item : items) {
+			if (trackers.put(item.tracker(), Boolean.TRUE) == null) {
+				item.tracker().dispatched(request);
+			}
+		}
+	}
+
+	/**
+	 * 전송 결과를 각 문서의 추적기에 반영합니다. 실패한 문서는 재시도 한도 안에서 바로 다시 대기열에 넣습니다.
+	 */
+	private void complete(Class<?> documentType, List<BulkIndexItem> items, Set<String> failedIds) {
+		for (BulkIndexItem item : items) {
+			if (!failedIds.contains(item.id())) {
+				item.tracker().indexed(item.sessionKey());
+			} else if (item.attempts() < properties.getMaxRetries()) {
+				item.tracker().retried();
+				enqueue(documentType, item.nextAttempt());
+			} else {
+				log.error("[BulkIndexer] 재시도 한도 초과로 문서를 버립니다: type={}, id={}, session={}",
+					documentType.getSimpleName(), item.id(), item.sessionKey());
+				item.tracker().dropped(item.sessionKey());
+			}
+		}
+	}
+
+	/**
+	 * @return 색인에 실패한 문서 id
+	 */
+	private Set<String> send(Class<?> documentType, List<BulkIndexItem> items) {
+		List<IndexQuery> queries = new ArrayList<>(items.size());
+		for (BulkIndexItem item : items) {
+			queries.add(new IndexQueryBuilder().withId(item.id()).withObject(item.document()).build());
+		}
+
+		try {
+			elasticsearchOperations.bulkIndex(queries, documentType);
+			return Set.of();
+		} catch (BulkFailureException e) {
+			Set<String> failedIds = e.getFailedDocuments().keySet();
+			log.warn("[BulkIndexer] {} bulk 요청 중 {}건 실패: {}",
+				documentType.getSimpleName(), failedIds.size(), e.getMessage());
+			return failedIds;
+		} catch (Exception e) {
+			log.error("[BulkIndexer] {} bulk 요청 전체 실패 ({}건): {}",
+				documentType.getSimpleName(), items.size(), e.getMessage(), e);
+			return items.stream().map(BulkIndexItem::id).collect(Collectors.toSet());
+		}
+	}
+
+	private static int estimateBytes(String... values) {
+		int bytes = BASE_DOCUMENT_BYTES;
+		for (String value : values) {
+			if (value != null) {
+				bytes += value.length();
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * 종료 전에 대기 중인 문서와 재시도 문서를 모두 전송합니다.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		do {
+			dispatchPending();
+			for (CompletableFuture<Void> request : List.copyOf(inFlight)) {
+				request.join();
+			}
+		} while (!inFlight.isEmpty() || pendingBulks.values().stream().anyMatch(PendingBulk::isNotEmpty));
+		executor.shutdown();
+	}
+
+	/**
+	 * 문서 타입별로 전송 대기 중인 문서 묶음 입니다.
+	 */
+	private static final class PendingBulk {
+		private List<BulkIndexItem> items = new ArrayList<>();
+		private long bytes;
+
+		/**
+		 * 문서를 추가하고, 기준을 넘으면 지금까지 모인 묶음을 반환합니다.
+		 */
+		synchronized List<BulkIndexItem> add(BulkIndexItem item, int maxDocuments, long maxBytes) {
+			items.add(item);
+			bytes += item.estimatedBytes();
+			if (items.size() >= maxDocuments || bytes >= maxBytes) {
+				return drain();
+			}
+			return null;
+		}
+
+		synchronized List<BulkIndexItem> drain() {
+			List<BulkIndexItem> drained = items;
+			items = new ArrayList<>();
+			bytes = 0;
+			return drained;
+		}
+
+		synchronized boolean isNotEmpty() {
+			return !items.isEmpty();
+		}
+	}
+
+	private record BulkIndexItem(BulkIndexTracker tracker, String sessionKey, String id, Object document,
+		int estimatedBytes, int attempts) {
+		BulkIndexItem nextAttempt() {
+			return new BulkIndexItem(tracker, sessionKey, id, document, estimatedBytes, attempts + 1);
+		}
+	}
+}
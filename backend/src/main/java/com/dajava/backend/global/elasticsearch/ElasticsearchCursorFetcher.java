@@ -0,0 +1,145 @@
+package com.dajava.backend.global.elasticsearch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.BaseQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.dajava.backend.global.component.analyzer.ElasticsearchCursorProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * point in time 와 search_after 로 ES 문서를 페이지 단위로 순회하는 컴포넌트 입니다.
+ * 1. 순회 시작 시 point in time 을 열어 순회 도중 문서가 추가, 수정되어도 같은 스냅샷을 읽습니다.
+ * 2. 직전 페이지 마지막 문서의 sort 값으로 다음 페이지를 요청하므로 페이지 깊이와 무관하게 비용이 일정하고
+ *    max_result_window 제한을 받지 않습니다.
+ * 3. 받아온 문서 수가 페이지 크기보다 작으면 빈 페이지를 요청하지 않고 종료합니다.
+ * 4. includes 로 필요한 필드만 _source 에서 가져올 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ElasticsearchCursorFetcher {
+
+	// point in time 검색에서 가장 비용이 적은 정렬, 순서가 필요 없을 때 사용
+	public static final Sort SHARD_DOC_ORDER = Sort.by("_shard_doc");
+
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final ElasticsearchCursorProperties properties;
+
+	/**
+	 * 조건에 맞는 모든 문서를 기본 페이지 크기로 순회해 하나의 리스트로 반환합니다.
+	 *
+	 * @param includes _source 에서 가져올 필드, 비어 있으면 전체 필드
+	 */
+	public <T> List<T> fetchAll(Class<T> documentClass, Criteria criteria, Sort sort, String... includes) {
+		return fetchAll(documentClass, criteria, sort, properties.getPageSize(), includes);
+	}
+
+	public <T> List<T> fetchAll(Class<T> documentClass, Criteria criteria, Sort sort, int pageSize,
+		String... includes) {
+		List<T> documents = new ArrayList<>();
+		forEachPage(documentClass, criteria, sort, pageSize, documents::addAll, includes);
+		return documents;
+	}
+
+	/**
+	 * 조건에 맞는 문서를 페이지 단위로 순회하며 각 페이지를 consumer 에 전달합니다.
+	 * 전체 결과를 메모리에 모으지 않고 페이지마다 처리할 때 사용합니다.
+	 *
+	 * @param sort 정렬 조건, point in time 검색에서는 _shard_doc 이 tiebreaker 로 자동 추가됩니다.
+	 * @param pageSize 요청 한 번에 가져오는 문서 수
+	 * @param pageConsumer 페이지 처리 로직
+	 * @param includes _source 에서 가져올 필드, 비어 있으면 전체 필드
+	 * @return 순회한 전체 문서 수
+	 */
+	public <T> long forEachPage(Class<T> documentClass, Criteria criteria, Sort sort, int pageSize,
+		Consumer<List<T>> pageConsumer, String... includes) {
+		return forEachPage(documentClass, () -> new CriteriaQueryBuilder(criteria), sort, pageSize, pageConsumer,
+			includes);
+	}
+
+	/**
+	 * Criteria 로 표현할 수 없는 조건(case insensitive term 등)을 ES 쿼리 DSL 로 전달해 순회합니다.
+	 */
+	public <T> long forEachPage(Class<T> documentClass, co.elastic.clients.elasticsearch._types.query_dsl.Query query,
+		Sort sort, int pageSize, Consumer<List<T>> pageConsumer, String... includes) {
+		return forEachPage(documentClass, () -> NativeQuery.builder().withQuery(query), sort, pageSize, pageConsumer,
+			includes);
+	}
+
+	private <T> long forEachPage(Class<T> documentClass, Supplier<BaseQueryBuilder<?, ?>> queryBuilderFactory,
+		Sort sort, int pageSize, Consumer<List<T>> pageConsumer, String... includes) {
+		int size = pageSize > 0 ? pageSize : properties.getPageSize();
+		Duration keepAlive = properties.getKeepAlive();
+		String pitId = elasticsearchOperations.openPointInTime(
+			elasticsearchOperations.getIndexCoordinatesFor(documentClass), keepAlive);
+
+		long total = 0;
+		try {
+			List<Object> searchAfter = null;
+			while (true) {
+				BaseQueryBuilder<?, ?> queryBuilder = queryBuilderFactory.get();
+				queryBuilder.withPointInTime(new Query.PointInTime(pitId, keepAlive));
+				queryBuilder.withSort(sort);
+				queryBuilder.withMaxResults(size);
+				if (searchAfter != null) {
+					queryBuilder.withSearchAfter(searchAfter);
+				}
+				if (includes.length > 0) {
+					queryBuilder.withSourceFilter(new FetchSourceFilterBuilder().withIncludes(includes).build());
+				}
+
+				SearchHits<T> searchHits = elasticsearchOperations.search(queryBuilder.build(), documentClass);
+				// 응답마다 갱신될 수 있는 point in time id 를 다음 요청에 사용
+				if (searchHits.getPointInTimeId() != null) {
+					pitId = searchHits.getPointInTimeId();
+				}
+
+				List<SearchHit<T>> hits = searchHits.getSearchHits();
+				if (hits.isEmpty()) {
+					break;
+				}
+
+				List<T> page = new ArrayList<>(hits.size());
+				for (SearchHit<T> hit : hits) {
+					page.add(hit.getContent());
+				}
+				pageConsumer.accept(page);
+				total += page.size();
+
+				if (hits.size() < size) {
+					break;
+				}
+				searchAfter = hits.getLast().getSortValues();
+			}
+		} finally {
+			closePointInTime(pitId);
+		}
+		return total;
+	}
+
+	private void closePointInTime(String pitId) {
+		try {
+			elasticsearchOperations.closePointInTime(pitId);
+		} catch (RuntimeException e) {
+			// keepAlive 이후 ES 에서 자동으로 정리되므로 순회 결과에는 영향 없음
+			log.warn("[ElasticsearchCursorFetcher] point in time 종료 실패: {}", e.getMessage());
+		}
+	}
+}
@@ -45,6 +45,7 @@ public enum ErrorCode {
 	SESSION_DATA_DOCUMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "ES 세션 데이터가 없습니다"),
 	ALREADY_OUTLIER_DOCUMENT(HttpStatus.BAD_REQUEST, "이미 이상치로 판별된 ES 이벤트 데이터 입니다."),
 	EVENT_DTO_NOT_FOUND(HttpStatus.NOT_FOUND, "버퍼에 이벤트 DTO가 없습니다"),
+	EVENT_BUFFER_FULL(HttpStatus.TOO_MANY_REQUESTS, "이벤트 버퍼가 가득 찼습니다. 잠시 후 다시 시도해주세요."),
 	INVALID_BROWSER_WIDTH(HttpStatus.BAD_REQUEST, "입력받은 DTO의 browserWidth가 문제있습니다."),
 	INVALID_VIEWPORT_HEIGHT(HttpStatus.BAD_REQUEST, "입력받은 DTO의 viewPortHeight가 문제있습니다."),
 	INVALID_SCROLL_HEIGHT(HttpStatus.BAD_REQUEST, "입력받은 DTO의 scrollHeight가 문제있습니다."),
@@ -61,6 +62,7 @@ public enum ErrorCode {
 	SESSION_IDENTIFIER_PARSING_NOT_FOUND(HttpStatus.BAD_REQUEST, "Key 문자열이 없습니다."),
 	SESSION_IDENTIFIER_PARSING_ERROR(HttpStatus.BAD_REQUEST, "문자열 양식이 맞지 않습니다."),
 	REDIS_CACHING_ERROR(HttpStatus.BAD_REQUEST, "Redis에 저장하지 못했습니다."),
+	EVENT_BULK_INDEX_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "ES 에 이벤트를 저장하지 못했습니다."),
 
 	// Image
 	INVALID_IMAGE_FILE(HttpStatus.BAD_REQUEST, "유효한 이미지 파일이 아닙니다."),
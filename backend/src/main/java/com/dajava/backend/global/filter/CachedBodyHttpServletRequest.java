@@ -5,6 +5,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
 
 import org.apache.commons.io.IOUtils;
 
@@ -21,7 +22,8 @@ import jakarta.servlet.http.HttpServletRequestWrapper;
 public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
 
 	private final byte[] cachedBody;
-	private final String cachedBodyString;
+	// 문자열이 필요한 경우에만 변환하도록 지연 생성
+	private String cachedBodyString;
 
 	public CachedBodyHttpServletRequest(HttpServletRequest request) throws IOException {
 		super(request);
@@ -29,14 +31,6 @@ public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
 		// 요청 바디를 바이트 배열로 읽어옴
 		InputStream requestInputStream = request.getInputStream();
 		this.cachedBody = IOUtils.toByteArray(requestInputStream);
-
-		// 인코딩이 null인 경우 기본값 사용
-		String encoding = request.getCharacterEncoding();
-		if (encoding == null) {
-			encoding = "UTF-8"; // 기본 인코딩으로 UTF-8 사용
-		}
-
-		this.cachedBodyString = new String(this.cachedBody, encoding);
 	}
 
 	@Override
@@ -55,10 +49,26 @@ public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
 		return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
 	}
 
-	public String getBody() {
+	public String getBody() throws UnsupportedEncodingException {
+		if (this.cachedBodyString == null) {
+			// 인코딩이 null인 경우 기본값 사용
+			String encoding = getCharacterEncoding();
+			if (encoding == null) {
+				encoding = "UTF-8"; // 기본 인코딩으로 UTF-8 사용
+			}
+			this.cachedBodyString = new String(this.cachedBody, encoding);
+		}
 		return this.cachedBodyString;
 	}
 
+	/**
+	 * 캐시된 요청 바디의 원본 바이트 배열을 반환합니다.
+	 * 문자열 변환 없이 스트리밍 파서로 바로 읽을 때 사용합니다.
+	 */
+	public byte[] getCachedBody() {
+		return this.cachedBody;
+	}
+
 	/**
 	 * 바이트 배열을 기반으로 하는 ServletInputStream 구현
 	 */
@@ -2,11 +2,14 @@ package com.dajava.backend.global.filter;
 
 import java.io.IOException;
 
-import org.json.JSONObject;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import com.dajava.backend.domain.register.service.RegisterCacheService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
@@ -20,6 +23,9 @@ import jakarta.servlet.http.HttpServletResponse;
 @Order(1)
 public class EventLogValidationFilter implements Filter {
 
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final String MEMBER_SERIAL_NUMBER = "memberSerialNumber";
+
 	private final RegisterCacheService registerCacheService;
 
 	public EventLogValidationFilter(RegisterCacheService registerCacheService) {
@@ -34,22 +40,22 @@ public class EventLogValidationFilter implements Filter {
 		HttpServletResponse httpResponse = (HttpServletResponse) response;
 
 		String path = httpRequest.getRequestURI();
-		if (!(path.endsWith("/click") || path.endsWith("/movement") || path.endsWith("/scroll"))) {
+		if (!(path.endsWith("/click") || path.endsWith("/movement") || path.endsWith("/scroll")
+			|| path.endsWith("/batch"))) {
 			chain.doFilter(request, response);
 			return;
 		}
 
 		CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(httpRequest);
 		try {
-			JSONObject body = new JSONObject(cachedRequest.getBody());
+			String serial = findMemberSerialNumber(cachedRequest.getCachedBody());
 
-			if (!body.has("memberSerialNumber")) {
+			if (serial == null) {
 				httpResponse.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 				httpResponse.getWriter().write("memberSerialNumber 가 존재하지 않습니다.");
 				return;
 			}
 
-			String serial = body.getString("memberSerialNumber");
 			if (!registerCacheService.isValidSerialNumber(serial)) {
 				httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
 				httpResponse.getWriter().write("유효하지 않은 memberSerialNumber 입니다.");
@@ -62,4 +68,35 @@ public class EventLogValidationFilter implements Filter {
 			httpResponse.getWriter().write("요청 파싱 중 오류가 발생했습니다.");
 		}
 	}
+
+	/**
+	 * 요청 바디 전체를 객체로 파싱하지 않고, 최상위 memberSerialNumber 필드를 찾을 때까지만 토큰을 읽습니다.
+	 * 다른 필드의 중첩 객체, 배열은 내용을 해석하지 않고 건너뜁니다.
+	 * @param body 요청 바디 바이트 배열
+	 * @return memberSerialNumber 값, 필드가 없으면 null
+	 * @throws IOException JSON 형식이 아니거나 memberSerialNumber 가 문자열이 아닌 경우
+	 */
+	static String findMemberSerialNumber(byte[] body) throws IOException {
+		try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JsonParseException(parser, "요청 바디가 JSON 객체가 아닙니다.");
+			}
+			JsonToken token;
+			while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+				String fieldName = parser.currentName();
+				JsonToken valueToken = parser.nextToken();
+				if (MEMBER_SERIAL_NUMBER.equals(fieldName)) {
+					if (valueToken != JsonToken.VALUE_STRING) {
+						throw new JsonParseException(parser, "memberSerialNumber 가 문자열이 아닙니다.");
+					}
+					return parser.getText();
+				}
+				parser.skipChildren();
+			}
+			if (token != JsonToken.END_OBJECT) {
+				throw new JsonParseException(parser, "요청 바디 JSON 형식이 올바르지 않습니다.");
+			}
+			return null;
+		}
+	}
 }
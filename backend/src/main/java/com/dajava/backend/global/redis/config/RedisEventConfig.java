@@ -7,12 +7,14 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ClickEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.MovementEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ScrollEventRequest;
+import com.dajava.backend.global.component.analyzer.EventBufferProperties;
 import com.dajava.backend.utils.event.EventQueueRedisBuffer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  *  클라이언트에서 전달한 json 형태 데이터를 string 타입으로 역질렬화 한후 redis에 저장
  * 	각각 해당하는 이벤트 dto를 통해 저장
+ * 	저장 형식(json, compact)은 event.buffer.codec 으로 설정합니다.
  */
 @Configuration
 public class RedisEventConfig {
@@ -22,9 +24,10 @@ public class RedisEventConfig {
 	@Bean
 	public EventQueueRedisBuffer<ClickEventRequest> clickBuffer(
 		StringRedisTemplate redisTemplate,
-		ObjectMapper objectMapper
+		ObjectMapper objectMapper,
+		EventBufferProperties eventBufferProperties
 	) {
-		return new EventQueueRedisBuffer<>(redisTemplate, objectMapper, ClickEventRequest.class);
+		return new EventQueueRedisBuffer<>(redisTemplate, objectMapper, ClickEventRequest.class, eventBufferProperties.getCodec());
 	}
 	/**
 	 * move 이벤트로 저장
@@ -32,9 +35,10 @@ public class RedisEventConfig {
 	@Bean
 	public EventQueueRedisBuffer<MovementEventRequest> moveBuffer(
 		StringRedisTemplate redisTemplate,
-		ObjectMapper objectMapper
+		ObjectMapper objectMapper,
+		EventBufferProperties eventBufferProperties
 	) {
-		return new EventQueueRedisBuffer<>(redisTemplate, objectMapper, MovementEventRequest.class);
+		return new EventQueueRedisBuffer<>(redisTemplate, objectMapper, MovementEventRequest.class, eventBufferProperties.getCodec());
 	}
 	/**
 	 * scroll 이벤트로 저장
@@ -42,8 +46,9 @@ public class RedisEventConfig {
 	@Bean
 	public EventQueueRedisBuffer<ScrollEventRequest> scrollBuffer(
 		StringRedisTemplate redisTemplate,
-		ObjectMapper objectMapper
+		ObjectMapper objectMapper,
+		EventBufferProperties eventBufferProperties
 	) {
-		return new EventQueueRedisBuffer<>(redisTemplate, objectMapper, ScrollEventRequest.class);
+		return new EventQueueRedisBuffer<>(redisTemplate, objectMapper, ScrollEventRequest.class, eventBufferProperties.getCodec());
 	}
 }
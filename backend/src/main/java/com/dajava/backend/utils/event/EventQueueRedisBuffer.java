@@ -1,15 +1,24 @@
 package com.dajava.backend.utils.event;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.exception.LogException;
+import com.dajava.backend.utils.LogUtils;
+import com.dajava.backend.utils.event.codec.EventCodecType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import static com.dajava.backend.global.exception.ErrorCode.*;
@@ -26,18 +35,45 @@ import static com.dajava.backend.global.exception.ErrorCode.*;
 
 public class EventQueueRedisBuffer<T> {
 
+	public static final long EVENT_TTL_SECONDS = TimeUnit.HOURS.toSeconds(1);
+	public static final int DEFAULT_DRAIN_CHUNK_SIZE = 1000;
+
+	/**
+	 * 이전 flush 에서 처리하지 못한 임시 키가 남아 있으면 TTL 을 갱신하고 그 길이를 반환합니다. (resumed = 1)
+	 * 없으면 원본 리스트를 임시 키로 RENAME 하고 TTL 을 설정한 뒤 길이를 반환합니다. (resumed = 0)
+	 * RENAME 이후 유입되는 이벤트는 원본 키에 새로 쌓이므로 읽기-삭제 사이의 유실이 없습니다.
+	 * 반환값: {대기 이벤트 수, resumed}
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[2]) == 1 then "
+			+ "redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+			+ "return {redis.call('LLEN', KEYS[2]), 1} end "
+			+ "if redis.call('EXISTS', KEYS[1]) == 0 then return {0, 0} end "
+			+ "redis.call('RENAME', KEYS[1], KEYS[2]) "
+			+ "redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+			+ "return {redis.call('LLEN', KEYS[2]), 0}",
+		List.class
+	);
+
 	private final StringRedisTemplate redisTemplate;
 	private final EventSerializer<T> serializer;
 	private final MetadataManager metadataManager;
 
 	public EventQueueRedisBuffer(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, Class<T> clazz) {
+		this(redisTemplate, objectMapper, clazz, EventCodecType.JSON);
+	}
+
+	public EventQueueRedisBuffer(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, Class<T> clazz,
+		EventCodecType codecType) {
 		this.redisTemplate = redisTemplate;
-		this.serializer = new EventSerializer<>(objectMapper, clazz);
+		this.serializer = new EventSerializer<>(objectMapper, clazz, codecType);
 		this.metadataManager = new MetadataManager(redisTemplate);
 	}
 
 	/**
 	 * Redis에 이벤트를 저장하는 메서드
+	 * LPUSH, EXPIRE, lastUpdated SET 을 하나의 파이프라인으로 전송해 왕복 횟수를 1회로 줄입니다.
 	 *
 	 * @param sessionIdentifier 세션 식별자
 	 * @param event 저장할 이벤트 객체
@@ -45,18 +81,57 @@ public class EventQueueRedisBuffer<T> {
 	 */
 	public void cacheEvents(SessionIdentifier sessionIdentifier, T event) {
 		String eventKey = KeyGenerator.buildEventKey( sessionIdentifier,event);
-		String updatedKey = KeyGenerator.buildLastUpdatedKey(eventKey);
 
 		try {
-			String json = serializer.serialize(event);
-			redisTemplate.opsForList().leftPush(eventKey, json);
-			redisTemplate.expire(eventKey, 1, TimeUnit.HOURS);
-			metadataManager.updateLastUpdated(updatedKey);
+			pushPipelined(sessionIdentifier, event, eventKey, serializer.serialize(event));
+		} catch (Exception e) {
+			throw new LogException(REDIS_CACHING_ERROR);
+		}
+	}
+
+	/**
+	 * 동일 세션, 동일 타입의 이벤트 여러 건을 한 번의 왕복으로 Redis에 저장하는 메서드
+	 * 이벤트 순서는 단건 저장을 순서대로 호출한 것과 동일하게 유지됩니다.
+	 *
+	 * @param sessionIdentifier 세션 식별자
+	 * @param events 저장할 이벤트 목록
+	 * @throws LogException Redis 저장 중 오류 발생 시
+	 */
+	public void cacheAllEvents(SessionIdentifier sessionIdentifier, List<T> events) {
+		if (events == null || events.isEmpty()) return;
+
+		String eventKey = KeyGenerator.buildEventKey(sessionIdentifier, events.get(0));
+
+		try {
+			String[] jsons = new String[events.size()];
+			for (int i = 0; i < jsons.length; i++) {
+				jsons[i] = serializer.serialize(events.get(i));
+			}
+			pushPipelined(sessionIdentifier, events.get(0), eventKey, jsons);
 		} catch (Exception e) {
 			throw new LogException(REDIS_CACHING_ERROR);
 		}
 	}
 
+	/**
+	 * 이벤트 저장과 함께 lastUpdated 및 활성 세션 인덱스를 같은 파이프라인에서 갱신합니다.
+	 */
+	private void pushPipelined(SessionIdentifier sessionIdentifier, T event, String eventKey, String... jsons) {
+		String updatedKey = KeyGenerator.buildLastUpdatedKey(eventKey);
+		String indexKey = KeyGenerator.buildActiveSessionIndexKey(KeyGenerator.resolveEventType(event));
+		String sessionKey = LogUtils.createRedisKey(sessionIdentifier);
+		long now = System.currentTimeMillis();
+
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			stringConnection.lPush(eventKey, jsons);
+			stringConnection.expire(eventKey, EVENT_TTL_SECONDS);
+			metadataManager.updateLastUpdated(stringConnection, updatedKey);
+			metadataManager.touchActiveSession(stringConnection, indexKey, sessionKey, now);
+			return null;
+		});
+	}
+
 	/**
 	 * Redis로부터 이벤트 리스트를 조회하는 메서드
 	 *
@@ -71,26 +146,200 @@ public class EventQueueRedisBuffer<T> {
 		if (jsonList == null || jsonList.isEmpty()) return Collections.emptyList();
 
 		return jsonList.stream()
-			.map(serializer::deserialize)
+			.map(value -> serializer.deserialize(value, sessionIdentifier))
 			.filter(Objects::nonNull)
 			.collect(Collectors.toList());
 	}
 
 	/**
 	 * 이벤트를 조회한 뒤, Redis에서 삭제하고 반환하는 메서드
+	 * 내부적으로 {@link #drainEvents} 를 사용하므로 조회와 삭제 사이에 유입된 이벤트가 유실되지 않습니다.
 	 *
 	 * @param sessionIdentifier 세션 식별자
 	 * @param event 이벤트 클래스의 빈 객체 (타입 유추용)
-	 * @return 삭제 전 조회된 이벤트 리스트
+	 * @return 삭제 전 조회된 이벤트 리스트 (오래된 이벤트부터)
 	 */
 	public List<T> flushEvents(SessionIdentifier sessionIdentifier,T event) {
-		String eventKey = KeyGenerator.buildEventKey( sessionIdentifier,event);
+		List<T> events = new ArrayList<>();
+		drainEvents(sessionIdentifier, event, DEFAULT_DRAIN_CHUNK_SIZE, events::addAll);
+		return events;
+	}
+
+	/**
+	 * 이벤트 리스트를 원자적으로 분리한 뒤, 고정 크기 청크 단위로 읽어 전달하고 삭제하는 메서드
+	 * 1. Lua 스크립트로 원본 키를 임시 키로 RENAME 하여, 이후 유입되는 이벤트는 새 리스트에 쌓이도록 합니다.
+	 * 2. 임시 키의 꼬리(가장 오래된 이벤트)부터 chunkSize 만큼 읽어 consumer 에 전달합니다.
+	 * 3. consumer 가 정상 처리한 청크만 LTRIM 으로 제거합니다.
+	 *    consumer 가 예외를 던지면 남은 이벤트는 임시 키에 그대로 두고 예외를 전파하며,
+	 *    다음 drainEvents 호출이 원본 리스트보다 먼저 임시 키의 남은 이벤트부터 이어서 처리합니다.
+	 *    이 경우 활성 세션 인덱스에서도 제거하지 않으므로 세션이 다음 주기에 다시 처리됩니다.
+	 * 세션에 쌓인 이벤트 전체를 한 번에 힙에 올리지 않습니다.
+	 *
+	 * @param sessionIdentifier 세션 식별자
+	 * @param event 이벤트 클래스의 빈 객체 (타입 유추용)
+	 * @param chunkSize 한 번에 전달할 최대 이벤트 수
+	 * @param chunkConsumer 청크 단위 처리 로직 (오래된 이벤트부터 전달)
+	 * @return 전달된 전체 이벤트 수
+	 */
+	public int drainEvents(SessionIdentifier sessionIdentifier, T event, int chunkSize, Consumer<List<T>> chunkConsumer) {
+		String eventKey = KeyGenerator.buildEventKey(sessionIdentifier, event);
 		String updatedKey = KeyGenerator.buildLastUpdatedKey(eventKey);
+		String drainKey = KeyGenerator.buildDrainKey(eventKey);
+		long flushStartedAt = System.currentTimeMillis();
+
+		int drained = 0;
+		boolean resumed;
+		// 이전 flush 의 남은 이벤트를 먼저 처리했다면 원본 리스트를 한 번 더 분리
+		do {
+			List<?> reply = redisTemplate.execute(DRAIN_SCRIPT, List.of(eventKey, drainKey),
+				String.valueOf(EVENT_TTL_SECONDS));
+			long pending = reply == null || reply.isEmpty() ? 0L : ((Number)reply.get(0)).longValue();
+			resumed = reply != null && reply.size() > 1 && ((Number)reply.get(1)).longValue() == 1L;
+			if (pending > 0) {
+				drained += drainChunks(sessionIdentifier, drainKey, pending, chunkSize, chunkConsumer);
+				redisTemplate.delete(drainKey);
+			}
+		} while (resumed);
 
-		List<T> events = getEvents(sessionIdentifier,event);
-		redisTemplate.delete(eventKey);
 		redisTemplate.delete(updatedKey);
-		return events;
+		metadataManager.removeActiveSessionIfIdleSince(
+			KeyGenerator.buildActiveSessionIndexKey(KeyGenerator.resolveEventType(event)),
+			LogUtils.createRedisKey(sessionIdentifier),
+			flushStartedAt
+		);
+		return drained;
+	}
+
+	private int drainChunks(SessionIdentifier sessionIdentifier, String drainKey, long pending, int chunkSize,
+		Consumer<List<T>> chunkConsumer) {
+		ListOperations<String, String> listOperations = redisTemplate.opsForList();
+		int drained = 0;
+		long remaining = pending;
+		while (remaining > 0) {
+			long size = Math.min(Math.max(chunkSize, 1), remaining);
+			// LPUSH 로 쌓였으므로 꼬리 쪽이 가장 오래된 이벤트
+			List<String> jsonChunk = listOperations.range(drainKey, -size, -1);
+			if (jsonChunk == null || jsonChunk.isEmpty()) break;
+
+			List<T> chunk = new ArrayList<>(jsonChunk.size());
+			for (int i = jsonChunk.size() - 1; i >= 0; i--) {
+				T deserialized = serializer.deserialize(jsonChunk.get(i), sessionIdentifier);
+				if (deserialized != null) chunk.add(deserialized);
+			}
+			// 예외 발생 시 LTRIM 하지 않으므로 청크가 임시 키에 남음
+			chunkConsumer.accept(chunk);
+
+			listOperations.trim(drainKey, 0, -(jsonChunk.size() + 1));
+			remaining -= jsonChunk.size();
+			drained += chunk.size();
+		}
+		return drained;
+	}
+
+	/**
+	 * 이벤트 리스트를 원자적으로 분리한 뒤 청크 단위로 읽어 전달하되, Redis 에서 지우지 않는 메서드
+	 * 여러 세션의 이벤트를 모아 한 번에 저장한 뒤 저장 결과에 따라 지우는 경우에 사용하며,
+	 * 저장이 끝나면 반환된 {@link DrainClaim} 으로 {@link #acknowledge} 를 호출해야 임시 키가 지워집니다.
+	 * 이전 flush 에서 남은 임시 키가 있으면 그 이벤트만 읽고, 원본 리스트는 다음 호출에서 분리합니다.
+	 *
+	 * @param sessionIdentifier 세션 식별자
+	 * @param event 이벤트 클래스의 빈 객체 (타입 유추용)
+	 * @param chunkSize 한 번에 전달할 최대 이벤트 수
+	 * @param chunkConsumer 청크 단위 처리 로직 (오래된 이벤트부터 전달)
+	 * @return 임시 키로 분리해 읽은 이벤트 정보
+	 */
+	public DrainClaim claimEvents(SessionIdentifier sessionIdentifier, T event, int chunkSize,
+		Consumer<List<T>> chunkConsumer) {
+		String eventKey = KeyGenerator.buildEventKey(sessionIdentifier, event);
+		String drainKey = KeyGenerator.buildDrainKey(eventKey);
+		long flushStartedAt = System.currentTimeMillis();
+
+		List<?> reply = redisTemplate.execute(DRAIN_SCRIPT, List.of(eventKey, drainKey),
+			String.valueOf(EVENT_TTL_SECONDS));
+		long pending = reply == null || reply.isEmpty() ? 0L : ((Number)reply.get(0)).longValue();
+		boolean resumed = reply != null && reply.size() > 1 && ((Number)reply.get(1)).longValue() == 1L;
+
+		ListOperations<String, String> listOperations = redisTemplate.opsForList();
+		int claimed = 0;
+		long offset = 0;
+		while (offset < pending) {
+			long size = Math.min(Math.max(chunkSize, 1), pending - offset);
+			// LPUSH 로 쌓였으므로 꼬리 쪽이 가장 오래된 이벤트, 지우지 않으므로 꼬리부터의 위치로 읽음
+			List<String> jsonChunk = listOperations.range(drainKey, -(offset + size), -(offset + 1));
+			if (jsonChunk == null || jsonChunk.isEmpty()) break;
+
+			List<T> chunk = new ArrayList<>(jsonChunk.size());
+			for (int i = jsonChunk.size() - 1; i >= 0; i--) {
+				T deserialized = serializer.deserialize(jsonChunk.get(i), sessionIdentifier);
+				if (deserialized != null) chunk.add(deserialized);
+			}
+			chunkConsumer.accept(chunk);
+
+			offset += jsonChunk.size();
+			claimed += chunk.size();
+		}
+		return new DrainClaim(claimed, pending > 0, resumed, flushStartedAt);
+	}
+
+	/**
+	 * {@link #claimEvents} 로 읽은 이벤트가 저장된 뒤 임시 키를 지우는 메서드
+	 * 남은 임시 키를 이어서 읽은 경우에는 원본 리스트에 이벤트가 남아 있을 수 있으므로 활성 세션 인덱스에서 제거하지 않습니다.
+	 * 저장에 실패한 세션은 이 메서드를 호출하지 않으며, 다음 호출이 임시 키의 이벤트부터 다시 읽습니다.
+	 *
+	 * @param sessionIdentifier 세션 식별자
+	 * @param event 이벤트 클래스의 빈 객체 (타입 유추용)
+	 * @param claim {@link #claimEvents} 의 반환값
+	 */
+	public void acknowledge(SessionIdentifier sessionIdentifier, T event, DrainClaim claim) {
+		String eventKey = KeyGenerator.buildEventKey(sessionIdentifier, event);
+		if (claim.split()) {
+			redisTemplate.delete(KeyGenerator.buildDrainKey(eventKey));
+		}
+		if (claim.resumed()) {
+			return;
+		}
+		redisTemplate.delete(KeyGenerator.buildLastUpdatedKey(eventKey));
+		metadataManager.removeActiveSessionIfIdleSince(
+			KeyGenerator.buildActiveSessionIndexKey(KeyGenerator.resolveEventType(event)),
+			LogUtils.createRedisKey(sessionIdentifier),
+			claim.startedAt()
+		);
+	}
+
+	/**
+	 * 리스트를 읽지 않고 LLEN 으로 대기 중인 이벤트 수만 조회하는 메서드
+	 *
+	 * @param sessionIdentifier 세션 식별자
+	 * @param event 이벤트 클래스의 빈 객체 (타입 유추용)
+	 * @return 대기 중인 이벤트 수
+	 */
+	public long countEvents(SessionIdentifier sessionIdentifier, T event) {
+		Long size = redisTemplate.opsForList().size(KeyGenerator.buildEventKey(sessionIdentifier, event));
+		return size == null ? 0L : size;
+	}
+
+	/**
+	 * 여러 이벤트 리스트의 LLEN 을 하나의 파이프라인으로 조회해 합산하는 메서드
+	 * 같은 Redis 에 저장된 다른 이벤트 타입의 키도 함께 조회할 수 있어, 세션의 대기 이벤트 수를 한 번의 왕복으로 구합니다.
+	 *
+	 * @param eventKeys 조회할 이벤트 리스트 키 목록
+	 * @return 대기 중인 이벤트 수의 합
+	 */
+	public long countEvents(List<String> eventKeys) {
+		List<Object> sizes = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			for (String eventKey : eventKeys) {
+				stringConnection.lLen(eventKey);
+			}
+			return null;
+		});
+		long total = 0L;
+		for (Object size : sizes) {
+			if (size instanceof Long length) {
+				total += length;
+			}
+		}
+		return total;
 	}
 
 	/**
@@ -105,10 +354,22 @@ public class EventQueueRedisBuffer<T> {
 	}
 
 	/**
-	 * Redis에서 event 및 lastUpdated로 시작하는 모든 키를 제거하는 메서드
+	 * Redis에서 event, draining, lastUpdated, activeSessions 로 시작하는 모든 키를 제거하는 메서드
 	 */
 	public void clearAll() {
 		metadataManager.clearKeysByPattern("event:*");
+		metadataManager.clearKeysByPattern("draining:*");
 		metadataManager.clearKeysByPattern("lastUpdated:*");
+		metadataManager.clearKeysByPattern("activeSessions:*");
+	}
+
+	/**
+	 * {@link #claimEvents} 로 임시 키에서 읽은 이벤트 정보 입니다.
+	 * @param claimed 전달된 이벤트 수
+	 * @param split 임시 키에 이벤트가 있었는지 여부
+	 * @param resumed 이전 flush 에서 남은 임시 키를 이어서 읽었는지 여부
+	 * @param startedAt 분리 시작 시각, 이후 이벤트가 유입된 세션은 활성 세션 인덱스에 남김
+	 */
+	public record DrainClaim(int claimed, boolean split, boolean resumed, long startedAt) {
 	}
 }
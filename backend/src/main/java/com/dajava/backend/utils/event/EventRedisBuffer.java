@@ -1,6 +1,7 @@
 package com.dajava.backend.utils.event;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Component;
 
@@ -32,6 +33,10 @@ public class EventRedisBuffer {
 		click.cacheEvents(sessionIdentifier, event);
 	}
 
+	public void addClickEvents(List<ClickEventRequest> events, SessionIdentifier sessionIdentifier) {
+		click.cacheAllEvents(sessionIdentifier, events);
+	}
+
 	public List<ClickEventRequest> getClickEvents(SessionIdentifier sessionIdentifier) {
 		return click.getEvents(sessionIdentifier, new ClickEventRequest());
 	}
@@ -40,11 +45,27 @@ public class EventRedisBuffer {
 		return click.flushEvents(sessionIdentifier, new ClickEventRequest());
 	}
 
+	public EventQueueRedisBuffer.DrainClaim claimClickEvents(SessionIdentifier sessionIdentifier, int chunkSize, Consumer<List<ClickEventRequest>> chunkConsumer) {
+		return click.claimEvents(sessionIdentifier, new ClickEventRequest(), chunkSize, chunkConsumer);
+	}
+
+	public void acknowledgeClickEvents(SessionIdentifier sessionIdentifier, EventQueueRedisBuffer.DrainClaim claim) {
+		click.acknowledge(sessionIdentifier, new ClickEventRequest(), claim);
+	}
+
+	public long countClickEvents(SessionIdentifier sessionIdentifier) {
+		return click.countEvents(sessionIdentifier, new ClickEventRequest());
+	}
+
 	// 무브
 	public void addMoveEvent(MovementEventRequest event, SessionIdentifier sessionIdentifier) {
 		movement.cacheEvents(sessionIdentifier, event);
 	}
 
+	public void addMoveEvents(List<MovementEventRequest> events, SessionIdentifier sessionIdentifier) {
+		movement.cacheAllEvents(sessionIdentifier, events);
+	}
+
 	public List<MovementEventRequest> getMoveEvents(SessionIdentifier sessionIdentifier) {
 		return movement.getEvents(sessionIdentifier, new MovementEventRequest());
 	}
@@ -53,11 +74,27 @@ public class EventRedisBuffer {
 		return movement.flushEvents(sessionIdentifier, new MovementEventRequest());
 	}
 
+	public EventQueueRedisBuffer.DrainClaim claimMoveEvents(SessionIdentifier sessionIdentifier, int chunkSize, Consumer<List<MovementEventRequest>> chunkConsumer) {
+		return movement.claimEvents(sessionIdentifier, new MovementEventRequest(), chunkSize, chunkConsumer);
+	}
+
+	public void acknowledgeMoveEvents(SessionIdentifier sessionIdentifier, EventQueueRedisBuffer.DrainClaim claim) {
+		movement.acknowledge(sessionIdentifier, new MovementEventRequest(), claim);
+	}
+
+	public long countMoveEvents(SessionIdentifier sessionIdentifier) {
+		return movement.countEvents(sessionIdentifier, new MovementEventRequest());
+	}
+
 	// 스크롤
 	public void addScrollEvent(ScrollEventRequest event, SessionIdentifier sessionIdentifier) {
 		scroll.cacheEvents(sessionIdentifier, event);
 	}
 
+	public void addScrollEvents(List<ScrollEventRequest> events, SessionIdentifier sessionIdentifier) {
+		scroll.cacheAllEvents(sessionIdentifier, events);
+	}
+
 	public List<ScrollEventRequest> getScrollEvents(SessionIdentifier sessionIdentifier) {
 		return scroll.getEvents(sessionIdentifier, new ScrollEventRequest());
 	}
@@ -65,4 +102,33 @@ public class EventRedisBuffer {
 	public List<ScrollEventRequest> flushScrollEvents(SessionIdentifier sessionIdentifier) {
 		return scroll.flushEvents(sessionIdentifier, new ScrollEventRequest());
 	}
+
+	public EventQueueRedisBuffer.DrainClaim claimScrollEvents(SessionIdentifier sessionIdentifier, int chunkSize, Consumer<List<ScrollEventRequest>> chunkConsumer) {
+		return scroll.claimEvents(sessionIdentifier, new ScrollEventRequest(), chunkSize, chunkConsumer);
+	}
+
+	public void acknowledgeScrollEvents(SessionIdentifier sessionIdentifier, EventQueueRedisBuffer.DrainClaim claim) {
+		scroll.acknowledge(sessionIdentifier, new ScrollEventRequest(), claim);
+	}
+
+	public long countScrollEvents(SessionIdentifier sessionIdentifier) {
+		return scroll.countEvents(sessionIdentifier, new ScrollEventRequest());
+	}
+
+	/**
+	 * 세션의 클릭, 무브, 스크롤 대기 이벤트 수를 리스트를 읽지 않고 한 번의 파이프라인으로 조회합니다.
+	 * Redis 리스트 길이는 LPUSH, LTRIM, RENAME 시 Redis 가 원자적으로 유지하므로 별도 카운터 없이 O(1) 로 조회됩니다.
+	 * 이전 flush 에서 처리하지 못하고 임시 키에 남은 이벤트도 함께 셉니다.
+	 */
+	public long countPendingEvents(SessionIdentifier sessionIdentifier) {
+		String clickKey = KeyGenerator.buildEventKey(sessionIdentifier, new ClickEventRequest());
+		String moveKey = KeyGenerator.buildEventKey(sessionIdentifier, new MovementEventRequest());
+		String scrollKey = KeyGenerator.buildEventKey(sessionIdentifier, new ScrollEventRequest());
+		return click.countEvents(List.of(
+			clickKey, moveKey, scrollKey,
+			KeyGenerator.buildDrainKey(clickKey),
+			KeyGenerator.buildDrainKey(moveKey),
+			KeyGenerator.buildDrainKey(scrollKey)
+		));
+	}
 }
@@ -1,25 +1,52 @@
 package com.dajava.backend.utils.event;
 
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+import com.dajava.backend.utils.event.codec.CompactEventCodec;
+import com.dajava.backend.utils.event.codec.EventCodec;
+import com.dajava.backend.utils.event.codec.EventCodecType;
+import com.dajava.backend.utils.event.codec.JsonEventCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+/**
+ * 설정된 코덱으로 이벤트를 인코딩하고, 저장된 값의 형식을 판별해 디코딩합니다.
+ * 기록 방식과 관계없이 JSON, compact 형식 모두 읽을 수 있어 코덱을 전환해도 기존 버퍼 데이터가 유지됩니다.
+ */
 public class EventSerializer<T> {
-	private final ObjectMapper objectMapper;
-	private final Class<T> clazz;
+	private final EventCodec<T> jsonCodec;
+	private final EventCodec<T> compactCodec;
+	private final EventCodec<T> writeCodec;
 
 	public EventSerializer(ObjectMapper objectMapper, Class<T> clazz) {
-		this.objectMapper = objectMapper;
-		this.clazz = clazz;
+		this(objectMapper, clazz, EventCodecType.JSON);
+	}
+
+	public EventSerializer(ObjectMapper objectMapper, Class<T> clazz, EventCodecType codecType) {
+		this.jsonCodec = new JsonEventCodec<>(objectMapper, clazz);
+		this.compactCodec = new CompactEventCodec<>(clazz);
+		this.writeCodec = codecType == EventCodecType.COMPACT ? compactCodec : jsonCodec;
 	}
 
 	public String serialize(T event) throws Exception {
-		return objectMapper.writeValueAsString(event);
+		return writeCodec.encode(event);
 	}
 
 	public T deserialize(String json) {
+		return deserialize(json, null);
+	}
+
+	/**
+	 * @param value 저장된 값
+	 * @param sessionIdentifier 값이 저장되어 있던 키의 세션 식별자
+	 * @return 디코딩된 이벤트, 실패 시 null
+	 */
+	public T deserialize(String value, SessionIdentifier sessionIdentifier) {
 		try {
-			return objectMapper.readValue(json, clazz);
+			if (compactCodec.supports(value)) {
+				return compactCodec.decode(value, sessionIdentifier);
+			}
+			return jsonCodec.decode(value, sessionIdentifier);
 		} catch (Exception e) {
 			return null;
 		}
 	}
-}
\ No newline at end of file
+}
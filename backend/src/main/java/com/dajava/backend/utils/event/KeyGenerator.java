@@ -9,23 +9,44 @@ import com.dajava.backend.utils.LogUtils;
 public class KeyGenerator {
 	private static final String EVENT_CACHE_PREFIX = "event:";
 	private static final String LAST_UPDATED_PREFIX = "lastUpdated:";
+	private static final String ACTIVE_SESSION_INDEX_PREFIX = "activeSessions:";
+	private static final String DRAINING_PREFIX = "draining:";
 
 	public static <T> String buildEventKey( SessionIdentifier sessionIdentifier,T event) {
-		String eventType;
+		return EVENT_CACHE_PREFIX + LogUtils.createRedisKey(sessionIdentifier) + ":" + resolveEventType(event);
+	}
+
+	public static <T> String resolveEventType(T event) {
 		if (event instanceof ClickEventRequest) {
-			eventType = "click";
+			return "click";
 		} else if (event instanceof MovementEventRequest) {
-			eventType = "move";
+			return "move";
 		} else if (event instanceof ScrollEventRequest) {
-			eventType = "scroll";
-		} else {
-			throw new IllegalArgumentException("Unknown event type: " + event.getClass().getSimpleName());
+			return "scroll";
 		}
-		return EVENT_CACHE_PREFIX + LogUtils.createRedisKey(sessionIdentifier) + ":" + eventType;
+		throw new IllegalArgumentException("Unknown event type: " + event.getClass().getSimpleName());
+	}
+
+	/**
+	 * 이벤트 타입별 활성 세션 인덱스(Sorted Set) 키를 생성합니다.
+	 * member 는 세션 키(sessionId|pageUrl|memberSerialNumber), score 는 마지막 이벤트 수신 시각(ms) 입니다.
+	 * 예: activeSessions:click
+	 */
+	public static String buildActiveSessionIndexKey(String eventType) {
+		return ACTIVE_SESSION_INDEX_PREFIX + eventType;
 	}
 
 
 	public static String buildLastUpdatedKey(String eventKey) {
 		return LAST_UPDATED_PREFIX + eventKey;
 	}
+
+	/**
+	 * flush 시 원본 리스트를 옮겨 둘 임시 키를 생성합니다.
+	 * 이벤트 키마다 고정된 키를 사용하므로, 처리 도중 실패해 남은 이벤트를 다음 flush 가 이어서 처리할 수 있습니다.
+	 * 예: draining:event:sessionId|pageUrl|memberSerialNumber:click
+	 */
+	public static String buildDrainKey(String eventKey) {
+		return DRAINING_PREFIX + eventKey;
+	}
 }
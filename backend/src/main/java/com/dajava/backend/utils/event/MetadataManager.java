@@ -1,9 +1,29 @@
 package com.dajava.backend.utils.event;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 public class MetadataManager {
+	private static final int SCAN_BATCH_SIZE = 1000;
+
+	/**
+	 * 세션의 마지막 활동 시각이 기준 시각 이하인 경우에만 인덱스에서 제거합니다.
+	 * flush 도중 새로 들어온 이벤트로 갱신된 세션이 인덱스에서 빠지는 것을 막기 위해 사용합니다.
+	 */
+	private static final RedisScript<Long> REMOVE_IF_IDLE_SCRIPT = new DefaultRedisScript<>(
+		"local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) "
+			+ "if score and tonumber(score) <= tonumber(ARGV[2]) then "
+			+ "return redis.call('ZREM', KEYS[1], ARGV[1]) end "
+			+ "return 0",
+		Long.class
+	);
+
 	private final StringRedisTemplate redisTemplate;
 
 	public MetadataManager(StringRedisTemplate redisTemplate) {
@@ -14,13 +34,48 @@ public class MetadataManager {
 		redisTemplate.opsForValue().set(lastUpdatedKey, String.valueOf(System.currentTimeMillis()));
 	}
 
+	/**
+	 * 파이프라인/트랜잭션 등 이미 열린 커넥션 위에서 lastUpdated 값을 갱신합니다.
+	 */
+	public void updateLastUpdated(StringRedisConnection connection, String lastUpdatedKey) {
+		connection.set(lastUpdatedKey, String.valueOf(System.currentTimeMillis()));
+	}
+
 	public Long getLastUpdated(String lastUpdatedKey) {
 		String value = redisTemplate.opsForValue().get(lastUpdatedKey);
 		return value != null ? Long.valueOf(value) : null;
 	}
 
+	/**
+	 * 활성 세션 인덱스에 세션의 마지막 활동 시각을 기록합니다.
+	 */
+	public void touchActiveSession(StringRedisConnection connection, String indexKey, String sessionKey, long now) {
+		connection.zAdd(indexKey, now, sessionKey);
+	}
+
+	/**
+	 * 기준 시각 이후 새 이벤트가 없었던 경우에만 활성 세션 인덱스에서 세션을 제거합니다.
+	 */
+	public void removeActiveSessionIfIdleSince(String indexKey, String sessionKey, long since) {
+		redisTemplate.execute(REMOVE_IF_IDLE_SCRIPT, List.of(indexKey), sessionKey, String.valueOf(since));
+	}
+
+	/**
+	 * KEYS 대신 SCAN 커서로 패턴에 맞는 키를 나누어 삭제합니다.
+	 * KEYS 는 전체 키스페이스를 한 번에 순회하며 Redis 를 블로킹하므로 사용하지 않습니다.
+	 */
 	public void clearKeysByPattern(String pattern) {
-		Set<String> keys = redisTemplate.keys(pattern);
-		if (keys != null) redisTemplate.delete(keys);
+		ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+		List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				batch.add(cursor.next());
+				if (batch.size() >= SCAN_BATCH_SIZE) {
+					redisTemplate.delete(batch);
+					batch.clear();
+				}
+			}
+		}
+		if (!batch.isEmpty()) redisTemplate.delete(batch);
 	}
 }
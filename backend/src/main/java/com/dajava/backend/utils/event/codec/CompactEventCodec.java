@@ -0,0 +1,188 @@
+package com.dajava.backend.utils.event.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.MovementEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ScrollEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.base.BaseEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+
+/**
+ * 이벤트를 고정 바이너리 레이아웃으로 저장하는 코덱 입니다.
+ * 세션 식별 정보(sessionId, pageUrl, memberSerialNumber)는 Redis 키에 이미 포함되어 있으므로 저장하지 않고,
+ * 디코딩 시 키의 식별자로 복원합니다.
+ *
+ * 레이아웃 (v1, big-endian)
+ * [version:1][presenceMask:2][eventId:len2+utf8][timestamp:8]
+ * [browserWidth:4][scrollHeight:4][viewportHeight:4][clientX:4][clientY:4][scrollY:4][tag:len2+utf8]
+ * null 인 필드는 presenceMask 의 해당 비트가 0 이며 값이 생략됩니다.
+ * StringRedisTemplate 에 저장하기 위해 "~" 접두사를 붙인 Base64 문자열로 변환합니다.
+ * 접두사로 JSON("{" 로 시작) 과 구분되므로 기존 JSON 값과 같은 리스트에 섞여 있어도 읽을 수 있습니다.
+ *
+ * @param <T> 이벤트 타입 (예: ClickEventRequest, MovementEventRequest 등)
+ */
+public class CompactEventCodec<T> implements EventCodec<T> {
+	private static final String PREFIX = "~";
+	private static final byte VERSION = 1;
+	private static final int MAX_STRING_BYTES = 0xFFFF;
+
+	private static final int EVENT_ID_BIT = 1;
+	private static final int TIMESTAMP_BIT = 1 << 1;
+	// browserWidth, scrollHeight, viewportHeight, clientX, clientY, scrollY 순서로 2 ~ 7 번 비트
+	private static final int FIRST_INT_BIT_INDEX = 2;
+	private static final int INT_FIELD_COUNT = 6;
+	private static final int TAG_BIT = 1 << 8;
+
+	private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+	private final Class<T> clazz;
+
+	public CompactEventCodec(Class<T> clazz) {
+		if (clazz != ClickEventRequest.class && clazz != MovementEventRequest.class
+			&& clazz != ScrollEventRequest.class) {
+			throw new IllegalArgumentException("Unsupported event type: " + clazz.getSimpleName());
+		}
+		this.clazz = clazz;
+	}
+
+	@Override
+	public String encode(T event) {
+		BaseEventRequest base = (BaseEventRequest)event;
+		Integer[] ints = new Integer[INT_FIELD_COUNT];
+		ints[0] = base.getBrowserWidth();
+		ints[1] = base.getScrollHeight();
+		ints[2] = base.getViewportHeight();
+		String tag;
+		if (event instanceof ClickEventRequest click) {
+			ints[3] = click.getClientX();
+			ints[4] = click.getClientY();
+			ints[5] = click.getScrollY();
+			tag = click.getTag();
+		} else if (event instanceof MovementEventRequest move) {
+			ints[3] = move.getClientX();
+			ints[4] = move.getClientY();
+			ints[5] = move.getScrollY();
+			tag = move.getTag();
+		} else if (event instanceof ScrollEventRequest scroll) {
+			ints[3] = scroll.getClientX();
+			ints[4] = scroll.getClientY();
+			ints[5] = scroll.getScrollY();
+			tag = scroll.getTag();
+		} else {
+			throw new IllegalArgumentException("Unknown event type: " + event.getClass().getSimpleName());
+		}
+
+		byte[] eventId = toBytes(base.getEventId());
+		byte[] tagBytes = toBytes(tag);
+
+		int mask = 0;
+		int size = Byte.BYTES + Short.BYTES;
+		if (eventId != null) {
+			mask |= EVENT_ID_BIT;
+			size += Short.BYTES + eventId.length;
+		}
+		if (base.getTimestamp() != null) {
+			mask |= TIMESTAMP_BIT;
+			size += Long.BYTES;
+		}
+		for (int i = 0; i < INT_FIELD_COUNT; i++) {
+			if (ints[i] != null) {
+				mask |= 1 << (FIRST_INT_BIT_INDEX + i);
+				size += Integer.BYTES;
+			}
+		}
+		if (tagBytes != null) {
+			mask |= TAG_BIT;
+			size += Short.BYTES + tagBytes.length;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.put(VERSION).putShort((short)mask);
+		if (eventId != null) {
+			buffer.putShort((short)eventId.length).put(eventId);
+		}
+		if (base.getTimestamp() != null) {
+			buffer.putLong(base.getTimestamp());
+		}
+		for (Integer value : ints) {
+			if (value != null) {
+				buffer.putInt(value);
+			}
+		}
+		if (tagBytes != null) {
+			buffer.putShort((short)tagBytes.length).put(tagBytes);
+		}
+		return PREFIX + ENCODER.encodeToString(buffer.array());
+	}
+
+	@Override
+	public T decode(String value, SessionIdentifier sessionIdentifier) {
+		ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(value.substring(PREFIX.length())));
+		byte version = buffer.get();
+		if (version != VERSION) {
+			throw new IllegalArgumentException("Unsupported compact event version: " + version);
+		}
+		int mask = buffer.getShort() & 0xFFFF;
+
+		String eventId = (mask & EVENT_ID_BIT) != 0 ? readString(buffer) : null;
+		Long timestamp = (mask & TIMESTAMP_BIT) != 0 ? buffer.getLong() : null;
+		Integer[] ints = new Integer[INT_FIELD_COUNT];
+		for (int i = 0; i < INT_FIELD_COUNT; i++) {
+			if ((mask & (1 << (FIRST_INT_BIT_INDEX + i))) != 0) {
+				ints[i] = buffer.getInt();
+			}
+		}
+		String tag = (mask & TAG_BIT) != 0 ? readString(buffer) : null;
+
+		Object event;
+		if (clazz == ClickEventRequest.class) {
+			event = ClickEventRequest.builder()
+				.eventId(eventId).timestamp(timestamp)
+				.browserWidth(ints[0]).scrollHeight(ints[1]).viewportHeight(ints[2])
+				.sessionIdentifier(sessionIdentifier)
+				.clientX(ints[3]).clientY(ints[4]).scrollY(ints[5]).tag(tag)
+				.build();
+		} else if (clazz == MovementEventRequest.class) {
+			event = MovementEventRequest.builder()
+				.eventId(eventId).timestamp(timestamp)
+				.browserWidth(ints[0]).scrollHeight(ints[1]).viewportHeight(ints[2])
+				.sessionIdentifier(sessionIdentifier)
+				.clientX(ints[3]).clientY(ints[4]).scrollY(ints[5]).tag(tag)
+				.build();
+		} else {
+			event = ScrollEventRequest.builder()
+				.eventId(eventId).timestamp(timestamp)
+				.browserWidth(ints[0]).scrollHeight(ints[1]).viewportHeight(ints[2])
+				.sessionIdentifier(sessionIdentifier)
+				.clientX(ints[3]).clientY(ints[4]).scrollY(ints[5]).tag(tag)
+				.build();
+		}
+		return clazz.cast(event);
+	}
+
+	@Override
+	public boolean supports(String value) {
+		return value != null && value.startsWith(PREFIX);
+	}
+
+	private static byte[] toBytes(String value) {
+		if (value == null) {
+			return null;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > MAX_STRING_BYTES) {
+			throw new IllegalArgumentException("String field too long for compact encoding: " + bytes.length);
+		}
+		return bytes;
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,27 @@
+package com.dajava.backend.utils.event.codec;
+
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+
+/**
+ * Redis 버퍼에 저장되는 이벤트의 인코딩 방식을 정의하는 인터페이스 입니다.
+ * @param <T> 이벤트 타입 (예: ClickEventRequest, MovementEventRequest 등)
+ */
+public interface EventCodec<T> {
+
+	/**
+	 * 이벤트를 Redis 리스트에 저장할 문자열로 인코딩합니다.
+	 */
+	String encode(T event) throws Exception;
+
+	/**
+	 * Redis 리스트의 값을 이벤트로 디코딩합니다.
+	 * @param value 저장된 문자열
+	 * @param sessionIdentifier 값이 저장되어 있던 키의 세션 식별자 (세션 정보를 생략하는 코덱에서 복원에 사용)
+	 */
+	T decode(String value, SessionIdentifier sessionIdentifier) throws Exception;
+
+	/**
+	 * 해당 코덱으로 인코딩된 값인지 판별합니다.
+	 */
+	boolean supports(String value);
+}
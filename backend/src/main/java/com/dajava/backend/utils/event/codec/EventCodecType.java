@@ -0,0 +1,10 @@
+package com.dajava.backend.utils.event.codec;
+
+/**
+ * 버퍼 이벤트를 Redis 에 기록할 때 사용할 인코딩 방식 입니다.
+ * 읽기 시에는 저장된 값의 형식을 판별하므로 설정과 무관하게 두 형식 모두 읽을 수 있습니다.
+ */
+public enum EventCodecType {
+	JSON,
+	COMPACT
+}
@@ -0,0 +1,33 @@
+package com.dajava.backend.utils.event.codec;
+
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 이벤트를 Jackson JSON 문자열로 저장하는 기존 방식의 코덱 입니다.
+ * 세션 식별 정보가 본문에 포함되어 있으므로 디코딩 시 키의 식별자는 사용하지 않습니다.
+ */
+public class JsonEventCodec<T> implements EventCodec<T> {
+	private final ObjectMapper objectMapper;
+	private final Class<T> clazz;
+
+	public JsonEventCodec(ObjectMapper objectMapper, Class<T> clazz) {
+		this.objectMapper = objectMapper;
+		this.clazz = clazz;
+	}
+
+	@Override
+	public String encode(T event) throws Exception {
+		return objectMapper.writeValueAsString(event);
+	}
+
+	@Override
+	public T decode(String value, SessionIdentifier sessionIdentifier) throws Exception {
+		return objectMapper.readValue(value, clazz);
+	}
+
+	@Override
+	public boolean supports(String value) {
+		return value != null && value.startsWith("{");
+	}
+}
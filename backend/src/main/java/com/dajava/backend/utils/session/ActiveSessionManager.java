@@ -1,12 +1,18 @@
 package com.dajava.backend.utils.session;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Component;
 import com.dajava.backend.utils.LogUtils;
+import com.dajava.backend.utils.event.EventQueueRedisBuffer;
+import com.dajava.backend.utils.event.KeyGenerator;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
 
 import lombok.RequiredArgsConstructor;
@@ -20,30 +26,47 @@ import lombok.RequiredArgsConstructor;
 @Component
 @RequiredArgsConstructor
 public class ActiveSessionManager {
-	private static final String EVENT_CACHE_PREFIX = "event:";
 	private final StringRedisTemplate redisTemplate;
 
 	/**
 	 * 특정 이벤트 타입에 대한 세션 키 조회 메서드
+	 * KEYS 스캔 대신 수집 시 갱신되는 활성 세션 인덱스(Sorted Set)를 범위 조회합니다.
+	 * 이벤트 리스트 TTL 이 지나 이미 만료된 세션은 조회 전에 인덱스에서 정리합니다.
 	 * @param eventTypeSuffix (click, move, scroll)
 	 * @return Set<SessionIdentifier>
 	 */
 	public Set<SessionIdentifier> getActiveSessionKeysForType(String eventTypeSuffix) {
-		// 예: event:*:scroll 형식으로 Redis 키 조회
-		Set<String> keys = redisTemplate.keys(EVENT_CACHE_PREFIX + "*:" + eventTypeSuffix);
-		if (keys == null) return Collections.emptySet();
-
-		return keys.stream()
-			.map(k -> {
-				// event:제외 → test-session-id|localhost:3000|5_team_testSerial:scroll
-				String body = k.substring(EVENT_CACHE_PREFIX.length());
-				// 마지막 콜론 기준으로 잘라서 이벤트 타입 제외 → test-session-id|localhost:3000|5_team_testSerial
-				int lastColonIndex = body.lastIndexOf(':');
-				if (lastColonIndex == -1) return null;
-				String sessionPart = body.substring(0, lastColonIndex);
-				return LogUtils.parseRedisKey(sessionPart); // SessionIdentifier로 변환
-			})
-			.filter(k -> k != null)
+		// 예: activeSessions:scroll → test-session-id|localhost:3000|5_team_testSerial
+		String indexKey = KeyGenerator.buildActiveSessionIndexKey(eventTypeSuffix);
+		long expiredBefore = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(EventQueueRedisBuffer.EVENT_TTL_SECONDS);
+
+		redisTemplate.opsForZSet().removeRangeByScore(indexKey, Double.NEGATIVE_INFINITY, expiredBefore);
+		Set<String> sessionKeys = redisTemplate.opsForZSet().rangeByScore(indexKey, expiredBefore, Double.POSITIVE_INFINITY);
+		if (sessionKeys == null) return Collections.emptySet();
+
+		return sessionKeys.stream()
+			.map(LogUtils::parseRedisKey) // SessionIdentifier로 변환
 			.collect(Collectors.toSet());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 특정 이벤트 타입에 대해 세션별 마지막 활동 시각을 한 번의 범위 조회로 가져오는 메서드
+	 * @param eventTypeSuffix (click, move, scroll)
+	 * @return Map<SessionIdentifier, 마지막 활동 시각(ms)>
+	 */
+	public Map<SessionIdentifier, Long> getLastActivityForType(String eventTypeSuffix) {
+		String indexKey = KeyGenerator.buildActiveSessionIndexKey(eventTypeSuffix);
+		long expiredBefore = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(EventQueueRedisBuffer.EVENT_TTL_SECONDS);
+
+		Set<ZSetOperations.TypedTuple<String>> tuples =
+			redisTemplate.opsForZSet().rangeByScoreWithScores(indexKey, expiredBefore, Double.POSITIVE_INFINITY);
+		if (tuples == null) return Collections.emptyMap();
+
+		Map<SessionIdentifier, Long> lastActivity = new HashMap<>(tuples.size());
+		for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+			if (tuple.getValue() == null || tuple.getScore() == null) continue;
+			lastActivity.put(LogUtils.parseRedisKey(tuple.getValue()), tuple.getScore().longValue());
+		}
+		return lastActivity;
+	}
+}
@@ -0,0 +1,139 @@
+package com.dajava.backend.utils.session;
+
+import java.util.Arrays;
+
+/**
+ * 고정 크기 메모리로 서로 다른 값의 개수를 추정하는 HyperLogLog 스케치 입니다.
+ * 1. 값의 64bit 해시 상위 precision 비트로 레지스터를 고르고, 나머지 비트의 선행 0 개수 + 1 중 최대값을 레지스터에 기록합니다.
+ * 2. 메모리는 2^precision 바이트로 고정되며 표준 오차는 약 1.04 / sqrt(2^precision) 입니다. (precision 14 : 16KB, 약 0.8%)
+ * 3. 같은 precision 의 스케치는 레지스터별 최대값으로 합칠 수 있어, 나눠 집계한 결과를 저장해 두었다가 병합할 수 있습니다.
+ * 추정치가 작을 때는 비어 있는 레지스터 수로 계산하는 linear counting 을 사용하므로 적은 세션 수도 거의 정확합니다.
+ */
+public final class HyperLogLog {
+
+	public static final int MIN_PRECISION = 4;
+	public static final int MAX_PRECISION = 18;
+
+	private final int precision;
+	private final byte[] registers;
+
+	public HyperLogLog(int precision) {
+		this(precision, new byte[1 << checkPrecision(precision)]);
+	}
+
+	private HyperLogLog(int precision, byte[] registers) {
+		this.precision = precision;
+		this.registers = registers;
+	}
+
+	public int precision() {
+		return precision;
+	}
+
+	public void add(String value) {
+		long hash = hash64(value);
+		int index = (int) (hash >>> (Long.SIZE - precision));
+		// 남은 비트가 모두 0 이어도 rank 가 64 - precision + 1 을 넘지 않도록 경계 비트 추가
+		long remaining = (hash << precision) | (1L << (precision - 1));
+		byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+		if (rank > registers[index]) {
+			registers[index] = rank;
+		}
+	}
+
+	/**
+	 * 다른 스케치를 현재 스케치에 합칩니다. 두 스케치에 추가된 값의 합집합을 추정하게 됩니다.
+	 *
+	 * @throws IllegalArgumentException precision 이 다른 경우
+	 */
+	public void merge(HyperLogLog other) {
+		if (other.precision != precision) {
+			throw new IllegalArgumentException(
+				"HyperLogLog precision 이 다릅니다 : " + precision + ", " + other.precision);
+		}
+		for (int i = 0; i < registers.length; i++) {
+			if (other.registers[i] > registers[i]) {
+				registers[i] = other.registers[i];
+			}
+		}
+	}
+
+	public long estimate() {
+		int m = registers.length;
+		double sum = 0;
+		int zeros = 0;
+		for (byte register : registers) {
+			sum += 1.0 / (1L << register);
+			if (register == 0) {
+				zeros++;
+			}
+		}
+
+		double estimate = alpha(m) * m * m / sum;
+		// 작은 범위 보정, 64bit 해시를 사용하므로 큰 범위 보정은 필요 없음
+		if (estimate <= 2.5 * m && zeros > 0) {
+			estimate = m * Math.log((double) m / zeros);
+		}
+		return Math.round(estimate);
+	}
+
+	/**
+	 * 저장용 바이트 배열로 변환합니다. 첫 바이트는 precision, 이후는 레지스터 값 입니다.
+	 */
+	public byte[] toByteArray() {
+		byte[] bytes = new byte[registers.length + 1];
+		bytes[0] = (byte) precision;
+		System.arraycopy(registers, 0, bytes, 1, registers.length);
+		return bytes;
+	}
+
+	/**
+	 * toByteArray 로 저장한 스케치를 복원합니다.
+	 *
+	 * @throws IllegalArgumentException precision 과 레지스터 길이가 맞지 않는 경우
+	 */
+	public static HyperLogLog fromByteArray(byte[] bytes) {
+		if (bytes == null || bytes.length == 0) {
+			throw new IllegalArgumentException("HyperLogLog 데이터가 비어 있습니다.");
+		}
+		int precision = checkPrecision(bytes[0]);
+		if (bytes.length != (1 << precision) + 1) {
+			throw new IllegalArgumentException("HyperLogLog 레지스터 길이가 precision 과 맞지 않습니다 : " + bytes.length);
+		}
+		return new HyperLogLog(precision, Arrays.copyOfRange(bytes, 1, bytes.length));
+	}
+
+	private static int checkPrecision(int precision) {
+		if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+			throw new IllegalArgumentException(
+				"HyperLogLog precision 은 " + MIN_PRECISION + " ~ " + MAX_PRECISION + " 사이여야 합니다 : " + precision);
+		}
+		return precision;
+	}
+
+	private static double alpha(int m) {
+		return switch (m) {
+			case 16 -> 0.673;
+			case 32 -> 0.697;
+			case 64 -> 0.709;
+			default -> 0.7213 / (1 + 1.079 / m);
+		};
+	}
+
+	/**
+	 * 문자 단위 FNV-1a 해시에 MurmurHash3 의 fmix64 를 적용해 비트를 고르게 섞습니다.
+	 */
+	private static long hash64(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
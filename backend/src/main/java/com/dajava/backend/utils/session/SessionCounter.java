@@ -0,0 +1,69 @@
+package com.dajava.backend.utils.session;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 히트맵 메타데이터의 세션 수를 세는 클래스 입니다.
+ * 기본은 HyperLogLog 스케치로 고정 크기 메모리에서 추정하며, 정확한 값이 필요하면 sessionId 를 모두 보관하는 exact 모드를 사용합니다.
+ */
+public final class SessionCounter {
+
+	private final Set<String> sessionIds;
+	private final HyperLogLog sketch;
+
+	private SessionCounter(Set<String> sessionIds, HyperLogLog sketch) {
+		this.sessionIds = sessionIds;
+		this.sketch = sketch;
+	}
+
+	public static SessionCounter exact() {
+		return new SessionCounter(new HashSet<>(), null);
+	}
+
+	public static SessionCounter approximate(int precision) {
+		return new SessionCounter(null, new HyperLogLog(precision));
+	}
+
+	/**
+	 * @param exact true 이면 sessionId 를 모두 보관해 정확하게 계산
+	 * @param precision HyperLogLog 스케치 precision, exact 모드에서는 사용하지 않음
+	 */
+	public static SessionCounter of(boolean exact, int precision) {
+		return exact ? exact() : approximate(precision);
+	}
+
+	public void add(String sessionId) {
+		if (sessionId == null) {
+			return;
+		}
+		if (sketch != null) {
+			sketch.add(sessionId);
+		} else {
+			sessionIds.add(sessionId);
+		}
+	}
+
+	public int count() {
+		return sketch != null ? (int) sketch.estimate() : sessionIds.size();
+	}
+
+	public boolean isExact() {
+		return sketch == null;
+	}
+
+	/**
+	 * exact 모드에서 보관한 sessionId, 스케치 모드에서는 빈 Set
+	 */
+	public Set<String> sessionIds() {
+		return sessionIds != null ? sessionIds : Collections.emptySet();
+	}
+
+	/**
+	 * 스케치 모드의 HyperLogLog 스케치, exact 모드에서는 null
+	 */
+	public HyperLogLog sketch() {
+		return sketch;
+	}
+}
@@ -1,7 +1,9 @@
 package com.dajava.backend.utils.session;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.stereotype.Component;
@@ -28,4 +30,28 @@ public class SessionKeyCollector {
 		}
 		return allKeys;
 	}
+
+	/**
+	 * 모든 이벤트 타입을 통틀어 마지막 활동 시각이 기준 시간 이상 지난 세션만 수집합니다.
+	 * 타입별 인덱스를 한 번씩 범위 조회한 뒤 세션별 최신 활동 시각으로 병합하므로,
+	 * 세션 수와 무관하게 Redis 왕복은 이벤트 타입 수만큼만 발생합니다.
+	 * @param inactiveThresholdMs 비활성 판단 기준 시간(ms)
+	 * @return 비활성 세션 식별자 목록
+	 */
+	public Set<SessionIdentifier> collectInactiveSessionKeys(long inactiveThresholdMs) {
+		long inactiveBefore = System.currentTimeMillis() - inactiveThresholdMs;
+		Map<SessionIdentifier, Long> latestActivity = new HashMap<>();
+		for (String type : EVENT_TYPES) {
+			activeSessionManager.getLastActivityForType(type)
+				.forEach((key, lastUpdated) -> latestActivity.merge(key, lastUpdated, Math::max));
+		}
+
+		Set<SessionIdentifier> inactiveKeys = new HashSet<>();
+		latestActivity.forEach((key, lastUpdated) -> {
+			if (lastUpdated <= inactiveBefore) {
+				inactiveKeys.add(key);
+			}
+		});
+		return inactiveKeys;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.dajava.backend.domain.heatmap.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dajava.backend.domain.heatmap.dto.GridCell;
+import com.dajava.backend.domain.mouseeventvalidation.entity.SolutionEventDocument;
+import com.dajava.backend.utils.session.SessionCounter;
+
+/*
+ * 이벤트 단위 누적과 dense 그리드 집계 테스트 입니다.
+ */
+class HeatmapGridAggregatorTest {
+
+	@Test
+	@DisplayName("1. 좌표 이벤트를 그리드별 횟수로 집계하고 좌표 없는 이벤트는 세션 수에만 반영한다")
+	void t001() {
+		List<SolutionEventDocument> events = List.of(
+			pointer("session1", 100, 200, 0, 1000L),
+			pointer("session1", 105, 205, 0, 3000L),
+			pointer("session2", 500, 50, 1450, 2000L),
+			SolutionEventDocument.builder().sessionId("session3").browserWidth(1000).scrollHeight(2000).build()
+		);
+
+		HeatmapGridAggregator.CoordinateAccumulator accumulator = new HeatmapGridAggregator.CoordinateAccumulator(100, 200,
+			SessionCounter.exact());
+		events.forEach(accumulator::accept);
+		HeatmapGridAggregator.HeatmapGrid grid = accumulator.toGrid();
+
+		assertThat(accumulator.totalEvents()).isEqualTo(4);
+		assertThat(accumulator.totalSessions()).isEqualTo(3);
+		assertThat(accumulator.firstTimestamp()).isEqualTo(1000L);
+		assertThat(accumulator.lastTimestamp()).isEqualTo(3000L);
+		assertThat(grid.maxCount()).isEqualTo(2);
+		assertThat(grid.gridCells()).containsExactly(
+			new GridCell(10, 20, 2, 100),
+			new GridCell(50, 150, 1, 50)
+		);
+	}
+
+	@Test
+	@DisplayName("2. 직전 이벤트의 화면 범위에 체류 시간을 누적하고 30초 초과 간격은 5초로 보정한다")
+	void t002() {
+		List<SolutionEventDocument> events = List.of(
+			scroll("session1", 0, 1000L),
+			scroll("session1", 500, 3000L),
+			scroll("session1", 0, 60000L)
+		);
+
+		HeatmapGridAggregator.ScrollDepthAccumulator accumulator = new HeatmapGridAggregator.ScrollDepthAccumulator(20, 1,
+			SessionCounter.exact());
+		events.forEach(accumulator::accept);
+		HeatmapGridAggregator.HeatmapGrid grid = accumulator.toGrid();
+
+		assertThat(accumulator.firstTimestamp()).isEqualTo(1000L);
+		assertThat(accumulator.lastTimestamp()).isEqualTo(60000L);
+
+		// 0~10 행 : 2초, 5~15 행 : 5초 -> 5~10 행은 7초
+		assertThat(grid.maxCount()).isEqualTo(70);
+		assertThat(grid.gridCells()).hasSize(16);
+		assertThat(grid.gridCells().get(0)).isEqualTo(new GridCell(0, 0, 20, 28));
+		assertThat(grid.gridCells().get(5)).isEqualTo(new GridCell(0, 5, 70, 100));
+		assertThat(grid.gridCells().get(15)).isEqualTo(new GridCell(0, 15, 50, 71));
+	}
+
+	@Test
+	@DisplayName("3. 체류 시간이 0 인 행도 화면에 포함되었다면 셀을 생성한다")
+	void t003() {
+		List<SolutionEventDocument> events = List.of(
+			scroll("session1", 0, 1000L),
+			scroll("session2", 0, 1000L)
+		);
+
+		HeatmapGridAggregator.ScrollDepthAccumulator accumulator = new HeatmapGridAggregator.ScrollDepthAccumulator(20, 2,
+			SessionCounter.approximate(14));
+		events.forEach(accumulator::accept);
+		HeatmapGridAggregator.HeatmapGrid grid = accumulator.toGrid();
+
+		assertThat(accumulator.totalSessions()).isEqualTo(2);
+		assertThat(grid.maxCount()).isZero();
+		assertThat(grid.gridCells()).hasSize(22)
+			.allSatisfy(cell -> assertThat(cell.count()).isEqualTo(1));
+	}
+
+	@Test
+	@DisplayName("4. 다른 해상도의 셀을 겹치는 면적 비율만큼 나눠 재조정한다")
+	void t004() {
+		// 3칸 -> 2칸 : 가운데 셀이 양쪽에 절반씩 더해져 균일한 분포가 유지됨
+		int[] counts = HeatmapGridAggregator.rescaleCounts(new int[] {0, 1, 2}, new int[] {2, 2, 2}, 3, 1, 2, 1);
+		assertThat(counts).containsExactly(3, 3);
+
+		// 2칸 -> 4칸 : 한 셀이 두 셀로 나뉨
+		counts = HeatmapGridAggregator.rescaleCounts(new int[] {1}, new int[] {4}, 2, 1, 4, 1);
+		assertThat(counts).containsExactly(0, 0, 2, 2);
+	}
+
+	@Test
+	@DisplayName("5. 업샘플링으로 셀이 소수로 나뉘어도 전체 이벤트 수가 유지된다")
+	void t005() {
+		// 1칸 -> 4칸 : 셀마다 반올림하면 0.25 가 모두 버려짐
+		int[] counts = HeatmapGridAggregator.rescaleCounts(new int[] {0}, new int[] {1}, 1, 1, 4, 1);
+		assertThat(Arrays.stream(counts).sum()).isEqualTo(1);
+
+		// 2칸 -> 4칸 : 셀마다 반올림하면 1.5 가 모두 올림되어 6 이 됨
+		counts = HeatmapGridAggregator.rescaleCounts(new int[] {0, 1}, new int[] {3, 3}, 2, 1, 4, 1);
+		assertThat(Arrays.stream(counts).sum()).isEqualTo(6);
+		assertThat(counts).containsExactly(1, 1, 2, 2);
+
+		// 기본 해상도보다 큰 요청 해상도
+		counts = HeatmapGridAggregator.rescaleCounts(new int[] {5, 17, 40}, new int[] {7, 1, 3}, 8, 8, 20, 1024);
+		assertThat(Arrays.stream(counts).sum()).isEqualTo(11);
+	}
+
+	private SolutionEventDocument pointer(String sessionId, int clientX, int clientY, int scrollY, long timestamp) {
+		return SolutionEventDocument.builder()
+			.sessionId(sessionId)
+			.clientX(clientX)
+			.clientY(clientY)
+			.scrollY(scrollY)
+			.browserWidth(1000)
+			.scrollHeight(2000)
+			.timestamp(timestamp)
+			.build();
+	}
+
+	private SolutionEventDocument scroll(String sessionId, int scrollY, long timestamp) {
+		return SolutionEventDocument.builder()
+			.sessionId(sessionId)
+			.scrollY(scrollY)
+			.viewportHeight(1000)
+			.scrollHeight(2000)
+			.browserWidth(1000)
+			.timestamp(timestamp)
+			.build();
+	}
+}
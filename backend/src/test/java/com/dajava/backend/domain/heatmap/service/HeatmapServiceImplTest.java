@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +21,7 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.dajava.backend.domain.mouseeventvalidation.entity.SolutionEventDocument;
+import com.dajava.backend.domain.heatmap.dto.HeatmapMetadata;
 import com.dajava.backend.domain.heatmap.dto.HeatmapResponse;
 import com.dajava.backend.domain.heatmap.exception.HeatmapException;
 import com.dajava.backend.domain.heatmap.image.dto.ImageDimensions;
@@ -27,6 +29,7 @@ import com.dajava.backend.domain.heatmap.image.service.pageCapture.LocalFileStor
 import com.dajava.backend.domain.register.entity.PageCaptureData;
 import com.dajava.backend.domain.register.entity.Register;
 import com.dajava.backend.domain.register.repository.RegisterRepository;
+import com.dajava.backend.global.component.analyzer.HeatmapProperties;
 import com.dajava.backend.global.exception.ErrorCode;
 import com.dajava.backend.utils.PasswordUtils;
 
@@ -42,6 +45,15 @@ class HeatmapServiceImplTest {
 	@Mock
 	private LocalFileStorageService localFileStorageService;
 
+	@Mock
+	private SolutionEventAggregator solutionEventAggregator;
+
+	@Mock
+	private HeatmapViewService heatmapViewService;
+
+	@Mock
+	private HeatmapProperties heatmapProperties;
+
 	@InjectMocks
 	private HeatmapServiceImpl heatmapService;
 
@@ -154,6 +166,9 @@ class HeatmapServiceImplTest {
 		// fileStorageService 동작 설정하여 목 너비 및 높이를 반환하도록 처리
 		ImageDimensions stubbedDimensions = new ImageDimensions(1200, 3000);
 		lenient().when(localFileStorageService.getImageDimensions(anyString())).thenReturn(stubbedDimensions);
+
+		// 세션 수는 HyperLogLog 스케치로 추정
+		lenient().when(heatmapProperties.getSessionSketchPrecision()).thenReturn(14);
 	}
 
 	@Test
@@ -169,8 +184,9 @@ class HeatmapServiceImplTest {
 				.thenReturn(Optional.of(register));
 			passwordUtilsMock.when(() -> PasswordUtils.verifyPassword(password, register.getPassword()))
 				.thenReturn(true);
-			when(solutionEventFetcher.getAllEvents(eq(serialNumber), anyBoolean()))
-				.thenReturn(mockDocuments);
+			when(solutionEventAggregator.summarize(eq(serialNumber), eq(register.getUrl()), eq(type), eq(WIDTH_RANGE)))
+				.thenReturn(summaryOf(mockDocuments));
+			streamPages(mockDocuments);
 
 			// When
 			HeatmapResponse response = heatmapService.getHeatmap(serialNumber, password, type, WIDTH_RANGE, GRID_SIZE);
@@ -181,7 +197,8 @@ class HeatmapServiceImplTest {
 			assertEquals("sample1.png", response.pageCapture());
 			assertNotNull(response.gridCells());
 			assertNotNull(response.metadata());
-			verify(solutionEventFetcher).getAllEvents(eq(serialNumber), eq(false));
+			verify(solutionEventFetcher).streamEvents(eq(serialNumber), eq(register.getUrl()), eq(type), eq(WIDTH_RANGE),
+				eq(false), any());
 		}
 	}
 
@@ -198,8 +215,9 @@ class HeatmapServiceImplTest {
 				.thenReturn(Optional.of(register));
 			passwordUtilsMock.when(() -> PasswordUtils.verifyPassword(password, register.getPassword()))
 				.thenReturn(true);
-			when(solutionEventFetcher.getAllEvents(eq(serialNumber), anyBoolean()))
-				.thenReturn(mockDocuments);
+			when(solutionEventAggregator.summarize(eq(serialNumber), eq(register.getUrl()), eq(type), eq(WIDTH_RANGE)))
+				.thenReturn(summaryOf(mockDocuments));
+			streamPages(mockDocuments);
 
 			// When
 			HeatmapResponse response = heatmapService.getHeatmap(serialNumber, password, type, WIDTH_RANGE, GRID_SIZE);
@@ -208,7 +226,8 @@ class HeatmapServiceImplTest {
 			assertNotNull(response);
 			assertEquals(10, response.gridSize());
 			assertNotNull(response.gridCells());
-			verify(solutionEventFetcher).getAllEvents(eq(serialNumber), eq(false));
+			verify(solutionEventFetcher).streamEvents(eq(serialNumber), eq(register.getUrl()), eq(type), eq(WIDTH_RANGE),
+				eq(false), any());
 		}
 	}
 
@@ -225,8 +244,9 @@ class HeatmapServiceImplTest {
 				.thenReturn(Optional.of(register));
 			passwordUtilsMock.when(() -> PasswordUtils.verifyPassword(password, register.getPassword()))
 				.thenReturn(true);
-			when(solutionEventFetcher.getAllEvents(eq(serialNumber), anyBoolean()))
-				.thenReturn(mockDocuments);
+			when(solutionEventAggregator.summarize(eq(serialNumber), eq(register.getUrl()), isNull(), eq(WIDTH_RANGE)))
+				.thenReturn(summaryOf(mockDocuments));
+			streamPages(mockDocuments);
 
 			// When
 			HeatmapResponse response = heatmapService.getHeatmap(serialNumber, password, type, WIDTH_RANGE, GRID_SIZE);
@@ -235,7 +255,8 @@ class HeatmapServiceImplTest {
 			assertNotNull(response);
 			assertEquals(10, response.gridSize());
 			assertNotNull(response.gridCells());
-			verify(solutionEventFetcher).getAllEvents(eq(serialNumber), eq(true));
+			verify(solutionEventFetcher).streamEvents(eq(serialNumber), eq(register.getUrl()), isNull(), eq(WIDTH_RANGE),
+				eq(true), any());
 		}
 	}
 
@@ -255,7 +276,7 @@ class HeatmapServiceImplTest {
 			heatmapService.getHeatmap(serialNumber, password, type, WIDTH_RANGE, GRID_SIZE));
 
 		verify(registerRepository).findBySerialNumber(serialNumber);
-		verify(solutionEventFetcher, never()).getAllEvents(any(), anyBoolean());
+		verify(solutionEventFetcher, never()).streamEvents(any(), any(), any(), anyInt(), anyBoolean(), any());
 	}
 
 	@Test
@@ -277,7 +298,7 @@ class HeatmapServiceImplTest {
 				heatmapService.getHeatmap(serialNumber, password, type, WIDTH_RANGE, GRID_SIZE));
 
 			verify(registerRepository).findBySerialNumber(serialNumber);
-			verify(solutionEventFetcher, never()).getAllEvents(any(), anyBoolean());
+			verify(solutionEventFetcher, never()).streamEvents(any(), any(), any(), anyInt(), anyBoolean(), any());
 		}
 	}
 
@@ -294,8 +315,9 @@ class HeatmapServiceImplTest {
 				.thenReturn(Optional.of(register));
 			passwordUtilsMock.when(() -> PasswordUtils.verifyPassword(password, register.getPassword()))
 				.thenReturn(true);
-			when(solutionEventFetcher.getAllEvents(eq(serialNumber), anyBoolean()))
-				.thenReturn(Collections.emptyList());
+			// serialNumber 의 이벤트는 있지만 조건에 맞는 이벤트가 없는 경우
+			when(solutionEventAggregator.summarize(eq(serialNumber), eq(register.getUrl()), eq(type), eq(WIDTH_RANGE)))
+				.thenReturn(new HeatmapEventSummary(7, 0, 0, 0));
 
 			// When
 			HeatmapResponse response = heatmapService.getHeatmap(serialNumber, password, type, WIDTH_RANGE, GRID_SIZE);
@@ -317,7 +339,7 @@ class HeatmapServiceImplTest {
 			assertEquals(0, response.metadata().totalSessions());
 
 			verify(registerRepository).findBySerialNumber(serialNumber);
-			verify(solutionEventFetcher).getAllEvents(eq(serialNumber), eq(false));
+			verify(solutionEventFetcher, never()).streamEvents(any(), any(), any(), anyInt(), anyBoolean(), any());
 		}
 	}
 
@@ -334,15 +356,16 @@ class HeatmapServiceImplTest {
 				.thenReturn(Optional.of(register));
 			passwordUtilsMock.when(() -> PasswordUtils.verifyPassword(password, register.getPassword()))
 				.thenReturn(true);
-			when(solutionEventFetcher.getAllEvents(eq(serialNumber), anyBoolean()))
-				.thenThrow(new HeatmapException(com.dajava.backend.global.exception.ErrorCode.SOLUTION_EVENT_DATA_NOT_FOUND));
+			when(solutionEventAggregator.summarize(eq(serialNumber), eq(register.getUrl()), eq(type), eq(WIDTH_RANGE)))
+				.thenReturn(new HeatmapEventSummary(0, 0, 0, 0));
 
 			// When & Then
 			HeatmapException exception = assertThrows(HeatmapException.class, () ->
 				heatmapService.getHeatmap(serialNumber, password, type, WIDTH_RANGE, GRID_SIZE));
 
+			assertEquals(ErrorCode.SOLUTION_EVENT_DATA_NOT_FOUND, exception.errorCode);
 			verify(registerRepository).findBySerialNumber(serialNumber);
-			verify(solutionEventFetcher).getAllEvents(eq(serialNumber), eq(false));
+			verify(solutionEventFetcher, never()).streamEvents(any(), any(), any(), anyInt(), anyBoolean(), any());
 		}
 	}
 
@@ -361,7 +384,7 @@ class HeatmapServiceImplTest {
 		assertEquals(ErrorCode.INVALID_EVENT_TYPE, exception.errorCode);
 
 		// 리포지드 접근이 이루어지지 않았음을 체크
-		verify(solutionEventFetcher, never()).getAllEvents(any(), anyBoolean());
+		verify(solutionEventFetcher, never()).streamEvents(any(), any(), any(), anyInt(), anyBoolean(), any());
 	}
 
 	@Test
@@ -377,8 +400,9 @@ class HeatmapServiceImplTest {
 				.thenReturn(Optional.of(register));
 			passwordUtilsMock.when(() -> PasswordUtils.verifyPassword(password, register.getPassword()))
 				.thenReturn(true);
-			when(solutionEventFetcher.getAllEvents(eq(serialNumber), anyBoolean()))
-				.thenReturn(largeEventDocs);
+			when(solutionEventAggregator.summarize(eq(serialNumber), eq(register.getUrl()), eq(type), eq(WIDTH_RANGE)))
+				.thenReturn(summaryOf(largeEventDocs));
+			streamPages(largeEventDocs);
 
 			// When
 			HeatmapResponse response = heatmapService.getHeatmap(serialNumber, password, type, WIDTH_RANGE, GRID_SIZE);
@@ -396,7 +420,120 @@ class HeatmapServiceImplTest {
 			assertTrue(response.metadata().totalEvents() > 0,
 				"샘플링 후에도 이벤트는 존재해야 함");
 
-			verify(solutionEventFetcher).getAllEvents(eq(serialNumber), eq(false));
+			verify(solutionEventFetcher).streamEvents(eq(serialNumber), eq(register.getUrl()), eq(type), eq(WIDTH_RANGE),
+				eq(false), any());
 		}
 	}
+
+	@Test
+	@DisplayName("10. ES 집계 모드에서는 이벤트를 가져오지 않고 ES 집계 결과로 히트맵을 생성한다")
+	void t010() {
+		// Given
+		String serialNumber = "5_team_testSerial";
+		String password = "password123!";
+		String type = "click";
+
+		HeatmapResponse aggregated = HeatmapResponse.builder()
+			.gridSizeX(120)
+			.gridSizeY(300)
+			.pageWidth(1200)
+			.pageHeight(3000)
+			.gridCells(Collections.emptyList())
+			.metadata(HeatmapMetadata.builder()
+				.totalEvents(1500000)
+				.pageUrl(register.getUrl())
+				.build())
+			.build();
+
+		try (MockedStatic<PasswordUtils> passwordUtilsMock = mockStatic(PasswordUtils.class)) {
+			when(registerRepository.findBySerialNumber(serialNumber))
+				.thenReturn(Optional.of(register));
+			passwordUtilsMock.when(() -> PasswordUtils.verifyPassword(password, register.getPassword()))
+				.thenReturn(true);
+			when(heatmapProperties.isElasticsearchAggregation()).thenReturn(true);
+			when(solutionEventAggregator.aggregateCoordinateHeatmap(
+				serialNumber, register.getUrl(), type, WIDTH_RANGE, GRID_SIZE))
+				.thenReturn(Optional.of(aggregated));
+
+			// When
+			HeatmapResponse response = heatmapService.getHeatmap(serialNumber, password, type, WIDTH_RANGE, GRID_SIZE);
+
+			// Then
+			assertEquals(10, response.gridSize());
+			assertEquals("sample1.png", response.pageCapture());
+			assertEquals(1500000, response.metadata().totalEvents());
+			verify(solutionEventFetcher, never()).streamEvents(any(), any(), any(), anyInt(), anyBoolean(), any());
+		}
+	}
+
+	@Test
+	@DisplayName("11. 히트맵 뷰 모드에서는 이벤트를 가져오지 않고 히트맵 뷰로 히트맵을 생성한다")
+	void t011() {
+		// Given
+		String serialNumber = "5_team_testSerial";
+		String password = "password123!";
+		String type = "move";
+
+		HeatmapResponse view = HeatmapResponse.builder()
+			.gridSizeX(120)
+			.gridSizeY(300)
+			.pageWidth(1200)
+			.pageHeight(3000)
+			.gridCells(Collections.emptyList())
+			.metadata(HeatmapMetadata.builder()
+				.totalEvents(2000000)
+				.pageUrl(register.getUrl())
+				.build())
+			.build();
+
+		try (MockedStatic<PasswordUtils> passwordUtilsMock = mockStatic(PasswordUtils.class)) {
+			when(registerRepository.findBySerialNumber(serialNumber))
+				.thenReturn(Optional.of(register));
+			passwordUtilsMock.when(() -> PasswordUtils.verifyPassword(password, register.getPassword()))
+				.thenReturn(true);
+			when(heatmapProperties.isMaterializedView()).thenReturn(true);
+			when(heatmapViewService.getHeatmap(serialNumber, register.getUrl(), type, WIDTH_RANGE, GRID_SIZE))
+				.thenReturn(Optional.of(view));
+
+			// When
+			HeatmapResponse response = heatmapService.getHeatmap(serialNumber, password, type, WIDTH_RANGE, GRID_SIZE);
+
+			// Then
+			assertEquals(10, response.gridSize());
+			assertEquals(2000000, response.metadata().totalEvents());
+			verify(solutionEventAggregator, never()).summarize(any(), any(), any(), anyInt());
+			verify(solutionEventFetcher, never()).streamEvents(any(), any(), any(), anyInt(), anyBoolean(), any());
+		}
+	}
+
+	/**
+	 * ES 요약 집계 결과를 이벤트 리스트로부터 계산합니다.
+	 */
+	private HeatmapEventSummary summaryOf(List<SolutionEventDocument> documents) {
+		int maxPageWidth = 0;
+		int maxPageHeight = 0;
+		for (SolutionEventDocument document : documents) {
+			if (document.getBrowserWidth() != null) {
+				maxPageWidth = Math.max(maxPageWidth, document.getBrowserWidth());
+			}
+			maxPageHeight = Math.max(maxPageHeight, document.getScrollHeight() != null ? document.getScrollHeight()
+				: (document.getViewportHeight() != null ? document.getViewportHeight() : 0));
+		}
+		return new HeatmapEventSummary(documents.size(), documents.size(), maxPageWidth, maxPageHeight);
+	}
+
+	/**
+	 * 이벤트 리스트를 1000 개 단위 페이지로 나눠 consumer 에 전달하도록 설정합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private void streamPages(List<SolutionEventDocument> documents) {
+		when(solutionEventFetcher.streamEvents(any(), any(), any(), anyInt(), anyBoolean(), any()))
+			.thenAnswer(invocation -> {
+				Consumer<List<SolutionEventDocument>> pageConsumer = invocation.getArgument(5);
+				for (int from = 0; from < documents.size(); from += 1000) {
+					pageConsumer.accept(documents.subList(from, Math.min(documents.size(), from + 1000)));
+				}
+				return (long) documents.size();
+			});
+	}
 }
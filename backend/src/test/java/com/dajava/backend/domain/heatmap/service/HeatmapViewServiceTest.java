@@ -0,0 +1,252 @@
+package com.dajava.backend.domain.heatmap.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.dajava.backend.domain.heatmap.dto.GridCell;
+import com.dajava.backend.domain.heatmap.dto.HeatmapResponse;
+import com.dajava.backend.domain.heatmap.entity.HeatmapViewDocument;
+import com.dajava.backend.domain.heatmap.repository.HeatmapViewDocumentRepository;
+import com.dajava.backend.domain.mouseeventvalidation.entity.SolutionEventDocument;
+import com.dajava.backend.domain.register.entity.Register;
+import com.dajava.backend.domain.register.repository.RegisterRepository;
+import com.dajava.backend.global.component.analyzer.HeatmapProperties;
+import com.dajava.backend.utils.session.SessionCounter;
+
+/*
+ * 이벤트 저장 시 히트맵 뷰 갱신과 히트맵 뷰 조회 테스트 입니다.
+ */
+class HeatmapViewServiceTest {
+
+	private static final String SERIAL_NUMBER = "5_team_testSerial";
+	private static final String PAGE_URL = "http://localhost:3000/myPage1";
+	private static final String VIEW_ID = HeatmapViewDocument.idOf(SERIAL_NUMBER, "click", 1000);
+
+	private HeatmapViewDocumentRepository heatmapViewDocumentRepository;
+	private SolutionEventFetcher solutionEventFetcher;
+	private SolutionEventAggregator solutionEventAggregator;
+	private HeatmapProperties heatmapProperties;
+	private HeatmapViewService heatmapViewService;
+
+	@BeforeEach
+	void setUp() {
+		heatmapViewDocumentRepository = mock(HeatmapViewDocumentRepository.class);
+		RegisterRepository registerRepository = mock(RegisterRepository.class);
+		solutionEventFetcher = mock(SolutionEventFetcher.class);
+		solutionEventAggregator = mock(SolutionEventAggregator.class);
+		heatmapProperties = new HeatmapProperties();
+		heatmapProperties.setMaterializedView(true);
+		heatmapProperties.setViewGridsX(10);
+		heatmapProperties.setViewGridsY(10);
+
+		when(registerRepository.findBySerialNumber(SERIAL_NUMBER))
+			.thenReturn(Optional.of(Register.builder().serialNumber(SERIAL_NUMBER).url(PAGE_URL).build()));
+		heatmapViewService = new HeatmapViewService(heatmapViewDocumentRepository, registerRepository,
+			solutionEventFetcher, solutionEventAggregator, heatmapProperties);
+	}
+
+	@Test
+	@DisplayName("1. 저장된 이벤트 중 등록된 URL 의 클릭, 이동 이벤트만 기존 히트맵 뷰에 합친다")
+	void t001() {
+		when(heatmapViewDocumentRepository.findById(VIEW_ID)).thenReturn(Optional.of(view()));
+
+		heatmapViewService.applyEvents(List.of(
+			click("session2", PAGE_URL, 100, 200),
+			click("session2", "https://localhost:3000/myPage1", 150, 250),
+			click("session3", "http://localhost:3000/other", 100, 200),
+			SolutionEventDocument.builder().serialNumber(SERIAL_NUMBER).type("scroll").pageUrl(PAGE_URL)
+				.browserWidth(1000).scrollY(100).build()
+		));
+
+		ArgumentCaptor<HeatmapViewDocument> saved = ArgumentCaptor.forClass(HeatmapViewDocument.class);
+		verify(heatmapViewDocumentRepository).save(saved.capture());
+		assertThat(saved.getValue().getCellKeys()).containsExactly(0, 11);
+		assertThat(saved.getValue().getCellCounts()).containsExactly(2, 2);
+		assertThat(saved.getValue().getTotalEvents()).isEqualTo(4);
+		// 저장된 스케치와 변경분 스케치가 병합됨
+		assertThat(saved.getValue().getTotalSessions()).isEqualTo(2);
+		assertThat(saved.getValue().getLastTimestamp()).isEqualTo(5000L);
+	}
+
+	@Test
+	@DisplayName("2. 히트맵 뷰가 없으면 첫 조회 시 생성되므로 갱신하지 않는다")
+	void t002() {
+		when(heatmapViewDocumentRepository.findById(VIEW_ID)).thenReturn(Optional.empty());
+
+		heatmapViewService.applyEvents(List.of(click("session2", PAGE_URL, 100, 200)));
+
+		verify(heatmapViewDocumentRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("3. 조회 시 저장된 히트맵 뷰를 요청 그리드 크기로 재조정만 한다")
+	void t003() {
+		when(heatmapViewDocumentRepository.findById(VIEW_ID)).thenReturn(Optional.of(view()));
+
+		Optional<HeatmapResponse> response = heatmapViewService.getHeatmap(SERIAL_NUMBER, PAGE_URL, "click", 1000,
+			100);
+
+		assertThat(response).isPresent();
+		assertThat(response.get().gridSizeX()).isEqualTo(10);
+		assertThat(response.get().gridSizeY()).isEqualTo(20);
+		assertThat(response.get().metadata().totalEvents()).isEqualTo(2);
+		// 기본 그리드 한 행이 요청 그리드 두 행으로 나뉨
+		assertThat(response.get().gridCells()).containsExactly(
+			new GridCell(0, 0, 1, 100),
+			new GridCell(0, 1, 1, 100)
+		);
+	}
+
+	@Test
+	@DisplayName("4. 세션 수 계산 방식이 바뀐 히트맵 뷰는 갱신하지 않고 삭제한다")
+	void t004() {
+		heatmapProperties.setExactSessionCount(true);
+		when(heatmapViewDocumentRepository.findById(VIEW_ID)).thenReturn(Optional.of(view()));
+
+		heatmapViewService.applyEvents(List.of(click("session2", PAGE_URL, 100, 200)));
+
+		verify(heatmapViewDocumentRepository, never()).save(any());
+		verify(heatmapViewDocumentRepository).deleteById(VIEW_ID);
+	}
+
+	@Test
+	@DisplayName("5. 히트맵 뷰 생성 시 이미 반영된 이벤트는 다시 합치지 않는다")
+	void t005() {
+		HeatmapViewDocument view = view();
+		when(heatmapViewDocumentRepository.findById(VIEW_ID)).thenReturn(Optional.of(view));
+
+		SolutionEventDocument covered = click("session2", PAGE_URL, 100, 200);
+		covered.markSaved(100L);
+		heatmapViewService.applyEvents(List.of(covered));
+		verify(heatmapViewDocumentRepository, never()).save(any());
+
+		SolutionEventDocument saved = click("session2", PAGE_URL, 100, 200);
+		saved.markSaved(101L);
+		heatmapViewService.applyEvents(List.of(covered, saved));
+
+		ArgumentCaptor<HeatmapViewDocument> captor = ArgumentCaptor.forClass(HeatmapViewDocument.class);
+		verify(heatmapViewDocumentRepository).save(captor.capture());
+		assertThat(captor.getValue().getTotalEvents()).isEqualTo(3);
+		assertThat(captor.getValue().getCellCounts()).containsExactly(2, 1);
+	}
+
+	@Test
+	@DisplayName("6. 히트맵 뷰 생성 도중 저장된 이벤트는 생성 직후 다시 조회해 합치고, 그 사이 갱신으로 합친 배치는 건너뛴다")
+	void t006() {
+		SolutionEventDocument inSnapshot = click("session1", PAGE_URL, 100, 200);
+		inSnapshot.markSaved(100L);
+		SolutionEventDocument applied = click("session2", PAGE_URL, 100, 200);
+		applied.markSaved(101L);
+		SolutionEventDocument missed = click("session3", PAGE_URL, 150, 250);
+		missed.markSaved(102L);
+
+		when(solutionEventAggregator.summarize(SERIAL_NUMBER, PAGE_URL, "click", 1000))
+			.thenReturn(new HeatmapEventSummary(1, 1, 1000, 2000));
+		doAnswer(invocation -> {
+			invocation.<Consumer<List<SolutionEventDocument>>>getArgument(5).accept(List.of(inSnapshot));
+			return 1L;
+		}).when(solutionEventFetcher).streamEvents(eq(SERIAL_NUMBER), eq(PAGE_URL), eq("click"), eq(1000), eq(false),
+			any());
+		doAnswer(invocation -> {
+			invocation.<Consumer<List<SolutionEventDocument>>>getArgument(5).accept(List.of(applied, missed));
+			return 2L;
+		}).when(solutionEventFetcher).streamEventsSavedAfter(eq(SERIAL_NUMBER), eq(PAGE_URL), eq("click"),
+			eq(1000), eq(100L), any());
+		when(heatmapViewDocumentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// 생성한 뷰가 저장된 뒤 누락분을 반영하기 전에 101 배치가 갱신으로 합쳐진 상태
+		HeatmapViewDocument updated = HeatmapViewDocument.builder()
+			.id(VIEW_ID)
+			.serialNumber(SERIAL_NUMBER)
+			.type("click")
+			.widthRange(1000)
+			.viewGridsX(10)
+			.viewGridsY(10)
+			.totalEvents(2)
+			.maxPageWidth(1000)
+			.maxPageHeight(2000)
+			.savedUpTo(100L)
+			.sessions(SessionCounter.approximate(14))
+			.cellKeys(new int[] {0})
+			.cellCounts(new int[] {2})
+			.build();
+		updated.markApplied(List.of(applied));
+		when(heatmapViewDocumentRepository.findById(VIEW_ID))
+			.thenReturn(Optional.empty(), Optional.of(updated));
+
+		Optional<HeatmapResponse> response = heatmapViewService.getHeatmap(SERIAL_NUMBER, PAGE_URL, "click", 1000,
+			100);
+
+		ArgumentCaptor<HeatmapViewDocument> captor = ArgumentCaptor.forClass(HeatmapViewDocument.class);
+		verify(heatmapViewDocumentRepository, times(2)).save(captor.capture());
+		HeatmapViewDocument caughtUp = captor.getAllValues().get(1);
+		assertThat(caughtUp.getTotalEvents()).isEqualTo(3);
+		assertThat(caughtUp.getCellKeys()).containsExactly(0, 11);
+		assertThat(caughtUp.getCellCounts()).containsExactly(2, 1);
+		assertThat(caughtUp.isCaughtUp()).isTrue();
+		assertThat(caughtUp.getSavedUpTo()).isEqualTo(102L);
+		assertThat(caughtUp.getAppliedBatches()).isEmpty();
+		assertThat(response).isPresent();
+		assertThat(response.get().metadata().totalEvents()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("7. 히트맵 뷰를 사용하지 않는 동안 저장된 이벤트가 속한 뷰는 삭제한다")
+	void t007() {
+		heatmapProperties.setMaterializedView(false);
+
+		heatmapViewService.applyEvents(List.of(click("session2", PAGE_URL, 100, 200)));
+
+		verify(heatmapViewDocumentRepository).deleteAllById(Set.of(VIEW_ID));
+		verify(heatmapViewDocumentRepository, never()).findById(any());
+		verify(heatmapViewDocumentRepository, never()).save(any());
+	}
+
+	private HeatmapViewDocument view() {
+		SessionCounter sessionCounter = SessionCounter.approximate(14);
+		sessionCounter.add("session1");
+		return HeatmapViewDocument.builder()
+			.id(VIEW_ID)
+			.serialNumber(SERIAL_NUMBER)
+			.type("click")
+			.widthRange(1000)
+			.viewGridsX(10)
+			.viewGridsY(10)
+			.totalEvents(2)
+			.maxPageWidth(1000)
+			.maxPageHeight(2000)
+			.firstTimestamp(1000L)
+			.lastTimestamp(1000L)
+			.savedUpTo(100L)
+			.caughtUp(true)
+			.sessions(sessionCounter)
+			.cellKeys(new int[] {0})
+			.cellCounts(new int[] {2})
+			.build();
+	}
+
+	private SolutionEventDocument click(String sessionId, String pageUrl, int clientX, int clientY) {
+		return SolutionEventDocument.builder()
+			.serialNumber(SERIAL_NUMBER)
+			.sessionId(sessionId)
+			.pageUrl(pageUrl)
+			.type("click")
+			.clientX(clientX)
+			.clientY(clientY)
+			.scrollY(0)
+			.browserWidth(1000)
+			.scrollHeight(2000)
+			.timestamp(5000L)
+			.build();
+	}
+}
@@ -0,0 +1,165 @@
+package com.dajava.backend.domain.heatmap.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+import com.dajava.backend.domain.heatmap.dto.GridCell;
+import com.dajava.backend.domain.heatmap.dto.HeatmapResponse;
+import com.dajava.backend.domain.mouseeventvalidation.entity.SolutionEventDocument;
+import com.dajava.backend.global.component.analyzer.HeatmapProperties;
+
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeTermsAggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.ValueType;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.json.JsonData;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+
+/*
+ * ES 에서 기록한 검색 응답으로 클릭, 이동 히트맵 집계를 검증하는 테스트 입니다.
+ */
+class SolutionEventAggregatorTest {
+
+	private static final String SERIAL_NUMBER = "5_team_testSerial";
+	private static final String PAGE_URL = "http://localhost:3000/myPage1";
+
+	// 요약 집계 응답 (typed_keys)
+	private static final String SUMMARY_RESPONSE = """
+		{
+		  "took": 4, "timed_out": false,
+		  "_shards": {"total": 1, "successful": 1, "skipped": 0, "failed": 0},
+		  "hits": {"total": {"value": 3, "relation": "eq"}, "max_score": null, "hits": []},
+		  "aggregations": {
+		    "max#maxPageWidth": {"value": 1000.0},
+		    "max#maxPageHeight": {"value": 2000.0},
+		    "cardinality#totalSessions": {"value": 2},
+		    "filter#pointerEvents": {
+		      "doc_count": 3,
+		      "min#firstEventTime": {"value": 1000.0},
+		      "max#lastEventTime": {"value": 3000.0}
+		    }
+		  }
+		}
+		""";
+
+	// value_type 없이 script terms source 를 사용했을 때의 응답, key 가 문자열로 반환됨
+	private static final String KEYWORD_GRID_RESPONSE = """
+		{
+		  "took": 7, "timed_out": false,
+		  "_shards": {"total": 1, "successful": 1, "skipped": 0, "failed": 0},
+		  "hits": {"total": {"value": 3, "relation": "eq"}, "max_score": null, "hits": []},
+		  "aggregations": {
+		    "composite#grid": {
+		      "after_key": {"gridX": "1", "gridY": "3"},
+		      "buckets": [
+		        {"key": {"gridX": "0", "gridY": "0"}, "doc_count": 2},
+		        {"key": {"gridX": "1", "gridY": "3"}, "doc_count": 1}
+		      ]
+		    }
+		  }
+		}
+		""";
+
+	// value_type long 을 지정했을 때의 응답
+	private static final String LONG_GRID_RESPONSE = """
+		{
+		  "took": 7, "timed_out": false,
+		  "_shards": {"total": 1, "successful": 1, "skipped": 0, "failed": 0},
+		  "hits": {"total": {"value": 3, "relation": "eq"}, "max_score": null, "hits": []},
+		  "aggregations": {
+		    "composite#grid": {
+		      "after_key": {"gridX": 1, "gridY": 3},
+		      "buckets": [
+		        {"key": {"gridX": 0, "gridY": 0}, "doc_count": 2},
+		        {"key": {"gridX": 1, "gridY": 3}, "doc_count": 1}
+		      ]
+		    }
+		  }
+		}
+		""";
+
+	private final JsonpMapper jsonpMapper = new JacksonJsonpMapper();
+	private ElasticsearchOperations elasticsearchOperations;
+	private SolutionEventAggregator solutionEventAggregator;
+
+	@BeforeEach
+	void setUp() {
+		elasticsearchOperations = mock(ElasticsearchOperations.class);
+		solutionEventAggregator = new SolutionEventAggregator(elasticsearchOperations, new HeatmapProperties());
+	}
+
+	@Test
+	@DisplayName("1. 셀 좌표를 long 타입 key 로 요청하고 응답을 그리드로 변환한다")
+	void t001() {
+		SearchHits<SolutionEventDocument> summary = recorded(SUMMARY_RESPONSE);
+		SearchHits<SolutionEventDocument> grid = recorded(LONG_GRID_RESPONSE);
+		when(elasticsearchOperations.search(any(NativeQuery.class), eq(SolutionEventDocument.class)))
+			.thenReturn(summary, grid);
+
+		Optional<HeatmapResponse> response = solutionEventAggregator.aggregateCoordinateHeatmap(SERIAL_NUMBER,
+			PAGE_URL, "click", 1000, 100);
+
+		assertThat(response).isPresent();
+		assertThat(response.get().gridSizeX()).isEqualTo(10);
+		assertThat(response.get().gridSizeY()).isEqualTo(20);
+		assertThat(response.get().metadata().totalEvents()).isEqualTo(3);
+		assertThat(response.get().metadata().totalSessions()).isEqualTo(2);
+		assertThat(response.get().gridCells()).containsExactly(
+			new GridCell(0, 0, 2, 100),
+			new GridCell(1, 3, 1, 50)
+		);
+
+		ArgumentCaptor<NativeQuery> queries = ArgumentCaptor.forClass(NativeQuery.class);
+		verify(elasticsearchOperations, times(2)).search(queries.capture(), eq(SolutionEventDocument.class));
+		List<CompositeTermsAggregation> sources = queries.getAllValues().get(1).getAggregations().get("grid")
+			.composite().sources().stream()
+			.flatMap(source -> source.values().stream())
+			.map(source -> source.terms())
+			.toList();
+		assertThat(sources).hasSize(2).allSatisfy(terms -> assertThat(terms.valueType()).isEqualTo(ValueType.Long));
+	}
+
+	@Test
+	@DisplayName("2. 셀 좌표 key 가 문자열로 반환되어도 그리드로 변환한다")
+	void t002() {
+		SearchHits<SolutionEventDocument> summary = recorded(SUMMARY_RESPONSE);
+		SearchHits<SolutionEventDocument> grid = recorded(KEYWORD_GRID_RESPONSE);
+		when(elasticsearchOperations.search(any(NativeQuery.class), eq(SolutionEventDocument.class)))
+			.thenReturn(summary, grid);
+
+		Optional<HeatmapResponse> response = solutionEventAggregator.aggregateCoordinateHeatmap(SERIAL_NUMBER,
+			PAGE_URL, "click", 1000, 100);
+
+		assertThat(response).isPresent();
+		assertThat(response.get().gridCells()).containsExactly(
+			new GridCell(0, 0, 2, 100),
+			new GridCell(1, 3, 1, 50)
+		);
+	}
+
+	/**
+	 * 기록한 JSON 응답의 집계 결과를 담은 SearchHits 를 생성합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private SearchHits<SolutionEventDocument> recorded(String json) {
+		SearchResponse<JsonData> response = SearchResponse.createSearchResponseDeserializer(JsonData._DESERIALIZER)
+			.deserialize(jsonpMapper.jsonProvider().createParser(new StringReader(json)), jsonpMapper);
+		SearchHits<SolutionEventDocument> searchHits = mock(SearchHits.class);
+		when(searchHits.getTotalHits()).thenReturn(response.hits().total().value());
+		when(searchHits.getAggregations()).thenReturn(new ElasticsearchAggregations(response.aggregations()));
+		return searchHits;
+	}
+}
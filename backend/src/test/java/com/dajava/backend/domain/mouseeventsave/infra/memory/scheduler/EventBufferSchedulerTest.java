@@ -4,6 +4,8 @@ import static org.assertj.core.api.AssertionsForInterfaceTypes.*;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +17,8 @@ import com.dajava.backend.domain.mouseeventsave.infra.memory.service.ActivityHan
 import com.dajava.backend.domain.mouseeventsave.infra.memory.service.EventBatchService;
 import com.dajava.backend.global.component.analyzer.BufferSchedulerProperties;
 import com.dajava.backend.global.component.buffer.EventBuffer;
+import com.dajava.backend.global.component.buffer.EventWriteAheadLog;
+import com.dajava.backend.global.component.bulk.PointerEventBulkIndexer;
 
 /*
  * 버퍼에서 리포지드로 저장하는 스케줄러 통합테스트 입니다.
@@ -40,7 +44,8 @@ public class EventBufferSchedulerTest {
 
 		activityHandleService = mock(ActivityHandleService.class);  // EventBatchService mock 추가
 		eventBuffer = new EventBuffer();
-		scheduler = new EventBufferScheduler(eventBuffer, activityHandleService, props);
+		scheduler = new EventBufferScheduler(eventBuffer, activityHandleService, props, mock(PointerEventBulkIndexer.class),
+			mock(EventWriteAheadLog.class));
 	}
 
 	@Test
@@ -61,32 +66,45 @@ public class EventBufferSchedulerTest {
 		);
 
 		// 비활성 세션 이벤트 추가
-		eventBuffer.getClickBuffer().addEvent(oldSessionKey, oldEvent);
-		eventBuffer.getClickBuffer().getLastUpdatedMap().put(
-			"session1|https://example.com|user001",
-			System.currentTimeMillis() - inactivityThresholdMs * 2
-		);
+		eventBuffer.getClickBuffer().addEvent(oldSessionKey, oldEvent,
+			System.currentTimeMillis() - inactivityThresholdMs * 2);
 
 		// 활성 세션 이벤트 추가
-		eventBuffer.getClickBuffer().addEvent(activeSessionKey, activeEvent);
-		eventBuffer.getClickBuffer().getLastUpdatedMap().put(
-			"session2|https://example.com|user002",
-			System.currentTimeMillis()
-		);
+		eventBuffer.getClickBuffer().addEvent(activeSessionKey, activeEvent, System.currentTimeMillis());
 
 		// when
 		scheduler.flushInactiveEventBuffers();
 
 		// then
 		// 이제 eventLogService 대신 activityHandleService를 검증
-		verify(activityHandleService, times(1)).processInactiveBatchForSession(eq(oldSessionKey));
+		verify(activityHandleService, times(1)).processInactiveBatchForSession(eq(oldSessionKey), any());
 
 		// 활성 세션은 처리되지 않았는지 확인
-		verify(activityHandleService, never()).processActiveBatchForSession(eq(activeSessionKey));
+		verify(activityHandleService, never()).processActiveBatchForSession(eq(activeSessionKey), any());
 
 		// 활성 세션 이벤트는 여전히 남아 있음
 		List<PointerClickEventRequest> remaining = eventBuffer.getClickBuffer().getEvents(activeSessionKey);
 		assertThat(remaining).containsExactly(activeEvent);
 	}
-}
 
+	@Test
+	@DisplayName("즉시 flush 요청은 호출 스레드를 막지 않고 별도 스레드에서 처리된다")
+	void t2() throws Exception {
+		// given
+		SessionDataKey sessionKey = new SessionDataKey("session1", "https://example.com", "user001");
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(activityHandleService).processActiveBatchForSession(eq(sessionKey));
+
+		// when
+		scheduler.requestEarlyFlush(sessionKey);
+
+		// then : 저장이 끝나지 않은 상태에서도 호출 측은 이미 반환됨
+		verify(activityHandleService, timeout(1000)).processActiveBatchForSession(eq(sessionKey));
+		assertThat(release.getCount()).isEqualTo(1);
+		release.countDown();
+		scheduler.shutdown();
+	}
+}
@@ -1,7 +1,10 @@
 package com.dajava.backend.domain.mouseeventsave.infra.redis;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -9,6 +12,8 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.EventBatchRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ScrollEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.service.EventServiceImpl;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.service.RedisSessionDataService;
@@ -56,4 +61,27 @@ class EventServiceImplTest {
 	@Test
 	void createScrollEvent() {
 	}
-}
\ No newline at end of file
+
+	@Test
+	void createBatchEvents_shouldAssignIdentifierAndBufferByType() {
+		// given
+		SessionIdentifier identifier = sessionIdentifier();
+		ClickEventRequest click = ClickEventRequest.builder().eventId("c1").timestamp(1L).build();
+		ScrollEventRequest scroll = ScrollEventRequest.builder().eventId("s1").timestamp(2L).build();
+		EventBatchRequest request = EventBatchRequest.builder()
+			.sessionIdentifier(identifier)
+			.clickEvents(List.of(click))
+			.scrollEvents(List.of(scroll))
+			.build();
+
+		// when
+		eventService.createBatchEvents(request);
+
+		// then
+		verify(redisSessionDataService).createOrFindSessionDataDocument(eq(identifier));
+		verify(eventRedisBuffer).addClickEvents(eq(List.of(click)), eq(identifier));
+		verify(eventRedisBuffer).addScrollEvents(eq(List.of(scroll)), eq(identifier));
+		verify(eventRedisBuffer, never()).addMoveEvents(any(), any());
+		assertThat(click.getSessionIdentifier()).isEqualTo(identifier);
+	}
+}
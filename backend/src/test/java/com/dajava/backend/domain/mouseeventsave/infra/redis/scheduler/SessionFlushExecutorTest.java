@@ -0,0 +1,158 @@
+package com.dajava.backend.domain.mouseeventsave.infra.redis.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+import com.dajava.backend.global.component.analyzer.BufferSchedulerProperties;
+
+/*
+ * 세션 flush 병렬 실행기 단위 테스트 입니다.
+ */
+class SessionFlushExecutorTest {
+
+	private SessionFlushExecutor executor;
+
+	@BeforeEach
+	void setUp() {
+		BufferSchedulerProperties props = new BufferSchedulerProperties();
+		props.setFlushParallelism(4);
+		props.setFlushVirtualThreads(true);
+		props.setFlushCycleTimeoutMs(10000L);
+		executor = new SessionFlushExecutor(props);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	private List<SessionIdentifier> sessions(int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> new SessionIdentifier("session" + i, "localhost", "member001"))
+			.toList();
+	}
+
+	@Test
+	@DisplayName("모든 세션이 정확히 한 번씩 flush 된다")
+	void t1() {
+		// given
+		List<SessionIdentifier> sessions = sessions(100);
+		Set<SessionIdentifier> processed = ConcurrentHashMap.newKeySet();
+		AtomicInteger calls = new AtomicInteger();
+
+		// when
+		SessionFlushExecutor.FlushCycleStats stats = executor.flushAll(sessions, session -> {
+			calls.incrementAndGet();
+			processed.add(session);
+		});
+
+		// then
+		assertThat(calls.get()).isEqualTo(100);
+		assertThat(processed).hasSize(100);
+		assertThat(stats.flushed()).isEqualTo(100);
+		assertThat(stats.failed()).isZero();
+	}
+
+	@Test
+	@DisplayName("한 세션의 처리 실패가 다른 세션 처리에 영향을 주지 않는다")
+	void t2() {
+		// given
+		List<SessionIdentifier> sessions = sessions(10);
+		SessionIdentifier broken = sessions.get(3);
+
+		// when
+		SessionFlushExecutor.FlushCycleStats stats = executor.flushAll(sessions, session -> {
+			if (session.equals(broken)) {
+				throw new IllegalStateException("flush 실패");
+			}
+		});
+
+		// then
+		assertThat(stats.flushed()).isEqualTo(9);
+		assertThat(stats.failed()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("처리 중인 세션은 다른 작업에서 중복 실행되지 않는다")
+	void t3() {
+		// given
+		SessionIdentifier session = sessions(1).get(0);
+		AtomicInteger nested = new AtomicInteger();
+
+		// when
+		boolean outer = executor.runExclusively(session,
+			() -> nested.set(executor.runExclusively(session, () -> { }) ? 1 : -1));
+
+		// then
+		assertThat(outer).isTrue();
+		assertThat(nested.get()).isEqualTo(-1);
+	}
+
+	@Test
+	@DisplayName("제한 시간이 지나도 주기 완료 후 작업은 모든 세션 처리가 끝난 뒤에 실행된다")
+	void t4() throws InterruptedException {
+		// given
+		BufferSchedulerProperties props = new BufferSchedulerProperties();
+		props.setFlushParallelism(4);
+		props.setFlushVirtualThreads(true);
+		props.setFlushCycleTimeoutMs(50L);
+		SessionFlushExecutor shortTimeoutExecutor = new SessionFlushExecutor(props);
+		List<SessionIdentifier> sessions = sessions(8);
+		AtomicInteger flushed = new AtomicInteger();
+		AtomicInteger flushedAtCompletion = new AtomicInteger(-1);
+		CountDownLatch completed = new CountDownLatch(1);
+
+		// when
+		SessionFlushExecutor.FlushCycleStats stats = shortTimeoutExecutor.flushAll(sessions, session -> {
+			try {
+				Thread.sleep(200);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			flushed.incrementAndGet();
+		}, cycleStats -> {
+			flushedAtCompletion.set(flushed.get());
+			completed.countDown();
+		});
+
+		// then
+		assertThat(stats).isNull();
+		assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(flushedAtCompletion.get()).isEqualTo(8);
+		shortTimeoutExecutor.shutdown();
+	}
+
+	@Test
+	@DisplayName("주기에서 처리한 세션은 주기 완료 후 작업이 끝날 때까지 다른 작업에서 건너뛴다")
+	void t5() {
+		// given
+		List<SessionIdentifier> sessions = sessions(4);
+		AtomicInteger acquiredDuringCompletion = new AtomicInteger();
+
+		// when
+		SessionFlushExecutor.FlushCycleStats stats = executor.flushAll(sessions, session -> { },
+			cycleStats -> sessions.forEach(session -> {
+				if (executor.tryAcquire(session)) {
+					acquiredDuringCompletion.incrementAndGet();
+				}
+			}));
+
+		// then
+		assertThat(stats.flushed()).isEqualTo(4);
+		assertThat(acquiredDuringCompletion.get()).isZero();
+		assertThat(executor.runExclusively(sessions.get(0), () -> { })).isTrue();
+	}
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -106,4 +107,21 @@ class EsMoveEventAnalyzerTest {
 
 		assertThat(events.stream().anyMatch(PointerMoveEventDocument::getIsOutlier)).isFalse();
 	}
+
+	@Test
+	@DisplayName("긴 지그재그 시퀀스는 윈도우가 밀려나도 마지막 이벤트를 제외한 모든 이벤트가 마킹됨")
+	void testZigzagMovementDetected_longSequence() {
+		long timestamp = 1_700_000_000_000L;
+
+		List<PointerMoveEventDocument> events = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			// 좌우로 10px 씩 왕복 → 매 지점 180도 꺾임
+			events.add(createMoveEvent(timestamp + i * 10L, i % 2 == 0 ? 100 : 110, 100));
+		}
+
+		analyzer.analyze(events);
+
+		assertThat(events.subList(0, 199)).allMatch(PointerMoveEventDocument::getIsOutlier);
+		assertThat(events.get(199).getIsOutlier()).isFalse();
+	}
 }
@@ -4,7 +4,10 @@ import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,10 +18,13 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.dajava.backend.domain.heatmap.service.HeatmapViewService;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.exception.PointerEventException;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerClickEventDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerMoveEventDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerScrollEventDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.SessionDataDocument;
+import com.dajava.backend.domain.mouseeventvalidation.dto.SessionPointerEvents;
 import com.dajava.backend.domain.mouseeventvalidation.entity.SolutionEventDocument;
 import com.dajava.backend.domain.mouseeventvalidation.scheduler.analyzer.ClickEventAnalyzer;
 import com.dajava.backend.domain.mouseeventvalidation.scheduler.analyzer.MoveEventAnalyzer;
@@ -28,6 +34,7 @@ import com.dajava.backend.domain.mouseeventvalidation.service.SessionDataDocumen
 import com.dajava.backend.domain.mouseeventvalidation.service.SolutionEventDocumentService;
 import com.dajava.backend.domain.mouseeventsave.infra.redis.converter.EventConverter;
 import com.dajava.backend.global.component.analyzer.BufferSchedulerProperties;
+import com.dajava.backend.global.exception.ErrorCode;
 
 /*
  * es 리포지드에서 데이터를 꺼내 검증하는 스케줄러 통합테스트 입니다.
@@ -41,6 +48,7 @@ class EventValidateSchedulerTest {
 	@Mock private SessionDataDocumentService sessionDataDocumentService;
 	@Mock private SolutionEventDocumentService solutionEventDocumentService;
 	@Mock private PointerEventDocumentService pointerEventDocumentService;
+	@Mock private HeatmapViewService heatmapViewService;
 
 	@Mock private ClickEventAnalyzer esClickEventAnalyzer;
 	@Mock private MoveEventAnalyzer esMoveEventAnalyzer;
@@ -76,9 +84,8 @@ class EventValidateSchedulerTest {
 			PointerScrollEventDocument.builder().isOutlier(false).timestamp(timestamp).build()
 		);
 
-		when(pointerEventDocumentService.fetchAllClickEventDocumentsBySessionId(eq(sessionId), anyInt())).thenReturn(clickEvents);
-		when(pointerEventDocumentService.fetchAllMoveEventDocumentsBySessionId(eq(sessionId), anyInt())).thenReturn(moveEvents);
-		when(pointerEventDocumentService.fetchAllScrollEventDocumentsBySessionId(eq(sessionId), anyInt())).thenReturn(scrollEvents);
+		when(pointerEventDocumentService.fetchAllEventDocumentsBySessionId(eq(sessionId), anyInt()))
+			.thenReturn(new SessionPointerEvents(clickEvents, moveEvents, scrollEvents));
 
 		List<SolutionEventDocument> solutionDocs = List.of(mock(SolutionEventDocument.class));
 
@@ -95,6 +102,55 @@ class EventValidateSchedulerTest {
 			verify(esScrollEventAnalyzer).analyze(scrollEvents);
 			verify(session).markAsVerified();
 			verify(solutionEventDocumentService).saveAllSolutionEvents(solutionDocs);
+			verify(heatmapViewService).applyEvents(solutionDocs);
 		}
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("runScheduledValidation이 배치의 세션 이벤트를 한 번에 조회해 세션별로 검증하고 실패한 세션은 제외해 저장하는 경우")
+	void testRunScheduledValidation_pipeline() {
+		// given
+		ValidationPipelineExecutor pipelineExecutor = new ValidationPipelineExecutor(bufferSchedulerProperties);
+		EventValidateScheduler pipelineScheduler = new EventValidateScheduler(sessionDataDocumentService,
+			solutionEventDocumentService, pointerEventDocumentService, heatmapViewService, esClickEventAnalyzer,
+			esMoveEventAnalyzer, esScrollEventAnalyzer, bufferSchedulerProperties, pipelineExecutor);
+
+		SessionDataDocument verified = mock(SessionDataDocument.class);
+		SessionDataDocument failed = mock(SessionDataDocument.class);
+		when(failed.getSessionId()).thenReturn("failed-session");
+		SessionDataDocument valid = mock(SessionDataDocument.class);
+		when(valid.getSessionId()).thenReturn("valid-session");
+		when(verified.isVerified()).thenReturn(true);
+
+		doAnswer(invocation -> {
+			Consumer<List<SessionDataDocument>> consumer = invocation.getArgument(1);
+			consumer.accept(List.of(verified, failed, valid));
+			return 3L;
+		}).when(sessionDataDocumentService).forEachEndedSessionBatch(anyInt(), any());
+
+		when(bufferSchedulerProperties.getValidateSessionsPerQuery()).thenReturn(10);
+		SessionPointerEvents failedEvents = new SessionPointerEvents(
+			new ArrayList<>(List.of(PointerClickEventDocument.builder().sessionId("failed-session").build())),
+			new ArrayList<>(), new ArrayList<>());
+		when(pointerEventDocumentService.fetchAllEventDocumentsBySessionIds(eq(List.of("failed-session", "valid-session")),
+			anyInt()))
+			.thenReturn(Map.of("failed-session", failedEvents, "valid-session", SessionPointerEvents.empty()));
+		lenient().doThrow(new PointerEventException(ErrorCode.EVENT_DOCUMENT_NOT_FOUND))
+			.when(esClickEventAnalyzer).analyze(failedEvents.clickEvents());
+
+		try {
+			// when
+			pipelineScheduler.runScheduledValidation();
+
+			// then
+			verify(pointerEventDocumentService, times(1)).fetchAllEventDocumentsBySessionIds(anyList(), anyInt());
+			verify(valid).markAsVerified();
+			verify(failed, never()).markAsVerified();
+			verify(verified, never()).markAsVerified();
+			verify(solutionEventDocumentService).saveAllSolutionEvents(List.of());
+			verify(sessionDataDocumentService).saveAll(List.of(valid));
+		} finally {
+			pipelineExecutor.shutdown();
+		}
+	}
+}
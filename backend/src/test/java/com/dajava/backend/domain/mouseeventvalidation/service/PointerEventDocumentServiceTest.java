@@ -0,0 +1,115 @@
+package com.dajava.backend.domain.mouseeventvalidation.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerClickEventDocument;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerMoveEventDocument;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerScrollEventDocument;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.PointerClickEventDocumentRepository;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.PointerMoveEventDocumentRepository;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.PointerScrollEventDocumentRepository;
+import com.dajava.backend.domain.mouseeventvalidation.dto.SessionPointerEvents;
+import com.dajava.backend.global.elasticsearch.ElasticsearchCursorFetcher;
+
+/*
+ * 세션의 click, move, scroll 이벤트를 multi search 로 조회하는 테스트 입니다.
+ */
+class PointerEventDocumentServiceTest {
+
+	private ElasticsearchCursorFetcher cursorFetcher;
+	private ElasticsearchOperations elasticsearchOperations;
+	private PointerEventDocumentServiceImpl pointerEventDocumentService;
+
+	@BeforeEach
+	void setUp() {
+		cursorFetcher = mock(ElasticsearchCursorFetcher.class);
+		elasticsearchOperations = mock(ElasticsearchOperations.class);
+		pointerEventDocumentService = new PointerEventDocumentServiceImpl(mock(PointerClickEventDocumentRepository.class),
+			mock(PointerMoveEventDocumentRepository.class), mock(PointerScrollEventDocumentRepository.class),
+			cursorFetcher, elasticsearchOperations);
+	}
+
+	@Test
+	@DisplayName("1. 세 종류의 이벤트를 multi search 한 번으로 조회해 세션별로 나눈다")
+	void t1() {
+		PointerClickEventDocument click1 = PointerClickEventDocument.builder().sessionId("s1").timestamp(1L).build();
+		PointerClickEventDocument click2 = PointerClickEventDocument.builder().sessionId("s2").timestamp(2L).build();
+		PointerMoveEventDocument move = PointerMoveEventDocument.builder().sessionId("s1").timestamp(3L).build();
+		List<SearchHits<?>> responses = List.of(hits(click1, click2), hits(move), hits());
+		when(elasticsearchOperations.multiSearch(anyList(), anyList())).thenReturn(responses);
+
+		Map<String, SessionPointerEvents> result = pointerEventDocumentService.fetchAllEventDocumentsBySessionIds(
+			List.of("s1", "s2", "s3"), 100);
+
+		assertThat(result).containsOnlyKeys("s1", "s2", "s3");
+		assertThat(result.get("s1").clickEvents()).containsExactly(click1);
+		assertThat(result.get("s1").moveEvents()).containsExactly(move);
+		assertThat(result.get("s2").clickEvents()).containsExactly(click2);
+		assertThat(result.get("s3").scrollEvents()).isEmpty();
+		verify(elasticsearchOperations, times(1)).multiSearch(anyList(), anyList());
+		verifyNoInteractions(cursorFetcher);
+	}
+
+	@Test
+	@DisplayName("2. 응답이 batchSize 만큼 찬 이벤트 종류만 마지막 timestamp 부터 커서로 이어서 조회한다")
+	void t2() {
+		PointerClickEventDocument click1 = PointerClickEventDocument.builder().sessionId("s1").timestamp(1L).build();
+		PointerClickEventDocument click2 = PointerClickEventDocument.builder().sessionId("s1").timestamp(2L).build();
+		PointerClickEventDocument click3 = PointerClickEventDocument.builder().sessionId("s1").timestamp(3L).build();
+		List<SearchHits<?>> responses = List.of(hits(click1, click2), hits(), hits());
+		when(elasticsearchOperations.multiSearch(anyList(), anyList())).thenReturn(responses);
+		when(cursorFetcher.fetchAll(eq(PointerClickEventDocument.class), any(Criteria.class), any(Sort.class),
+			eq(2))).thenReturn(List.of(click2, click3));
+
+		SessionPointerEvents result = pointerEventDocumentService.fetchAllEventDocumentsBySessionId("s1", 2);
+
+		// 마지막 timestamp 의 문서는 커서 조회 결과로 대체되어 중복되지 않음
+		assertThat(result.clickEvents()).containsExactly(click1, click2, click3);
+		verify(cursorFetcher).fetchAll(eq(PointerClickEventDocument.class),
+			argThat((Criteria criteria) -> criteria.getCriteriaChain().stream()
+				.anyMatch(chained -> "timestamp".equals(chained.getField().getName()))),
+			any(Sort.class), eq(2));
+		verify(cursorFetcher, never()).fetchAll(eq(PointerMoveEventDocument.class), any(Criteria.class),
+			any(Sort.class), anyInt());
+		verify(cursorFetcher, never()).fetchAll(eq(PointerScrollEventDocument.class), any(Criteria.class),
+			any(Sort.class), anyInt());
+	}
+
+	@SuppressWarnings("unchecked")
+	private SearchHits<Object> hits(Object... contents) {
+		List<SearchHit<Object>> hits = new ArrayList<>();
+		for (Object content : contents) {
+			SearchHit<Object> hit = mock(SearchHit.class);
+			when(hit.getContent()).thenReturn(content);
+			when(hit.getSortValues()).thenReturn(List.of(timestampOf(content)));
+			hits.add(hit);
+		}
+		SearchHits<Object> searchHits = mock(SearchHits.class);
+		when(searchHits.getSearchHits()).thenReturn(hits);
+		return searchHits;
+	}
+
+	private Object timestampOf(Object content) {
+		if (content instanceof PointerClickEventDocument click) {
+			return click.getTimestampMillis();
+		}
+		if (content instanceof PointerMoveEventDocument move) {
+			return move.getTimestampMillis();
+		}
+		return ((PointerScrollEventDocument) content).getTimestampMillis();
+	}
+}
@@ -1,9 +1,12 @@
 package com.dajava.backend.domain.mouseeventvalidation.service;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,12 +14,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.query.Criteria;
 
 import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.SessionDataDocument;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.repository.SessionDataDocumentRepository;
+import com.dajava.backend.global.elasticsearch.ElasticsearchCursorFetcher;
 
 @ExtendWith(MockitoExtension.class)
 public class SessionDataDocumentServiceTest {
@@ -27,13 +29,14 @@ public class SessionDataDocumentServiceTest {
 	@Mock
 	private SessionDataDocumentRepository sessionDataDocumentRepository;
 
+	@Mock
+	private ElasticsearchCursorFetcher cursorFetcher;
+
 	@Test
-	@DisplayName("종료된 세션 중 미검증된 문서를 페이징 조회")
+	@DisplayName("종료된 세션 중 미검증된 문서를 배치 단위로 순회")
 	void t1() {
 		// given
-		int page = 0;
 		int size = 2;
-		PageRequest pageRequest = PageRequest.of(page, size);
 
 		SessionDataDocument doc1 = SessionDataDocument.builder()
 			.sessionId("session1")
@@ -47,17 +50,20 @@ public class SessionDataDocumentServiceTest {
 			.isVerified(false)
 			.build();
 
-		Page<SessionDataDocument> mockPage = new PageImpl<>(List.of(doc1, doc2), pageRequest, 2);
-		when(sessionDataDocumentRepository.findByIsSessionEndedTrueAndIsVerifiedFalse(pageRequest))
-			.thenReturn(mockPage);
+		when(cursorFetcher.forEachPage(eq(SessionDataDocument.class), any(Criteria.class),
+			eq(ElasticsearchCursorFetcher.SHARD_DOC_ORDER), eq(size), any()))
+			.thenAnswer(invocation -> {
+				Consumer<List<SessionDataDocument>> consumer = invocation.getArgument(4);
+				consumer.accept(List.of(doc1, doc2));
+				return 2L;
+			});
+		List<SessionDataDocument> visited = new ArrayList<>();
 
 		// when
-		Page<SessionDataDocument> result = sessionDataDocumentService.getEndedSessions(page, size);
+		long count = sessionDataDocumentService.forEachEndedSessionBatch(size, visited::addAll);
 
 		// then
-		assertThat(result.getTotalElements()).isEqualTo(2);
-		assertThat(result.getContent()).containsExactly(doc1, doc2);
-		verify(sessionDataDocumentRepository, times(1))
-			.findByIsSessionEndedTrueAndIsVerifiedFalse(pageRequest);
+		assertThat(count).isEqualTo(2);
+		assertThat(visited).containsExactly(doc1, doc2);
 	}
 }
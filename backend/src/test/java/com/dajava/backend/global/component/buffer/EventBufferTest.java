@@ -1,6 +1,6 @@
 package com.dajava.backend.global.component.buffer;
 
-import static org.assertj.core.api.AssertionsForInterfaceTypes.*;
+import static org.assertj.core.api.Assertions.*;
 
 import java.util.List;
 
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.PointerClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.PointerMoveEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.SessionDataKey;
 
 /*
@@ -81,4 +82,48 @@ public class EventBufferTest {
 		List<PointerClickEventRequest> events = eventBuffer.getClickEvents(sessionKey);
 		assertThat(events).isEmpty();
 	}
+
+	@Test
+	void testSharedSessionActivity() {
+		PointerMoveEventRequest moveEvent = new PointerMoveEventRequest(
+			"user2", "session123", "https://example.com", "user001",
+			System.currentTimeMillis(), 1920, 100, 200, 100, 1000, 100
+		);
+		eventBuffer.getClickBuffer().addEvent(sessionKey, createClickEvent(100, 200), 1000L);
+		eventBuffer.getMoveBuffer().addEvent(sessionKey, moveEvent, 2000L);
+
+		// 세 타입 버퍼가 세션당 하나의 활동 기록을 공유
+		assertThat(eventBuffer.getAllActiveSessionKeys()).containsExactly(sessionKey);
+		assertThat(eventBuffer.getLastUpdated(sessionKey)).isEqualTo(2000L);
+		assertThat(eventBuffer.getSessionKeysIdleSince(1500L)).isEmpty();
+
+		// 한 타입만 비워지면 세션은 계속 활성 상태
+		eventBuffer.flushClickEvents(sessionKey);
+		assertThat(eventBuffer.getAllActiveSessionKeys()).containsExactly(sessionKey);
+
+		// 모든 타입이 비워지면 활동 기록 제거
+		eventBuffer.flushMoveEvents(sessionKey);
+		assertThat(eventBuffer.getAllActiveSessionKeys()).isEmpty();
+		assertThat(eventBuffer.getLastUpdated(sessionKey)).isNull();
+	}
+
+	@Test
+	void testCountPendingEvents() {
+		eventBuffer.addClickEvent(createClickEvent(100, 200), sessionKey);
+		eventBuffer.addClickEvent(createClickEvent(150, 250), sessionKey);
+		eventBuffer.addMoveEvent(new PointerMoveEventRequest(
+			"user2", "session123", "https://example.com", "user001",
+			System.currentTimeMillis(), 1920, 100, 200, 100, 1000, 100
+		), sessionKey);
+
+		// 버퍼 복사 없이 세 타입을 합친 대기 이벤트 수 조회
+		assertThat(eventBuffer.countPendingEvents(sessionKey)).isEqualTo(3L);
+		assertThat(eventBuffer.getClickBuffer().countEvents(sessionKey)).isEqualTo(2);
+
+		eventBuffer.flushClickEvents(sessionKey);
+		assertThat(eventBuffer.countPendingEvents(sessionKey)).isEqualTo(1L);
+
+		eventBuffer.flushMoveEvents(sessionKey);
+		assertThat(eventBuffer.countPendingEvents(sessionKey)).isZero();
+	}
 }
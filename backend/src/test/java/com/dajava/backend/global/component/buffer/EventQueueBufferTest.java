@@ -1,6 +1,6 @@
 package com.dajava.backend.global.component.buffer;
 
-import static org.assertj.core.api.AssertionsForInterfaceTypes.*;
+import static org.assertj.core.api.Assertions.*;
 
 import java.util.List;
 
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.PointerClickEventRequest;
 import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.SessionDataKey;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.exception.PointerEventException;
 /*
  * 이벤트 버퍼 내부 제네릭 해시맵 구조를 테스트 합니다
  *
@@ -62,4 +63,115 @@ public class EventQueueBufferTest {
 		// Flush 이후에는 비어 있어야 함
 		assertThat(buffer.getEvents(sessionKey)).isEmpty();
 	}
+
+	@Test
+	void t3() {
+		EventQueueBuffer<PointerClickEventRequest> bounded = new EventQueueBuffer<>(4, 2, 100, BufferFullPolicy.REJECT);
+
+		bounded.addEvent(sessionKey, createEvent(1));
+		bounded.addEvent(sessionKey, createEvent(2));
+
+		// 세션 상한 초과 시 429 로 거부
+		assertThatThrownBy(() -> bounded.addEvent(sessionKey, createEvent(3)))
+			.isInstanceOf(PointerEventException.class);
+		assertThat(bounded.getEvents(sessionKey)).hasSize(2);
+		assertThat(bounded.getStats().rejected()).isEqualTo(1);
+	}
+
+	@Test
+	void t4() {
+		EventQueueBuffer<PointerClickEventRequest> bounded = new EventQueueBuffer<>(4, 2, 100,
+			BufferFullPolicy.DROP_OLDEST);
+		PointerClickEventRequest event2 = createEvent(2);
+		PointerClickEventRequest event3 = createEvent(3);
+
+		bounded.addEvent(sessionKey, createEvent(1));
+		bounded.addEvent(sessionKey, event2);
+		bounded.addEvent(sessionKey, event3);
+
+		// 가장 오래된 이벤트가 버려짐
+		assertThat(bounded.getEvents(sessionKey)).containsExactly(event2, event3);
+		assertThat(bounded.getStats().dropped()).isEqualTo(1);
+		assertThat(bounded.getStats().events()).isEqualTo(2);
+	}
+
+	@Test
+	void t5() {
+		EventQueueBuffer<PointerClickEventRequest> bounded = new EventQueueBuffer<>(4, 2, 100,
+			BufferFullPolicy.EARLY_FLUSH);
+
+		// 세션 상한에 도달하는 순간 flush 요청
+		assertThat(bounded.addEvent(sessionKey, createEvent(1))).isFalse();
+		assertThat(bounded.addEvent(sessionKey, createEvent(2))).isTrue();
+		assertThat(bounded.getStats().earlyFlushRequests()).isEqualTo(1);
+
+		bounded.flushEvents(sessionKey);
+		assertThat(bounded.getStats().events()).isZero();
+	}
+
+	@Test
+	void t6() {
+		EventQueueBuffer<PointerClickEventRequest> bounded = new EventQueueBuffer<>(4, 10, 2, BufferFullPolicy.REJECT);
+		SessionDataKey otherKey = new SessionDataKey("session456", "https://example.com", "user001");
+
+		bounded.addEvent(sessionKey, createEvent(1));
+		bounded.addEvent(otherKey, createEvent(2));
+
+		// 전체 상한 초과 시 다른 세션도 거부
+		assertThatThrownBy(() -> bounded.addEvent(otherKey, createEvent(3)))
+			.isInstanceOf(PointerEventException.class);
+
+		bounded.flushEvents(sessionKey);
+		bounded.addEvent(otherKey, createEvent(4));
+		assertThat(bounded.getEvents(otherKey)).hasSize(2);
+		assertThat(bounded.getStats().sessions()).isEqualTo(1);
+	}
+
+	@Test
+	void t7() {
+		EventQueueBuffer<PointerClickEventRequest> bounded = new EventQueueBuffer<>(1, 10, 2,
+			BufferFullPolicy.DROP_OLDEST);
+		SessionDataKey otherKey = new SessionDataKey("session456", "https://example.com", "user001");
+		PointerClickEventRequest event2 = createEvent(2);
+		PointerClickEventRequest event3 = createEvent(3);
+
+		bounded.addEvent(sessionKey, createEvent(1));
+		bounded.addEvent(sessionKey, event2);
+		bounded.addEvent(otherKey, event3);
+
+		// 전체 상한 초과이고 새 세션이면 가장 큰 세션의 가장 오래된 이벤트를 버리고 새 이벤트를 담음
+		assertThat(bounded.getEvents(sessionKey)).containsExactly(event2);
+		assertThat(bounded.getEvents(otherKey)).containsExactly(event3);
+		assertThat(bounded.getStats().dropped()).isEqualTo(1);
+		assertThat(bounded.getStats().events()).isEqualTo(2);
+	}
+
+	@Test
+	void t8() {
+		EventQueueBuffer<PointerClickEventRequest> bounded = new EventQueueBuffer<>(16, 10, 3,
+			BufferFullPolicy.EARLY_FLUSH);
+		PointerClickEventRequest event4 = createEvent(4);
+
+		bounded.addEvent(sessionKey, createEvent(1));
+		bounded.addEvent(sessionKey, createEvent(2));
+		bounded.addEvent(sessionKey, createEvent(3));
+
+		// 다른 stripe 의 세션이어도 가장 큰 세션의 이벤트와 교체되고, flush 를 요청
+		for (int i = 0; i < 8; i++) {
+			SessionDataKey otherKey = new SessionDataKey("session" + i, "https://example.com", "user001");
+			assertThat(bounded.addEvent(otherKey, event4)).isTrue();
+			assertThat(bounded.getEvents(otherKey)).containsExactly(event4);
+			bounded.flushEvents(otherKey);
+			bounded.addEvent(sessionKey, createEvent(5));
+		}
+		assertThat(bounded.getStats().events()).isEqualTo(3);
+		assertThat(bounded.getEvents(sessionKey)).hasSize(3);
+	}
+
+	private PointerClickEventRequest createEvent(int clientX) {
+		return new PointerClickEventRequest(
+			"user1", "session123", "https://example.com", "user001",
+			System.currentTimeMillis(), 1920, clientX, 200, 100, 100, 100, "div"
+		);
+	}
 }
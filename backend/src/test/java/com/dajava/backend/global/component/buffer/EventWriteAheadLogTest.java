@@ -0,0 +1,257 @@
+package com.dajava.backend.global.component.buffer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.PointerClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.memory.dto.SessionDataKey;
+import com.dajava.backend.global.component.analyzer.EventBufferProperties;
+import com.dajava.backend.global.component.bulk.BulkIndexResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * 인메모리 버퍼 WAL 의 기록, 복구, 커밋 테스트 입니다.
+ */
+class EventWriteAheadLogTest {
+
+	private static final String SESSION = "session123|https://example.com|user001";
+
+	@TempDir
+	Path walDirectory;
+
+	private EventBufferProperties properties;
+	private SessionDataKey sessionKey;
+
+	@BeforeEach
+	void setUp() {
+		properties = new EventBufferProperties();
+		properties.setMemoryWalEnabled(true);
+		properties.setMemoryWalDirectory(walDirectory.toString());
+		properties.setMemoryWalSegmentBytes(4096);
+		sessionKey = new SessionDataKey("session123", "https://example.com", "user001");
+	}
+
+	@Test
+	@DisplayName("재시작 시 커밋되지 않은 이벤트를 버퍼로 복구한다")
+	void t1() {
+		EventBuffer buffer = start();
+		buffer.addClickEvent(createClickEvent("event1"), sessionKey);
+		buffer.addClickEvent(createClickEvent("event2"), sessionKey);
+		buffer.getWriteAheadLog().shutdown();
+
+		EventBuffer restarted = start();
+
+		assertThat(restarted.getClickEvents(sessionKey))
+			.extracting(PointerClickEventRequest::getEventId)
+			.containsExactly("event1", "event2");
+	}
+
+	@Test
+	@DisplayName("ES 저장이 확인된 세션의 이벤트는 복구하지 않는다")
+	void t2() {
+		EventBuffer buffer = start();
+		EventWriteAheadLog wal = buffer.getWriteAheadLog();
+		buffer.addClickEvent(createClickEvent("event1"), sessionKey);
+		EventFlushBatch batch = new EventFlushBatch(null);
+		long walMark = wal.beginFlush(sessionKey);
+		buffer.flushClickEvents(sessionKey);
+		batch.flushed(sessionKey, walMark);
+		// flush 이후, 커밋 이전에 유입된 이벤트는 커밋 대상이 아님
+		buffer.addClickEvent(createClickEvent("event2"), sessionKey);
+		wal.commitFlushed(batch, durable());
+		wal.shutdown();
+
+		EventBuffer restarted = start();
+
+		assertThat(restarted.getClickEvents(sessionKey))
+			.extracting(PointerClickEventRequest::getEventId)
+			.containsExactly("event2");
+	}
+
+	@Test
+	@DisplayName("저장에 실패한 범위는 버퍼에 다시 추가되고 이후 flush 가 성공하면 커밋된다")
+	void t3() {
+		EventBuffer buffer = start();
+		EventWriteAheadLog wal = buffer.getWriteAheadLog();
+		buffer.addClickEvent(createClickEvent("event1"), sessionKey);
+		EventFlushBatch failed = new EventFlushBatch(null);
+		long firstMark = wal.beginFlush(sessionKey);
+		buffer.flushClickEvents(sessionKey);
+		failed.flushed(sessionKey, firstMark);
+		wal.commitFlushed(failed, new BulkIndexResult(1, 0, 1, 0, Set.of(), Set.of(SESSION), 0L));
+
+		// 저장에 실패한 이벤트가 버퍼로 돌아옴
+		assertThat(buffer.getClickEvents(sessionKey))
+			.extracting(PointerClickEventRequest::getEventId)
+			.containsExactly("event1");
+
+		buffer.addClickEvent(createClickEvent("event2"), sessionKey);
+		EventFlushBatch succeeded = new EventFlushBatch(null);
+		long secondMark = wal.beginFlush(sessionKey);
+		buffer.flushClickEvents(sessionKey);
+		succeeded.flushed(sessionKey, secondMark);
+		wal.commitFlushed(succeeded, durable());
+		wal.shutdown();
+
+		EventBuffer restarted = start();
+
+		assertThat(restarted.getClickEvents(sessionKey)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("저장에 실패한 범위가 다시 저장되면 세그먼트가 삭제된다")
+	void t9() throws Exception {
+		EventBuffer buffer = start();
+		EventWriteAheadLog wal = buffer.getWriteAheadLog();
+		for (int i = 0; i < 50; i++) {
+			buffer.addClickEvent(createClickEvent("event" + i), sessionKey);
+		}
+		EventFlushBatch failed = new EventFlushBatch(null);
+		long firstMark = wal.beginFlush(sessionKey);
+		buffer.flushClickEvents(sessionKey);
+		failed.flushed(sessionKey, firstMark);
+		wal.commitFlushed(failed, new BulkIndexResult(1, 0, 50, 0, Set.of(), Set.of(SESSION), 0L));
+
+		EventFlushBatch succeeded = new EventFlushBatch(null);
+		long secondMark = wal.beginFlush(sessionKey);
+		assertThat(buffer.flushClickEvents(sessionKey)).hasSize(50);
+		succeeded.flushed(sessionKey, secondMark);
+		wal.commitFlushed(succeeded, durable());
+
+		// stripe 마다 활성 세그먼트 하나만 남음
+		try (Stream<Path> segments = Files.list(walDirectory)) {
+			assertThat(segments.count()).isEqualTo(properties.getMemoryWalStripes());
+		}
+	}
+
+	@Test
+	@DisplayName("같은 세션의 flush 가 진행 중이면 먼저 끝난 flush 의 결과로 커밋하지 않는다")
+	void t5() {
+		EventBuffer buffer = start();
+		EventWriteAheadLog wal = buffer.getWriteAheadLog();
+		buffer.addClickEvent(createClickEvent("event1"), sessionKey);
+		EventFlushBatch slow = new EventFlushBatch(null);
+		EventFlushBatch fast = new EventFlushBatch(null);
+		long slowMark = wal.beginFlush(sessionKey);
+		long fastMark = wal.beginFlush(sessionKey);
+		buffer.flushClickEvents(sessionKey);
+		slow.flushed(sessionKey, slowMark);
+		fast.flushed(sessionKey, fastMark);
+
+		// slow 배치가 이벤트를 가져갔으나 아직 결과를 받지 못함
+		wal.commitFlushed(fast, durable());
+		wal.shutdown();
+
+		EventBuffer restarted = start();
+
+		assertThat(restarted.getClickEvents(sessionKey)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 서로 다른 세션의 이벤트를 동시에 기록해도 모든 이벤트를 복구한다")
+	void t6() throws Exception {
+		EventBuffer buffer = start();
+		int sessions = 16;
+		int eventsPerSession = 50;
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int s = 0; s < sessions; s++) {
+			SessionDataKey key = new SessionDataKey("session" + s, "https://example.com", "user001");
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < eventsPerSession; i++) {
+					buffer.addClickEvent(createClickEvent("event" + i), key);
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+		buffer.getWriteAheadLog().shutdown();
+
+		EventBuffer restarted = start();
+
+		for (int s = 0; s < sessions; s++) {
+			SessionDataKey key = new SessionDataKey("session" + s, "https://example.com", "user001");
+			assertThat(restarted.getClickEvents(key))
+				.extracting(PointerClickEventRequest::getEventId)
+				.containsExactlyElementsOf(IntStream.range(0, eventsPerSession).mapToObj(i -> "event" + i).toList());
+		}
+	}
+
+	@Test
+	@DisplayName("세그먼트가 가득 차면 새 세그먼트로 넘어가며 모든 이벤트를 복구한다")
+	void t4() {
+		EventBuffer buffer = start();
+		for (int i = 0; i < 50; i++) {
+			buffer.addClickEvent(createClickEvent("event" + i), sessionKey);
+		}
+		buffer.getWriteAheadLog().shutdown();
+
+		EventBuffer restarted = start();
+
+		assertThat(restarted.getClickEvents(sessionKey)).hasSize(50);
+	}
+
+	@Test
+	@DisplayName("기록 없이 두 번 재시작해도 이전 세그먼트와 이름이 겹치지 않고 이벤트를 복구한다")
+	void t7() {
+		EventBuffer buffer = start();
+		buffer.addClickEvent(createClickEvent("event1"), sessionKey);
+		buffer.getWriteAheadLog().shutdown();
+
+		EventBuffer first = start();
+		first.getWriteAheadLog().shutdown();
+		EventBuffer second = start();
+		second.getWriteAheadLog().shutdown();
+		EventBuffer third = start();
+
+		assertThat(third.getClickEvents(sessionKey))
+			.extracting(PointerClickEventRequest::getEventId)
+			.containsExactly("event1");
+	}
+
+	@Test
+	@DisplayName("이벤트가 한 번도 기록되지 않은 WAL 로 두 번 재시작할 수 있다")
+	void t8() {
+		start().getWriteAheadLog().shutdown();
+		start().getWriteAheadLog().shutdown();
+
+		EventBuffer restarted = start();
+
+		assertThat(restarted.getClickEvents(sessionKey)).isEmpty();
+	}
+
+	private BulkIndexResult durable() {
+		return new BulkIndexResult(1, 1, 0, 0, Set.of(SESSION), Set.of(), 0L);
+	}
+
+	private EventBuffer start() {
+		EventBuffer buffer = new EventBuffer(properties, new EventWriteAheadLog(properties, new ObjectMapper()));
+		buffer.recover();
+		return buffer;
+	}
+
+	private PointerClickEventRequest createClickEvent(String eventId) {
+		return new PointerClickEventRequest(
+			eventId, "session123", "https://example.com", "user001",
+			1711963200000L, 1920, 100, 200, 100, 1000, 100, "div"
+		);
+	}
+}
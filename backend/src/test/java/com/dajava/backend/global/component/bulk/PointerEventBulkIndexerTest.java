@@ -0,0 +1,165 @@
+package com.dajava.backend.global.component.bulk;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+
+import com.dajava.backend.domain.mouseeventsave.infra.memory.entity.PointerClickEventDocument;
+import com.dajava.backend.global.component.analyzer.BulkIndexProperties;
+
+/*
+ * 여러 세션의 pointer 문서를 bulk 요청으로 묶어 전송하는 indexer 를 테스트 합니다.
+ */
+class PointerEventBulkIndexerTest {
+
+	private ElasticsearchOperations elasticsearchOperations;
+	private BulkIndexProperties properties;
+	private PointerEventBulkIndexer indexer;
+
+	@BeforeEach
+	void setUp() {
+		elasticsearchOperations = mock(ElasticsearchOperations.class);
+		properties = new BulkIndexProperties();
+		properties.setMaxDocuments(2);
+		properties.setMaxRetries(2);
+		indexer = new PointerEventBulkIndexer(elasticsearchOperations, properties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		indexer.shutdown();
+	}
+
+	@Test
+	@DisplayName("t1 - 문서 수가 기준에 도달하면 flush 전에 bulk 요청을 전송하고, 남은 문서는 flush 에서 전송한다")
+	void t1() {
+		// given
+		BulkIndexTracker tracker = indexer.openTracker();
+
+		// when
+		indexer.enqueueClickEvents(tracker, "s1", documents("s1", 5));
+
+		// then
+		verify(elasticsearchOperations, timeout(1000).times(2))
+			.bulkIndex(anyList(), eq(PointerClickEventDocument.class));
+		BulkIndexResult result = indexer.flush(tracker);
+		verify(elasticsearchOperations, times(3)).bulkIndex(anyList(), eq(PointerClickEventDocument.class));
+		assertThat(result.requests()).isEqualTo(3);
+		assertThat(result.indexed()).isEqualTo(5);
+		assertThat(result.durableSessionKeys()).containsExactly("s1");
+		assertThat(result.hasFailures()).isFalse();
+	}
+
+	@Test
+	@DisplayName("t2 - 일부 문서만 실패하면 실패한 문서만 다시 전송하고 세션을 저장 완료로 보고한다")
+	void t2() {
+		// given
+		BulkFailureException partialFailure = mock(BulkFailureException.class);
+		when(partialFailure.getFailedDocuments()).thenAnswer(inv -> Collections.singletonMap("s1-0", null));
+		when(elasticsearchOperations.bulkIndex(anyList(), eq(PointerClickEventDocument.class)))
+			.thenThrow(partialFailure)
+			.thenReturn(List.of());
+		BulkIndexTracker tracker = indexer.openTracker();
+
+		// when
+		indexer.enqueueClickEvents(tracker, "s1", documents("s1", 2));
+		BulkIndexResult result = indexer.flush(tracker);
+
+		// then
+		assertThat(result.retried()).isEqualTo(1);
+		assertThat(result.indexed()).isEqualTo(2);
+		assertThat(result.failed()).isZero();
+		assertThat(result.durableSessionKeys()).containsExactly("s1");
+	}
+
+	@Test
+	@DisplayName("t3 - 재시도 한도를 넘긴 문서는 버리고 세션을 실패로 보고한다")
+	void t3() {
+		// given
+		when(elasticsearchOperations.bulkIndex(anyList(), eq(PointerClickEventDocument.class)))
+			.thenThrow(new IllegalStateException("es down"));
+		BulkIndexTracker tracker = indexer.openTracker();
+
+		// when
+		indexer.enqueueClickEvents(tracker, "s1", documents("s1", 1));
+		BulkIndexResult result = indexer.flush(tracker);
+
+		// then
+		verify(elasticsearchOperations, times(3)).bulkIndex(anyList(), eq(PointerClickEventDocument.class));
+		assertThat(result.retried()).isEqualTo(2);
+		assertThat(result.failed()).isEqualTo(1);
+		assertThat(result.failedSessionKeys()).containsExactly("s1");
+		assertThat(result.durableSessionKeys()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("t4 - flush 는 전송 중인 bulk 요청이 끝날 때까지 기다린다")
+	void t4() throws Exception {
+		// given
+		CountDownLatch release = new CountDownLatch(1);
+		when(elasticsearchOperations.bulkIndex(anyList(), eq(PointerClickEventDocument.class))).thenAnswer(inv -> {
+			release.await(5, TimeUnit.SECONDS);
+			return List.of();
+		});
+		BulkIndexTracker tracker = indexer.openTracker();
+		indexer.enqueueClickEvents(tracker, "s1", documents("s1", 2));
+		verify(elasticsearchOperations, timeout(1000)).bulkIndex(anyList(), eq(PointerClickEventDocument.class));
+
+		// when
+		CompletableFuture<BulkIndexResult> flushed = CompletableFuture.supplyAsync(() -> indexer.flush(tracker));
+
+		// then
+		Thread.sleep(200);
+		assertThat(flushed).isNotDone();
+		release.countDown();
+		assertThat(flushed.get(5, TimeUnit.SECONDS).indexed()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("t5 - 같은 bulk 요청에 섞인 다른 호출 측의 실패는 자신의 결과에 포함되지 않는다")
+	void t5() {
+		// given
+		properties.setMaxRetries(0);
+		BulkFailureException partialFailure = mock(BulkFailureException.class);
+		when(partialFailure.getFailedDocuments()).thenAnswer(inv -> Collections.singletonMap("b1-0", null));
+		when(elasticsearchOperations.bulkIndex(anyList(), eq(PointerClickEventDocument.class)))
+			.thenThrow(partialFailure);
+		BulkIndexTracker trackerA = indexer.openTracker();
+		BulkIndexTracker trackerB = indexer.openTracker();
+
+		// when
+		indexer.enqueueClickEvents(trackerA, "a1", documents("a1", 1));
+		indexer.enqueueClickEvents(trackerB, "b1", documents("b1", 1));
+		BulkIndexResult resultA = indexer.flush(trackerA);
+		BulkIndexResult resultB = indexer.flush(trackerB);
+
+		// then
+		verify(elasticsearchOperations, times(1)).bulkIndex(anyList(), eq(PointerClickEventDocument.class));
+		assertThat(resultA.hasFailures()).isFalse();
+		assertThat(resultA.durableSessionKeys()).containsExactly("a1");
+		assertThat(resultB.failedSessionKeys()).containsExactly("b1");
+	}
+
+	private List<PointerClickEventDocument> documents(String sessionId, int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> PointerClickEventDocument.builder()
+				.id(sessionId + "-" + i)
+				.sessionId(sessionId)
+				.build())
+			.toList();
+	}
+}
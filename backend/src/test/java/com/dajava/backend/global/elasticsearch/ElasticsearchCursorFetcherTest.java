@@ -0,0 +1,93 @@
+package com.dajava.backend.global.elasticsearch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import com.dajava.backend.global.component.analyzer.ElasticsearchCursorProperties;
+
+/*
+ * point in time + search_after 커서 순회 테스트 입니다.
+ */
+class ElasticsearchCursorFetcherTest {
+
+	private ElasticsearchOperations elasticsearchOperations;
+	private ElasticsearchCursorFetcher cursorFetcher;
+
+	@BeforeEach
+	void setUp() {
+		elasticsearchOperations = mock(ElasticsearchOperations.class);
+		ElasticsearchCursorProperties properties = new ElasticsearchCursorProperties();
+		properties.setKeepAlive(Duration.ofSeconds(30));
+
+		when(elasticsearchOperations.getIndexCoordinatesFor(String.class)).thenReturn(IndexCoordinates.of("test"));
+		when(elasticsearchOperations.openPointInTime(any(IndexCoordinates.class), any(Duration.class)))
+			.thenReturn("pit-1");
+		cursorFetcher = new ElasticsearchCursorFetcher(elasticsearchOperations, properties);
+	}
+
+	@Test
+	@DisplayName("직전 페이지 마지막 sort 값으로 다음 페이지를 요청하고, 마지막 페이지에서 point in time 을 닫는다")
+	void t1() {
+		SearchHits<String> firstPage = page("pit-2", "a", "b");
+		SearchHits<String> lastPage = page("pit-2", "c");
+		when(elasticsearchOperations.search(any(Query.class), eq(String.class)))
+			.thenReturn(firstPage, lastPage);
+
+		List<String> result = cursorFetcher.fetchAll(String.class, new Criteria("sessionId").is("s1"),
+			Sort.by("timestamp"), 2);
+
+		assertThat(result).containsExactly("a", "b", "c");
+
+		ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+		verify(elasticsearchOperations, times(2)).search(queries.capture(), eq(String.class));
+		assertThat(queries.getAllValues().get(0).getSearchAfter()).isNull();
+		assertThat(queries.getAllValues().get(1).getSearchAfter()).containsExactly("b", 1L);
+		assertThat(queries.getAllValues().get(1).getPointInTime().id()).isEqualTo("pit-2");
+		verify(elasticsearchOperations).closePointInTime("pit-2");
+	}
+
+	@Test
+	@DisplayName("페이지 처리 중 예외가 발생해도 point in time 을 닫는다")
+	void t2() {
+		SearchHits<String> firstPage = page(null, "a", "b");
+		when(elasticsearchOperations.search(any(Query.class), eq(String.class))).thenReturn(firstPage);
+
+		assertThatThrownBy(() -> cursorFetcher.forEachPage(String.class, new Criteria("sessionId").is("s1"),
+			Sort.by("timestamp"), 2, page -> {
+				throw new IllegalStateException("fail");
+			})).isInstanceOf(IllegalStateException.class);
+
+		verify(elasticsearchOperations).closePointInTime("pit-1");
+	}
+
+	@SuppressWarnings("unchecked")
+	private SearchHits<String> page(String pitId, String... contents) {
+		List<SearchHit<String>> hits = new ArrayList<>();
+		for (String content : contents) {
+			SearchHit<String> hit = mock(SearchHit.class);
+			when(hit.getContent()).thenReturn(content);
+			when(hit.getSortValues()).thenReturn(List.of(content, 1L));
+			hits.add(hit);
+		}
+		SearchHits<String> searchHits = mock(SearchHits.class);
+		when(searchHits.getSearchHits()).thenReturn(hits);
+		when(searchHits.getPointInTimeId()).thenReturn(pitId);
+		return searchHits;
+	}
+}
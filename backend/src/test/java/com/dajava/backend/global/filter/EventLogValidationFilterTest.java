@@ -96,4 +96,44 @@ class EventLogValidationFilterTest {
 		assertEquals(200, response.getStatus()); // 체인이 호출되면 상태코드는 실제로 세팅되지 않을 수 있음
 		verify(filterChain).doFilter(any(CachedBodyHttpServletRequest.class), eq(response));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("batch 요청도 memberSerialNumber 검증 대상")
+	void testBatchRequestValidated() throws Exception {
+		when(registerCacheService.isValidSerialNumber("invalid123")).thenReturn(false);
+
+		HttpServletRequest request = buildRequest("/v1/logs/batch",
+			"{\"memberSerialNumber\":\"invalid123\",\"clickEvents\":[]}");
+
+		filter.doFilter(request, response, filterChain);
+
+		assertEquals(401, response.getStatus());
+		verify(filterChain, never()).doFilter(any(), any());
+	}
+
+	@Test
+	@DisplayName("중첩 객체, 배열 뒤에 있는 memberSerialNumber 도 찾아서 검증")
+	void testSerialNumberAfterNestedFields() throws Exception {
+		when(registerCacheService.isValidSerialNumber("valid123")).thenReturn(true);
+
+		HttpServletRequest request = buildRequest("/v1/logs/batch",
+			"{\"clickEvents\":[{\"memberSerialNumber\":\"nested\"}],\"meta\":{\"a\":1},"
+				+ "\"memberSerialNumber\":\"valid123\"}");
+
+		filter.doFilter(request, response, filterChain);
+
+		verify(registerCacheService).isValidSerialNumber("valid123");
+		verify(filterChain).doFilter(any(CachedBodyHttpServletRequest.class), eq(response));
+	}
+
+	@Test
+	@DisplayName("JSON 형식이 아니면 400 반환")
+	void testMalformedBody() throws Exception {
+		HttpServletRequest request = buildRequest("/click", "not-json");
+
+		filter.doFilter(request, response, filterChain);
+
+		assertEquals(400, response.getStatus());
+		verify(filterChain, never()).doFilter(any(), any());
+	}
+}
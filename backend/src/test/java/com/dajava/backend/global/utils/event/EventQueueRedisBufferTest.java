@@ -6,13 +6,18 @@ import com.dajava.backend.utils.event.EventQueueRedisBuffer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.StringRedisConnection;
 import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class EventQueueRedisBufferTest {
@@ -44,17 +49,43 @@ class EventQueueRedisBufferTest {
 	@DisplayName("t001 - 클릭 이벤트를 Redis에 캐싱할 수 있다")
 	void t001() {
 		// given
-		when(redisTemplate.opsForList()).thenReturn(listOperations);
-		when(redisTemplate.expire(anyString(), eq(1L), eq(TimeUnit.HOURS))).thenReturn(true);
-		when(redisTemplate.opsForValue()).thenReturn(mock(org.springframework.data.redis.core.ValueOperations.class));
+		StringRedisConnection connection = mock(StringRedisConnection.class);
+		when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+			RedisCallback<?> callback = invocation.getArgument(0);
+			callback.doInRedis(connection);
+			return List.of();
+		});
 
 		// when
 		buffer.cacheEvents(identifier, event);
 
 		// then
-		verify(redisTemplate).opsForList();
-		verify(listOperations).leftPush(anyString(), anyString());
-		verify(redisTemplate).expire(anyString(), eq(1L), eq(TimeUnit.HOURS));
+		verify(redisTemplate).executePipelined(any(RedisCallback.class));
+		verify(connection).lPush(anyString(), any(String[].class));
+		verify(connection).expire(anyString(), eq(TimeUnit.HOURS.toSeconds(1)));
+		verify(connection).set(startsWith("lastUpdated:"), anyString());
+		verify(connection).zAdd(eq("activeSessions:click"), anyDouble(), eq("session123|localhost|member001"));
+	}
+
+	@Test
+	@DisplayName("t004 - 같은 세션의 클릭 이벤트 여러 건을 한 번의 파이프라인으로 캐싱할 수 있다")
+	void t004() throws Exception {
+		// given
+		String json = objectMapper.writeValueAsString(event);
+		StringRedisConnection connection = mock(StringRedisConnection.class);
+		when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+			RedisCallback<?> callback = invocation.getArgument(0);
+			callback.doInRedis(connection);
+			return List.of();
+		});
+
+		// when
+		buffer.cacheAllEvents(identifier, List.of(event, event, event));
+
+		// then
+		verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+		verify(connection).lPush(anyString(), eq(json), eq(json), eq(json));
+		verify(connection, times(1)).expire(anyString(), anyLong());
 	}
 
 	@Test
@@ -80,20 +111,179 @@ class EventQueueRedisBufferTest {
 	}
 
 	@Test
-	@DisplayName("t003 - Redis에 저장된 클릭 이벤트를 삭제하고 반환할 수 있다")
+	@DisplayName("t003 - Redis에 저장된 클릭 이벤트를 원자적으로 분리해 삭제하고 반환할 수 있다")
 	void t003() throws Exception {
 		// given
 		String json = objectMapper.writeValueAsString(event);
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).thenReturn(List.of(1L, 0L));
 		when(redisTemplate.opsForList()).thenReturn(listOperations);
-		when(listOperations.range(anyString(), eq(0L), eq(-1L)))
+		when(listOperations.range(startsWith("draining:"), eq(-1L), eq(-1L)))
 			.thenReturn(List.of(json));
 
 		// when
 		List<ClickEventRequest> flushed = buffer.flushEvents(identifier, event);
 
 		// then
+		verify(listOperations).trim(startsWith("draining:"), eq(0L), eq(-2L));
 		verify(redisTemplate, times(2)).delete(anyString());
 		assertThat(flushed).hasSize(1);
 		assertThat(flushed.get(0).getTag()).isEqualTo("button");
 	}
+
+	@Test
+	@DisplayName("t005 - 버퍼에 쌓인 이벤트를 오래된 순서로 청크 단위로 전달한다")
+	void t005() throws Exception {
+		// given
+		String older = objectMapper.writeValueAsString(event);
+		String newer = objectMapper.writeValueAsString(ClickEventRequest.builder()
+			.eventId("event456").timestamp(123456790L).sessionIdentifier(identifier).tag("a").build());
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).thenReturn(List.of(3L, 0L));
+		when(redisTemplate.opsForList()).thenReturn(listOperations);
+		// LPUSH 로 쌓였으므로 리스트의 꼬리가 가장 오래된 이벤트
+		when(listOperations.range(startsWith("draining:"), eq(-2L), eq(-1L)))
+			.thenReturn(List.of(newer, older));
+		when(listOperations.range(startsWith("draining:"), eq(-1L), eq(-1L)))
+			.thenReturn(List.of(newer));
+		List<List<ClickEventRequest>> chunks = new ArrayList<>();
+
+		// when
+		int drained = buffer.drainEvents(identifier, event, 2, chunks::add);
+
+		// then
+		assertThat(drained).isEqualTo(3);
+		assertThat(chunks).hasSize(2);
+		assertThat(chunks.get(0)).extracting(ClickEventRequest::getEventId).containsExactly("event123", "event456");
+		assertThat(chunks.get(1)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("t008 - 이전 flush 에서 처리하지 못하고 남은 이벤트를 원본 리스트보다 먼저 이어서 처리한다")
+	void t008() throws Exception {
+		// given
+		String older = objectMapper.writeValueAsString(event);
+		String newer = objectMapper.writeValueAsString(ClickEventRequest.builder()
+			.eventId("event456").timestamp(123456790L).sessionIdentifier(identifier).tag("a").build());
+		// 첫 호출은 남은 임시 키를 이어서 처리, 두 번째 호출은 원본 리스트를 분리
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString()))
+			.thenReturn(List.of(1L, 1L), List.of(1L, 0L));
+		when(redisTemplate.opsForList()).thenReturn(listOperations);
+		when(listOperations.range(eq("draining:event:session123|localhost|member001:click"), eq(-1L), eq(-1L)))
+			.thenReturn(List.of(older), List.of(newer));
+		List<List<ClickEventRequest>> chunks = new ArrayList<>();
+
+		// when
+		int drained = buffer.drainEvents(identifier, event, 10, chunks::add);
+
+		// then
+		assertThat(drained).isEqualTo(2);
+		assertThat(chunks).extracting(chunk -> chunk.get(0).getEventId()).containsExactly("event123", "event456");
+		verify(redisTemplate, times(2)).delete("draining:event:session123|localhost|member001:click");
+	}
+
+	@Test
+	@DisplayName("t009 - 청크 처리에 실패하면 임시 키의 이벤트를 지우지 않고 세션을 활성 인덱스에 남긴다")
+	void t009() throws Exception {
+		// given
+		String json = objectMapper.writeValueAsString(event);
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).thenReturn(List.of(1L, 0L));
+		when(redisTemplate.opsForList()).thenReturn(listOperations);
+		when(listOperations.range(startsWith("draining:"), eq(-1L), eq(-1L))).thenReturn(List.of(json));
+
+		// when, then
+		assertThatThrownBy(() -> buffer.drainEvents(identifier, event, 10, chunk -> {
+			throw new IllegalStateException("bulk failed");
+		})).isInstanceOf(IllegalStateException.class);
+		verify(listOperations, never()).trim(anyString(), anyLong(), anyLong());
+		verify(redisTemplate, never()).delete(anyString());
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("t006 - 대기 중인 이벤트 수는 리스트를 읽지 않고 LLEN 으로 조회한다")
+	void t006() {
+		// given
+		when(redisTemplate.opsForList()).thenReturn(listOperations);
+		when(listOperations.size(anyString())).thenReturn(42L);
+
+		// when
+		long count = buffer.countEvents(identifier, event);
+
+		// then
+		assertThat(count).isEqualTo(42L);
+		verify(listOperations, never()).range(anyString(), anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("t007 - 여러 이벤트 리스트의 대기 이벤트 수를 한 번의 파이프라인으로 합산한다")
+	void t007() {
+		// given
+		StringRedisConnection connection = mock(StringRedisConnection.class);
+		when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+			RedisCallback<?> callback = invocation.getArgument(0);
+			callback.doInRedis(connection);
+			return List.of(3L, 0L, 5L);
+		});
+		List<String> eventKeys = List.of("event:s|p|m:click", "event:s|p|m:move", "event:s|p|m:scroll");
+
+		// when
+		long count = buffer.countEvents(eventKeys);
+
+		// then
+		assertThat(count).isEqualTo(8L);
+		verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+		eventKeys.forEach(key -> verify(connection).lLen(key));
+		verify(listOperations, never()).range(anyString(), anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("t010 - 임시 키로 분리한 이벤트를 청크 단위로 전달하되, 확인 전까지 지우지 않는다")
+	void t010() throws Exception {
+		// given
+		String older = objectMapper.writeValueAsString(event);
+		String newer = objectMapper.writeValueAsString(ClickEventRequest.builder()
+			.eventId("event456").timestamp(123456790L).sessionIdentifier(identifier).tag("a").build());
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).thenReturn(List.of(3L, 0L));
+		when(redisTemplate.opsForList()).thenReturn(listOperations);
+		// 지우지 않으므로 두 번째 청크는 꼬리에서 두 칸 떨어진 위치부터 읽음
+		when(listOperations.range(startsWith("draining:"), eq(-2L), eq(-1L)))
+			.thenReturn(List.of(newer, older));
+		when(listOperations.range(startsWith("draining:"), eq(-3L), eq(-3L)))
+			.thenReturn(List.of(newer));
+		List<List<ClickEventRequest>> chunks = new ArrayList<>();
+
+		// when
+		EventQueueRedisBuffer.DrainClaim claim = buffer.claimEvents(identifier, event, 2, chunks::add);
+
+		// then
+		assertThat(claim.claimed()).isEqualTo(3);
+		assertThat(claim.split()).isTrue();
+		assertThat(claim.resumed()).isFalse();
+		assertThat(chunks.get(0)).extracting(ClickEventRequest::getEventId).containsExactly("event123", "event456");
+		assertThat(chunks.get(1)).hasSize(1);
+		verify(listOperations, never()).trim(anyString(), anyLong(), anyLong());
+		verify(redisTemplate, never()).delete(anyString());
+	}
+
+	@Test
+	@DisplayName("t011 - 저장이 확인되면 임시 키를 지우고, 남은 임시 키를 이어서 읽은 세션은 활성 인덱스에 남긴다")
+	void t011() {
+		// given
+		String drainKey = "draining:event:session123|localhost|member001:click";
+		EventQueueRedisBuffer.DrainClaim split = new EventQueueRedisBuffer.DrainClaim(1, true, false, 0L);
+		EventQueueRedisBuffer.DrainClaim resumed = new EventQueueRedisBuffer.DrainClaim(1, true, true, 0L);
+
+		// when
+		buffer.acknowledge(identifier, event, resumed);
+
+		// then
+		verify(redisTemplate).delete(drainKey);
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyString(), anyString());
+
+		// when
+		buffer.acknowledge(identifier, event, split);
+
+		// then
+		verify(redisTemplate, times(2)).delete(drainKey);
+		verify(redisTemplate).execute(any(RedisScript.class), anyList(), anyString(), anyString());
+	}
 }
@@ -0,0 +1,89 @@
+package com.dajava.backend.global.utils.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ClickEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.ScrollEventRequest;
+import com.dajava.backend.domain.mouseeventsave.infra.redis.dto.identifier.SessionIdentifier;
+import com.dajava.backend.utils.event.EventSerializer;
+import com.dajava.backend.utils.event.codec.EventCodecType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class EventSerializerTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final SessionIdentifier identifier =
+		new SessionIdentifier("session123", "localhost", "member001");
+
+	private final ClickEventRequest event = ClickEventRequest.builder()
+		.eventId("event123")
+		.timestamp(123456789L)
+		.browserWidth(1920)
+		.scrollHeight(3000)
+		.viewportHeight(900)
+		.sessionIdentifier(identifier)
+		.clientX(100)
+		.clientY(200)
+		.scrollY(300)
+		.tag("button")
+		.build();
+
+	@Test
+	@DisplayName("t001 - compact 형식으로 저장한 이벤트를 키의 세션 식별자로 복원할 수 있다")
+	void t001() throws Exception {
+		// given
+		EventSerializer<ClickEventRequest> serializer =
+			new EventSerializer<>(objectMapper, ClickEventRequest.class, EventCodecType.COMPACT);
+
+		// when
+		String encoded = serializer.serialize(event);
+		ClickEventRequest decoded = serializer.deserialize(encoded, identifier);
+
+		// then
+		assertThat(encoded).doesNotContain("session123");
+		assertThat(encoded.length()).isLessThan(objectMapper.writeValueAsString(event).length() / 2);
+		assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+	}
+
+	@Test
+	@DisplayName("t002 - compact 로 기록하도록 설정해도 기존 JSON 값을 읽을 수 있다")
+	void t002() throws Exception {
+		// given
+		String json = objectMapper.writeValueAsString(event);
+		EventSerializer<ClickEventRequest> serializer =
+			new EventSerializer<>(objectMapper, ClickEventRequest.class, EventCodecType.COMPACT);
+
+		// when
+		ClickEventRequest decoded = serializer.deserialize(json, identifier);
+
+		// then
+		assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+	}
+
+	@Test
+	@DisplayName("t003 - null 필드는 null 로 복원된다")
+	void t003() throws Exception {
+		// given
+		ScrollEventRequest partial = ScrollEventRequest.builder()
+			.eventId("event456")
+			.timestamp(1L)
+			.sessionIdentifier(identifier)
+			.scrollY(700)
+			.build();
+		EventSerializer<ScrollEventRequest> serializer =
+			new EventSerializer<>(objectMapper, ScrollEventRequest.class, EventCodecType.COMPACT);
+
+		// when
+		ScrollEventRequest decoded = serializer.deserialize(serializer.serialize(partial), identifier);
+
+		// then
+		assertThat(decoded.getScrollY()).isEqualTo(700);
+		assertThat(decoded.getClientX()).isNull();
+		assertThat(decoded.getTag()).isNull();
+		assertThat(decoded.getSessionIdentifier()).isEqualTo(identifier);
+	}
+}
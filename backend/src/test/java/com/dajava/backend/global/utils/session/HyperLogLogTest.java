@@ -0,0 +1,55 @@
+package com.dajava.backend.global.utils.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dajava.backend.utils.session.HyperLogLog;
+
+/*
+ * HyperLogLog 세션 수 추정 테스트 입니다.
+ */
+class HyperLogLogTest {
+
+	@Test
+	@DisplayName("1. 적은 세션 수는 linear counting 으로 정확하게 추정하고 중복은 한 번만 센다")
+	void t1() {
+		HyperLogLog sketch = new HyperLogLog(14);
+		for (int i = 0; i < 100; i++) {
+			sketch.add("session" + (i % 10));
+		}
+
+		assertThat(sketch.estimate()).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("2. 많은 세션 수는 표준 오차 범위 안에서 추정한다")
+	void t2() {
+		HyperLogLog sketch = new HyperLogLog(14);
+		for (int i = 0; i < 200000; i++) {
+			sketch.add("session-" + i);
+		}
+
+		// 표준 오차 약 0.8%, 여유를 두고 3% 이내
+		assertThat(sketch.estimate()).isBetween(194000L, 206000L);
+	}
+
+	@Test
+	@DisplayName("3. 나눠 집계한 스케치를 병합하면 합집합을 추정하고, 저장 후 복원해도 같은 값을 유지한다")
+	void t3() {
+		HyperLogLog first = new HyperLogLog(12);
+		HyperLogLog second = new HyperLogLog(12);
+		for (int i = 0; i < 30000; i++) {
+			first.add("session-" + i);
+			second.add("session-" + (i + 15000));
+		}
+
+		HyperLogLog restored = HyperLogLog.fromByteArray(first.toByteArray());
+		restored.merge(second);
+
+		assertThat(restored.estimate()).isBetween(42750L, 47250L);
+		assertThatThrownBy(() -> restored.merge(new HyperLogLog(14)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}